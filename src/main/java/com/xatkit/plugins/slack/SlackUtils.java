@@ -77,6 +77,582 @@ public interface SlackUtils extends ChatUtils {
      */
     boolean DEFAULT_LISTEN_MENTIONS_ON_GROUP_CHANNELS = false;
 
+    /**
+     * The {@link Configuration} key to store the number of threads used to process received messages.
+     * <p>
+     * Received messages are processed outside of the thread that received them, using a dedicated pool of threads.
+     * Messages from the same channel are always processed by the same thread, in the order they have been received.
+     * Setting this value to {@code 0} processes the messages in the thread that received them.
+     * <p>
+     * This value is set to {@code 4} by default.
+     *
+     * @see #DEFAULT_DISPATCHER_THREADS
+     */
+    String DISPATCHER_THREADS_KEY = "xatkit.slack.dispatcher.threads";
+
+    /**
+     * The default value of the {@link #DISPATCHER_THREADS_KEY} {@link Configuration} key.
+     */
+    int DEFAULT_DISPATCHER_THREADS = 4;
+
+    /**
+     * The {@link Configuration} key to store the maximum number of pending messages for each processing thread.
+     * <p>
+     * When this limit is reached the reception of new RTM messages is blocked until pending messages are processed.
+     * Messages received through the Events API are dropped instead, to acknowledge the requests within the 3 seconds
+     * expected by Slack.
+     * <p>
+     * This value is set to {@code 1000} by default.
+     *
+     * @see #DEFAULT_DISPATCHER_QUEUE_CAPACITY
+     */
+    String DISPATCHER_QUEUE_CAPACITY_KEY = "xatkit.slack.dispatcher.queue_capacity";
+
+    /**
+     * The default value of the {@link #DISPATCHER_QUEUE_CAPACITY_KEY} {@link Configuration} key.
+     */
+    int DEFAULT_DISPATCHER_QUEUE_CAPACITY = 1000;
+
+    /**
+     * The {@link Configuration} key to store the delay (in ms) after which a cached user profile expires.
+     * <p>
+     * User profiles are cached to avoid calling the Slack API for each received message. Cached profiles are also
+     * invalidated when the Slack API notifies that a user profile has changed.
+     * <p>
+     * This value is set to {@code 600000} (10 minutes) by default.
+     *
+     * @see #DEFAULT_USER_CACHE_TTL
+     */
+    String USER_CACHE_TTL_KEY = "xatkit.slack.user_cache.ttl";
+
+    /**
+     * The default value of the {@link #USER_CACHE_TTL_KEY} {@link Configuration} key.
+     */
+    long DEFAULT_USER_CACHE_TTL = 600000;
+
+    /**
+     * The {@link Configuration} key to store the maximum number of cached user profiles per workspace.
+     * <p>
+     * The least recently used profiles are evicted when this limit is reached.
+     * <p>
+     * This value is set to {@code 10000} by default.
+     *
+     * @see #DEFAULT_USER_CACHE_MAX_SIZE
+     */
+    String USER_CACHE_MAX_SIZE_KEY = "xatkit.slack.user_cache.max_size";
+
+    /**
+     * The default value of the {@link #USER_CACHE_MAX_SIZE_KEY} {@link Configuration} key.
+     */
+    int DEFAULT_USER_CACHE_MAX_SIZE = 10000;
+
+    /**
+     * The {@link Configuration} key to store the interval (in ms) between two refreshes of the workspace user
+     * directories.
+     * <p>
+     * User directories are used to retrieve user identifiers from user names (e.g. in the {@code IsOnline} action).
+     * They are loaded the first time they are accessed and refreshed in the background.
+     * <p>
+     * This value is set to {@code 900000} (15 minutes) by default.
+     *
+     * @see #DEFAULT_USER_DIRECTORY_REFRESH_INTERVAL
+     */
+    String USER_DIRECTORY_REFRESH_INTERVAL_KEY = "xatkit.slack.user_directory.refresh_interval";
+
+    /**
+     * The default value of the {@link #USER_DIRECTORY_REFRESH_INTERVAL_KEY} {@link Configuration} key.
+     */
+    long DEFAULT_USER_DIRECTORY_REFRESH_INTERVAL = 900000;
+
+    /**
+     * The {@link Configuration} key to store the number of calls per minute allowed for each Tier 2 Slack API method
+     * in a workspace.
+     * <p>
+     * Tier 2 methods include {@code conversations.list} and {@code users.list}, which are used to load the channels
+     * and users of the workspaces. Calls exceeding this budget are delayed instead of being rejected by the Slack
+     * API.
+     * <p>
+     * This value is set to {@code 20} by default, as documented by the Slack API.
+     *
+     * @see #DEFAULT_TIER_2_RATE_LIMIT
+     */
+    String TIER_2_RATE_LIMIT_KEY = "xatkit.slack.rate_limit.tier2";
+
+    /**
+     * The default value of the {@link #TIER_2_RATE_LIMIT_KEY} {@link Configuration} key.
+     */
+    int DEFAULT_TIER_2_RATE_LIMIT = 20;
+
+    /**
+     * The {@link Configuration} key to store the delay (in ms) during which a channel name that cannot be resolved
+     * is remembered.
+     * <p>
+     * Channel names that are still unknown after reloading the channels of a workspace are not looked up again
+     * before this delay, preventing repeated lookups of an invalid name from reloading the channels each time.
+     * <p>
+     * This value is set to {@code 30000} (30 seconds) by default.
+     *
+     * @see #DEFAULT_CHANNEL_MISS_CACHE_TTL
+     */
+    String CHANNEL_MISS_CACHE_TTL_KEY = "xatkit.slack.channel_miss_cache.ttl";
+
+    /**
+     * The default value of the {@link #CHANNEL_MISS_CACHE_TTL_KEY} {@link Configuration} key.
+     */
+    long DEFAULT_CHANNEL_MISS_CACHE_TTL = 30000;
+
+    /**
+     * The {@link Configuration} key to store the maximum number of unresolved channel names that are remembered.
+     * <p>
+     * This value is set to {@code 1000} by default.
+     *
+     * @see #DEFAULT_CHANNEL_MISS_CACHE_MAX_SIZE
+     * @see #CHANNEL_MISS_CACHE_TTL_KEY
+     */
+    String CHANNEL_MISS_CACHE_MAX_SIZE_KEY = "xatkit.slack.channel_miss_cache.max_size";
+
+    /**
+     * The default value of the {@link #CHANNEL_MISS_CACHE_MAX_SIZE_KEY} {@link Configuration} key.
+     */
+    int DEFAULT_CHANNEL_MISS_CACHE_MAX_SIZE = 1000;
+
+    /**
+     * The {@link Configuration} key to store the directory containing the warm-start snapshots of the workspaces.
+     * <p>
+     * When this key is set the channels and users of each workspace are saved in this directory after each
+     * successful load, and are restored from it when the platform starts. Restored workspaces are usable
+     * immediately, and are revalidated against the Slack API in the background.
+     * <p>
+     * Warm-start snapshots are disabled if this key is not set.
+     *
+     * @see com.xatkit.plugins.slack.platform.SlackWorkspaceSnapshot
+     */
+    String WARM_START_DIRECTORY_KEY = "xatkit.slack.warm_start.directory";
+
+    /**
+     * The {@link Configuration} key to store the file containing the installations of the Slack app.
+     * <p>
+     * When this key is set the workspaces where the app is installed through the OAuth flow are saved in this file,
+     * and are bootstrapped when the platform starts. Installations are only kept in memory if this key is not set.
+     * <p>
+     * <b>Note</b>: this file contains the bot {@code token}s of the installations, and must be protected accordingly.
+     *
+     * @see com.xatkit.plugins.slack.platform.FileSlackInstallationStore
+     */
+    String INSTALLATION_STORE_FILE_KEY = "xatkit.slack.installation_store.file";
+
+    /**
+     * The {@link Configuration} key to store the maximum number of stored workspaces bootstrapped concurrently when
+     * the platform starts.
+     * <p>
+     * This value is set to {@code 4} by default.
+     *
+     * @see #DEFAULT_BOOTSTRAP_PARALLELISM
+     * @see #INSTALLATION_STORE_FILE_KEY
+     */
+    String BOOTSTRAP_PARALLELISM_KEY = "xatkit.slack.bootstrap.parallelism";
+
+    /**
+     * The default value of the {@link #BOOTSTRAP_PARALLELISM_KEY} {@link Configuration} key.
+     */
+    int DEFAULT_BOOTSTRAP_PARALLELISM = 4;
+
+    /**
+     * The {@link Configuration} key to store whether the workspaces are bootstrapped lazily.
+     * <p>
+     * When this key is set to {@code true} the channels and users of a workspace are only loaded when the first
+     * event or action targeting the workspace is processed, and are evicted from memory when the workspace has been
+     * idle for {@link #IDLE_EVICTION_TIMEOUT_KEY} ms. This reduces the startup time and the memory footprint of bots
+     * installed in many mostly idle workspaces.
+     * <p>
+     * This value is set to {@code false} by default (the channels of each workspace are loaded when the workspace
+     * is installed or bootstrapped).
+     *
+     * @see #DEFAULT_BOOTSTRAP_LAZY
+     */
+    String BOOTSTRAP_LAZY_KEY = "xatkit.slack.bootstrap.lazy";
+
+    /**
+     * The default value of the {@link #BOOTSTRAP_LAZY_KEY} {@link Configuration} key.
+     */
+    boolean DEFAULT_BOOTSTRAP_LAZY = false;
+
+    /**
+     * The {@link Configuration} key to store the delay (in ms) after which the channels and users of an idle
+     * workspace are evicted from memory.
+     * <p>
+     * This key is only used if {@link #BOOTSTRAP_LAZY_KEY} is set to {@code true}. Evicted workspaces are loaded
+     * again when they are accessed.
+     * <p>
+     * This value is set to {@code 3600000} (1 hour) by default.
+     *
+     * @see #DEFAULT_IDLE_EVICTION_TIMEOUT
+     */
+    String IDLE_EVICTION_TIMEOUT_KEY = "xatkit.slack.idle_eviction.timeout";
+
+    /**
+     * The default value of the {@link #IDLE_EVICTION_TIMEOUT_KEY} {@link Configuration} key.
+     */
+    long DEFAULT_IDLE_EVICTION_TIMEOUT = 3600000;
+
+    /**
+     * The {@link Configuration} key to store the number of threads executing the asynchronous actions of the
+     * platform (e.g. {@link SlackPlatform#replyAsync(com.xatkit.execution.StateContext,
+     * String)}).
+     * <p>
+     * This value is set to {@code 8} by default.
+     *
+     * @see #DEFAULT_IO_THREADS
+     */
+    String IO_THREADS_KEY = "xatkit.slack.io_threads";
+
+    /**
+     * The default value of the {@link #IO_THREADS_KEY} {@link Configuration} key.
+     */
+    int DEFAULT_IO_THREADS = 8;
+
+    /**
+     * The {@link Configuration} key to store the minimum delay (in ms) between two messages posted to the same
+     * channel.
+     * <p>
+     * Slack allows about one message per second and per channel. Messages posted faster are queued, and delivered in
+     * order. This value is set to {@code 1000} by default.
+     *
+     * @see #DEFAULT_OUTBOUND_CHANNEL_INTERVAL
+     * @see com.xatkit.plugins.slack.platform.SlackOutboundQueue
+     */
+    String OUTBOUND_CHANNEL_INTERVAL_KEY = "xatkit.slack.outbound.channel_interval";
+
+    /**
+     * The default value of the {@link #OUTBOUND_CHANNEL_INTERVAL_KEY} {@link Configuration} key.
+     */
+    long DEFAULT_OUTBOUND_CHANNEL_INTERVAL = 1000;
+
+    /**
+     * The {@link Configuration} key to store the maximum number of messages and files posted per minute to a
+     * workspace.
+     * <p>
+     * This budget is shared by all the channels of the workspace. This value is set to {@code 300} by default.
+     *
+     * @see #DEFAULT_OUTBOUND_RATE_LIMIT
+     * @see com.xatkit.plugins.slack.platform.SlackOutboundQueue
+     */
+    String OUTBOUND_RATE_LIMIT_KEY = "xatkit.slack.rate_limit.outbound";
+
+    /**
+     * The default value of the {@link #OUTBOUND_RATE_LIMIT_KEY} {@link Configuration} key.
+     */
+    int DEFAULT_OUTBOUND_RATE_LIMIT = 300;
+
+    /**
+     * The {@link Configuration} key to store the duration (in ms) during which the text messages posted to the same
+     * channel and thread are merged into a single message.
+     * <p>
+     * Coalescing is disabled if this key is not set or set to {@code 0}. Enabling it delays each text message by up
+     * to this duration.
+     *
+     * @see #DEFAULT_COALESCING_WINDOW
+     * @see com.xatkit.plugins.slack.platform.SlackReplyCoalescer
+     */
+    String COALESCING_WINDOW_KEY = "xatkit.slack.coalescing.window";
+
+    /**
+     * The default value of the {@link #COALESCING_WINDOW_KEY} {@link Configuration} key.
+     */
+    long DEFAULT_COALESCING_WINDOW = 0;
+
+    /**
+     * The {@link Configuration} key to store the maximum number of idle connections to the Slack API kept in the
+     * connection pool.
+     * <p>
+     * The connection pool is shared by the bots of the JVM using the same HTTP settings. This value is set to {@code
+     * 5} by default.
+     *
+     * @see #DEFAULT_HTTP_MAX_IDLE_CONNECTIONS
+     * @see com.xatkit.plugins.slack.util.SlackHttpTransport
+     */
+    String HTTP_MAX_IDLE_CONNECTIONS_KEY = "xatkit.slack.http.max_idle_connections";
+
+    /**
+     * The default value of the {@link #HTTP_MAX_IDLE_CONNECTIONS_KEY} {@link Configuration} key.
+     */
+    int DEFAULT_HTTP_MAX_IDLE_CONNECTIONS = 5;
+
+    /**
+     * The {@link Configuration} key to store the duration (in ms) an idle connection to the Slack API is kept in the
+     * connection pool.
+     * <p>
+     * This value is set to {@code 300000} (5 minutes) by default.
+     *
+     * @see #DEFAULT_HTTP_KEEP_ALIVE
+     * @see com.xatkit.plugins.slack.util.SlackHttpTransport
+     */
+    String HTTP_KEEP_ALIVE_KEY = "xatkit.slack.http.keep_alive";
+
+    /**
+     * The default value of the {@link #HTTP_KEEP_ALIVE_KEY} {@link Configuration} key.
+     */
+    long DEFAULT_HTTP_KEEP_ALIVE = 300000;
+
+    /**
+     * The {@link Configuration} key to store the timeout (in ms) to establish a connection to the Slack API.
+     * <p>
+     * This value is set to {@code 10000} by default, {@code 0} means no timeout.
+     *
+     * @see #DEFAULT_HTTP_CONNECT_TIMEOUT
+     * @see com.xatkit.plugins.slack.util.SlackHttpTransport
+     */
+    String HTTP_CONNECT_TIMEOUT_KEY = "xatkit.slack.http.connect_timeout";
+
+    /**
+     * The default value of the {@link #HTTP_CONNECT_TIMEOUT_KEY} {@link Configuration} key.
+     */
+    long DEFAULT_HTTP_CONNECT_TIMEOUT = 10000;
+
+    /**
+     * The {@link Configuration} key to store the timeout (in ms) to read a response from the Slack API.
+     * <p>
+     * This value is set to {@code 30000} by default, {@code 0} means no timeout.
+     *
+     * @see #DEFAULT_HTTP_READ_TIMEOUT
+     * @see com.xatkit.plugins.slack.util.SlackHttpTransport
+     */
+    String HTTP_READ_TIMEOUT_KEY = "xatkit.slack.http.read_timeout";
+
+    /**
+     * The default value of the {@link #HTTP_READ_TIMEOUT_KEY} {@link Configuration} key.
+     */
+    long DEFAULT_HTTP_READ_TIMEOUT = 30000;
+
+    /**
+     * The {@link Configuration} key to store whether HTTP/2 is negotiated with the Slack API.
+     * <p>
+     * HTTP/2 multiplexes the concurrent calls over a single connection. It requires a JVM supporting ALPN, the
+     * client falls back to HTTP/1.1 otherwise. This value is set to {@code true} by default (the protocols negotiated by
+     * the default OkHttp client), setting it to {@code false} restricts the client to HTTP/1.1.
+     *
+     * @see #DEFAULT_HTTP_2
+     * @see com.xatkit.plugins.slack.util.SlackHttpTransport
+     */
+    String HTTP_2_KEY = "xatkit.slack.http.http2";
+
+    /**
+     * The default value of the {@link #HTTP_2_KEY} {@link Configuration} key.
+     */
+    boolean DEFAULT_HTTP_2 = true;
+
+    /**
+     * The {@link Configuration} key to store the delay (in ms) during which an uploaded file is shared instead of
+     * being uploaded again.
+     * <p>
+     * Files are identified by their title and the SHA-256 hash of their content. This value is set to {@code
+     * 86400000} (1 day) by default.
+     *
+     * @see #DEFAULT_UPLOAD_CACHE_TTL
+     * @see com.xatkit.plugins.slack.platform.SlackFileUploadCache
+     */
+    String UPLOAD_CACHE_TTL_KEY = "xatkit.slack.upload_cache.ttl";
+
+    /**
+     * The default value of the {@link #UPLOAD_CACHE_TTL_KEY} {@link Configuration} key.
+     */
+    long DEFAULT_UPLOAD_CACHE_TTL = 86400000;
+
+    /**
+     * The {@link Configuration} key to store the maximum number of uploaded files remembered by the platform.
+     * <p>
+     * Setting this value to {@code 0} disables the de-duplication of uploaded files. De-duplication requires to read
+     * the content of each posted file to hash it, and only applies to public files (files uploaded to private channels
+     * or direct messages cannot be opened from the other channels). This value is set to {@code 0} by default.
+     *
+     * @see #DEFAULT_UPLOAD_CACHE_MAX_SIZE
+     * @see com.xatkit.plugins.slack.platform.SlackFileUploadCache
+     */
+    String UPLOAD_CACHE_MAX_SIZE_KEY = "xatkit.slack.upload_cache.max_size";
+
+    /**
+     * The default value of the {@link #UPLOAD_CACHE_MAX_SIZE_KEY} {@link Configuration} key.
+     */
+    int DEFAULT_UPLOAD_CACHE_MAX_SIZE = 0;
+
+    /**
+     * The {@link Configuration} key to store the minimum duration (in ms) between two edits of a streaming reply.
+     * <p>
+     * The chunks appended to a streaming reply in the meantime are merged into a single edit. This value is set to
+     * {@code 1000} by default.
+     *
+     * @see #DEFAULT_STREAMING_UPDATE_INTERVAL
+     * @see com.xatkit.plugins.slack.platform.SlackStreamingReply
+     */
+    String STREAMING_UPDATE_INTERVAL_KEY = "xatkit.slack.streaming.update_interval";
+
+    /**
+     * The default value of the {@link #STREAMING_UPDATE_INTERVAL_KEY} {@link Configuration} key.
+     */
+    long DEFAULT_STREAMING_UPDATE_INTERVAL = 1000;
+
+    /**
+     * The {@link Configuration} key to store the maximum number of attempts to deliver a broadcast message to a
+     * channel.
+     * <p>
+     * Only the posts that have not been processed by Slack (connection failure, rate limit, or service unavailable)
+     * are retried, a message is never posted twice to the same channel.
+     * This value is set to {@code 3} by default.
+     *
+     * @see #DEFAULT_BROADCAST_MAX_ATTEMPTS
+     * @see com.xatkit.plugins.slack.platform.SlackBroadcaster
+     */
+    String BROADCAST_MAX_ATTEMPTS_KEY = "xatkit.slack.broadcast.max_attempts";
+
+    /**
+     * The default value of the {@link #BROADCAST_MAX_ATTEMPTS_KEY} {@link Configuration} key.
+     */
+    int DEFAULT_BROADCAST_MAX_ATTEMPTS = 3;
+
+    /**
+     * The {@link Configuration} key to store the delay (in ms) before retrying a failed broadcast message.
+     * <p>
+     * The delay is doubled after each attempt. This value is set to {@code 1000} by default.
+     *
+     * @see #DEFAULT_BROADCAST_BACKOFF
+     * @see com.xatkit.plugins.slack.platform.SlackBroadcaster
+     */
+    String BROADCAST_BACKOFF_KEY = "xatkit.slack.broadcast.backoff";
+
+    /**
+     * The default value of the {@link #BROADCAST_BACKOFF_KEY} {@link Configuration} key.
+     */
+    long DEFAULT_BROADCAST_BACKOFF = 1000;
+
+    /**
+     * The {@link Configuration} key to store the duration (in ms) during which received messages are remembered to
+     * detect duplicated deliveries.
+     * <p>
+     * Messages are identified by their {@code (team, channel, ts)} triple. A message received twice during this
+     * window is processed only once.
+     * <p>
+     * This value is set to {@code 300000} (5 minutes) by default.
+     *
+     * @see #DEFAULT_DEDUPLICATION_WINDOW
+     * @see #DEDUPLICATION_CAPACITY_KEY
+     */
+    String DEDUPLICATION_WINDOW_KEY = "xatkit.slack.deduplication.window";
+
+    /**
+     * The default value of the {@link #DEDUPLICATION_WINDOW_KEY} {@link Configuration} key.
+     */
+    long DEFAULT_DEDUPLICATION_WINDOW = 300000;
+
+    /**
+     * The {@link Configuration} key to store the number of received messages remembered to detect duplicated
+     * deliveries.
+     * <p>
+     * This value is set to {@code 10000} by default.
+     *
+     * @see #DEFAULT_DEDUPLICATION_CAPACITY
+     * @see #DEDUPLICATION_WINDOW_KEY
+     */
+    String DEDUPLICATION_CAPACITY_KEY = "xatkit.slack.deduplication.capacity";
+
+    /**
+     * The default value of the {@link #DEDUPLICATION_CAPACITY_KEY} {@link Configuration} key.
+     */
+    int DEFAULT_DEDUPLICATION_CAPACITY = 10000;
+
+    /**
+     * The {@link Configuration} key to store the base delay (in ms) used to reconnect disconnected RTM clients.
+     * <p>
+     * Reconnections are retried with a capped exponential backoff: the delay before the {@code n}th retry is a
+     * random value between {@code 0} and {@code min(max_delay, base_delay * 2^n)}.
+     * <p>
+     * This value is set to {@code 2000} by default.
+     *
+     * @see #DEFAULT_RECONNECT_BASE_DELAY
+     * @see #RECONNECT_MAX_DELAY_KEY
+     */
+    String RECONNECT_BASE_DELAY_KEY = "xatkit.slack.reconnect.base_delay";
+
+    /**
+     * The default value of the {@link #RECONNECT_BASE_DELAY_KEY} {@link Configuration} key.
+     */
+    long DEFAULT_RECONNECT_BASE_DELAY = 2000;
+
+    /**
+     * The {@link Configuration} key to store the maximum delay (in ms) between two reconnection attempts.
+     * <p>
+     * This value is set to {@code 300000} (5 minutes) by default.
+     *
+     * @see #DEFAULT_RECONNECT_MAX_DELAY
+     * @see #RECONNECT_BASE_DELAY_KEY
+     */
+    String RECONNECT_MAX_DELAY_KEY = "xatkit.slack.reconnect.max_delay";
+
+    /**
+     * The default value of the {@link #RECONNECT_MAX_DELAY_KEY} {@link Configuration} key.
+     */
+    long DEFAULT_RECONNECT_MAX_DELAY = 300000;
+
+    /**
+     * The {@link Configuration} key to store the maximum number of RTM clients reconnecting at the same time.
+     * <p>
+     * This value is set to {@code 4} by default.
+     *
+     * @see #DEFAULT_RECONNECT_MAX_CONCURRENT
+     */
+    String RECONNECT_MAX_CONCURRENT_KEY = "xatkit.slack.reconnect.max_concurrent";
+
+    /**
+     * The default value of the {@link #RECONNECT_MAX_CONCURRENT_KEY} {@link Configuration} key.
+     */
+    int DEFAULT_RECONNECT_MAX_CONCURRENT = 4;
+
+    /**
+     * The {@link Configuration} key to store the mode used to receive the events from Slack.
+     * <p>
+     * Supported values are {@link #INGESTION_MODE_RTM} (one RTM websocket per workspace) and
+     * {@link #INGESTION_MODE_EVENTS_API} (events are pushed by Slack to the {@link #EVENTS_API_ENDPOINT} of the
+     * Xatkit server). The Events API mode does not maintain any long-lived connection, and allows to deploy several
+     * bot instances behind a load balancer.
+     * <p>
+     * This value is set to {@link #INGESTION_MODE_RTM} by default.
+     *
+     * @see #DEFAULT_INGESTION_MODE
+     * @see #SIGNING_SECRET_KEY
+     */
+    String INGESTION_MODE_KEY = "xatkit.slack.ingestion_mode";
+
+    /**
+     * The {@link #INGESTION_MODE_KEY} value used to receive the events through RTM connections.
+     */
+    String INGESTION_MODE_RTM = "rtm";
+
+    /**
+     * The {@link #INGESTION_MODE_KEY} value used to receive the events through the Slack Events API.
+     */
+    String INGESTION_MODE_EVENTS_API = "events_api";
+
+    /**
+     * The default value of the {@link #INGESTION_MODE_KEY} {@link Configuration} key.
+     */
+    String DEFAULT_INGESTION_MODE = INGESTION_MODE_RTM;
+
+    /**
+     * The {@link Configuration} key to store the signing secret of the Slack app.
+     * <p>
+     * The signing secret is used to verify that the requests received on the {@link #EVENTS_API_ENDPOINT} are sent
+     * by Slack. This key is required when the {@link #INGESTION_MODE_KEY} is set to
+     * {@link #INGESTION_MODE_EVENTS_API}.
+     */
+    String SIGNING_SECRET_KEY = "xatkit.slack.signing_secret";
+
+    /**
+     * The path of the Xatkit server endpoint receiving the Slack Events API requests.
+     * <p>
+     * The {@code Request URL} of the Slack app's event subscriptions must be set to
+     * {@code <xatkit_server_url>/slack/events}.
+     */
+    String EVENTS_API_ENDPOINT = "/slack/events";
+
     /**
      * The Slack API answer type representing a {@code message}.
      */
@@ -87,6 +663,41 @@ public interface SlackUtils extends ChatUtils {
      */
     String HELLO_TYPE = "hello";
 
+    /**
+     * The Slack API answer type representing an update of a user profile.
+     */
+    String USER_CHANGE_TYPE = "user_change";
+
+    /**
+     * The Slack API answer type representing the creation of a public channel.
+     */
+    String CHANNEL_CREATED_TYPE = "channel_created";
+
+    /**
+     * The Slack API answer type representing the renaming of a channel.
+     */
+    String CHANNEL_RENAME_TYPE = "channel_rename";
+
+    /**
+     * The Slack API answer type representing the deletion of a channel.
+     */
+    String CHANNEL_DELETED_TYPE = "channel_deleted";
+
+    /**
+     * The Slack API answer type representing the creation of a direct message channel with the bot.
+     */
+    String IM_CREATED_TYPE = "im_created";
+
+    /**
+     * The Slack API answer type representing the bot joining a private channel.
+     */
+    String GROUP_JOINED_TYPE = "group_joined";
+
+    /**
+     * The Slack API answer type representing a user joining a channel.
+     */
+    String MEMBER_JOINED_CHANNEL_TYPE = "member_joined_channel";
+
     /**
      * The name of the platform data entry used to store slack-related information.
      */
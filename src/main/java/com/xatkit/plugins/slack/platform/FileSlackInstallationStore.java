@@ -0,0 +1,126 @@
+package com.xatkit.plugins.slack.platform;
+
+import fr.inria.atlanmod.commons.log.Log;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static fr.inria.atlanmod.commons.Preconditions.checkNotNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A {@link SlackInstallationStore} storing the installations in a properties file.
+ * <p>
+ * Each installation is stored as a {@code teamId=token} entry. The file is rewritten to a temporary file that
+ * atomically replaces the previous one each time an installation is saved or removed, and is only readable by its
+ * owner on file systems supporting POSIX permissions (the stored {@code token}s grant access to the workspaces).
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see com.xatkit.plugins.slack.SlackUtils#INSTALLATION_STORE_FILE_KEY
+ */
+public class FileSlackInstallationStore implements SlackInstallationStore {
+
+    /**
+     * The file storing the installations.
+     */
+    private final Path file;
+
+    /**
+     * The stored installations.
+     * <p>
+     * Accesses to this {@link Properties} must be synchronized on this store.
+     */
+    private final Properties installations = new Properties();
+
+    /**
+     * Constructs a {@link FileSlackInstallationStore} storing the installations in the provided {@code file}.
+     * <p>
+     * The installations already stored in the {@code file} are loaded, and the parent directories of the {@code
+     * file} are created if needed.
+     *
+     * @param file the file storing the installations
+     * @throws NullPointerException if the provided {@code file} is {@code null}
+     * @throws IOException          if an error occurred when reading the {@code file}
+     */
+    public FileSlackInstallationStore(Path file) throws IOException {
+        checkNotNull(file, "Cannot create a %s with the provided file %s", FileSlackInstallationStore.class
+                .getSimpleName(), file);
+        this.file = file.toAbsolutePath();
+        Files.createDirectories(this.file.getParent());
+        if (Files.isRegularFile(this.file)) {
+            try (InputStream input = Files.newInputStream(this.file)) {
+                installations.load(input);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void save(String teamId, String token) throws IOException {
+        Object previousToken = installations.setProperty(teamId, token);
+        if (!token.equals(previousToken)) {
+            write();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void remove(String teamId) throws IOException {
+        if (nonNull(installations.remove(teamId))) {
+            write();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized Map<String, String> loadAll() {
+        Map<String, String> result = new HashMap<>();
+        for (String teamId : installations.stringPropertyNames()) {
+            result.put(teamId, installations.getProperty(teamId));
+        }
+        return result;
+    }
+
+    /**
+     * Writes the stored installations to the {@link #file}.
+     *
+     * @throws IOException if an error occurred when writing the file
+     */
+    private void write() throws IOException {
+        Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try {
+                Files.setPosixFilePermissions(tempFile, PosixFilePermissions.fromString("rw-------"));
+            } catch (UnsupportedOperationException e) {
+                Log.debug("Cannot restrict the permissions of {0}, the file system does not support POSIX " +
+                        "permissions", file);
+            }
+            try (OutputStream output = Files.newOutputStream(tempFile)) {
+                installations.store(output, "Slack app installations (teamId=token)");
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+}
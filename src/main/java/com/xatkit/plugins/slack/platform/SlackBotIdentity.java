@@ -0,0 +1,95 @@
+package com.xatkit.plugins.slack.platform;
+
+import javax.annotation.Nullable;
+
+/**
+ * The identity of the bot associated to a Slack {@code token}.
+ * <p>
+ * Identities are resolved once per {@code token} with the {@code auth.test} Slack API method, and are cached by the
+ * {@link SlackPlatform}. This allows the platform and its {@link com.xatkit.plugins.slack.platform.io.SlackIntentProvider}s
+ * to retrieve the workspace and the bot user associated to a {@code token} without calling the Slack API again.
+ *
+ * @see SlackPlatform#getBotIdentity(String)
+ */
+public class SlackBotIdentity {
+
+    /**
+     * The identifier of the workspace.
+     */
+    private final String teamId;
+
+    /**
+     * The name of the workspace.
+     */
+    private final String teamName;
+
+    /**
+     * The identifier of the bot user.
+     */
+    private final String botUserId;
+
+    /**
+     * The name of the bot user.
+     */
+    private final String botUserName;
+
+    /**
+     * Constructs a {@link SlackBotIdentity} with the provided parameters.
+     *
+     * @param teamId      the identifier of the workspace
+     * @param teamName    the name of the workspace
+     * @param botUserId   the identifier of the bot user
+     * @param botUserName the name of the bot user
+     */
+    public SlackBotIdentity(String teamId, @Nullable String teamName, String botUserId,
+                            @Nullable String botUserName) {
+        this.teamId = teamId;
+        this.teamName = teamName;
+        this.botUserId = botUserId;
+        this.botUserName = botUserName;
+    }
+
+    /**
+     * Returns the identifier of the workspace.
+     *
+     * @return the identifier of the workspace
+     */
+    public String getTeamId() {
+        return teamId;
+    }
+
+    /**
+     * Returns the name of the workspace.
+     *
+     * @return the name of the workspace, or {@code null} if it is unknown
+     */
+    public @Nullable String getTeamName() {
+        return teamName;
+    }
+
+    /**
+     * Returns the identifier of the bot user.
+     * <p>
+     * This identifier is used to filter the messages sent by the bot itself, and to detect mentions of the bot.
+     *
+     * @return the identifier of the bot user
+     */
+    public String getBotUserId() {
+        return botUserId;
+    }
+
+    /**
+     * Returns the name of the bot user.
+     *
+     * @return the name of the bot user, or {@code null} if it is unknown
+     */
+    public @Nullable String getBotUserName() {
+        return botUserName;
+    }
+
+    @Override
+    public String toString() {
+        return "SlackBotIdentity{teamId=" + teamId + ", teamName=" + teamName + ", botUserId=" + botUserId
+                + ", botUserName=" + botUserName + "}";
+    }
+}
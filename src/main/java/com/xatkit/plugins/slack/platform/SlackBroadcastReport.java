@@ -0,0 +1,278 @@
+package com.xatkit.plugins.slack.platform;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * The delivery report of a broadcast.
+ * <p>
+ * Instances of this class are created by the {@link SlackBroadcaster} once all the targets of a broadcast have been
+ * delivered or have failed, and contain the outcome of each target as well as the throughput of the broadcast.
+ *
+ * @see SlackPlatform#broadcast(String, java.util.Collection)
+ */
+public class SlackBroadcastReport {
+
+    /**
+     * The {@link Delivery} of each target of the broadcast.
+     */
+    private final List<Delivery> deliveries;
+
+    /**
+     * The duration (in ms) of the broadcast.
+     */
+    private final long duration;
+
+    /**
+     * Constructs a {@link SlackBroadcastReport} with the provided parameters.
+     *
+     * @param deliveries the {@link Delivery} of each target of the broadcast
+     * @param duration   the duration (in ms) of the broadcast
+     */
+    SlackBroadcastReport(List<Delivery> deliveries, long duration) {
+        this.deliveries = Collections.unmodifiableList(deliveries);
+        this.duration = duration;
+    }
+
+    /**
+     * Returns the {@link Delivery} of each target of the broadcast.
+     *
+     * @return an unmodifiable {@link List} containing the {@link Delivery} of each target
+     */
+    public List<Delivery> getDeliveries() {
+        return deliveries;
+    }
+
+    /**
+     * Returns the {@link Delivery} of the targets that could not be delivered.
+     *
+     * @return the failed {@link Delivery}s
+     */
+    public List<Delivery> getFailures() {
+        return deliveries.stream().filter(d -> !d.isDelivered()).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of targets of the broadcast.
+     *
+     * @return the number of targets
+     */
+    public int getTargetCount() {
+        return deliveries.size();
+    }
+
+    /**
+     * Returns the number of targets the message has been delivered to.
+     *
+     * @return the number of delivered targets
+     */
+    public int getDeliveredCount() {
+        return (int) deliveries.stream().filter(Delivery::isDelivered).count();
+    }
+
+    /**
+     * Returns the number of targets the message could not be delivered to.
+     *
+     * @return the number of failed targets
+     */
+    public int getFailedCount() {
+        return getTargetCount() - getDeliveredCount();
+    }
+
+    /**
+     * Returns whether the message has been delivered to all the targets.
+     *
+     * @return {@code true} if all the targets have been delivered, {@code false} otherwise
+     */
+    public boolean isComplete() {
+        return getFailedCount() == 0;
+    }
+
+    /**
+     * Returns the number of attempts performed to deliver the broadcast, including the retries.
+     *
+     * @return the number of attempts
+     */
+    public int getAttemptCount() {
+        return deliveries.stream().mapToInt(Delivery::getAttempts).sum();
+    }
+
+    /**
+     * Returns the number of retries performed to deliver the broadcast.
+     *
+     * @return the number of retries
+     */
+    public int getRetryCount() {
+        return getAttemptCount() - getTargetCount();
+    }
+
+    /**
+     * Returns the duration (in ms) of the broadcast.
+     *
+     * @return the duration of the broadcast
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns the number of messages delivered per second.
+     *
+     * @return the throughput of the broadcast
+     */
+    public double getThroughput() {
+        if (duration == 0) {
+            return getDeliveredCount() == 0 ? 0 : Double.POSITIVE_INFINITY;
+        }
+        return getDeliveredCount() * 1000.0 / duration;
+    }
+
+    /**
+     * Returns the average duration (in ms) between the start of the broadcast and the delivery of a message.
+     *
+     * @return the average latency of the delivered messages, or {@code 0} if no message has been delivered
+     */
+    public long getAverageLatency() {
+        return (long) deliveries.stream().filter(Delivery::isDelivered).mapToLong(Delivery::getLatency).average()
+                .orElse(0);
+    }
+
+    /**
+     * Returns the maximum duration (in ms) between the start of the broadcast and the delivery of a message.
+     *
+     * @return the maximum latency of the delivered messages, or {@code 0} if no message has been delivered
+     */
+    public long getMaxLatency() {
+        return deliveries.stream().filter(Delivery::isDelivered).mapToLong(Delivery::getLatency).max().orElse(0);
+    }
+
+    @Override
+    public String toString() {
+        return "SlackBroadcastReport{" +
+                "targets=" + getTargetCount() +
+                ", delivered=" + getDeliveredCount() +
+                ", failed=" + getFailedCount() +
+                ", retries=" + getRetryCount() +
+                ", duration=" + duration +
+                ", throughput=" + String.format("%.2f", getThroughput()) +
+                '}';
+    }
+
+    /**
+     * The outcome of the broadcast for a single target.
+     */
+    public static class Delivery {
+
+        /**
+         * The target of the delivery.
+         */
+        private final SlackBroadcaster.Target target;
+
+        /**
+         * The timestamp of the posted message, or {@code null} if the delivery failed.
+         */
+        private final String ts;
+
+        /**
+         * The error that caused the delivery to fail, or {@code null} if the message has been delivered.
+         */
+        private final String error;
+
+        /**
+         * The number of attempts performed to deliver the message.
+         */
+        private final int attempts;
+
+        /**
+         * The duration (in ms) between the start of the broadcast and the outcome of the delivery.
+         */
+        private final long latency;
+
+        /**
+         * Constructs a {@link Delivery} with the provided parameters.
+         *
+         * @param target   the target of the delivery
+         * @param ts       the timestamp of the posted message, or {@code null} if the delivery failed
+         * @param error    the error that caused the delivery to fail, or {@code null} if the message has been
+         *                 delivered
+         * @param attempts the number of attempts performed to deliver the message
+         * @param latency  the duration (in ms) between the start of the broadcast and the outcome of the delivery
+         */
+        Delivery(SlackBroadcaster.Target target, @Nullable String ts, @Nullable String error, int attempts,
+                 long latency) {
+            this.target = target;
+            this.ts = ts;
+            this.error = error;
+            this.attempts = attempts;
+            this.latency = latency;
+        }
+
+        /**
+         * Returns the target of the delivery.
+         *
+         * @return the target
+         */
+        public SlackBroadcaster.Target getTarget() {
+            return target;
+        }
+
+        /**
+         * Returns whether the message has been delivered.
+         *
+         * @return {@code true} if the message has been delivered, {@code false} otherwise
+         */
+        public boolean isDelivered() {
+            return isNull(error);
+        }
+
+        /**
+         * Returns the timestamp of the posted message.
+         *
+         * @return the timestamp of the posted message, or {@code null} if the delivery failed
+         */
+        public @Nullable String getTs() {
+            return ts;
+        }
+
+        /**
+         * Returns the error that caused the delivery to fail.
+         *
+         * @return the error, or {@code null} if the message has been delivered
+         */
+        public @Nullable String getError() {
+            return error;
+        }
+
+        /**
+         * Returns the number of attempts performed to deliver the message.
+         *
+         * @return the number of attempts
+         */
+        public int getAttempts() {
+            return attempts;
+        }
+
+        /**
+         * Returns the duration (in ms) between the start of the broadcast and the outcome of the delivery.
+         *
+         * @return the latency of the delivery
+         */
+        public long getLatency() {
+            return latency;
+        }
+
+        @Override
+        public String toString() {
+            return "Delivery{" +
+                    "target=" + target +
+                    (nonNull(error) ? ", error=" + error : ", ts=" + ts) +
+                    ", attempts=" + attempts +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.xatkit.plugins.slack.platform;
+
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.methods.response.chat.ChatPostMessageResponse;
+import fr.inria.atlanmod.commons.log.Log;
+
+import javax.annotation.Nullable;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Posts a message to a set of channels spread across one or several workspaces.
+ * <p>
+ * The posts of a broadcast are all started concurrently: the pacing is delegated to the {@link Sender}, which is
+ * expected to deliver them through the {@link SlackOutboundQueue} (that enforces the per-channel and per-workspace
+ * rate budgets). {@code chat.postMessage} is not idempotent: only the posts that Slack has not processed are
+ * retried with an exponential backoff, i.e. the posts that could not connect to the Slack API, or that have been
+ * rejected because of the rate limit (exceeding the retries of the queue) or the unavailability of the service.
+ * Other errors (e.g. {@code channel_not_found}, a server error, or a read timeout, after which the message may have
+ * been posted) fail the target right away, ensuring that a message is never posted twice to the same target.
+ * <p>
+ * The returned {@link SlackBroadcastReport} is never completed exceptionally: the failures are reported for each
+ * target.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see SlackPlatform#broadcast(String, Collection)
+ * @see com.xatkit.plugins.slack.SlackUtils#BROADCAST_MAX_ATTEMPTS_KEY
+ * @see com.xatkit.plugins.slack.SlackUtils#BROADCAST_BACKOFF_KEY
+ */
+public class SlackBroadcaster {
+
+    /**
+     * The maximum delay (in ms) between two attempts to deliver a message.
+     */
+    static final long MAX_BACKOFF = 60000;
+
+    /**
+     * The errors returned by the Slack API that are worth retrying.
+     * <p>
+     * These errors are returned before the message is posted, retrying them cannot post the message twice.
+     */
+    private static final Set<String> TRANSIENT_ERRORS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "ratelimited", "service_unavailable")));
+
+    /**
+     * The {@link ScheduledExecutorService} used to schedule the retries.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The maximum number of attempts to deliver a message to a target.
+     */
+    private final int maxAttempts;
+
+    /**
+     * The delay (in ms) before the first retry, doubled after each attempt.
+     */
+    private final long backoff;
+
+    /**
+     * The {@link Sender} posting the messages.
+     */
+    private final Sender sender;
+
+    /**
+     * Constructs a {@link SlackBroadcaster} with the provided parameters.
+     *
+     * @param scheduler   the {@link ScheduledExecutorService} used to schedule the retries
+     * @param maxAttempts the maximum number of attempts to deliver a message to a target
+     * @param backoff     the delay (in ms) before the first retry, doubled after each attempt
+     * @param sender      the {@link Sender} posting the messages
+     * @throws IllegalArgumentException if the provided {@code maxAttempts} is lower than {@code 1} or if the provided
+     *                                  {@code backoff} is negative
+     */
+    public SlackBroadcaster(ScheduledExecutorService scheduler, int maxAttempts, long backoff, Sender sender) {
+        checkArgument(maxAttempts > 0, "Cannot create a %s with the provided maximum attempts %s, expected a " +
+                "strictly positive number", SlackBroadcaster.class.getSimpleName(), maxAttempts);
+        checkArgument(backoff >= 0, "Cannot create a %s with the provided backoff %s, expected a positive number",
+                SlackBroadcaster.class.getSimpleName(), backoff);
+        this.scheduler = scheduler;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.sender = sender;
+    }
+
+    /**
+     * Posts the provided {@code message} to the given {@code targets}.
+     * <p>
+     * Duplicated targets are posted only once.
+     *
+     * @param message the message to post
+     * @param targets the {@link Target}s to post the message to
+     * @return a {@link CompletableFuture} completed with the {@link SlackBroadcastReport} once all the targets have
+     * been delivered or have failed
+     * @throws IllegalArgumentException if the provided {@code message} is empty
+     */
+    public CompletableFuture<SlackBroadcastReport> broadcast(String message, Collection<Target> targets) {
+        checkArgument(!message.isEmpty(), "Cannot broadcast the provided message %s, the message cannot be empty",
+                message);
+        long startTime = System.currentTimeMillis();
+        List<CompletableFuture<SlackBroadcastReport.Delivery>> deliveries = new ArrayList<>();
+        for (Target target : new LinkedHashSet<>(targets)) {
+            CompletableFuture<SlackBroadcastReport.Delivery> delivery = new CompletableFuture<>();
+            deliveries.add(delivery);
+            attempt(target, message, 1, startTime, delivery);
+        }
+        return CompletableFuture.allOf(deliveries.toArray(new CompletableFuture<?>[0]))
+                .thenApply(v -> {
+                    List<SlackBroadcastReport.Delivery> results = new ArrayList<>(deliveries.size());
+                    deliveries.forEach(d -> results.add(d.join()));
+                    return new SlackBroadcastReport(results, System.currentTimeMillis() - startTime);
+                });
+    }
+
+    /**
+     * Attempts to deliver the provided {@code message} to the given {@code target}.
+     * <p>
+     * The next attempt is scheduled after the backoff delay if the post fails with a transient error.
+     *
+     * @param target    the {@link Target} to post the message to
+     * @param message   the message to post
+     * @param attempt   the number of the attempt, starting at {@code 1}
+     * @param startTime the time (in ms since epoch) the broadcast started
+     * @param result    the {@link CompletableFuture} to complete with the {@link SlackBroadcastReport.Delivery} of
+     *                  the target
+     */
+    private void attempt(Target target, String message, int attempt, long startTime,
+                         CompletableFuture<SlackBroadcastReport.Delivery> result) {
+        CompletableFuture<ChatPostMessageResponse> post;
+        try {
+            post = sender.post(target, message);
+        } catch (Throwable t) {
+            post = new CompletableFuture<>();
+            post.completeExceptionally(t);
+        }
+        post.whenComplete((response, throwable) -> {
+            Throwable cause = unwrap(throwable);
+            String error;
+            boolean retry;
+            if (isNull(cause)) {
+                if (response.isOk()) {
+                    result.complete(new SlackBroadcastReport.Delivery(target, response.getTs(), null, attempt,
+                            System.currentTimeMillis() - startTime));
+                    return;
+                }
+                error = response.getError();
+                retry = TRANSIENT_ERRORS.contains(error);
+            } else {
+                error = nonNull(cause.getMessage()) ? cause.getMessage() : cause.getClass().getSimpleName();
+                retry = isTransient(cause);
+            }
+            if (retry && attempt < maxAttempts) {
+                long delay = getBackoff(attempt);
+                Log.warn("Cannot broadcast the message to {0} (attempt {1}/{2}), received error {3}, retrying in " +
+                        "{4}ms", target, attempt, maxAttempts, error, delay);
+                try {
+                    scheduler.schedule(() -> attempt(target, message, attempt + 1, startTime, result), delay,
+                            TimeUnit.MILLISECONDS);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    error = "Cannot retry the delivery, the platform is shut down";
+                }
+            }
+            Log.error("Cannot broadcast the message to {0}, received error {1}", target, error);
+            result.complete(new SlackBroadcastReport.Delivery(target, null, error, attempt,
+                    System.currentTimeMillis() - startTime));
+        });
+    }
+
+    /**
+     * Returns the delay (in ms) to wait after the provided {@code attempt}.
+     *
+     * @param attempt the number of the failed attempt, starting at {@code 1}
+     * @return the delay (in ms) to wait before the next attempt
+     */
+    long getBackoff(int attempt) {
+        long delay = backoff;
+        for (int i = 1; i < attempt && delay < MAX_BACKOFF; i++) {
+            delay *= 2;
+        }
+        return Math.min(delay, MAX_BACKOFF);
+    }
+
+    /**
+     * Returns whether the provided {@code throwable} is a transient error worth retrying.
+     * <p>
+     * Only the errors raised before the post reached Slack (connection failures) or rejected without being
+     * processed (HTTP {@code 429} and {@code 503}) are transient. Other I/O errors (e.g. a read timeout) are not
+     * retried, the message may have been posted.
+     *
+     * @param throwable the error thrown by a post
+     * @return {@code true} if the post can be retried, {@code false} otherwise
+     */
+    static boolean isTransient(Throwable throwable) {
+        if (throwable instanceof SlackApiException) {
+            SlackApiException e = (SlackApiException) throwable;
+            return nonNull(e.getResponse()) && (e.getResponse().code() == 429 || e.getResponse().code() == 503);
+        }
+        for (Throwable cause = throwable; nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof UnknownHostException
+                    || cause instanceof NoRouteToHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Unwraps the provided {@code throwable} thrown by a {@link CompletableFuture}.
+     *
+     * @param throwable the error to unwrap
+     * @return the cause of the error, or {@code null} if the provided {@code throwable} is {@code null}
+     */
+    private static @Nullable Throwable unwrap(@Nullable Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && nonNull(cause.getCause())) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * A channel of a workspace targeted by a broadcast.
+     */
+    public static final class Target {
+
+        /**
+         * The identifier of the workspace containing the channel.
+         */
+        private final String teamId;
+
+        /**
+         * The channel ID, name, or user name to post the message to.
+         */
+        private final String channel;
+
+        /**
+         * Constructs a {@link Target} with the provided parameters.
+         *
+         * @param teamId  the identifier of the workspace containing the channel
+         * @param channel the channel ID, name, or user name to post the message to
+         * @throws IllegalArgumentException if the provided {@code teamId} or {@code channel} is empty
+         */
+        public Target(String teamId, String channel) {
+            checkArgument(!teamId.isEmpty(), "Cannot create a %s with the provided teamId %s, expected a non-empty " +
+                    "String", Target.class.getSimpleName(), teamId);
+            checkArgument(!channel.isEmpty(), "Cannot create a %s with the provided channel %s, expected a " +
+                    "non-empty String", Target.class.getSimpleName(), channel);
+            this.teamId = teamId;
+            this.channel = channel;
+        }
+
+        /**
+         * Returns the identifier of the workspace containing the channel.
+         *
+         * @return the identifier of the workspace
+         */
+        public String getTeamId() {
+            return teamId;
+        }
+
+        /**
+         * Returns the channel ID, name, or user name to post the message to.
+         *
+         * @return the channel
+         */
+        public String getChannel() {
+            return channel;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Target)) {
+                return false;
+            }
+            Target other = (Target) o;
+            return teamId.equals(other.teamId) && channel.equals(other.channel);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(teamId, channel);
+        }
+
+        @Override
+        public String toString() {
+            return teamId + ':' + channel;
+        }
+    }
+
+    /**
+     * Posts the messages of a {@link SlackBroadcaster}.
+     */
+    @FunctionalInterface
+    public interface Sender {
+
+        /**
+         * Posts the provided {@code message} to the given {@code target}.
+         *
+         * @param target  the {@link Target} to post the message to
+         * @param message the message to post
+         * @return a {@link CompletableFuture} completed with the response of the Slack API, or completed
+         * exceptionally if the Slack API could not be reached
+         */
+        CompletableFuture<ChatPostMessageResponse> post(Target target, String message);
+    }
+}
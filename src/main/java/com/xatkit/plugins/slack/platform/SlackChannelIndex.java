@@ -0,0 +1,258 @@
+package com.xatkit.plugins.slack.platform;
+
+import com.github.seratch.jslack.api.model.User;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * An immutable index of the channels of a Slack workspace.
+ * <p>
+ * The index associates channel names, as well as user names, real names, and display names (for direct message
+ * channels), to channel identifiers, and records whether each channel is a group channel or a user channel. All the
+ * lookups are performed in constant time.
+ * <p>
+ * Instances of this class are immutable: the {@link SlackPlatform} builds a new index with a {@link Builder} each
+ * time the channels of a workspace are loaded, and replaces the previous one. Incremental updates (e.g. when a
+ * channel is created) are applied to a copy of the index obtained with {@link #toBuilder()}. Readers always see a
+ * complete index, even when the channels are updated concurrently.
+ *
+ * @see SlackPlatform#getChannelIndex(String)
+ */
+public class SlackChannelIndex {
+
+    /**
+     * An empty {@link SlackChannelIndex}.
+     * <p>
+     * This index is used for the workspaces whose channels have not been loaded yet.
+     */
+    public static final SlackChannelIndex EMPTY = new Builder().build();
+
+    /**
+     * The identifiers of the channels, indexed by channel identifier, name, and user names.
+     */
+    private final Map<String, String> channelIds;
+
+    /**
+     * The identifiers of the group channels.
+     */
+    private final Set<String> groupChannelIds;
+
+    /**
+     * The identifiers of the user channels.
+     */
+    private final Set<String> userChannelIds;
+
+    /**
+     * Constructs a {@link SlackChannelIndex} with the provided parameters.
+     *
+     * @param channelIds      the identifiers of the channels, indexed by channel identifier, name, and user names
+     * @param groupChannelIds the identifiers of the group channels
+     * @param userChannelIds  the identifiers of the user channels
+     */
+    private SlackChannelIndex(Map<String, String> channelIds, Set<String> groupChannelIds,
+                              Set<String> userChannelIds) {
+        this.channelIds = Collections.unmodifiableMap(channelIds);
+        this.groupChannelIds = Collections.unmodifiableSet(groupChannelIds);
+        this.userChannelIds = Collections.unmodifiableSet(userChannelIds);
+    }
+
+    /**
+     * Creates a {@link SlackChannelIndex} from the provided raw content.
+     * <p>
+     * This method is used to restore an index from a {@link SlackWorkspaceSnapshot}.
+     *
+     * @param channelIds      the identifiers of the channels, indexed by channel identifier, name, and user names
+     * @param groupChannelIds the identifiers of the group channels
+     * @param userChannelIds  the identifiers of the user channels
+     * @return the created {@link SlackChannelIndex}
+     */
+    static SlackChannelIndex of(Map<String, String> channelIds, Set<String> groupChannelIds,
+                                Set<String> userChannelIds) {
+        return new SlackChannelIndex(new HashMap<>(channelIds), new HashSet<>(groupChannelIds),
+                new HashSet<>(userChannelIds));
+    }
+
+    /**
+     * Returns the identifier of the channel matching the provided {@code channelName}.
+     * <p>
+     * The provided {@code channelName} can be a channel identifier, a channel name, or the name, real name, or
+     * display name of a user (in this case the identifier of the direct message channel with the user is returned).
+     *
+     * @param channelName the identifier or name of the channel to retrieve
+     * @return the identifier of the channel, or {@code null} if the index does not contain a matching channel
+     */
+    public @Nullable String getChannelId(String channelName) {
+        return channelIds.get(channelName);
+    }
+
+    /**
+     * Returns whether the provided {@code channelId} identifies a group channel.
+     *
+     * @param channelId the identifier of the channel to check
+     * @return {@code true} if the channel is a group channel, {@code false} otherwise
+     */
+    public boolean isGroupChannel(String channelId) {
+        return groupChannelIds.contains(channelId);
+    }
+
+    /**
+     * Returns whether the provided {@code channelId} identifies a user (direct message) channel.
+     *
+     * @param channelId the identifier of the channel to check
+     * @return {@code true} if the channel is a user channel, {@code false} otherwise
+     */
+    public boolean isUserChannel(String channelId) {
+        return userChannelIds.contains(channelId);
+    }
+
+    /**
+     * Returns the identifiers of the channels, indexed by channel identifier, name, and user names.
+     *
+     * @return an unmodifiable {@link Map} containing the indexed channel identifiers
+     */
+    Map<String, String> getChannelIds() {
+        return channelIds;
+    }
+
+    /**
+     * Returns the identifiers of the group channels.
+     *
+     * @return an unmodifiable {@link Set} containing the identifiers of the group channels
+     */
+    public Set<String> getGroupChannelIds() {
+        return groupChannelIds;
+    }
+
+    /**
+     * Returns the identifiers of the user channels.
+     *
+     * @return an unmodifiable {@link Set} containing the identifiers of the user channels
+     */
+    public Set<String> getUserChannelIds() {
+        return userChannelIds;
+    }
+
+    /**
+     * Returns a {@link Builder} initialized with the content of this index.
+     * <p>
+     * The returned {@link Builder} can be used to create an updated copy of this index, this index is not modified.
+     *
+     * @return the initialized {@link Builder}
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.channelIds.putAll(channelIds);
+        builder.groupChannelIds.addAll(groupChannelIds);
+        builder.userChannelIds.addAll(userChannelIds);
+        return builder;
+    }
+
+    /**
+     * Builds {@link SlackChannelIndex} instances.
+     * <p>
+     * This class is not thread-safe.
+     */
+    public static class Builder {
+
+        /**
+         * The identifiers of the channels, indexed by channel identifier, name, and user names.
+         */
+        private final Map<String, String> channelIds = new HashMap<>();
+
+        /**
+         * The identifiers of the group channels.
+         */
+        private final Set<String> groupChannelIds = new HashSet<>();
+
+        /**
+         * The identifiers of the user channels.
+         */
+        private final Set<String> userChannelIds = new HashSet<>();
+
+        /**
+         * Adds a group channel to the index.
+         * <p>
+         * The channel is only indexed by its identifier if the provided {@code channelName} is {@code null}.
+         *
+         * @param channelId   the identifier of the channel
+         * @param channelName the name of the channel
+         * @return this {@link Builder}
+         */
+        public Builder groupChannel(String channelId, @Nullable String channelName) {
+            /*
+             * Store the conversation ID as an entry for itself, this is because we cannot differentiate IDs from
+             * regular strings when retrieving a channel ID.
+             */
+            channelIds.put(channelId, channelId);
+            putName(channelName, channelId);
+            groupChannelIds.add(channelId);
+            return this;
+        }
+
+        /**
+         * Adds a user (direct message) channel to the index.
+         * <p>
+         * The name, real name, and display name of the provided {@code user} are associated to the channel. The
+         * channel is only indexed by its identifier if the {@code user} is {@code null}.
+         *
+         * @param channelId the identifier of the channel
+         * @param user      the {@link User} of the channel
+         * @return this {@link Builder}
+         */
+        public Builder userChannel(String channelId, @Nullable User user) {
+            channelIds.put(channelId, channelId);
+            userChannelIds.add(channelId);
+            if (nonNull(user)) {
+                putName(user.getName(), channelId);
+                putName(user.getRealName(), channelId);
+                putName(isNull(user.getProfile()) ? null : user.getProfile().getDisplayName(), channelId);
+            }
+            return this;
+        }
+
+        /**
+         * Removes the channel with the provided {@code channelId} from the index.
+         * <p>
+         * All the names associated to the channel are removed.
+         *
+         * @param channelId the identifier of the channel to remove
+         * @return this {@link Builder}
+         */
+        public Builder removeChannel(String channelId) {
+            channelIds.values().removeIf(channelId::equals);
+            groupChannelIds.remove(channelId);
+            userChannelIds.remove(channelId);
+            return this;
+        }
+
+        /**
+         * Associates the provided {@code name} to the given {@code channelId}.
+         *
+         * @param name      the name to index
+         * @param channelId the identifier of the channel
+         */
+        private void putName(@Nullable String name, String channelId) {
+            if (nonNull(name)) {
+                channelIds.put(name, channelId);
+            }
+        }
+
+        /**
+         * Builds the {@link SlackChannelIndex}.
+         *
+         * @return the built {@link SlackChannelIndex}
+         */
+        public SlackChannelIndex build() {
+            return new SlackChannelIndex(new HashMap<>(channelIds), new HashSet<>(groupChannelIds),
+                    new HashSet<>(userChannelIds));
+        }
+    }
+}
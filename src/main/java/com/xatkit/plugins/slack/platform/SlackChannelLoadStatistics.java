@@ -0,0 +1,134 @@
+package com.xatkit.plugins.slack.platform;
+
+/**
+ * Statistics of the last channel load of a Slack workspace.
+ * <p>
+ * Instances of this class are created by the {@link SlackPlatform} each time the channels of a workspace are
+ * (re)loaded, and can be used to monitor the cost of the loads.
+ *
+ * @see SlackPlatform#getChannelLoadStatistics(String)
+ */
+public class SlackChannelLoadStatistics {
+
+    /**
+     * The time (in ms since epoch) the load completed.
+     */
+    private final long completionTime;
+
+    /**
+     * The duration (in ms) of the load.
+     */
+    private final long duration;
+
+    /**
+     * The number of {@code conversations.list} calls performed by the load.
+     */
+    private final int conversationsListCalls;
+
+    /**
+     * The number of {@code users.list} calls performed by the load.
+     */
+    private final int usersListCalls;
+
+    /**
+     * The number of loaded group channels.
+     */
+    private final int groupChannelCount;
+
+    /**
+     * The number of loaded user channels.
+     */
+    private final int userChannelCount;
+
+    /**
+     * Constructs a {@link SlackChannelLoadStatistics} with the provided parameters.
+     *
+     * @param completionTime         the time (in ms since epoch) the load completed
+     * @param duration               the duration (in ms) of the load
+     * @param conversationsListCalls the number of {@code conversations.list} calls performed by the load
+     * @param usersListCalls         the number of {@code users.list} calls performed by the load
+     * @param groupChannelCount      the number of loaded group channels
+     * @param userChannelCount       the number of loaded user channels
+     */
+    SlackChannelLoadStatistics(long completionTime, long duration, int conversationsListCalls, int usersListCalls,
+                               int groupChannelCount, int userChannelCount) {
+        this.completionTime = completionTime;
+        this.duration = duration;
+        this.conversationsListCalls = conversationsListCalls;
+        this.usersListCalls = usersListCalls;
+        this.groupChannelCount = groupChannelCount;
+        this.userChannelCount = userChannelCount;
+    }
+
+    /**
+     * Returns the time (in ms since epoch) the load completed.
+     *
+     * @return the completion time of the load
+     */
+    public long getCompletionTime() {
+        return completionTime;
+    }
+
+    /**
+     * Returns the duration (in ms) of the load.
+     *
+     * @return the duration of the load
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns the number of {@code conversations.list} calls performed by the load.
+     *
+     * @return the number of {@code conversations.list} calls
+     */
+    public int getConversationsListCalls() {
+        return conversationsListCalls;
+    }
+
+    /**
+     * Returns the number of {@code users.list} calls performed by the load.
+     * <p>
+     * This number is {@code 0} if the load used an already loaded {@link SlackUserDirectory}.
+     *
+     * @return the number of {@code users.list} calls
+     */
+    public int getUsersListCalls() {
+        return usersListCalls;
+    }
+
+    /**
+     * Returns the total number of Slack API calls performed by the load.
+     *
+     * @return the number of Slack API calls
+     */
+    public int getApiCalls() {
+        return conversationsListCalls + usersListCalls;
+    }
+
+    /**
+     * Returns the number of loaded group channels.
+     *
+     * @return the number of group channels
+     */
+    public int getGroupChannelCount() {
+        return groupChannelCount;
+    }
+
+    /**
+     * Returns the number of loaded user channels.
+     *
+     * @return the number of user channels
+     */
+    public int getUserChannelCount() {
+        return userChannelCount;
+    }
+
+    @Override
+    public String toString() {
+        return "SlackChannelLoadStatistics{duration=" + duration + "ms, conversationsListCalls="
+                + conversationsListCalls + ", usersListCalls=" + usersListCalls + ", groupChannelCount="
+                + groupChannelCount + ", userChannelCount=" + userChannelCount + "}";
+    }
+}
@@ -0,0 +1,159 @@
+package com.xatkit.plugins.slack.platform;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+import static java.util.Objects.nonNull;
+
+/**
+ * A short-lived, size-bounded cache of the channel names and identifiers that cannot be resolved in a Slack
+ * workspace.
+ * <p>
+ * The {@link SlackPlatform} reloads the channels of a workspace when a channel name or identifier is not found, in
+ * case the channel has been created since the last load. Names that are still unknown after a reload are recorded
+ * in this cache, and subsequent lookups of these names fail without reloading the channels until the entry expires.
+ * This prevents repeated lookups of an invalid name (e.g. a typo in a bot definition) from reloading the channels
+ * of the workspace each time.
+ *
+ * @see com.xatkit.plugins.slack.SlackUtils#CHANNEL_MISS_CACHE_TTL_KEY
+ * @see com.xatkit.plugins.slack.SlackUtils#CHANNEL_MISS_CACHE_MAX_SIZE_KEY
+ */
+public class SlackChannelMissCache {
+
+    /**
+     * The delay (in ms) after which a cached miss expires.
+     */
+    private final long ttl;
+
+    /**
+     * The expiration times (in ms since epoch) of the cached misses, indexed by {@code teamId} and name.
+     * <p>
+     * Accesses to this {@link Map} must be synchronized on the map itself.
+     */
+    private final Map<String, Long> misses;
+
+    /**
+     * The number of lookups that have been answered from the cache.
+     */
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * Constructs a {@link SlackChannelMissCache} with the provided {@code ttl} and {@code maxSize}.
+     *
+     * @param ttl     the delay (in ms) after which a cached miss expires
+     * @param maxSize the maximum number of misses stored in the cache
+     * @throws IllegalArgumentException if the provided {@code ttl} or {@code maxSize} is lower than {@code 1}
+     */
+    public SlackChannelMissCache(long ttl, int maxSize) {
+        checkArgument(ttl > 0, "Cannot create a %s with the provided TTL %s, expected a strictly positive value",
+                SlackChannelMissCache.class.getSimpleName(), ttl);
+        checkArgument(maxSize > 0, "Cannot create a %s with the provided maximum size %s, expected a strictly " +
+                "positive value", SlackChannelMissCache.class.getSimpleName(), maxSize);
+        this.ttl = ttl;
+        this.misses = new LinkedHashMap<String, Long>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns whether the provided {@code name} is a cached miss of the workspace {@code teamId}.
+     *
+     * @param teamId the identifier of the workspace
+     * @param name   the channel name or identifier to check
+     * @return {@code true} if the name could not be resolved recently, {@code false} otherwise
+     */
+    public boolean contains(String teamId, String name) {
+        return contains(teamId, name, System.currentTimeMillis());
+    }
+
+    /**
+     * Returns whether the provided {@code name} is a cached miss of the workspace {@code teamId} at the given {@code
+     * currentTimeMillis}.
+     *
+     * @param teamId            the identifier of the workspace
+     * @param name              the channel name or identifier to check
+     * @param currentTimeMillis the current time, in milliseconds
+     * @return {@code true} if the name could not be resolved recently, {@code false} otherwise
+     */
+    boolean contains(String teamId, String name, long currentTimeMillis) {
+        String key = key(teamId, name);
+        synchronized (misses) {
+            Long expirationTime = misses.get(key);
+            if (nonNull(expirationTime)) {
+                if (expirationTime > currentTimeMillis) {
+                    hitCount.incrementAndGet();
+                    return true;
+                }
+                misses.remove(key);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Records that the provided {@code name} cannot be resolved in the workspace {@code teamId}.
+     *
+     * @param teamId the identifier of the workspace
+     * @param name   the channel name or identifier that cannot be resolved
+     */
+    public void add(String teamId, String name) {
+        add(teamId, name, System.currentTimeMillis());
+    }
+
+    /**
+     * Records that the provided {@code name} cannot be resolved in the workspace {@code teamId} at the given {@code
+     * currentTimeMillis}.
+     *
+     * @param teamId            the identifier of the workspace
+     * @param name              the channel name or identifier that cannot be resolved
+     * @param currentTimeMillis the current time, in milliseconds
+     */
+    void add(String teamId, String name, long currentTimeMillis) {
+        String key = key(teamId, name);
+        synchronized (misses) {
+            /*
+             * Remove the entry first to move it at the end of the insertion order.
+             */
+            misses.remove(key);
+            misses.put(key, currentTimeMillis + ttl);
+        }
+    }
+
+    /**
+     * Returns the number of misses stored in the cache.
+     *
+     * @return the number of misses stored in the cache
+     */
+    public int size() {
+        synchronized (misses) {
+            return misses.size();
+        }
+    }
+
+    /**
+     * Returns the number of lookups that have been answered from the cache.
+     * <p>
+     * Each hit corresponds to a channel reload that has been avoided.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Computes the key of the provided {@code name} in the workspace {@code teamId}.
+     *
+     * @param teamId the identifier of the workspace
+     * @param name   the channel name or identifier
+     * @return the key of the cache entry
+     */
+    private static String key(String teamId, String name) {
+        return teamId + '\u0000' + name;
+    }
+}
@@ -0,0 +1,493 @@
+package com.xatkit.plugins.slack.platform;
+
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.methods.SlackApiResponse;
+import com.github.seratch.jslack.api.model.File;
+import com.github.seratch.jslack.common.json.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.xatkit.core.XatkitException;
+import okhttp3.FormBody;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSink;
+
+import javax.annotation.Nullable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.List;
+
+import static com.xatkit.plugins.slack.util.SlackUtils.logSlackApiResponse;
+import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Uploads files to Slack with the external upload flow, streaming their content from the disk or an
+ * {@link InputStream}.
+ * <p>
+ * The single-shot {@code files.upload} Slack API method requires the whole file in a single multipart request. This
+ * class relies on the external upload flow instead:
+ * <ol>
+ * <li>{@code files.getUploadURLExternal} returns an upload URL and a file identifier</li>
+ * <li>the content of the file is streamed to the upload URL, reading at most {@link #CHUNK_SIZE} bytes at a time
+ * </li>
+ * <li>{@code files.completeUploadExternal} shares the uploaded file in a channel</li>
+ * </ol>
+ * The content of the file is never fully loaded in memory, allowing to upload large files without creating heap
+ * pressure.
+ * <p>
+ * jslack 1.8.1 does not support the external upload flow, this class calls the Slack API with the
+ * {@link OkHttpClient} of the platform.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see SlackPlatform#getFileUploader()
+ */
+public class SlackExternalFileUploader {
+
+    /**
+     * The default URL prefix of the Slack API methods.
+     */
+    public static final String DEFAULT_ENDPOINT_URL_PREFIX = "https://slack.com/api/";
+
+    /**
+     * The number of bytes read from the content of a file for each write to the upload URL.
+     */
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * The {@link MediaType} of the uploaded content.
+     */
+    private static final MediaType OCTET_STREAM = MediaType.parse("application/octet-stream");
+
+    /**
+     * The {@link Gson} instance used to parse the responses of the Slack API.
+     */
+    private static final Gson GSON = GsonFactory.createSnakeCase();
+
+    /**
+     * The {@link OkHttpClient} used to call the Slack API.
+     */
+    private final OkHttpClient httpClient;
+
+    /**
+     * The URL prefix of the Slack API methods.
+     */
+    private final String endpointUrlPrefix;
+
+    /**
+     * Constructs a {@link SlackExternalFileUploader} with the provided {@code httpClient} and
+     * {@code endpointUrlPrefix}.
+     *
+     * @param httpClient        the {@link OkHttpClient} used to call the Slack API
+     * @param endpointUrlPrefix the URL prefix of the Slack API methods
+     * @see #DEFAULT_ENDPOINT_URL_PREFIX
+     */
+    public SlackExternalFileUploader(OkHttpClient httpClient, String endpointUrlPrefix) {
+        this.httpClient = httpClient;
+        this.endpointUrlPrefix = endpointUrlPrefix;
+    }
+
+    /**
+     * Uploads the content of the file at the provided {@code path}.
+     * <p>
+     * The uploaded file is not visible until it is shared with
+     * {@link #completeUpload(String, String, String, String, String)}.
+     *
+     * @param token    the Slack {@code token} to use
+     * @param filename the name of the uploaded file
+     * @param path     the {@link Path} of the file to upload
+     * @return the identifier of the uploaded file
+     * @throws IOException       if an error occurred when reading the file or reaching the Slack API
+     * @throws SlackApiException if the Slack API returned an HTTP error
+     * @throws XatkitException   if the Slack API returned an error
+     */
+    public String uploadContent(String token, String filename, Path path) throws IOException, SlackApiException {
+        long length = Files.size(path);
+        return uploadContent(token, filename, length, new ChannelRequestBody(length, false,
+                () -> FileChannel.open(path, StandardOpenOption.READ)));
+    }
+
+    /**
+     * Uploads the content of the provided {@code stream}.
+     * <p>
+     * The {@code stream} is read once, and is not closed by this method. The uploaded file is not visible until it is
+     * shared with {@link #completeUpload(String, String, String, String, String)}.
+     *
+     * @param token    the Slack {@code token} to use
+     * @param filename the name of the uploaded file
+     * @param stream   the {@link InputStream} to upload
+     * @param length   the number of bytes to read from the {@code stream}
+     * @return the identifier of the uploaded file
+     * @throws IOException       if an error occurred when reading the stream or reaching the Slack API
+     * @throws SlackApiException if the Slack API returned an HTTP error
+     * @throws XatkitException   if the Slack API returned an error
+     */
+    public String uploadContent(String token, String filename, InputStream stream, long length) throws IOException,
+            SlackApiException {
+        checkArgument(length > 0, "Cannot upload the stream %s with the provided length %s, expected a strictly " +
+                "positive number", filename, length);
+        ReadableByteChannel channel = Channels.newChannel(stream);
+        return uploadContent(token, filename, length, new ChannelRequestBody(length, true, () -> channel));
+    }
+
+    /**
+     * Shares the uploaded file with the provided {@code fileId} in the given {@code channelId}.
+     *
+     * @param token          the Slack {@code token} to use
+     * @param fileId         the identifier of the uploaded file
+     * @param title          the title of the file, or {@code null} to use its name
+     * @param channelId      the identifier of the channel to share the file in
+     * @param initialComment the message to post with the file, or {@code null}
+     * @return the {@link CompleteUploadResponse} returned by the Slack API
+     * @throws IOException       if an error occurred when reaching the Slack API
+     * @throws SlackApiException if the Slack API returned an HTTP error
+     */
+    public CompleteUploadResponse completeUpload(String token, String fileId, @Nullable String title,
+                                                 String channelId, @Nullable String initialComment)
+            throws IOException, SlackApiException {
+        JsonObject file = new JsonObject();
+        file.addProperty("id", fileId);
+        if (nonNull(title)) {
+            file.addProperty("title", title);
+        }
+        JsonArray files = new JsonArray();
+        files.add(file);
+        FormBody.Builder form = new FormBody.Builder()
+                .add("files", files.toString())
+                .add("channel_id", channelId);
+        if (nonNull(initialComment) && !initialComment.isEmpty()) {
+            form.add("initial_comment", initialComment);
+        }
+        return call("files.completeUploadExternal", token, form.build(), CompleteUploadResponse.class);
+    }
+
+    /**
+     * Requests an upload URL and streams the provided {@code body} to it.
+     *
+     * @param token    the Slack {@code token} to use
+     * @param filename the name of the uploaded file
+     * @param length   the length (in bytes) of the file
+     * @param body     the {@link RequestBody} streaming the content of the file
+     * @return the identifier of the uploaded file
+     * @throws IOException       if an error occurred when reading the content or reaching the Slack API
+     * @throws SlackApiException if the Slack API returned an HTTP error
+     * @throws XatkitException   if the Slack API returned an error
+     */
+    private String uploadContent(String token, String filename, long length, RequestBody body) throws IOException,
+            SlackApiException {
+        FormBody form = new FormBody.Builder()
+                .add("filename", filename)
+                .add("length", Long.toString(length))
+                .build();
+        UploadUrlResponse uploadUrlResponse = call("files.getUploadURLExternal", token, form,
+                UploadUrlResponse.class);
+        logSlackApiResponse(uploadUrlResponse);
+        if (!uploadUrlResponse.isOk()) {
+            throw new XatkitException(MessageFormat.format("Cannot upload the file {0}, the Slack API returned the " +
+                    "error {1}", filename, uploadUrlResponse.getError()));
+        }
+        Request request = new Request.Builder()
+                .url(uploadUrlResponse.getUploadUrl())
+                .post(body)
+                .build();
+        try (Response response = httpClient.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                throw new SlackApiException(response, readBody(response));
+            }
+        }
+        return uploadUrlResponse.getFileId();
+    }
+
+    /**
+     * Calls the Slack API {@code method} with the provided {@code form}.
+     *
+     * @param method the name of the Slack API method to call
+     * @param token  the Slack {@code token} to use
+     * @param form   the parameters of the call
+     * @param type   the type of the response
+     * @param <T>    the type of the response
+     * @return the response of the Slack API
+     * @throws IOException       if an error occurred when reaching the Slack API
+     * @throws SlackApiException if the Slack API returned an HTTP error
+     */
+    private <T extends SlackApiResponse> T call(String method, String token, FormBody form, Class<T> type)
+            throws IOException, SlackApiException {
+        Request request = new Request.Builder()
+                .url(endpointUrlPrefix + method)
+                .header("Authorization", "Bearer " + token)
+                .post(form)
+                .build();
+        try (Response response = httpClient.newCall(request).execute()) {
+            String responseBody = readBody(response);
+            if (!response.isSuccessful()) {
+                throw new SlackApiException(response, responseBody);
+            }
+            return GSON.fromJson(responseBody, type);
+        }
+    }
+
+    /**
+     * Reads the body of the provided {@code response}.
+     *
+     * @param response the {@link Response} to read the body of
+     * @return the body of the {@code response}, or an empty {@link String} if it does not have a body
+     * @throws IOException if an error occurred when reading the body
+     */
+    private static String readBody(Response response) throws IOException {
+        ResponseBody body = response.body();
+        return isNull(body) ? "" : body.string();
+    }
+
+    /**
+     * Opens the {@link ReadableByteChannel} containing the content of a file.
+     */
+    @FunctionalInterface
+    private interface ChannelOpener {
+
+        /**
+         * Opens the {@link ReadableByteChannel}.
+         *
+         * @return the opened {@link ReadableByteChannel}
+         * @throws IOException if an error occurred when opening the channel
+         */
+        ReadableByteChannel open() throws IOException;
+    }
+
+    /**
+     * A {@link RequestBody} streaming the content of a {@link ReadableByteChannel} in bounded chunks.
+     */
+    private static class ChannelRequestBody extends RequestBody {
+
+        /**
+         * The number of bytes to stream.
+         */
+        private final long length;
+
+        /**
+         * Whether the content can only be read once.
+         */
+        private final boolean oneShot;
+
+        /**
+         * The {@link ChannelOpener} opening the content to stream.
+         */
+        private final ChannelOpener opener;
+
+        /**
+         * Constructs a {@link ChannelRequestBody} with the provided parameters.
+         *
+         * @param length  the number of bytes to stream
+         * @param oneShot whether the content can only be read once
+         * @param opener  the {@link ChannelOpener} opening the content to stream
+         */
+        private ChannelRequestBody(long length, boolean oneShot, ChannelOpener opener) {
+            this.length = length;
+            this.oneShot = oneShot;
+            this.opener = opener;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return OCTET_STREAM;
+        }
+
+        @Override
+        public long contentLength() {
+            return length;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * One-shot bodies are not retried by the {@link OkHttpClient}, since their content has already been consumed.
+         */
+        @Override
+        public boolean isOneShot() {
+            return oneShot;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Channels opened from a file are closed once the content has been written, channels wrapping a stream are
+         * left open.
+         */
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            ReadableByteChannel channel = opener.open();
+            try {
+                ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(CHUNK_SIZE, length));
+                long remaining = length;
+                while (remaining > 0) {
+                    buffer.clear();
+                    buffer.limit((int) Math.min(buffer.capacity(), remaining));
+                    int read = channel.read(buffer);
+                    if (read < 0) {
+                        throw new EOFException(MessageFormat.format("Unexpected end of content, {0} bytes are " +
+                                "missing", remaining));
+                    }
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        sink.write(buffer);
+                    }
+                    remaining -= read;
+                }
+            } finally {
+                if (!oneShot) {
+                    channel.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * The base class of the responses of the external upload Slack API methods.
+     */
+    abstract static class ExternalUploadResponse implements SlackApiResponse {
+
+        /**
+         * Whether the call succeeded.
+         */
+        private boolean ok;
+
+        /**
+         * The warning returned by the Slack API.
+         */
+        private String warning;
+
+        /**
+         * The error returned by the Slack API.
+         */
+        private String error;
+
+        /**
+         * The OAuth scope needed to perform the call.
+         */
+        private String needed;
+
+        /**
+         * The OAuth scopes provided with the call.
+         */
+        private String provided;
+
+        @Override
+        public boolean isOk() {
+            return ok;
+        }
+
+        @Override
+        public void setOk(boolean ok) {
+            this.ok = ok;
+        }
+
+        @Override
+        public String getWarning() {
+            return warning;
+        }
+
+        @Override
+        public void setWarning(String warning) {
+            this.warning = warning;
+        }
+
+        @Override
+        public String getError() {
+            return error;
+        }
+
+        @Override
+        public void setError(String error) {
+            this.error = error;
+        }
+
+        @Override
+        public String getNeeded() {
+            return needed;
+        }
+
+        @Override
+        public void setNeeded(String needed) {
+            this.needed = needed;
+        }
+
+        @Override
+        public String getProvided() {
+            return provided;
+        }
+
+        @Override
+        public void setProvided(String provided) {
+            this.provided = provided;
+        }
+    }
+
+    /**
+     * The response of the {@code files.getUploadURLExternal} Slack API method.
+     */
+    static class UploadUrlResponse extends ExternalUploadResponse {
+
+        /**
+         * The URL to upload the content of the file to.
+         */
+        private String uploadUrl;
+
+        /**
+         * The identifier of the uploaded file.
+         */
+        private String fileId;
+
+        /**
+         * Returns the URL to upload the content of the file to.
+         *
+         * @return the upload URL
+         */
+        String getUploadUrl() {
+            return uploadUrl;
+        }
+
+        /**
+         * Returns the identifier of the uploaded file.
+         *
+         * @return the identifier of the file
+         */
+        String getFileId() {
+            return fileId;
+        }
+    }
+
+    /**
+     * The response of the {@code files.completeUploadExternal} Slack API method.
+     */
+    public static class CompleteUploadResponse extends ExternalUploadResponse {
+
+        /**
+         * The shared files.
+         */
+        private List<File> files;
+
+        /**
+         * Returns the shared files.
+         *
+         * @return the shared files
+         */
+        public List<File> getFiles() {
+            return files;
+        }
+    }
+}
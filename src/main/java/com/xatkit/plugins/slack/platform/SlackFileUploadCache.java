@@ -0,0 +1,306 @@
+package com.xatkit.plugins.slack.platform;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+import static java.util.Objects.nonNull;
+
+/**
+ * A size-bounded cache of the files uploaded to Slack, indexed by their title and the SHA-256 hash of their content.
+ * <p>
+ * This cache is used by the {@link com.xatkit.plugins.slack.platform.action.PostFileMessage} action to avoid
+ * uploading the same file several times to a workspace: a file with the same title and content as an uploaded one
+ * is shared in the new channel with its permalink instead of being uploaded again. Cached entries are scoped to a
+ * workspace, expire after a configurable delay, and the least recently used entries are evicted when the cache is
+ * full.
+ * <p>
+ * <b>Note</b>: Slack only unfurls the permalink of a file for the users that can access it. Files uploaded to a
+ * private channel or a direct message are not visible from the other channels of the workspace, and must not be
+ * stored in this cache.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see SlackPlatform#getUploadCache()
+ * @see com.xatkit.plugins.slack.SlackUtils#UPLOAD_CACHE_TTL_KEY
+ * @see com.xatkit.plugins.slack.SlackUtils#UPLOAD_CACHE_MAX_SIZE_KEY
+ */
+public class SlackFileUploadCache {
+
+    /**
+     * The size of the buffer used to hash the content of a file.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The hexadecimal digits used to format the hashes.
+     */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * The delay (in ms) after which a cached upload expires.
+     */
+    private final long ttl;
+
+    /**
+     * The cached uploads, ordered from the least recently accessed to the most recently accessed.
+     * <p>
+     * Keys in this {@link Map} are computed by {@link #getKey(String, String, String)}. Accesses to this {@link Map} must be synchronized on
+     * the map itself.
+     */
+    private final Map<String, CachedUpload> uploads;
+
+    /**
+     * The number of lookups that found an uploaded file.
+     */
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * The number of lookups that required to upload the file.
+     */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * The number of bytes that have not been uploaded thanks to the cache.
+     */
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    /**
+     * Constructs a {@link SlackFileUploadCache} with the provided {@code ttl} and {@code maxSize}.
+     *
+     * @param ttl     the delay (in ms) after which a cached upload expires
+     * @param maxSize the maximum number of uploads stored in the cache
+     * @throws IllegalArgumentException if the provided {@code ttl} or {@code maxSize} is lower than {@code 1}
+     */
+    public SlackFileUploadCache(long ttl, int maxSize) {
+        checkArgument(ttl > 0, "Cannot create a %s with the provided TTL %s, expected a strictly positive value",
+                SlackFileUploadCache.class.getSimpleName(), ttl);
+        checkArgument(maxSize > 0, "Cannot create a %s with the provided maximum size %s, expected a strictly " +
+                "positive value", SlackFileUploadCache.class.getSimpleName(), maxSize);
+        this.ttl = ttl;
+        this.uploads = new LinkedHashMap<String, CachedUpload>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedUpload> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Computes the SHA-256 hash of the provided {@code content}.
+     *
+     * @param content the content to hash
+     * @return the hexadecimal representation of the hash
+     */
+    public static String hash(byte[] content) {
+        MessageDigest digest = createDigest();
+        digest.update(content);
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Computes the SHA-256 hash of the content of the file at the provided {@code path}.
+     * <p>
+     * The file is read in bounded chunks, and is never fully loaded in memory.
+     *
+     * @param path the {@link Path} of the file to hash
+     * @return the hexadecimal representation of the hash
+     * @throws IOException if an error occurred when reading the file
+     */
+    public static String hash(Path path) throws IOException {
+        MessageDigest digest = createDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            int read;
+            while ((read = inputStream.read(buffer)) >= 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Returns the permalink of the file with the provided {@code title} and {@code hash} uploaded to the given
+     * workspace.
+     * <p>
+     * A successful lookup counts the provided {@code size} in the number of bytes saved by the cache.
+     *
+     * @param teamId the identifier of the workspace the file has been uploaded to
+     * @param title  the title of the file
+     * @param hash   the hash of the content of the file
+     * @param size   the size (in bytes) of the content of the file
+     * @return the permalink of the uploaded file if it is cached, {@code null} otherwise
+     * @see #hash(byte[])
+     * @see #hash(Path)
+     */
+    public @Nullable String lookup(String teamId, String title, String hash, long size) {
+        String key = getKey(teamId, title, hash);
+        CachedUpload cachedUpload;
+        synchronized (uploads) {
+            cachedUpload = uploads.get(key);
+            if (nonNull(cachedUpload) && cachedUpload.expirationTime <= System.currentTimeMillis()) {
+                uploads.remove(key);
+                cachedUpload = null;
+            }
+        }
+        if (nonNull(cachedUpload)) {
+            hitCount.incrementAndGet();
+            bytesSaved.addAndGet(size);
+            return cachedUpload.permalink;
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Stores the {@code permalink} of the file with the provided {@code title} and {@code hash} uploaded to the
+     * given workspace.
+     * <p>
+     * The file must be visible to all the members of the workspace (e.g. shared in a public channel), its permalink
+     * is shared in any channel of the workspace.
+     *
+     * @param teamId    the identifier of the workspace the file has been uploaded to
+     * @param title     the title of the file
+     * @param hash      the hash of the content of the file
+     * @param permalink the permalink of the uploaded file
+     */
+    public void put(String teamId, String title, String hash, String permalink) {
+        synchronized (uploads) {
+            uploads.put(getKey(teamId, title, hash), new CachedUpload(permalink,
+                    System.currentTimeMillis() + ttl));
+        }
+    }
+
+    /**
+     * Removes the file with the provided {@code title} and {@code hash} uploaded to the given workspace from the
+     * cache.
+     *
+     * @param teamId the identifier of the workspace the file has been uploaded to
+     * @param title  the title of the file
+     * @param hash   the hash of the content of the file
+     */
+    public void invalidate(String teamId, String title, String hash) {
+        synchronized (uploads) {
+            uploads.remove(getKey(teamId, title, hash));
+        }
+    }
+
+    /**
+     * Returns the number of uploads stored in the cache.
+     *
+     * @return the number of uploads stored in the cache
+     */
+    public int size() {
+        synchronized (uploads) {
+            return uploads.size();
+        }
+    }
+
+    /**
+     * Returns the number of lookups that found an uploaded file.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of lookups that required to upload the file.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the number of bytes that have not been uploaded thanks to the cache.
+     *
+     * @return the number of bytes saved
+     */
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    /**
+     * Returns the key of the file with the provided {@code title} and {@code hash} uploaded to the given workspace.
+     * <p>
+     * The title is the last part of the key, it may contain the {@code ':'} separator.
+     *
+     * @param teamId the identifier of the workspace the file has been uploaded to
+     * @param title  the title of the file
+     * @param hash   the hash of the content of the file
+     * @return the key of the file
+     */
+    private static String getKey(String teamId, String title, String hash) {
+        return teamId + ':' + hash + ':' + title;
+    }
+
+    /**
+     * Creates a SHA-256 {@link MessageDigest}.
+     *
+     * @return the created {@link MessageDigest}
+     * @throws IllegalStateException if the JVM does not support SHA-256
+     */
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            /*
+             * Should not happen, every JVM implementation is required to support SHA-256.
+             */
+            throw new IllegalStateException("Cannot hash the file content, SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Formats the provided {@code bytes} as an hexadecimal {@link String}.
+     *
+     * @param bytes the bytes to format
+     * @return the hexadecimal representation of the {@code bytes}
+     */
+    private static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            chars[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * A cached upload and its expiration time.
+     */
+    private static class CachedUpload {
+
+        /**
+         * The permalink of the uploaded file.
+         */
+        private final String permalink;
+
+        /**
+         * The time (in ms since epoch) after which the cached upload is expired.
+         */
+        private final long expirationTime;
+
+        /**
+         * Constructs a {@link CachedUpload} with the provided {@code permalink} and {@code expirationTime}.
+         *
+         * @param permalink      the permalink of the uploaded file
+         * @param expirationTime the time (in ms since epoch) after which the cached upload is expired
+         */
+        private CachedUpload(String permalink, long expirationTime) {
+            this.permalink = permalink;
+            this.expirationTime = expirationTime;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.xatkit.plugins.slack.platform;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * A task started in an {@link Executor} and joined by the thread that forked it.
+ * <p>
+ * If the task has not been started by the {@link Executor} when it is joined (e.g. because all the threads of the
+ * {@link Executor} are busy), it is executed in the joining thread. A thread joining a forked task therefore never
+ * waits for a task that is queued behind it, even if it runs in the {@link Executor} the task has been forked to.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <T> the type of the result of the task
+ */
+final class SlackForkedTask<T> {
+
+    /**
+     * The {@link Supplier} computing the result of the task.
+     */
+    private final Supplier<T> supplier;
+
+    /**
+     * Whether the task has been started, either by the {@link Executor} or by the joining thread.
+     */
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    /**
+     * The {@link CompletableFuture} completed with the result of the task.
+     */
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+
+    /**
+     * Constructs a {@link SlackForkedTask} computing its result with the provided {@code supplier}.
+     *
+     * @param supplier the {@link Supplier} computing the result of the task
+     */
+    private SlackForkedTask(Supplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Forks the provided {@code supplier} in the given {@code executor}.
+     * <p>
+     * The task is executed by the joining thread if the {@code executor} rejects it.
+     *
+     * @param supplier the {@link Supplier} computing the result of the task
+     * @param executor the {@link Executor} to fork the task to
+     * @param <T>      the type of the result of the task
+     * @return the forked task
+     */
+    static <T> SlackForkedTask<T> fork(Supplier<T> supplier, Executor executor) {
+        SlackForkedTask<T> task = new SlackForkedTask<>(supplier);
+        try {
+            executor.execute(task::run);
+        } catch (RejectedExecutionException e) {
+            /*
+             * The task is executed by the joining thread.
+             */
+        }
+        return task;
+    }
+
+    /**
+     * Returns the result of the task, executing it in the current thread if it has not been started yet.
+     *
+     * @return the result of the task
+     * @throws CompletionException if the task threw an exception
+     */
+    T join() {
+        run();
+        return result.join();
+    }
+
+    /**
+     * Executes the task if it has not been started yet.
+     */
+    private void run() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            result.complete(supplier.get());
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.xatkit.plugins.slack.platform;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Persists the installations of the Slack app.
+ * <p>
+ * An installation associates the identifier of a workspace where the Slack app is installed to the bot {@code
+ * token} returned by the OAuth flow. The {@link SlackPlatform} saves new installations in its store, and
+ * bootstraps the stored installations when it starts, meaning that installations are not lost when the bot is
+ * restarted.
+ * <p>
+ * Implementations must be thread-safe: installations can be saved concurrently by the OAuth handler and by the
+ * bootstrap of the stored workspaces.
+ *
+ * @see FileSlackInstallationStore
+ * @see SlackPlatform#createInstallationStore(org.apache.commons.configuration2.Configuration)
+ */
+public interface SlackInstallationStore {
+
+    /**
+     * Saves the installation of the Slack app in the workspace {@code teamId}.
+     * <p>
+     * The previous installation of the workspace is replaced, if any.
+     *
+     * @param teamId the identifier of the workspace where the app is installed
+     * @param token  the bot {@code token} of the installation
+     * @throws IOException if an error occurred when saving the installation
+     */
+    void save(String teamId, String token) throws IOException;
+
+    /**
+     * Removes the installation of the Slack app in the workspace {@code teamId}.
+     * <p>
+     * This method is called when the stored {@code token} of the workspace is no longer valid (e.g. when the app has
+     * been uninstalled).
+     *
+     * @param teamId the identifier of the workspace to remove the installation of
+     * @throws IOException if an error occurred when removing the installation
+     */
+    void remove(String teamId) throws IOException;
+
+    /**
+     * Loads all the stored installations.
+     *
+     * @return a {@link Map} containing the stored {@code teamId -> token} installations
+     * @throws IOException if an error occurred when loading the installations
+     */
+    Map<String, String> loadAll() throws IOException;
+}
@@ -0,0 +1,306 @@
+package com.xatkit.plugins.slack.platform;
+
+import com.github.seratch.jslack.api.model.block.ContextBlock;
+import com.github.seratch.jslack.api.model.block.LayoutBlock;
+import com.github.seratch.jslack.api.model.block.SectionBlock;
+import com.github.seratch.jslack.api.model.block.composition.MarkdownTextObject;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+import static java.util.Objects.nonNull;
+
+/**
+ * Renders the elements of a large collection into pages of Slack messages.
+ * <p>
+ * The elements are pulled from an {@link Iterator} when a page is rendered: only the elements of the current page
+ * are formatted, and the collection never has to be fully materialized. Each page contains at most {@code maxItems}
+ * elements and {@code maxLength} characters, elements longer than a page are truncated.
+ * <p>
+ * Pages are delivered on demand, for example with {@link SlackPlatform#replyListPage(com.xatkit.execution.StateContext,
+ * SlackListPaginator)} (the first page is posted as a reply, the next ones in its thread), or with
+ * {@link SlackPlatform#replyListPageBlocks(com.xatkit.execution.StateContext, SlackListPaginator)}.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see com.xatkit.plugins.slack.platform.action.ItemizeList
+ * @see com.xatkit.plugins.slack.platform.action.EnumerateList
+ */
+public class SlackListPaginator {
+
+    /**
+     * The default maximum number of elements of a page.
+     */
+    public static final int DEFAULT_MAX_ITEMS = 50;
+
+    /**
+     * The default maximum number of characters of a page.
+     * <p>
+     * This value corresponds to the maximum length of the text of a Block Kit section, allowing to render the pages
+     * as text messages or as blocks.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 3000;
+
+    /**
+     * The estimated length of a rendered element, used to size the page buffers.
+     */
+    private static final int ESTIMATED_ITEM_LENGTH = 32;
+
+    /**
+     * The {@link Iterator} providing the elements to render.
+     */
+    private final Iterator<?> items;
+
+    /**
+     * The {@link Style} used to render the elements.
+     */
+    private final Style style;
+
+    /**
+     * The maximum number of elements of a page.
+     */
+    private final int maxItems;
+
+    /**
+     * The maximum number of characters of a page.
+     */
+    private final int maxLength;
+
+    /**
+     * The rendered element that did not fit in the previous page.
+     * <p>
+     * This field and the following ones are guarded by {@code this}.
+     */
+    private String pendingItem;
+
+    /**
+     * The number of elements pulled from the {@link #items}.
+     */
+    private int itemCount;
+
+    /**
+     * The number of rendered pages.
+     */
+    private int pageCount;
+
+    /**
+     * The timestamp of the thread containing the pages, or {@code null} if no page has been posted.
+     */
+    private String threadTs;
+
+    /**
+     * Constructs a {@link SlackListPaginator} with the provided parameters.
+     *
+     * @param items     the {@link Iterator} providing the elements to render
+     * @param style     the {@link Style} used to render the elements
+     * @param maxItems  the maximum number of elements of a page
+     * @param maxLength the maximum number of characters of a page
+     * @throws IllegalArgumentException if the provided {@code maxItems} or {@code maxLength} is lower than {@code 1}
+     */
+    public SlackListPaginator(Iterator<?> items, Style style, int maxItems, int maxLength) {
+        checkArgument(maxItems > 0, "Cannot create a %s with the provided maximum items %s, expected a strictly " +
+                "positive number", SlackListPaginator.class.getSimpleName(), maxItems);
+        checkArgument(maxLength > 1, "Cannot create a %s with the provided maximum length %s, expected a number " +
+                "greater than 1", SlackListPaginator.class.getSimpleName(), maxLength);
+        this.items = items;
+        this.style = style;
+        this.maxItems = maxItems;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Creates a {@link SlackListPaginator} rendering the provided {@code items} as a set of items.
+     *
+     * @param items the {@link Iterator} providing the elements to render
+     * @return the created {@link SlackListPaginator}
+     * @see Style#ITEMIZE
+     */
+    public static SlackListPaginator itemize(Iterator<?> items) {
+        return new SlackListPaginator(items, Style.ITEMIZE, DEFAULT_MAX_ITEMS, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Creates a {@link SlackListPaginator} rendering the provided {@code items} as a set of items.
+     * <p>
+     * The {@code items} are consumed lazily, and the {@link Stream} is not closed by the paginator.
+     *
+     * @param items the {@link Stream} providing the elements to render
+     * @return the created {@link SlackListPaginator}
+     * @see Style#ITEMIZE
+     */
+    public static SlackListPaginator itemize(Stream<?> items) {
+        return itemize(items.iterator());
+    }
+
+    /**
+     * Creates a {@link SlackListPaginator} rendering the provided {@code items} as an enumeration.
+     *
+     * @param items the {@link Iterator} providing the elements to render
+     * @return the created {@link SlackListPaginator}
+     * @see Style#ENUMERATE
+     */
+    public static SlackListPaginator enumerate(Iterator<?> items) {
+        return new SlackListPaginator(items, Style.ENUMERATE, DEFAULT_MAX_ITEMS, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Creates a {@link SlackListPaginator} rendering the provided {@code items} as an enumeration.
+     * <p>
+     * The {@code items} are consumed lazily, and the {@link Stream} is not closed by the paginator.
+     *
+     * @param items the {@link Stream} providing the elements to render
+     * @return the created {@link SlackListPaginator}
+     * @see Style#ENUMERATE
+     */
+    public static SlackListPaginator enumerate(Stream<?> items) {
+        return enumerate(items.iterator());
+    }
+
+    /**
+     * Returns whether there are remaining elements to render.
+     *
+     * @return {@code true} if there is a next page, {@code false} otherwise
+     */
+    public synchronized boolean hasNextPage() {
+        return nonNull(pendingItem) || items.hasNext();
+    }
+
+    /**
+     * Renders the next page.
+     * <p>
+     * Elements are separated by line breaks. The elements are pulled from the {@link Iterator} until the page
+     * contains {@code maxItems} elements or the next element does not fit in the page.
+     *
+     * @return the rendered page
+     * @throws NoSuchElementException if there is no remaining element to render
+     * @see #hasNextPage()
+     */
+    public synchronized String nextPage() {
+        if (!hasNextPage()) {
+            throw new NoSuchElementException("Cannot render the next page, all the elements have been rendered");
+        }
+        StringBuilder page = new StringBuilder(Math.min(maxLength, maxItems * ESTIMATED_ITEM_LENGTH));
+        int pageItems = 0;
+        while (pageItems < maxItems && hasNextPage()) {
+            String item = nonNull(pendingItem) ? pendingItem : style.render(itemCount++, items.next());
+            pendingItem = null;
+            int separatorLength = pageItems == 0 ? 0 : 1;
+            if (page.length() + separatorLength + item.length() > maxLength) {
+                if (pageItems > 0) {
+                    pendingItem = item;
+                    break;
+                }
+                item = truncate(item);
+            }
+            if (pageItems > 0) {
+                page.append('\n');
+            }
+            page.append(item);
+            pageItems++;
+        }
+        pageCount++;
+        return page.toString();
+    }
+
+    /**
+     * Renders the next page as Block Kit blocks.
+     * <p>
+     * The page is rendered in a section, followed by a context block containing the page number.
+     *
+     * @return the {@link LayoutBlock}s of the rendered page
+     * @throws NoSuchElementException if there is no remaining element to render
+     * @see #nextPage()
+     */
+    public synchronized List<LayoutBlock> nextPageBlocks() {
+        String page = nextPage();
+        String footer = "Page " + pageCount + (hasNextPage() ? " - more items available" : "");
+        return Arrays.asList(
+                SectionBlock.builder()
+                        .text(MarkdownTextObject.builder().text(page).build())
+                        .build(),
+                ContextBlock.builder()
+                        .elements(Collections.singletonList(MarkdownTextObject.builder().text(footer).build()))
+                        .build());
+    }
+
+    /**
+     * Returns the number of rendered pages.
+     *
+     * @return the number of rendered pages
+     */
+    public synchronized int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Returns the timestamp of the thread containing the posted pages.
+     *
+     * @return the timestamp of the thread, or {@code null} if no page has been posted
+     */
+    synchronized String getThreadTs() {
+        return threadTs;
+    }
+
+    /**
+     * Sets the timestamp of the thread containing the posted pages.
+     *
+     * @param threadTs the timestamp of the thread
+     */
+    synchronized void setThreadTs(String threadTs) {
+        this.threadTs = threadTs;
+    }
+
+    /**
+     * Truncates the provided {@code item} to fit in a page.
+     *
+     * @param item the rendered element to truncate
+     * @return the truncated element
+     */
+    private String truncate(String item) {
+        int end = maxLength - 1;
+        if (Character.isHighSurrogate(item.charAt(end - 1))) {
+            end--;
+        }
+        return item.substring(0, end) + '…';
+    }
+
+    /**
+     * The rendering styles of the elements.
+     */
+    public enum Style {
+
+        /**
+         * Renders each element with the pattern {@code "- element"}.
+         */
+        ITEMIZE {
+            @Override
+            String render(int index, Object item) {
+                return "- " + item;
+            }
+        },
+
+        /**
+         * Renders each element with the pattern {@code "[index] element"}.
+         */
+        ENUMERATE {
+            @Override
+            String render(int index, Object item) {
+                return "[" + index + "] " + item;
+            }
+        };
+
+        /**
+         * Renders the provided {@code item}.
+         *
+         * @param index the index of the element in the collection
+         * @param item  the element to render
+         * @return the rendered element
+         */
+        abstract String render(int index, Object item);
+    }
+}
@@ -0,0 +1,493 @@
+package com.xatkit.plugins.slack.platform;
+
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.methods.SlackApiResponse;
+import com.xatkit.core.XatkitException;
+import com.xatkit.plugins.slack.util.SlackRateLimiter;
+import fr.inria.atlanmod.commons.log.Log;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Delivers the outbound Slack API calls of the platform while honoring the Slack rate limits.
+ * <p>
+ * Slack allows about one message per second and per channel, and limits the total number of messages a workspace
+ * can receive per minute. This queue stores the calls targeting each channel in a FIFO queue, and delivers them at
+ * most once every {@code channelInterval} ms. Each delivery also consumes a permit of the {@link SlackRateLimiter}
+ * of its workspace, shared by all the channels of the workspace. A channel whose workspace budget is exhausted is
+ * paused until a permit is available, without blocking the threads delivering the calls of the other workspaces.
+ * <p>
+ * Calls rejected by Slack with a HTTP {@code 429} status (or a {@code ratelimited} error) are retried after the
+ * delay specified in the {@code Retry-After} header of the response. The channel is paused during this delay, meaning
+ * that the messages posted to a channel are always delivered in order.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see SlackPlatform#getOutboundQueue()
+ * @see com.xatkit.plugins.slack.SlackUtils#OUTBOUND_CHANNEL_INTERVAL_KEY
+ * @see com.xatkit.plugins.slack.SlackUtils#OUTBOUND_RATE_LIMIT_KEY
+ */
+public class SlackOutboundQueue {
+
+    /**
+     * The maximum number of times a rate limited call is retried.
+     */
+    static final int MAX_RETRIES = 3;
+
+    /**
+     * The delay (in ms) to wait before retrying a rate limited call when Slack does not specify a {@code
+     * Retry-After} delay.
+     */
+    static final long DEFAULT_RETRY_AFTER = 1000;
+
+    /**
+     * The error returned by the Slack API when a call is rate limited.
+     */
+    private static final String RATE_LIMITED_ERROR = "ratelimited";
+
+    /**
+     * The {@link ScheduledExecutorService} delivering the calls.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * The minimum delay (in ms) between two deliveries to the same channel.
+     */
+    private final long channelInterval;
+
+    /**
+     * Returns the {@link SlackRateLimiter} of a workspace from its {@code teamId}.
+     */
+    private final Function<String, SlackRateLimiter> teamBudgets;
+
+    /**
+     * The queues of the channels with pending or recent deliveries.
+     * <p>
+     * Keys in this {@link Map} are {@code teamId:channelId} strings. A queue is removed once it is empty and its
+     * {@link #channelInterval} has elapsed. Queues are only accessed within the atomic operations of this
+     * {@link Map}.
+     */
+    private final Map<String, ArrayDeque<Delivery<?>>> channelQueues = new ConcurrentHashMap<>();
+
+    /**
+     * The number of calls waiting to be delivered.
+     */
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    /**
+     * The number of calls for which a delivery has been attempted.
+     */
+    private final AtomicLong attemptedCount = new AtomicLong();
+
+    /**
+     * The number of delivered calls, including the ones that returned an error.
+     */
+    private final AtomicLong deliveredCount = new AtomicLong();
+
+    /**
+     * The number of rate limited calls that have been retried.
+     */
+    private final AtomicLong retryCount = new AtomicLong();
+
+    /**
+     * The sum of the delays (in ms) between the submission and the first delivery attempt of the calls.
+     */
+    private final AtomicLong totalDelay = new AtomicLong();
+
+    /**
+     * The maximum delay (in ms) between the submission and the first delivery attempt of a call.
+     */
+    private final AtomicLong maxDelay = new AtomicLong();
+
+    /**
+     * Constructs a {@link SlackOutboundQueue} with the provided parameters.
+     *
+     * @param executor        the {@link ScheduledExecutorService} delivering the calls
+     * @param channelInterval the minimum delay (in ms) between two deliveries to the same channel
+     * @param teamBudgets     a {@link Function} returning the {@link SlackRateLimiter} of a workspace from its
+     *                        {@code teamId}
+     * @throws IllegalArgumentException if the provided {@code channelInterval} is negative
+     */
+    public SlackOutboundQueue(ScheduledExecutorService executor, long channelInterval,
+                              Function<String, SlackRateLimiter> teamBudgets) {
+        checkArgument(channelInterval >= 0, "Cannot create a %s with the provided channel interval %s, expected a " +
+                "positive number", SlackOutboundQueue.class.getSimpleName(), channelInterval);
+        this.executor = executor;
+        this.channelInterval = channelInterval;
+        this.teamBudgets = teamBudgets;
+    }
+
+    /**
+     * Submits the provided {@code call} targeting the given {@code channel}.
+     * <p>
+     * The returned {@link CompletableFuture} is completed with the response of the {@code call} once it has been
+     * delivered, or completed exceptionally with the error thrown by the {@code call}. Responses containing an error
+     * other than {@code ratelimited} are returned as is, and must be handled by the caller.
+     *
+     * @param teamId  the identifier of the workspace containing the {@code channel}
+     * @param channel the identifier of the channel targeted by the {@code call}
+     * @param call    the {@link Call} to deliver
+     * @param <T>     the type of the {@link SlackApiResponse} returned by the {@code call}
+     * @return a {@link CompletableFuture} completed with the response of the {@code call}
+     */
+    public <T extends SlackApiResponse> CompletableFuture<T> submit(String teamId, String channel, Call<T> call) {
+        Delivery<T> delivery = new Delivery<>(teamId, call, System.currentTimeMillis());
+        String key = teamId + ':' + channel;
+        queueDepth.incrementAndGet();
+        try {
+            channelQueues.compute(key, (k, queue) -> {
+                if (isNull(queue)) {
+                    /*
+                     * No recent delivery to this channel, the call can be delivered right away. Existing queues
+                     * always have a scheduled delivery.
+                     */
+                    scheduleDrain(key, 0);
+                    queue = new ArrayDeque<>();
+                }
+                queue.add(delivery);
+                return queue;
+            });
+        } catch (RejectedExecutionException e) {
+            /*
+             * Thrown before the creation of the queue, the mapping is unchanged.
+             */
+            queueDepth.decrementAndGet();
+            delivery.future.completeExceptionally(new XatkitException("Cannot submit the Slack API call, the " +
+                    "outbound queue is shut down", e));
+        }
+        return delivery.future;
+    }
+
+    /**
+     * Submits the provided {@code call} targeting the given {@code channel} and waits for its response.
+     *
+     * @param teamId  the identifier of the workspace containing the {@code channel}
+     * @param channel the identifier of the channel targeted by the {@code call}
+     * @param call    the {@link Call} to deliver
+     * @param <T>     the type of the {@link SlackApiResponse} returned by the {@code call}
+     * @return the response of the {@code call}
+     * @throws IOException       if an error occurred when reaching the Slack API, or if the current thread is
+     *                           interrupted while waiting for the response
+     * @throws SlackApiException if the Slack API returned an error
+     * @see #submit(String, String, Call)
+     */
+    public <T extends SlackApiResponse> T send(String teamId, String channel, Call<T> call) throws IOException,
+            SlackApiException {
+        return await(submit(teamId, channel, call));
+    }
+
+    /**
+     * Waits for the provided {@code future} and returns its response.
+     * <p>
+     * This method unwraps the errors thrown by the Slack API calls, allowing callers to handle them as if the calls
+     * were performed synchronously.
+     *
+     * @param future the {@link CompletableFuture} to wait for
+     * @param <T>    the type of the {@link SlackApiResponse} to return
+     * @return the response the {@code future} is completed with
+     * @throws IOException       if an error occurred when reaching the Slack API, or if the current thread is
+     *                           interrupted while waiting for the response
+     * @throws SlackApiException if the Slack API returned an error
+     */
+    static <T extends SlackApiResponse> T await(CompletableFuture<T> future) throws IOException, SlackApiException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the delivery of the Slack API call");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof SlackApiException) {
+                throw (SlackApiException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new XatkitException("Cannot deliver the Slack API call, see the attached exception", cause);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of calls waiting to be delivered.
+     *
+     * @return the number of pending calls
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns the number of calls waiting to be delivered to the provided {@code channel}.
+     *
+     * @param teamId  the identifier of the workspace containing the {@code channel}
+     * @param channel the identifier of the channel
+     * @return the number of pending calls for the {@code channel}
+     */
+    public int getQueueDepth(String teamId, String channel) {
+        int[] size = new int[1];
+        channelQueues.computeIfPresent(teamId + ':' + channel, (k, queue) -> {
+            size[0] = queue.size();
+            return queue;
+        });
+        return size[0];
+    }
+
+    /**
+     * Returns the number of delivered calls, including the ones that returned an error.
+     *
+     * @return the number of delivered calls
+     */
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    /**
+     * Returns the number of rate limited calls that have been retried.
+     *
+     * @return the number of retries
+     */
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    /**
+     * Returns the average delay (in ms) between the submission and the first delivery attempt of the calls.
+     *
+     * @return the average delay, or {@code 0} if no call has been delivered
+     */
+    public long getAverageDelay() {
+        long attempted = attemptedCount.get();
+        return attempted == 0 ? 0 : totalDelay.get() / attempted;
+    }
+
+    /**
+     * Returns the maximum delay (in ms) between the submission and the first delivery attempt of a call.
+     *
+     * @return the maximum delay
+     */
+    public long getMaxDelay() {
+        return maxDelay.get();
+    }
+
+    /**
+     * Schedules the delivery of the next call of the provided channel {@code key}.
+     *
+     * @param key   the {@code teamId:channelId} key of the channel
+     * @param delay the delay (in ms) before the delivery
+     */
+    private void scheduleDrain(String key, long delay) {
+        executor.schedule(() -> drain(key), Math.max(0, delay), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Delivers the next call of the provided channel {@code key}.
+     * <p>
+     * The queue of the channel is removed if it does not contain any pending call. Otherwise, the next delivery is
+     * scheduled {@link #channelInterval} ms (or {@code Retry-After} ms if the call has been rate limited, or the
+     * time to wait for a permit if the budget of the workspace is exhausted) after this one.
+     *
+     * @param key the {@code teamId:channelId} key of the channel
+     */
+    private void drain(String key) {
+        Delivery<?>[] next = new Delivery<?>[1];
+        channelQueues.computeIfPresent(key, (k, queue) -> {
+            next[0] = queue.poll();
+            return isNull(next[0]) ? null : queue;
+        });
+        Delivery<?> delivery = next[0];
+        if (isNull(delivery)) {
+            return;
+        }
+        long retryAfter = deliver(delivery);
+        channelQueues.computeIfPresent(key, (k, queue) -> {
+            if (retryAfter > 0) {
+                queue.addFirst(delivery);
+            }
+            try {
+                scheduleDrain(key, Math.max(channelInterval, retryAfter));
+            } catch (RejectedExecutionException e) {
+                /*
+                 * The queue is shut down, fail the pending calls.
+                 */
+                Delivery<?> pending;
+                while (nonNull(pending = queue.poll())) {
+                    queueDepth.decrementAndGet();
+                    pending.future.completeExceptionally(new XatkitException("Cannot deliver the Slack API call, " +
+                            "the outbound queue is shut down", e));
+                }
+                return null;
+            }
+            return queue;
+        });
+    }
+
+    /**
+     * Delivers the provided {@code delivery}.
+     *
+     * The call is postponed without being attempted if the rate budget of its workspace is exhausted: the thread
+     * delivering it is never blocked waiting for a permit, and is available for the deliveries of the other
+     * workspaces.
+     *
+     * @param delivery the {@link Delivery} to deliver
+     * @param <T>      the type of the {@link SlackApiResponse} returned by the call
+     * @return the delay (in ms) to wait before retrying the call if it has been postponed or rate limited, or
+     * {@code 0} if the call has been delivered
+     */
+    private <T extends SlackApiResponse> long deliver(Delivery<T> delivery) {
+        long budgetDelay = teamBudgets.apply(delivery.teamId).tryAcquireOrGetDelay();
+        if (budgetDelay > 0) {
+            Log.debug("The outbound budget of workspace {0} is exhausted, postponing the delivery by {1}ms",
+                    delivery.teamId, budgetDelay);
+            return budgetDelay;
+        }
+        if (delivery.attempts == 0) {
+            attemptedCount.incrementAndGet();
+            long delay = System.currentTimeMillis() - delivery.submissionTime;
+            totalDelay.addAndGet(delay);
+            maxDelay.accumulateAndGet(delay, Math::max);
+        }
+        delivery.attempts++;
+        try {
+            T response = delivery.call.call();
+            if (!response.isOk() && RATE_LIMITED_ERROR.equals(response.getError())
+                    && delivery.attempts <= MAX_RETRIES) {
+                return retryAfter(delivery, DEFAULT_RETRY_AFTER);
+            }
+            recordCompletion();
+            delivery.future.complete(response);
+        } catch (SlackApiException e) {
+            if (nonNull(e.getResponse()) && e.getResponse().code() == 429 && delivery.attempts <= MAX_RETRIES) {
+                return retryAfter(delivery, parseRetryAfter(e.getResponse().header("Retry-After")));
+            }
+            recordCompletion();
+            delivery.future.completeExceptionally(e);
+        } catch (Throwable t) {
+            recordCompletion();
+            delivery.future.completeExceptionally(t);
+        }
+        return 0;
+    }
+
+    /**
+     * Records the retry of the provided rate limited {@code delivery}.
+     *
+     * @param delivery   the rate limited {@link Delivery}
+     * @param retryAfter the delay (in ms) to wait before retrying the call
+     * @return the delay (in ms) to wait before retrying the call
+     */
+    private long retryAfter(Delivery<?> delivery, long retryAfter) {
+        retryCount.incrementAndGet();
+        Log.warn("The Slack API call to workspace {0} has been rate limited, retrying in {1}ms (attempt {2}/{3})",
+                delivery.teamId, retryAfter, delivery.attempts, MAX_RETRIES);
+        return retryAfter;
+    }
+
+    /**
+     * Records the completion of a delivery.
+     */
+    private void recordCompletion() {
+        queueDepth.decrementAndGet();
+        deliveredCount.incrementAndGet();
+    }
+
+    /**
+     * Parses the provided {@code Retry-After} header value.
+     *
+     * @param retryAfter the value of the {@code Retry-After} header (in seconds)
+     * @return the delay (in ms) to wait before retrying the call
+     */
+    static long parseRetryAfter(@Nullable String retryAfter) {
+        if (isNull(retryAfter)) {
+            return DEFAULT_RETRY_AFTER;
+        }
+        try {
+            return Math.max(DEFAULT_RETRY_AFTER, TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException e) {
+            Log.warn("Cannot parse the Retry-After header {0}, retrying in {1}ms", retryAfter, DEFAULT_RETRY_AFTER);
+            return DEFAULT_RETRY_AFTER;
+        }
+    }
+
+    /**
+     * A Slack API call.
+     *
+     * @param <T> the type of the {@link SlackApiResponse} returned by the call
+     */
+    @FunctionalInterface
+    public interface Call<T extends SlackApiResponse> {
+
+        /**
+         * Performs the call.
+         *
+         * @return the {@link SlackApiResponse} returned by the Slack API
+         * @throws IOException       if an error occurred when reaching the Slack API
+         * @throws SlackApiException if the Slack API returned an error
+         */
+        T call() throws IOException, SlackApiException;
+    }
+
+    /**
+     * A call waiting to be delivered.
+     *
+     * @param <T> the type of the {@link SlackApiResponse} returned by the call
+     */
+    private static class Delivery<T extends SlackApiResponse> {
+
+        /**
+         * The identifier of the workspace targeted by the call.
+         */
+        private final String teamId;
+
+        /**
+         * The call to deliver.
+         */
+        private final Call<T> call;
+
+        /**
+         * The time (in ms since epoch) the call has been submitted.
+         */
+        private final long submissionTime;
+
+        /**
+         * The {@link CompletableFuture} completed with the response of the call.
+         */
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        /**
+         * The number of delivery attempts of the call.
+         */
+        private int attempts;
+
+        /**
+         * Constructs a {@link Delivery} with the provided parameters.
+         *
+         * @param teamId         the identifier of the workspace targeted by the call
+         * @param call           the call to deliver
+         * @param submissionTime the time (in ms since epoch) the call has been submitted
+         */
+        private Delivery(String teamId, Call<T> call, long submissionTime) {
+            this.teamId = teamId;
+            this.call = call;
+            this.submissionTime = submissionTime;
+        }
+    }
+}
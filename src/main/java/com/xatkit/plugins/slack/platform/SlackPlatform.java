@@ -2,25 +2,28 @@ package com.xatkit.plugins.slack.platform;
 
 import com.github.seratch.jslack.Slack;
 import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.methods.SlackApiResponse;
 import com.github.seratch.jslack.api.methods.request.auth.AuthTestRequest;
+import com.github.seratch.jslack.api.methods.request.chat.ChatPostMessageRequest;
+import com.github.seratch.jslack.api.methods.request.chat.ChatUpdateRequest;
 import com.github.seratch.jslack.api.methods.request.conversations.ConversationsListRequest;
 import com.github.seratch.jslack.api.methods.request.oauth.OAuthAccessRequest;
-import com.github.seratch.jslack.api.methods.request.users.UsersInfoRequest;
 import com.github.seratch.jslack.api.methods.request.users.UsersListRequest;
 import com.github.seratch.jslack.api.methods.response.auth.AuthTestResponse;
+import com.github.seratch.jslack.api.methods.response.chat.ChatPostMessageResponse;
 import com.github.seratch.jslack.api.methods.response.conversations.ConversationsListResponse;
 import com.github.seratch.jslack.api.methods.response.oauth.OAuthAccessResponse;
-import com.github.seratch.jslack.api.methods.response.users.UsersInfoResponse;
-import com.github.seratch.jslack.api.methods.response.users.UsersListResponse;
 import com.github.seratch.jslack.api.model.Attachment;
 import com.github.seratch.jslack.api.model.Conversation;
 import com.github.seratch.jslack.api.model.ConversationType;
 import com.github.seratch.jslack.api.model.User;
 import com.github.seratch.jslack.api.model.block.LayoutBlock;
+import com.github.seratch.jslack.common.http.SlackHttpClient;
 import com.google.gson.JsonObject;
 import com.xatkit.core.XatkitBot;
 import com.xatkit.core.XatkitException;
 import com.xatkit.core.platform.RuntimePlatform;
+import com.xatkit.core.platform.action.RuntimeAction;
 import com.xatkit.core.platform.action.RuntimeActionResult;
 import com.xatkit.core.server.HttpMethod;
 import com.xatkit.core.server.HttpUtils;
@@ -40,7 +43,13 @@ import com.xatkit.plugins.slack.platform.action.Reply;
 import com.xatkit.plugins.slack.platform.action.ReplyAttachmentsMessage;
 import com.xatkit.plugins.slack.platform.action.ReplyFileMessage;
 import com.xatkit.plugins.slack.platform.action.ReplyLayoutBlocksMessage;
+import com.xatkit.plugins.slack.platform.io.SlackEvent;
+import com.xatkit.plugins.slack.platform.io.SlackEventDecoder;
+import com.xatkit.plugins.slack.platform.io.SlackEventsRestHandler;
 import com.xatkit.plugins.slack.platform.io.SlackIntentProvider;
+import com.xatkit.plugins.slack.util.SlackBlockTemplate;
+import com.xatkit.plugins.slack.util.SlackHttpTransport;
+import com.xatkit.plugins.slack.util.SlackRateLimiter;
 import fr.inria.atlanmod.commons.log.Log;
 import lombok.NonNull;
 import org.apache.commons.configuration2.Configuration;
@@ -49,14 +58,33 @@ import javax.annotation.Nullable;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
 
 import static com.xatkit.plugins.slack.util.SlackUtils.logSlackApiResponse;
 import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
@@ -69,6 +97,40 @@ import static java.util.Objects.nonNull;
  */
 public class SlackPlatform extends ChatPlatform {
 
+    /**
+     * The number of threads executing the background tasks of the platform.
+     *
+     * @see #backgroundExecutor
+     */
+    private static final int BACKGROUND_THREADS = 2;
+
+    /**
+     * The number of threads delivering the calls of the {@link #outboundQueue}.
+     * <p>
+     * Deliveries never wait for the rate limit of their workspace (they are postponed instead), the threads are used
+     * to perform several HTTP calls to the Slack API concurrently, so that a slow call does not delay the deliveries
+     * of the other channels and workspaces.
+     */
+    private static final int OUTBOUND_THREADS = 4;
+
+    /**
+     * The number of conversations requested for each {@code conversations.list} page.
+     */
+    private static final int CONVERSATIONS_PAGE_SIZE = 200;
+
+    /**
+     * The maximum delay (in ms) between two checks of the idle workspaces.
+     *
+     * @see #evictIdleWorkspaces()
+     */
+    private static final long MAX_EVICTION_PERIOD = 60000;
+
+    /**
+     * The Slack API errors indicating that a stored {@code token} is no longer valid.
+     */
+    private static final Set<String> REVOKED_TOKEN_ERRORS = new HashSet<>(Arrays.asList("invalid_auth",
+            "account_inactive", "token_revoked", "not_authed"));
+
     /**
      * The {@code clientId} of the Slack app associated to the deployed bot.
      * <p>
@@ -104,54 +166,234 @@ public class SlackPlatform extends ChatPlatform {
     private Slack slack;
 
     /**
-     * A {@link Map} containing the {@code name -> ID} mapping of all the channels in the workspaces where the bot is
-     * installed.
+     * A {@link Map} containing the {@link SlackChannelIndex} of the workspaces where the bot is installed.
+     * <p>
+     * Each {@link SlackChannelIndex} contains entries for conversation name, user name, user display name, and IDs,
+     * allowing fast lookups to retrieve a channel identifier from a given name, and to check whether a channel is a
+     * group channel.
+     * <p>
+     * Keys in this {@link Map} are {@code teamId}s. Indexes are immutable and are replaced atomically by
+     * {@link #loadChannels(String)}, meaning that lookups never see a partially loaded index.
+     *
+     * @see #loadChannels(String)
+     * @see #getChannelIndex(String)
+     */
+    private Map<String, SlackChannelIndex> channelIndexes;
+
+    /**
+     * A {@link Map} containins the Slack {@code tokens} associated to the workspace's {@code teamId}s.
+     * <p>
+     * The {@code teamId} value corresponds to the identifier of the workspaces where the app is installed. This
+     * identifier is used in {@code Reply*} action to target specific workspaces.
+     */
+    private Map<String, String> teamIdToSlackToken;
+
+    /**
+     * The {@link SlackUserDirectory} instances of the workspaces where the bot is installed.
      * <p>
-     * This {@link Map} contains entries for conversation name, user name, user display name, and IDs, allowing fast
-     * lookups to retrieve a channel identifier from a given name.
+     * Directories are loaded the first time they are accessed, and are refreshed in the background by the
+     * {@link #backgroundExecutor}. Refreshed directories replace the previous ones, meaning that lookups are
+     * never blocked by a refresh.
      * <p>
      * Keys in this {@link Map} are {@code teamId}s.
+     *
+     * @see #getUserDirectory(String)
+     */
+    private Map<String, SlackUserDirectory> userDirectories;
+
+    /**
+     * The pending {@link SlackUserDirectory} loads of each workspace.
+     * <p>
+     * Concurrent accesses to a directory that is not loaded wait for the pending load instead of starting their own.
+     * Loads are performed outside of the {@link #userDirectories} operations, meaning that a long load never blocks
+     * the accesses to the other directories.
      * <p>
-     * This {@link Map} is populated by {@link #loadChannels(String)}.
+     * Keys in this {@link Map} are {@code teamId}s.
      *
-     * @see #loadChannels(String)
+     * @see #getUserDirectory(String)
      */
-    private Map<String, Map<String, String>> channelNames;
+    private Map<String, CompletableFuture<SlackUserDirectory>> pendingDirectoryLoads;
 
     /**
-     * A {@link Map} containing the IDs of all the group channels for all the workspaces where the bot is installed.
+     * The {@link ScheduledExecutorService} executing the background tasks of the platform.
      * <p>
-     * A group channel corresponds to any conversation that can be joined by multiple users (typically everything
-     * excepted user channels).
+     * This executor refreshes the loaded {@link SlackUserDirectory} instances, and loads them concurrently with the
+     * channels of the workspaces.
+     *
+     * @see SlackUtils#USER_DIRECTORY_REFRESH_INTERVAL_KEY
+     */
+    private ScheduledExecutorService backgroundExecutor;
+
+    /**
+     * The {@link ExecutorService} executing the asynchronous actions of the platform.
+     * <p>
+     * This executor is separated from the {@link #backgroundExecutor} to ensure that long-running background tasks
+     * (e.g. channel loads) do not delay the messages posted by the bot.
+     *
+     * @see SlackUtils#IO_THREADS_KEY
+     * @see #callAsync(RuntimeAction)
+     */
+    private ExecutorService ioExecutor;
+
+    /**
+     * The statistics of the last channel load of each workspace.
      * <p>
      * Keys in this {@link Map} are {@code teamId}s.
+     *
+     * @see #getChannelLoadStatistics(String)
+     */
+    private Map<String, SlackChannelLoadStatistics> channelLoadStatistics;
+
+    /**
+     * The {@link SlackRateLimiter}s throttling the calls to the Tier 2 Slack API methods of each workspace.
      * <p>
-     * This {@link Map} is populated by {@link #loadChannels(String)}.
+     * Keys in this {@link Map} are {@code teamId}s.
      *
-     * @see #loadChannels(String)
+     * @see SlackUtils#TIER_2_RATE_LIMIT_KEY
+     */
+    private Map<String, SlackRateLimiter> tier2RateLimiters;
+
+    /**
+     * The number of calls per minute allowed for each Tier 2 Slack API method.
+     *
+     * @see SlackUtils#TIER_2_RATE_LIMIT_KEY
+     */
+    private int tier2RequestsPerMinute;
+
+    /**
+     * The {@link SlackOutboundQueue} delivering the messages and files posted by the platform.
+     *
+     * @see #getOutboundQueue()
+     */
+    private SlackOutboundQueue outboundQueue;
+
+    /**
+     * The {@link ScheduledExecutorService} delivering the calls of the {@link #outboundQueue}.
+     */
+    private ScheduledExecutorService outboundExecutor;
+
+    /**
+     * The {@link SlackReplyCoalescer} merging the text messages posted to the same channel.
+     * <p>
+     * This field is {@code null} if coalescing is disabled.
+     *
+     * @see #getReplyCoalescer()
+     * @see SlackUtils#COALESCING_WINDOW_KEY
+     */
+    private SlackReplyCoalescer replyCoalescer;
+
+    /**
+     * The {@link SlackExternalFileUploader} streaming the files posted by the platform.
+     *
+     * @see #getFileUploader()
+     */
+    private SlackExternalFileUploader fileUploader;
+
+    /**
+     * The {@link SlackFileUploadCache} de-duplicating the files uploaded by the platform.
+     * <p>
+     * This field is {@code null} if upload de-duplication is disabled (the default).
+     *
+     * @see #getUploadCache()
+     * @see SlackUtils#UPLOAD_CACHE_MAX_SIZE_KEY
+     */
+    private SlackFileUploadCache uploadCache;
+
+    /**
+     * The minimum duration (in ms) between two edits of a streaming reply.
+     *
+     * @see #streamReply(StateContext, String)
+     * @see SlackUtils#STREAMING_UPDATE_INTERVAL_KEY
+     */
+    private long streamingUpdateInterval;
+
+    /**
+     * The {@link SlackBroadcaster} posting the broadcast messages.
+     *
+     * @see #broadcast(String, Collection)
+     * @see SlackUtils#BROADCAST_MAX_ATTEMPTS_KEY
+     */
+    private SlackBroadcaster broadcaster;
+
+    /**
+     * The pending channel reloads of each workspace.
+     * <p>
+     * Concurrent lookups missing a channel of the same workspace wait for the pending reload instead of starting
+     * their own.
+     * <p>
+     * Keys in this {@link Map} are {@code teamId}s.
+     *
+     * @see #reloadChannels(String)
+     */
+    private Map<String, CompletableFuture<Void>> pendingChannelReloads;
+
+    /**
+     * The {@link SlackChannelMissCache} storing the channel names and identifiers that cannot be resolved.
+     *
+     * @see #getChannelMissCache()
+     */
+    private SlackChannelMissCache channelMissCache;
+
+    /**
+     * The directory containing the warm-start snapshots of the workspaces.
+     * <p>
+     * This field is {@code null} if warm-start snapshots are disabled.
+     *
+     * @see SlackUtils#WARM_START_DIRECTORY_KEY
+     * @see SlackWorkspaceSnapshot
      */
-    private Map<String, List<String>> groupChannels;
+    private Path warmStartDirectory;
 
     /**
-     * A {@link Map} containing the IDs of all the user channels for all the workspaces where the bot is installed.
+     * The {@link SlackInstallationStore} persisting the OAuth installations of the Slack app.
      * <p>
-     * A user channel is a direct message channel between an user and the bot.
+     * This field is {@code null} if installations are only kept in memory.
+     *
+     * @see #createInstallationStore(Configuration)
+     */
+    private SlackInstallationStore installationStore;
+
+    /**
+     * The bootstrap latency (in ms) of each stored workspace.
      * <p>
      * Keys in this {@link Map} are {@code teamId}s.
+     *
+     * @see #getBootstrapLatencies()
+     */
+    private Map<String, Long> bootstrapLatencies;
+
+    /**
+     * The {@link SlackBotIdentity} associated to each Slack {@code token}.
      * <p>
-     * This {@link Map} is populated by {@link #loadChannels(String)}.
+     * Keys in this {@link Map} are Slack {@code token}s.
      *
-     * @see #loadChannels(String)
+     * @see #getBotIdentity(String)
      */
-    private Map<String, List<String>> userChannels;
+    private Map<String, SlackBotIdentity> botIdentities;
 
     /**
-     * A {@link Map} containins the Slack {@code tokens} associated to the workspace's {@code teamId}s.
+     * Whether the channels and users of the workspaces are loaded lazily.
+     *
+     * @see SlackUtils#BOOTSTRAP_LAZY_KEY
+     */
+    private boolean lazyBootstrap;
+
+    /**
+     * The delay (in ms) after which the channels and users of an idle workspace are evicted.
+     *
+     * @see SlackUtils#IDLE_EVICTION_TIMEOUT_KEY
+     */
+    private long idleEvictionTimeout;
+
+    /**
+     * The last time (in ms since epoch) each loaded workspace has been accessed.
      * <p>
-     * The {@code teamId} value corresponds to the identifier of the workspaces where the app is installed. This
-     * identifier is used in {@code Reply*} action to target specific workspaces.
+     * This {@link Map} is only populated if {@link #lazyBootstrap} is {@code true}. Keys in this {@link Map} are
+     * {@code teamId}s.
+     *
+     * @see #evictIdleWorkspaces()
      */
-    private Map<String, String> teamIdToSlackToken;
+    private Map<String, Long> lastAccessTimes;
 
     /**
      * {@inheritDoc}
@@ -190,24 +432,154 @@ public class SlackPlatform extends ChatPlatform {
     @Override
     public void start(XatkitBot xatkitBot, Configuration configuration) {
         super.start(xatkitBot, configuration);
-        this.teamIdToSlackToken = new HashMap<>();
-        slack = new Slack();
-        this.channelNames = new HashMap<>();
-        this.groupChannels = new HashMap<>();
-        this.userChannels = new HashMap<>();
+        this.teamIdToSlackToken = new ConcurrentHashMap<>();
+        SlackHttpTransport httpTransport = SlackHttpTransport.fromConfiguration(configuration);
+        Log.info("Using {0} to call the Slack API", httpTransport);
+        slack = Slack.getInstance(new SlackHttpClient(httpTransport.getSharedClient()));
+        this.fileUploader = new SlackExternalFileUploader(httpTransport.getSharedClient(),
+                SlackExternalFileUploader.DEFAULT_ENDPOINT_URL_PREFIX);
+        this.channelIndexes = new ConcurrentHashMap<>();
+        this.userDirectories = new ConcurrentHashMap<>();
+        this.pendingDirectoryLoads = new ConcurrentHashMap<>();
+        long userDirectoryRefreshInterval = configuration.getLong(SlackUtils.USER_DIRECTORY_REFRESH_INTERVAL_KEY,
+                SlackUtils.DEFAULT_USER_DIRECTORY_REFRESH_INTERVAL);
+        checkArgument(userDirectoryRefreshInterval > 0, "Cannot construct a %s with the provided user directory " +
+                        "refresh interval %s, expected a strictly positive number",
+                SlackPlatform.class.getSimpleName(), userDirectoryRefreshInterval);
+        this.channelLoadStatistics = new ConcurrentHashMap<>();
+        this.tier2RateLimiters = new ConcurrentHashMap<>();
+        this.tier2RequestsPerMinute = configuration.getInt(SlackUtils.TIER_2_RATE_LIMIT_KEY,
+                SlackUtils.DEFAULT_TIER_2_RATE_LIMIT);
+        checkArgument(tier2RequestsPerMinute > 0, "Cannot construct a %s with the provided Tier 2 rate limit %s, " +
+                "expected a strictly positive number", SlackPlatform.class.getSimpleName(), tier2RequestsPerMinute);
+        this.pendingChannelReloads = new ConcurrentHashMap<>();
+        this.bootstrapLatencies = new ConcurrentHashMap<>();
+        this.botIdentities = new ConcurrentHashMap<>();
+        this.lastAccessTimes = new ConcurrentHashMap<>();
+        this.lazyBootstrap = configuration.getBoolean(SlackUtils.BOOTSTRAP_LAZY_KEY, SlackUtils.DEFAULT_BOOTSTRAP_LAZY);
+        this.idleEvictionTimeout = configuration.getLong(SlackUtils.IDLE_EVICTION_TIMEOUT_KEY,
+                SlackUtils.DEFAULT_IDLE_EVICTION_TIMEOUT);
+        checkArgument(idleEvictionTimeout > 0, "Cannot construct a %s with the provided idle eviction timeout %s, " +
+                "expected a strictly positive number", SlackPlatform.class.getSimpleName(), idleEvictionTimeout);
+        String warmStartDirectoryPath = configuration.getString(SlackUtils.WARM_START_DIRECTORY_KEY);
+        if (nonNull(warmStartDirectoryPath)) {
+            try {
+                this.warmStartDirectory = Files.createDirectories(Paths.get(warmStartDirectoryPath));
+            } catch (IOException e) {
+                Log.error("Cannot create the warm-start directory {0}, warm-start snapshots are disabled, see the " +
+                        "attached exception", warmStartDirectoryPath, e);
+            }
+        }
+        this.channelMissCache = new SlackChannelMissCache(
+                configuration.getLong(SlackUtils.CHANNEL_MISS_CACHE_TTL_KEY, SlackUtils.DEFAULT_CHANNEL_MISS_CACHE_TTL),
+                configuration.getInt(SlackUtils.CHANNEL_MISS_CACHE_MAX_SIZE_KEY,
+                        SlackUtils.DEFAULT_CHANNEL_MISS_CACHE_MAX_SIZE));
+        AtomicInteger backgroundThreadCount = new AtomicInteger();
+        this.backgroundExecutor = Executors.newScheduledThreadPool(BACKGROUND_THREADS, r -> {
+            Thread thread = new Thread(r, "slack-platform-" + backgroundThreadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        int ioThreads = configuration.getInt(SlackUtils.IO_THREADS_KEY, SlackUtils.DEFAULT_IO_THREADS);
+        checkArgument(ioThreads > 0, "Cannot construct a %s with the provided I/O thread count %s, expected a " +
+                "strictly positive number", SlackPlatform.class.getSimpleName(), ioThreads);
+        AtomicInteger ioThreadCount = new AtomicInteger();
+        this.ioExecutor = Executors.newFixedThreadPool(ioThreads, r -> {
+            Thread thread = new Thread(r, "slack-io-" + ioThreadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long outboundChannelInterval = configuration.getLong(SlackUtils.OUTBOUND_CHANNEL_INTERVAL_KEY,
+                SlackUtils.DEFAULT_OUTBOUND_CHANNEL_INTERVAL);
+        int outboundRequestsPerMinute = configuration.getInt(SlackUtils.OUTBOUND_RATE_LIMIT_KEY,
+                SlackUtils.DEFAULT_OUTBOUND_RATE_LIMIT);
+        checkArgument(outboundRequestsPerMinute > 0, "Cannot construct a %s with the provided outbound rate limit %s," +
+                " expected a strictly positive number", SlackPlatform.class.getSimpleName(), outboundRequestsPerMinute);
+        AtomicInteger outboundThreadCount = new AtomicInteger();
+        this.outboundExecutor = Executors.newScheduledThreadPool(OUTBOUND_THREADS, r -> {
+            Thread thread = new Thread(r, "slack-outbound-" + outboundThreadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Map<String, SlackRateLimiter> outboundRateLimiters = new ConcurrentHashMap<>();
+        this.outboundQueue = new SlackOutboundQueue(outboundExecutor, outboundChannelInterval,
+                teamId -> outboundRateLimiters.computeIfAbsent(teamId,
+                        id -> new SlackRateLimiter(outboundRequestsPerMinute)));
+        long coalescingWindow = configuration.getLong(SlackUtils.COALESCING_WINDOW_KEY,
+                SlackUtils.DEFAULT_COALESCING_WINDOW);
+        checkArgument(coalescingWindow >= 0, "Cannot construct a %s with the provided coalescing window %s, expected" +
+                " a positive number", SlackPlatform.class.getSimpleName(), coalescingWindow);
+        if (coalescingWindow > 0) {
+            this.replyCoalescer = new SlackReplyCoalescer(outboundExecutor, coalescingWindow,
+                    (teamId, channelId, threadTs, text) -> outboundQueue.submit(teamId, channelId,
+                            () -> slack.methods().chatPostMessage(ChatPostMessageRequest.builder()
+                                    .token(getSlackToken(teamId))
+                                    .channel(channelId)
+                                    .threadTs(threadTs)
+                                    .text(text)
+                                    .unfurlLinks(true)
+                                    .unfurlMedia(true)
+                                    .build())));
+        } else {
+            this.replyCoalescer = null;
+        }
+        int uploadCacheMaxSize = configuration.getInt(SlackUtils.UPLOAD_CACHE_MAX_SIZE_KEY,
+                SlackUtils.DEFAULT_UPLOAD_CACHE_MAX_SIZE);
+        checkArgument(uploadCacheMaxSize >= 0, "Cannot construct a %s with the provided upload cache size %s, " +
+                "expected a positive number", SlackPlatform.class.getSimpleName(), uploadCacheMaxSize);
+        if (uploadCacheMaxSize > 0) {
+            this.uploadCache = new SlackFileUploadCache(configuration.getLong(SlackUtils.UPLOAD_CACHE_TTL_KEY,
+                    SlackUtils.DEFAULT_UPLOAD_CACHE_TTL), uploadCacheMaxSize);
+        } else {
+            this.uploadCache = null;
+        }
+        this.streamingUpdateInterval = configuration.getLong(SlackUtils.STREAMING_UPDATE_INTERVAL_KEY,
+                SlackUtils.DEFAULT_STREAMING_UPDATE_INTERVAL);
+        checkArgument(streamingUpdateInterval >= 0, "Cannot construct a %s with the provided streaming update " +
+                "interval %s, expected a positive number", SlackPlatform.class.getSimpleName(),
+                streamingUpdateInterval);
+        int broadcastMaxAttempts = configuration.getInt(SlackUtils.BROADCAST_MAX_ATTEMPTS_KEY,
+                SlackUtils.DEFAULT_BROADCAST_MAX_ATTEMPTS);
+        long broadcastBackoff = configuration.getLong(SlackUtils.BROADCAST_BACKOFF_KEY,
+                SlackUtils.DEFAULT_BROADCAST_BACKOFF);
+        checkArgument(broadcastMaxAttempts > 0, "Cannot construct a %s with the provided broadcast attempts %s, " +
+                "expected a strictly positive number", SlackPlatform.class.getSimpleName(), broadcastMaxAttempts);
+        checkArgument(broadcastBackoff >= 0, "Cannot construct a %s with the provided broadcast backoff %s, " +
+                "expected a positive number", SlackPlatform.class.getSimpleName(), broadcastBackoff);
+        this.broadcaster = new SlackBroadcaster(outboundExecutor, broadcastMaxAttempts, broadcastBackoff,
+                this::postBroadcastMessage);
+        this.backgroundExecutor.scheduleWithFixedDelay(this::refreshUserDirectories,
+                userDirectoryRefreshInterval, userDirectoryRefreshInterval, TimeUnit.MILLISECONDS);
+        if (lazyBootstrap) {
+            long evictionPeriod = Math.min(idleEvictionTimeout, MAX_EVICTION_PERIOD);
+            this.backgroundExecutor.scheduleWithFixedDelay(this::evictIdleWorkspaces, evictionPeriod, evictionPeriod,
+                    TimeUnit.MILLISECONDS);
+        }
+        String ingestionMode = configuration.getString(SlackUtils.INGESTION_MODE_KEY,
+                SlackUtils.DEFAULT_INGESTION_MODE);
+        checkArgument(SlackUtils.INGESTION_MODE_RTM.equals(ingestionMode)
+                        || SlackUtils.INGESTION_MODE_EVENTS_API.equals(ingestionMode), "Cannot construct a %s with the " +
+                        "provided ingestion mode %s, expected %s or %s", SlackPlatform.class.getSimpleName(),
+                ingestionMode, SlackUtils.INGESTION_MODE_RTM, SlackUtils.INGESTION_MODE_EVENTS_API);
+        if (SlackUtils.INGESTION_MODE_EVENTS_API.equals(ingestionMode)) {
+            String signingSecret = configuration.getString(SlackUtils.SIGNING_SECRET_KEY);
+            checkArgument(nonNull(signingSecret) && !signingSecret.isEmpty(), "Cannot construct a %s in %s mode, " +
+                            "please ensure that Xatkit configuration contains a valid signing secret associated to the " +
+                            "key %s", SlackPlatform.class.getSimpleName(), SlackUtils.INGESTION_MODE_EVENTS_API,
+                    SlackUtils.SIGNING_SECRET_KEY);
+            registerEventsRestHandler(signingSecret);
+        }
         String slackToken = configuration.getString(SlackUtils.SLACK_TOKEN_KEY);
         if (nonNull(slackToken)) {
-            AuthTestRequest request = AuthTestRequest.builder().token(slackToken).build();
+            String teamId;
             try {
-                AuthTestResponse response = slack.methods().authTest(request);
-                logSlackApiResponse(response);
-                String teamId = response.getTeamId();
-                teamIdToSlackToken.put(teamId, slackToken);
-                this.loadChannels(teamId);
-                this.notifyNewInstallation(teamId, slackToken);
-            } catch (IOException | SlackApiException e) {
+                teamId = getBotIdentity(slackToken).getTeamId();
+            } catch (XatkitException e) {
                 throw new XatkitException("Cannot retrieve the team associated to the provided Slack token", e);
             }
+            teamIdToSlackToken.put(teamId, slackToken);
+            this.initializeChannels(teamId);
+            this.notifyNewInstallation(teamId, slackToken);
         } else {
             Log.info("The configuration does not contain a Slack token, starting {0} in OAuth mode",
                     SlackPlatform.class.getSimpleName());
@@ -222,7 +594,211 @@ public class SlackPlatform extends ChatPlatform {
                             "associated to the key %s", SlackPlatform.class.getSimpleName(), clientSecret,
                     SlackUtils.SLACK_CLIENT_SECRET_KEY);
             registerOAuthRestHandler();
+            this.installationStore = createInstallationStore(configuration);
+            if (nonNull(this.installationStore)) {
+                int parallelism = configuration.getInt(SlackUtils.BOOTSTRAP_PARALLELISM_KEY,
+                        SlackUtils.DEFAULT_BOOTSTRAP_PARALLELISM);
+                checkArgument(parallelism > 0, "Cannot construct a %s with the provided bootstrap parallelism %s, " +
+                        "expected a strictly positive number", SlackPlatform.class.getSimpleName(), parallelism);
+                bootstrapInstallations(parallelism);
+            }
+        }
+    }
+
+    /**
+     * Creates the {@link SlackInstallationStore} persisting the OAuth installations of the Slack app.
+     * <p>
+     * This method returns a {@link FileSlackInstallationStore} if the provided {@code configuration} contains a
+     * {@link SlackUtils#INSTALLATION_STORE_FILE_KEY}, and {@code null} otherwise. Subclasses can override this method
+     * to store the installations in another storage (e.g. a database).
+     *
+     * @param configuration the platform's {@link Configuration}
+     * @return the created {@link SlackInstallationStore}, or {@code null} if installations are only kept in memory
+     * @throws XatkitException if an error occurred when creating the store
+     */
+    protected @Nullable SlackInstallationStore createInstallationStore(Configuration configuration) {
+        String installationStoreFile = configuration.getString(SlackUtils.INSTALLATION_STORE_FILE_KEY);
+        if (isNull(installationStoreFile)) {
+            return null;
+        }
+        try {
+            return new FileSlackInstallationStore(Paths.get(installationStoreFile));
+        } catch (IOException e) {
+            throw new XatkitException(MessageFormat.format("Cannot read the installation store {0}",
+                    installationStoreFile), e);
+        }
+    }
+
+    /**
+     * Bootstraps the installations stored in the {@link #installationStore}.
+     * <p>
+     * The stored workspaces are bootstrapped concurrently, with at most {@code parallelism} workspaces bootstrapped
+     * at the same time. This method returns once all the workspaces have been bootstrapped, the bootstrap latency of
+     * each workspace can be retrieved with {@link #getBootstrapLatencies()}.
+     *
+     * @param parallelism the maximum number of workspaces bootstrapped concurrently
+     * @see #bootstrapInstallation(String, String)
+     */
+    private void bootstrapInstallations(int parallelism) {
+        Map<String, String> installations;
+        try {
+            installations = this.installationStore.loadAll();
+        } catch (IOException e) {
+            Log.error("Cannot load the stored installations, see the attached exception", e);
+            return;
+        }
+        if (installations.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        AtomicInteger bootstrapThreadCount = new AtomicInteger();
+        ExecutorService bootstrapExecutor = Executors.newFixedThreadPool(Math.min(parallelism,
+                installations.size()), r -> {
+            Thread thread = new Thread(r, "slack-bootstrap-" + bootstrapThreadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            installations.forEach((teamId, token) -> tasks.add(() -> {
+                bootstrapInstallation(teamId, token);
+                return null;
+            }));
+            bootstrapExecutor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Log.error("Interrupted while bootstrapping the stored installations");
+        } finally {
+            bootstrapExecutor.shutdownNow();
+        }
+        Log.info("Bootstrapped {0}/{1} stored installations in {2}ms", bootstrapLatencies.size(),
+                installations.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Bootstraps the stored installation of the workspace {@code teamId}.
+     * <p>
+     * The stored {@code token} is validated against the Slack API before initializing the channels of the
+     * workspace and notifying the {@link SlackIntentProvider}s. Installations with a revoked {@code token} are
+     * removed from the {@link #installationStore}.
+     *
+     * @param teamId the identifier of the workspace to bootstrap
+     * @param token  the stored {@code token} of the workspace
+     */
+    private void bootstrapInstallation(String teamId, String token) {
+        long start = System.currentTimeMillis();
+        try {
+            /*
+             * Call auth.test directly instead of using getBotIdentity: the error code is needed to detect revoked
+             * tokens. The identity is cached from the response.
+             */
+            AuthTestResponse response = authTest(token);
+            if (!response.isOk()) {
+                if (REVOKED_TOKEN_ERRORS.contains(response.getError())) {
+                    Log.warn("The stored token of workspace {0} has been revoked ({1}), removing the installation",
+                            teamId, response.getError());
+                    this.botIdentities.remove(token);
+                    this.installationStore.remove(teamId);
+                } else {
+                    Log.error("Cannot bootstrap workspace {0}, the Slack API returned the error {1}", teamId,
+                            response.getError());
+                }
+                return;
+            }
+            cacheBotIdentity(token, response);
+            this.teamIdToSlackToken.put(teamId, token);
+            initializeChannels(teamId);
+            this.notifyNewInstallation(teamId, token);
+            long latency = System.currentTimeMillis() - start;
+            this.bootstrapLatencies.put(teamId, latency);
+            Log.info("Bootstrapped workspace {0} in {1}ms", teamId, latency);
+        } catch (IOException | SlackApiException | RuntimeException e) {
+            Log.error("Cannot bootstrap workspace {0}, see the attached exception", teamId, e);
+        }
+    }
+
+    /**
+     * Returns the {@link SlackBotIdentity} associated to the provided Slack {@code token}.
+     * <p>
+     * The identity is resolved with the {@code auth.test} Slack API method the first time it is requested, and is
+     * then cached for the lifetime of the platform. This allows the platform and the {@link SlackIntentProvider}s to
+     * share the identity without calling {@code auth.test} on each bootstrap or reconnection.
+     *
+     * @param token the Slack {@code token} to retrieve the identity of
+     * @return the {@link SlackBotIdentity} associated to the {@code token}
+     * @throws XatkitException if an error occurred when calling the Slack API, or if the {@code token} is not valid
+     */
+    public SlackBotIdentity getBotIdentity(@NonNull String token) {
+        SlackBotIdentity identity = this.botIdentities.get(token);
+        if (nonNull(identity)) {
+            return identity;
+        }
+        /*
+         * Do not call auth.test in computeIfAbsent: the blocking call would lock the bin of the map containing the
+         * token, and delay the accesses to the identities of the other tokens stored in the same bin. Concurrent
+         * first requests for the same token may call auth.test twice, the first stored identity is kept.
+         */
+        AuthTestResponse response;
+        try {
+            response = authTest(token);
+        } catch (IOException | SlackApiException e) {
+            throw new XatkitException("Cannot retrieve the identity associated to the provided Slack token", e);
         }
+        if (!response.isOk()) {
+            throw new XatkitException(MessageFormat.format("Cannot retrieve the identity associated to the " +
+                    "provided Slack token, the Slack API returned the error {0}", response.getError()));
+        }
+        identity = createBotIdentity(response);
+        SlackBotIdentity storedIdentity = this.botIdentities.putIfAbsent(token, identity);
+        return nonNull(storedIdentity) ? storedIdentity : identity;
+    }
+
+    /**
+     * Calls the {@code auth.test} Slack API method with the provided {@code token}.
+     *
+     * @param token the Slack {@code token} to test
+     * @return the {@link AuthTestResponse}
+     * @throws IOException       if an error occurred when reaching the Slack API
+     * @throws SlackApiException if the Slack API returned an error
+     */
+    private AuthTestResponse authTest(String token) throws IOException, SlackApiException {
+        AuthTestResponse response = slack.methods().authTest(AuthTestRequest.builder().token(token).build());
+        logSlackApiResponse(response);
+        return response;
+    }
+
+    /**
+     * Caches the {@link SlackBotIdentity} contained in the provided successful {@code auth.test} {@code response}.
+     *
+     * @param token    the Slack {@code token} the {@code response} has been retrieved with
+     * @param response the successful {@link AuthTestResponse}
+     */
+    private void cacheBotIdentity(String token, AuthTestResponse response) {
+        this.botIdentities.putIfAbsent(token, createBotIdentity(response));
+    }
+
+    /**
+     * Creates the {@link SlackBotIdentity} contained in the provided successful {@code auth.test} {@code response}.
+     *
+     * @param response the successful {@link AuthTestResponse}
+     * @return the created {@link SlackBotIdentity}
+     */
+    private static SlackBotIdentity createBotIdentity(AuthTestResponse response) {
+        SlackBotIdentity identity = new SlackBotIdentity(response.getTeamId(), response.getTeam(),
+                response.getUserId(), response.getUser());
+        Log.debug("Resolved {0}", identity);
+        return identity;
+    }
+
+    /**
+     * Returns the bootstrap latency (in ms) of each stored workspace.
+     * <p>
+     * Workspaces that have not been bootstrapped successfully are not contained in the returned {@link Map}.
+     *
+     * @return an unmodifiable {@link Map} containing the {@code teamId -> latency} entries
+     */
+    public Map<String, Long> getBootstrapLatencies() {
+        return Collections.unmodifiableMap(this.bootstrapLatencies);
     }
 
     /**
@@ -271,6 +847,75 @@ public class SlackPlatform extends ChatPlatform {
         return (String) result.getResult();
     }
 
+    /**
+     * Posts the next page of the provided {@code paginator} in the current channel.
+     * <p>
+     * The first page is posted as a reply to the current message, and the next ones are posted in the thread of the
+     * first page (or in the thread containing it). Only the elements of the posted page are pulled from the
+     * {@code paginator}, allowing to render large collections on demand without materializing them.
+     * <p>
+     * The current channel is extracted from the provided {@code context}.
+     *
+     * @param context   the current {@link StateContext}
+     * @param paginator the {@link SlackListPaginator} rendering the pages
+     * @return the timestamp of the posted message, or {@code null} if all the pages have already been posted
+     * @throws XatkitException if an error occurred when posting the page
+     * @see SlackListPaginator#itemize(Iterator)
+     * @see SlackListPaginator#enumerate(Iterator)
+     */
+    public @Nullable String replyListPage(@NonNull StateContext context, @NonNull SlackListPaginator paginator) {
+        if (!paginator.hasNextPage()) {
+            return null;
+        }
+        String page = paginator.nextPage();
+        String threadTs = paginator.getThreadTs();
+        PostMessage action;
+        if (isNull(threadTs)) {
+            action = new Reply(this, context, page);
+        } else {
+            action = new PostMessage(this, context, page, Reply.getChannel(context), Reply.getTeamId(context),
+                    threadTs);
+        }
+        RuntimeActionResult result = action.call();
+        if (result.isError()) {
+            throw new XatkitException(MessageFormat.format("Cannot post the page {0} of the list, see the attached " +
+                    "exception", paginator.getPageCount()), result.getThrowable());
+        }
+        String ts = (String) result.getResult();
+        if (isNull(threadTs)) {
+            String contextThreadTs = Reply.getThreadTs(context);
+            paginator.setThreadTs(isNull(contextThreadTs) || contextThreadTs.isEmpty() ? ts : contextThreadTs);
+        }
+        return ts;
+    }
+
+    /**
+     * Posts the next page of the provided {@code paginator} as Block Kit blocks in the current channel.
+     * <p>
+     * Each page is posted as a new message containing a section with the rendered elements and a context block with
+     * the page number. Only the elements of the posted page are pulled from the {@code paginator}.
+     * <p>
+     * The current channel is extracted from the provided {@code context}.
+     *
+     * @param context   the current {@link StateContext}
+     * @param paginator the {@link SlackListPaginator} rendering the pages
+     * @return {@code true} if a page has been posted, {@code false} if all the pages have already been posted
+     * @throws XatkitException if an error occurred when posting the page
+     * @see SlackListPaginator#nextPageBlocks()
+     */
+    public boolean replyListPageBlocks(@NonNull StateContext context, @NonNull SlackListPaginator paginator) {
+        if (!paginator.hasNextPage()) {
+            return false;
+        }
+        ReplyLayoutBlocksMessage action = new ReplyLayoutBlocksMessage(this, context, paginator.nextPageBlocks());
+        RuntimeActionResult result = action.call();
+        if (result.isError()) {
+            throw new XatkitException(MessageFormat.format("Cannot post the page {0} of the list, see the attached " +
+                    "exception", paginator.getPageCount()), result.getThrowable());
+        }
+        return true;
+    }
+
     /**
      * Posts the provided {@code attachments} in the given {@code channel}.
      *
@@ -358,6 +1003,43 @@ public class SlackPlatform extends ChatPlatform {
         RuntimeActionResult result = action.call();
     }
 
+    /**
+     * Streams the file at the provided {@code path} to the given {@code channel}.
+     * <p>
+     * The file is uploaded with the external upload flow and is never fully loaded in memory.
+     *
+     * @param context the current {@link StateContext}
+     * @param message the message to post with the file
+     * @param path    the {@link Path} of the file to post
+     * @param channel the Slack channel to post the file to
+     * @param teamId  the identifier of the Slack workspace to post the file to
+     * @see SlackExternalFileUploader
+     */
+    public void postFileMessage(StateContext context, String message, Path path, String channel, String teamId) {
+        PostFileMessage action = new PostFileMessage(this, context, message, path, channel, teamId);
+        RuntimeActionResult result = action.call();
+    }
+
+    /**
+     * Streams {@code length} bytes of the provided {@code stream} as a file to the given {@code channel}.
+     * <p>
+     * The {@code stream} is uploaded with the external upload flow, and is not closed by this method.
+     *
+     * @param context the current {@link StateContext}
+     * @param title   the title of the file to post
+     * @param message the message to post with the file
+     * @param stream  the {@link InputStream} to post
+     * @param length  the number of bytes to read from the {@code stream}
+     * @param channel the Slack channel to post the file to
+     * @param teamId  the identifier of the Slack workspace to post the file to
+     * @see SlackExternalFileUploader
+     */
+    public void postFileMessage(StateContext context, String title, String message, InputStream stream, long length,
+                                String channel, String teamId) {
+        PostFileMessage action = new PostFileMessage(this, context, title, message, stream, length, channel, teamId);
+        RuntimeActionResult result = action.call();
+    }
+
     /**
      * Posts the provided {@code layoutBlocks} to the given {@code channel}.
      *
@@ -374,9 +1056,26 @@ public class SlackPlatform extends ChatPlatform {
     }
 
     /**
-     * Posts the provided {@code message} to the given {@code channel}.
+     * Renders the provided {@code template} and posts the resulting blocks to the given {@code channel}.
      *
-     * @param context the current {@link StateContext}
+     * @param context  the current {@link StateContext}
+     * @param template the {@link SlackBlockTemplate} to render
+     * @param values   the values of the placeholders of the {@code template}
+     * @param channel  the Slack channel to post the blocks to
+     * @param teamId   the identifier of the Slack workspace to post the layout blocks to
+     * @see SlackBlockTemplate
+     */
+    public void postLayoutBlocksMessage(StateContext context, SlackBlockTemplate template, Map<String, ?> values,
+                                        String channel, String teamId) {
+        PostLayoutBlocksMessage action = new PostLayoutBlocksMessage(this, context, template, values, channel,
+                teamId);
+        RuntimeActionResult result = action.call();
+    }
+
+    /**
+     * Posts the provided {@code message} to the given {@code channel}.
+     *
+     * @param context the current {@link StateContext}
      * @param message the message to post
      * @param channel the Slack channel to post the message to
      * @param teamId  the identifier of the Slack workspace to post the message to
@@ -426,6 +1125,59 @@ public class SlackPlatform extends ChatPlatform {
         return (String) result.getResult();
     }
 
+    /**
+     * Posts the provided {@code placeholder} in the current channel and returns a handle to stream the actual reply.
+     * <p>
+     * The chunks appended to the returned {@link SlackStreamingReply} progressively replace the {@code placeholder}
+     * with {@code chat.update} edits. Edits are throttled and merged to stay within the rate limit of the channel,
+     * and text exceeding the length limit of a Slack message is posted as thread replies. The placeholder message is
+     * never merged with other messages, even if coalescing is enabled.
+     * <p>
+     * The current channel is extracted from the provided {@code context}.
+     *
+     * @param context     the current {@link StateContext}
+     * @param placeholder the message displayed until the first chunk is appended
+     * @return the {@link SlackStreamingReply} to append the chunks of the reply to
+     * @throws XatkitException if an error occurred when posting the {@code placeholder}
+     * @see SlackUtils#STREAMING_UPDATE_INTERVAL_KEY
+     */
+    public SlackStreamingReply streamReply(@NonNull StateContext context, @NonNull String placeholder) {
+        Reply action = new Reply(this, context, placeholder);
+        action.setCoalescing(false);
+        RuntimeActionResult result = action.call();
+        if (result.isError()) {
+            throw new XatkitException("Cannot start the streaming reply, an error occurred when posting the " +
+                    "placeholder message", result.getThrowable());
+        }
+        String teamId = Reply.getTeamId(context);
+        String channelId = getChannelId(teamId, Reply.getChannel(context));
+        return new SlackStreamingReply(outboundExecutor, streamingUpdateInterval, SlackReplyCoalescer.MAX_TEXT_LENGTH,
+                Reply.getThreadTs(context), (String) result.getResult(), placeholder,
+                createStreamingClient(teamId, channelId));
+    }
+
+    /**
+     * Posts the provided {@code message} to the given {@code targets} and waits for the delivery report.
+     * <p>
+     * The posts are performed concurrently through the outbound queue, which enforces the per-channel and
+     * per-workspace rate budgets. Posts that have not been processed by Slack (connection failure, rate limit, or
+     * service unavailable) are retried with an exponential backoff, other errors are reported without retrying the
+     * post (a read timeout or a server error may hide a posted message, which would be posted twice). The returned
+     * {@link SlackBroadcastReport} contains the outcome of each target as well as the throughput of the broadcast.
+     *
+     * @param message the message to post
+     * @param targets the {@link SlackBroadcaster.Target}s (workspace and channel) to post the message to
+     * @return the {@link SlackBroadcastReport} of the broadcast
+     * @throws IllegalArgumentException if the provided {@code message} is empty
+     * @see #broadcastAsync(String, Collection)
+     * @see SlackUtils#BROADCAST_MAX_ATTEMPTS_KEY
+     * @see SlackUtils#BROADCAST_BACKOFF_KEY
+     */
+    public SlackBroadcastReport broadcast(@NonNull String message,
+                                          @NonNull Collection<SlackBroadcaster.Target> targets) {
+        return broadcastAsync(message, targets).join();
+    }
+
     /**
      * Posts the provided {@code attachments} in the current channel.
      * <p>
@@ -508,6 +1260,39 @@ public class SlackPlatform extends ChatPlatform {
         RuntimeActionResult result = action.call();
     }
 
+    /**
+     * Streams the file at the provided {@code path} to the current channel.
+     * <p>
+     * The current channel is extracted from the provided {@code context}.
+     *
+     * @param context the current {@link StateContext}
+     * @param message the message to post
+     * @param path    the {@link Path} of the file to post
+     * @see #postFileMessage(StateContext, String, Path, String, String)
+     */
+    public void replyFileMessage(@NonNull StateContext context, @NonNull String message, @NonNull Path path) {
+        ReplyFileMessage action = new ReplyFileMessage(this, context, message, path);
+        RuntimeActionResult result = action.call();
+    }
+
+    /**
+     * Streams {@code length} bytes of the provided {@code stream} as a file to the current channel.
+     * <p>
+     * The current channel is extracted from the provided {@code context}.
+     *
+     * @param context the current {@link StateContext}
+     * @param title   the title of the file to upload
+     * @param message the message to associate to the uploaded file
+     * @param stream  the {@link InputStream} to upload
+     * @param length  the number of bytes to read from the {@code stream}
+     * @see #postFileMessage(StateContext, String, String, InputStream, long, String, String)
+     */
+    public void replyFileMessage(@NonNull StateContext context, @NonNull String title, @NonNull String message,
+                                 @NonNull InputStream stream, long length) {
+        ReplyFileMessage action = new ReplyFileMessage(this, context, title, message, stream, length);
+        RuntimeActionResult result = action.call();
+    }
+
     /**
      * Posts the provided {@code layoutBlocks} in the current channel.
      * <p>
@@ -522,283 +1307,1460 @@ public class SlackPlatform extends ChatPlatform {
     }
 
     /**
-     * Registers the REST handler that manages OAuth requests sent by Slack when the app is installed.
-     * <p>
-     * The defined endpoint URI is {@code <basePath>/slack/oauth/redirect}, this URI must be specified in the
-     * associated Slack app settings to ensure that Xatkit receives the OAuth requests and populate its internal data
-     * structure with the new installation information.
+     * Renders the provided {@code template} and posts the resulting blocks in the current channel.
      * <p>
-     * <b>Note</b>: the OAuth REST handler is not started if the {@code configuration} used to initialize the
-     * platform contains a Slack {@code token}. In this case the platform assumes that the app is currently under
-     * development and does not authorize multiple installations.
+     * The current channel is extracted from the provided {@code context}.
      *
-     * @see com.xatkit.core.server.XatkitServer
+     * @param context  the current {@link StateContext}
+     * @param template the {@link SlackBlockTemplate} to render
+     * @param values   the values of the placeholders of the {@code template}
+     * @see SlackBlockTemplate
      */
-    private void registerOAuthRestHandler() {
-        this.xatkitBot.getXatkitServer().registerRestEndpoint(HttpMethod.GET, "/slack/oauth/redirect",
-                RestHandlerFactory.createJsonRestHandler((headers, param, content) -> {
-                    JsonObject result = new JsonObject();
-                    String code = HttpUtils.getParameterValue("code", param);
-                    try {
-                        OAuthAccessResponse response = this.slack.methods().oauthAccess(OAuthAccessRequest.builder()
-                                .clientId(clientId)
-                                .clientSecret(clientSecret)
-                                .code(code)
-                                .build());
-                        logSlackApiResponse(response);
-                        String teamId = response.getTeamId();
-                        if (isNull(teamId)) {
-                            result.addProperty("Error", "The Slack API response does not contain a team identifier");
-                            return result;
-                        }
-                        String botAccessToken = response.getBot().getBotAccessToken();
-                        if (isNull(botAccessToken)) {
-                            result.addProperty("Error", "The Slack API response does not contain a bot access token");
-                            return result;
-                        }
-                        Log.info("Adding installation mapping {0} -> {1}", teamId, botAccessToken);
-                        this.teamIdToSlackToken.put(teamId, botAccessToken);
-                        loadChannels(teamId);
-                        this.notifyNewInstallation(teamId, botAccessToken);
-                    } catch (IOException | SlackApiException e) {
-                        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                        PrintWriter printWriter = new PrintWriter(baos, true);
-                        e.printStackTrace(printWriter);
-                        result.addProperty("Error", baos.toString());
-                        return result;
-                    }
-                    result.addProperty("Message", "Installed!");
-                    return result;
-                }));
+    public void replyLayoutBlocksMessage(@NonNull StateContext context, @NonNull SlackBlockTemplate template,
+                                         @NonNull Map<String, ?> values) {
+        ReplyLayoutBlocksMessage action = new ReplyLayoutBlocksMessage(this, context, template, values);
+        RuntimeActionResult result = action.call();
     }
 
     /**
-     * Notifies the started {@link com.xatkit.core.platform.io.RuntimeEventProvider}s that the Slack app has been
-     * installed in a new workspace.
+     * Asynchronously returns whether the given {@code username} in the provided {@code teamId} is online.
      *
-     * @param teamId     the identifier of the workspace where the app has been installed
-     * @param slackToken the Slack {@code token} associated to the new installation
+     * @param context  the current {@link StateContext}
+     * @param username the user ID, name, or real name to check
+     * @param teamId   the identifier of the Slack workspace containing the user to check
+     * @return a {@link CompletableFuture} completed with {@code true} if the user is online, {@code false} otherwise
+     * @see #isOnline(StateContext, String, String)
      */
-    private void notifyNewInstallation(String teamId, String slackToken) {
-        this.getEventProviderMap().forEach((providerName, providerThread) -> {
-            if (providerThread.getRuntimeEventProvider() instanceof SlackIntentProvider) {
-                SlackIntentProvider slackIntentProvider =
-                        (SlackIntentProvider) providerThread.getRuntimeEventProvider();
-                slackIntentProvider.notifyNewInstallation(teamId, slackToken);
-            }
-        });
+    public CompletableFuture<Boolean> isOnlineAsync(@NonNull StateContext context, @NonNull String username,
+                                                    @NonNull String teamId) {
+        IsOnline action = new IsOnline(this, context, username, teamId);
+        return callAsync(action).thenApply(result -> (Boolean) result.getResult());
     }
 
     /**
-     * Returns the {@link Map} containing the Slack {@code token}s associated to the identifiers of the workspaces
-     * where the Slack app is installed.
+     * Asynchronously posts the provided {@code attachments} in the given {@code channel}.
      *
-     * @return the {@link Map} containing the Slack {@code token}s associated to the identifiers of the workspaces
-     * where the Slack app is installed
+     * @param context     the current {@link StateContext}
+     * @param attachments the list of {@link Attachment} to post
+     * @param channel     the Slack channel to post the attachment to
+     * @param teamId      the identifier of the Slack workspace to post the attachment to
+     * @return a {@link CompletableFuture} completed when the attachments have been posted
+     * @see #postAttachmentsMessage(StateContext, List, String, String)
      */
-    public Map<String, String> getTeamIdToSlackTokenMap() {
-        return this.teamIdToSlackToken;
+    public CompletableFuture<Void> postAttachmentsMessageAsync(@NonNull StateContext context,
+                                                               @NonNull List<Attachment> attachments,
+                                                               @NonNull String channel, @NonNull String teamId) {
+        PostAttachmentsMessage action = new PostAttachmentsMessage(this, context, attachments, channel, teamId);
+        return callAsync(action).thenApply(result -> null);
     }
 
     /**
-     * Returns the Slack {@code token} associated to the provided {@code teamId}.
+     * Asynchronously builds and posts an attachment in the given {@code channel}.
      *
-     * @param teamId a workspace identifier
-     * @return the Slack {@code token} associated to the provided {@code teamId} if it exists, {@code null} otherwise
+     * @param context     the current {@link StateContext}
+     * @param pretext     the pre-text of the attachment
+     * @param title       the title of the attachment
+     * @param text        the text of the attachment
+     * @param attachColor the color of the attachment
+     * @param timestamp   the timestamp of the attachment
+     * @param channel     the Slack channel to post the attachment to
+     * @param teamId      the identifier of the Slack workspace to post the attachment to
+     * @return a {@link CompletableFuture} completed when the attachment has been posted
+     * @see #postAttachmentsMessage(StateContext, String, String, String, String, String, String, String)
      */
-    public String getSlackToken(String teamId) {
-        return teamIdToSlackToken.get(teamId);
+    public CompletableFuture<Void> postAttachmentsMessageAsync(@NonNull StateContext context, String pretext,
+                                                               String title, @NonNull String text,
+                                                               String attachColor, String timestamp,
+                                                               @NonNull String channel, @NonNull String teamId) {
+        PostAttachmentsMessage action = new PostAttachmentsMessage(this, context, pretext, title, text, attachColor,
+                timestamp, channel, teamId);
+        return callAsync(action).thenApply(result -> null);
     }
 
     /**
-     * Returns the Slack API client.
+     * Asynchronously builds and posts an attachment in the given {@code channel}.
      *
-     * @return the Slack API client.
+     * @param context     the current {@link StateContext}
+     * @param pretext     the pre-text of the attachment
+     * @param title       the title of the attachment
+     * @param text        the text of the attachment
+     * @param attachColor the color of the attachment
+     * @param channel     the Slack channel to post the attachment to
+     * @param teamId      the identifier of the Slack workspace to post the attachment to
+     * @return a {@link CompletableFuture} completed when the attachment has been posted
+     * @see #postAttachmentsMessage(StateContext, String, String, String, String, String, String)
      */
-    public Slack getSlack() {
-        return slack;
+    public CompletableFuture<Void> postAttachmentsMessageAsync(StateContext context, String pretext, String title,
+                                                               String text, String attachColor, String channel,
+                                                               String teamId) {
+        PostAttachmentsMessage action = new PostAttachmentsMessage(this, context, pretext, title, text, attachColor,
+                channel, teamId);
+        return callAsync(action).thenApply(result -> null);
     }
 
     /**
-     * Returns the {@link StateContext} associated to the provided {@code teamId} and {@code channel}.
-     * <p>
-     * The provided {@code teamId} <b>must</b> be a valid workspace identifier, while the provided {@code channel}
-     * can be an identifier or a channel name.
+     * Asynchronously posts the provided {@code file} in the given {@code channel}.
      *
-     * @param teamId  the identifier of the workspace to create a session for
-     * @param channel the workspace's {@code channel} to create a session for
-     * @return the {@link StateContext} associated to the provided {@code teamId} and {@code channel}
+     * @param context the current {@link StateContext}
+     * @param message the message to post with the file
+     * @param file    the {@link File} to post
+     * @param channel the Slack channel to post the file to
+     * @param teamId  the identifier of the Slack workspace to post the file to
+     * @return a {@link CompletableFuture} completed when the file has been posted
+     * @see #postFileMessage(StateContext, String, File, String, String)
      */
-    public StateContext createSessionFromChannel(String teamId, String channel) {
-        return this.xatkitBot.getOrCreateContext(teamId + "@" + this.getChannelId(teamId, channel));
+    public CompletableFuture<Void> postFileMessageAsync(StateContext context, String message, File file,
+                                                        String channel, String teamId) {
+        PostFileMessage action = new PostFileMessage(this, context, message, file, channel, teamId);
+        return callAsync(action).thenApply(result -> null);
     }
 
     /**
-     * Retrieves the User ID associated to the provided {@code username} from the workspace identified with {@code
-     * teamId}.
-     * <p>
-     * This method looks for any user with a {@code id}, {@code name}, or {@code realName} matching the provided {@code
-     * username}, and returns its identifier.
+     * Asynchronously posts the provided {@code content} as a file in the given {@code channel}.
      *
-     * @param teamId   the idetnfier of the workspace containing the user to retrieve the ID of
-     * @param username the name of the user to retrieve the ID of
-     * @return the User ID if it exists
-     * @throws XatkitException      if an error occurred when accessing the Slack API
-     * @throws NullPointerException if the provided {@code teamId} or {@code username} is {@code null}
+     * @param context the current {@link StateContext}
+     * @param title   the title of the file to post
+     * @param message the message to post with the file
+     * @param content the content of the file
+     * @param channel the Slack channel to post the file to
+     * @param teamId  the identifier of the Slack workspace to post the file to
+     * @return a {@link CompletableFuture} completed when the file has been posted
+     * @see #postFileMessage(StateContext, String, String, String, String, String)
      */
-    public String getUserId(String teamId, String username) {
-        checkNotNull(teamId, "Cannot retrieve the user ID from the provided team %s", teamId);
-        checkNotNull(username, "Cannot retrieve the user ID from the provided username %s", username);
-        UsersListResponse usersListResponse;
-        try {
-            usersListResponse = this.getSlack().methods().usersList(UsersListRequest.builder()
-                    .token(getSlackToken(teamId))
-                    .build());
-        } catch (IOException | SlackApiException e) {
-            throw new XatkitException("An error occurred when accessing the Slack API, see attached exception", e);
-        }
-        logSlackApiResponse(usersListResponse);
-        for (User user : usersListResponse.getMembers()) {
-            if (Objects.equals(user.getId(), username) || Objects.equals(user.getName(), username) || Objects.equals(user.getRealName(), username)) {
-                return user.getId();
-            }
-        }
-        return null;
+    public CompletableFuture<Void> postFileMessageAsync(StateContext context, String title, String message,
+                                                        String content, String channel, String teamId) {
+        PostFileMessage action = new PostFileMessage(this, context, title, message, content, channel, teamId);
+        return callAsync(action).thenApply(result -> null);
     }
 
     /**
-     * Retrieves the ID of the {@code channelName} from the workspace identified with {@code teamId}.
-     * <p>
-     * This method supports channel IDs, names, as well as user names, real names, and display names (in this case
-     * the private {@code im} channel ID between the bot and the user is returned). The returned ID can be used to
-     * send messages to the channel.
+     * Asynchronously streams the file at the provided {@code path} to the given {@code channel}.
      *
-     * @param teamId      the identifier of the workspace containing the channel to retrieve the identifier
-     * @param channelName the name of the channel to retrieve the ID from
-     * @return the channel ID if it exists
-     * @throws XatkitException if the provided {@code teamId} does not correspond to a valid Slack app installation,
-     *                         or if the provided {@code channelName} does not correspond to any channel accessible
-     *                         by the bot
+     * @param context the current {@link StateContext}
+     * @param message the message to post with the file
+     * @param path    the {@link Path} of the file to post
+     * @param channel the Slack channel to post the file to
+     * @param teamId  the identifier of the Slack workspace to post the file to
+     * @return a {@link CompletableFuture} completed when the file has been posted
+     * @see #postFileMessage(StateContext, String, Path, String, String)
      */
-    public String getChannelId(String teamId, String channelName) {
-        if (this.channelNames.containsKey(teamId)) {
-            String id = this.channelNames.get(teamId).get(channelName);
-            if (isNull(id)) {
-                /*
-                 * Check if the channel has been created since the previous lookup. This is not done by default because
-                 * it reloads all the channel and may take some time.
-                 */
-                loadChannels(teamId);
-                id = this.channelNames.get(teamId).get(channelName);
-                if (isNull(id)) {
-                    /*
-                     * Cannot find the channel after a fresh lookup.
-                     */
-                    throw new XatkitException(MessageFormat.format("Cannot find the channel {0}, please ensure that " +
-                            "the " +
-                            "provided channel is either a valid channel ID, name, or a valid user name, real name, or" +
-                            " " +
-                            "display name", channelName));
-                }
-            }
-            return id;
-        } else {
-            throw new XatkitException(MessageFormat.format("Unknown teamId {0}, please ensure that the bot is " +
-                    "installed in this workspace", teamId));
-        }
+    public CompletableFuture<Void> postFileMessageAsync(StateContext context, String message, Path path,
+                                                        String channel, String teamId) {
+        PostFileMessage action = new PostFileMessage(this, context, message, path, channel, teamId);
+        return callAsync(action).thenApply(result -> null);
     }
 
     /**
-     * Returns whether the {@code channelId} from the workspace {@code teamId} is a group channel (that can contain
-     * multiple users) or not.
+     * Asynchronously streams {@code length} bytes of the provided {@code stream} as a file to the given {@code
+     * channel}.
      *
-     * @param teamId    the identifier of the workspace containing the channel to check
-     * @param channelId the identifier of the Slack channel to check
-     * @return {@code true} if the channel is a group channel, {@code false} otherwise
-     * @throws XatkitException if the provided {@code teamId} does not correspond to a valid Slack app installation
+     * @param context the current {@link StateContext}
+     * @param title   the title of the file to post
+     * @param message the message to post with the file
+     * @param stream  the {@link InputStream} to post
+     * @param length  the number of bytes to read from the {@code stream}
+     * @param channel the Slack channel to post the file to
+     * @param teamId  the identifier of the Slack workspace to post the file to
+     * @return a {@link CompletableFuture} completed when the file has been posted
+     * @see #postFileMessage(StateContext, String, String, InputStream, long, String, String)
      */
-    public boolean isGroupChannel(String teamId, String channelId) {
-        if (this.userChannels.containsKey(teamId)) {
-            /*
-             * First check if it's a user channel, if so no need to do additional calls on the Slack API, we know it's
-             * not a group channel.
-             */
-            if (this.userChannels.get(teamId).contains(channelId)) {
-                return false;
-            } else {
-                if (this.groupChannels.get(teamId).contains(channelId)) {
-                    return true;
-                } else {
-                    /*
-                     * Reload the channels in case the group channel has been created since the last check.
-                     */
-                    loadChannels(teamId);
-                    return this.groupChannels.get(teamId).contains(channelId);
-                }
-            }
-        } else {
-            throw new XatkitException(MessageFormat.format("Unknown team {0}, please ensure that the bot is installed" +
-                    " in this workspace", teamId));
-        }
+    public CompletableFuture<Void> postFileMessageAsync(StateContext context, String title, String message,
+                                                        InputStream stream, long length, String channel,
+                                                        String teamId) {
+        PostFileMessage action = new PostFileMessage(this, context, title, message, stream, length, channel, teamId);
+        return callAsync(action).thenApply(result -> null);
     }
 
     /**
-     * Loads the channels associated to the workspace's {@code teamId} and store channel-related information.
-     * <p>
-     * The stored information can be retrieved with dedicated methods, and reduce the number of calls to the Slack API.
+     * Asynchronously posts the provided {@code layoutBlocks} to the given {@code channel}.
      *
-     * @see #getChannelId(String, String)
-     * @see #isGroupChannel(String, String)
+     * @param context      the current {@link StateContext}
+     * @param layoutBlocks the list of {@link LayoutBlock}s to post
+     * @param channel      the Slack channel to post the file to
+     * @param teamId       the identifier of the Slack workspace to post the layout blocks to
+     * @return a {@link CompletableFuture} completed when the layout blocks have been posted
+     * @see #postLayoutBlocksMessage(StateContext, List, String, String)
      */
-    private void loadChannels(String teamId) {
-        Map<String, String> workspaceChannelNames = new HashMap<>();
-        List<String> workspaceGroupChannels = new ArrayList<>();
-        List<String> workspaceUserChannels = new ArrayList<>();
-        this.channelNames.put(teamId, workspaceChannelNames);
-        this.groupChannels.put(teamId, workspaceGroupChannels);
-        this.userChannels.put(teamId, workspaceUserChannels);
-        String teamSlackToken = teamIdToSlackToken.get(teamId);
-        if (isNull(teamSlackToken)) {
-            throw new XatkitException(MessageFormat.format("Cannot load the channels for team {0}, the bot is not " +
-                    "installed in this workspace", teamId));
-        }
-        try {
-            ConversationsListResponse response =
-                    slack.methods().conversationsList(ConversationsListRequest.builder()
-                            .token(teamSlackToken)
-                            .types(Arrays.asList(ConversationType.PUBLIC_CHANNEL, ConversationType.PUBLIC_CHANNEL,
-                                    ConversationType.IM, ConversationType.MPIM))
-                            .build());
-            logSlackApiResponse(response);
-            for (Conversation conversation : response.getChannels()) {
-                String conversationId = conversation.getId();
-                /*
-                 * Store the conversation ID as an entry for itself, this is because we cannot differentiate IDs from
-                 * regular strings when retrieving a channel ID.
+    public CompletableFuture<Void> postLayoutBlocksMessageAsync(StateContext context, List<LayoutBlock> layoutBlocks,
+                                                                String channel, String teamId) {
+        PostLayoutBlocksMessage action = new PostLayoutBlocksMessage(this, context, layoutBlocks, channel, teamId);
+        return callAsync(action).thenApply(result -> null);
+    }
+
+    /**
+     * Asynchronously renders the provided {@code template} and posts the resulting blocks to the given {@code
+     * channel}.
+     *
+     * @param context  the current {@link StateContext}
+     * @param template the {@link SlackBlockTemplate} to render
+     * @param values   the values of the placeholders of the {@code template}
+     * @param channel  the Slack channel to post the blocks to
+     * @param teamId   the identifier of the Slack workspace to post the layout blocks to
+     * @return a {@link CompletableFuture} completed when the layout blocks have been posted
+     * @see #postLayoutBlocksMessage(StateContext, SlackBlockTemplate, Map, String, String)
+     */
+    public CompletableFuture<Void> postLayoutBlocksMessageAsync(StateContext context, SlackBlockTemplate template,
+                                                                Map<String, ?> values, String channel,
+                                                                String teamId) {
+        PostLayoutBlocksMessage action = new PostLayoutBlocksMessage(this, context, template, values, channel,
+                teamId);
+        return callAsync(action).thenApply(result -> null);
+    }
+
+    /**
+     * Asynchronously posts the provided {@code message} to the given {@code targets}.
+     * <p>
+     * The returned {@link CompletableFuture} is never completed exceptionally, the failed targets are listed in the
+     * {@link SlackBroadcastReport}.
+     *
+     * @param message the message to post
+     * @param targets the {@link SlackBroadcaster.Target}s (workspace and channel) to post the message to
+     * @return a {@link CompletableFuture} completed with the {@link SlackBroadcastReport} once all the targets have
+     * been delivered or have failed
+     * @throws IllegalArgumentException if the provided {@code message} is empty
+     * @see #broadcast(String, Collection)
+     */
+    public CompletableFuture<SlackBroadcastReport> broadcastAsync(
+            @NonNull String message, @NonNull Collection<SlackBroadcaster.Target> targets) {
+        return broadcaster.broadcast(message, targets);
+    }
+
+    /**
+     * Asynchronously posts the provided {@code message} to the given {@code channel}.
+     *
+     * @param context the current {@link StateContext}
+     * @param message the message to post
+     * @param channel the Slack channel to post the message to
+     * @param teamId  the identifier of the Slack workspace to post the message to
+     * @return a {@link CompletableFuture} completed with the timestamp of the posted message
+     * @see #postMessage(StateContext, String, String, String)
+     */
+    public CompletableFuture<String> postMessageAsync(@NonNull StateContext context, @NonNull String message,
+                                                      @NonNull String channel, @NonNull String teamId) {
+        PostMessage action = new PostMessage(this, context, message, channel, teamId);
+        return callAsync(action).thenApply(result -> (String) result.getResult());
+    }
+
+    /**
+     * Asynchronously posts the provided {@code message} with the provided {@code threadTs} in the given {@code
+     * channel}.
+     *
+     * @param context  the current {@link StateContext}
+     * @param message  the message to post
+     * @param channel  the Slack channel to post the message to
+     * @param teamId   the identifier of the Slack workspace to post the message to
+     * @param threadTs the timestamp of the parent thread message
+     * @return a {@link CompletableFuture} completed with the timestamp of the posted message
+     * @see #postMessage(StateContext, String, String, String, String)
+     */
+    public CompletableFuture<String> postMessageAsync(@NonNull StateContext context, @NonNull String message,
+                                                      @NonNull String channel, @NonNull String teamId,
+                                                      @Nullable String threadTs) {
+        PostMessage action = new PostMessage(this, context, message, channel, teamId, threadTs);
+        return callAsync(action).thenApply(result -> (String) result.getResult());
+    }
+
+    /**
+     * Asynchronously posts the provided {@code message} in the current channel.
+     *
+     * @param context the current {@link StateContext}
+     * @param message the message to post
+     * @return a {@link CompletableFuture} completed with the timestamp of the posted message
+     * @see #reply(StateContext, String)
+     */
+    public CompletableFuture<String> replyAsync(@NonNull StateContext context, @NonNull String message) {
+        Reply action = new Reply(this, context, message);
+        return callAsync(action).thenApply(result -> (String) result.getResult());
+    }
+
+    /**
+     * Asynchronously posts the provided {@code attachments} in the current channel.
+     *
+     * @param context     the current {@link StateContext}
+     * @param attachments the list of {@link Attachment}s to post
+     * @return a {@link CompletableFuture} completed when the attachments have been posted
+     * @see #replyAttachmentsMessage(StateContext, List)
+     */
+    public CompletableFuture<Void> replyAttachmentsMessageAsync(@NonNull StateContext context,
+                                                                @NonNull List<Attachment> attachments) {
+        ReplyAttachmentsMessage action = new ReplyAttachmentsMessage(this, context, attachments);
+        return callAsync(action).thenApply(result -> null);
+    }
+
+    /**
+     * Asynchronously builds and posts the provided attachment to the current channel.
+     *
+     * @param context     the current {@link StateContext}
+     * @param pretext     the pre-text of the attachment
+     * @param title       the title of the attachment
+     * @param text        the text of the attachment
+     * @param attachColor the color of the attachment
+     * @param timestamp   the timestamp of the attachment
+     * @return a {@link CompletableFuture} completed when the attachment has been posted
+     * @see #replyAttachmentsMessage(StateContext, String, String, String, String, String)
+     */
+    public CompletableFuture<Void> replyAttachmentsMessageAsync(@NonNull StateContext context, String pretext,
+                                                                String title, @NonNull String text,
+                                                                String attachColor, String timestamp) {
+        ReplyAttachmentsMessage action = new ReplyAttachmentsMessage(this, context, pretext, title, text, attachColor,
+                timestamp);
+        return callAsync(action).thenApply(result -> null);
+    }
+
+    /**
+     * Asynchronously builds and posts the provided attachment to the current channel.
+     *
+     * @param context     the current {@link StateContext}
+     * @param pretext     the pre-text of the attachment
+     * @param title       the title of the attachment
+     * @param text        the text of the attachment
+     * @param attachColor the color of the attachment
+     * @return a {@link CompletableFuture} completed when the attachment has been posted
+     * @see #replyAttachmentsMessage(StateContext, String, String, String, String)
+     */
+    public CompletableFuture<Void> replyAttachmentsMessageAsync(@NonNull StateContext context, String pretext,
+                                                                String title, @NonNull String text,
+                                                                String attachColor) {
+        ReplyAttachmentsMessage action = new ReplyAttachmentsMessage(this, context, pretext, title, text, attachColor);
+        return callAsync(action).thenApply(result -> null);
+    }
+
+    /**
+     * Asynchronously posts the provided {@code file} in the current channel.
+     *
+     * @param context the current {@link StateContext}
+     * @param message the message to post
+     * @param file    the file to post
+     * @return a {@link CompletableFuture} completed when the file has been posted
+     * @see #replyFileMessage(StateContext, String, File)
+     */
+    public CompletableFuture<Void> replyFileMessageAsync(@NonNull StateContext context, @NonNull String message,
+                                                         @NonNull File file) {
+        ReplyFileMessage action = new ReplyFileMessage(this, context, message, file);
+        return callAsync(action).thenApply(result -> null);
+    }
+
+    /**
+     * Asynchronously posts a file with the provided {@code title}, {@code content} and {@code message} in the
+     * current channel.
+     *
+     * @param context the current {@link StateContext}
+     * @param title   the title of the file to upload
+     * @param message the message to associate to the uploaded file
+     * @param content the content of the file to upload
+     * @return a {@link CompletableFuture} completed when the file has been posted
+     * @see #replyFileMessage(StateContext, String, String, String)
+     */
+    public CompletableFuture<Void> replyFileMessageAsync(@NonNull StateContext context, @NonNull String title,
+                                                         @NonNull String message, @NonNull String content) {
+        ReplyFileMessage action = new ReplyFileMessage(this, context, title, message, content);
+        return callAsync(action).thenApply(result -> null);
+    }
+
+    /**
+     * Asynchronously streams the file at the provided {@code path} to the current channel.
+     *
+     * @param context the current {@link StateContext}
+     * @param message the message to post
+     * @param path    the {@link Path} of the file to post
+     * @return a {@link CompletableFuture} completed when the file has been posted
+     * @see #replyFileMessage(StateContext, String, Path)
+     */
+    public CompletableFuture<Void> replyFileMessageAsync(@NonNull StateContext context, @NonNull String message,
+                                                         @NonNull Path path) {
+        ReplyFileMessage action = new ReplyFileMessage(this, context, message, path);
+        return callAsync(action).thenApply(result -> null);
+    }
+
+    /**
+     * Asynchronously streams {@code length} bytes of the provided {@code stream} as a file to the current channel.
+     *
+     * @param context the current {@link StateContext}
+     * @param title   the title of the file to upload
+     * @param message the message to associate to the uploaded file
+     * @param stream  the {@link InputStream} to upload
+     * @param length  the number of bytes to read from the {@code stream}
+     * @return a {@link CompletableFuture} completed when the file has been posted
+     * @see #replyFileMessage(StateContext, String, String, InputStream, long)
+     */
+    public CompletableFuture<Void> replyFileMessageAsync(@NonNull StateContext context, @NonNull String title,
+                                                         @NonNull String message, @NonNull InputStream stream,
+                                                         long length) {
+        ReplyFileMessage action = new ReplyFileMessage(this, context, title, message, stream, length);
+        return callAsync(action).thenApply(result -> null);
+    }
+
+    /**
+     * Asynchronously posts the provided {@code layoutBlocks} in the current channel.
+     *
+     * @param context      the current {@link StateContext}
+     * @param layoutBlocks the list of {@link LayoutBlock}s to post
+     * @return a {@link CompletableFuture} completed when the layout blocks have been posted
+     * @see #replyLayoutBlocksMessage(StateContext, List)
+     */
+    public CompletableFuture<Void> replyLayoutBlocksMessageAsync(@NonNull StateContext context,
+                                                                 @NonNull List<LayoutBlock> layoutBlocks) {
+        ReplyLayoutBlocksMessage action = new ReplyLayoutBlocksMessage(this, context, layoutBlocks);
+        return callAsync(action).thenApply(result -> null);
+    }
+
+    /**
+     * Asynchronously renders the provided {@code template} and posts the resulting blocks in the current channel.
+     *
+     * @param context  the current {@link StateContext}
+     * @param template the {@link SlackBlockTemplate} to render
+     * @param values   the values of the placeholders of the {@code template}
+     * @return a {@link CompletableFuture} completed when the layout blocks have been posted
+     * @see #replyLayoutBlocksMessage(StateContext, SlackBlockTemplate, Map)
+     */
+    public CompletableFuture<Void> replyLayoutBlocksMessageAsync(@NonNull StateContext context,
+                                                                 @NonNull SlackBlockTemplate template,
+                                                                 @NonNull Map<String, ?> values) {
+        ReplyLayoutBlocksMessage action = new ReplyLayoutBlocksMessage(this, context, template, values);
+        return callAsync(action).thenApply(result -> null);
+    }
+
+    /**
+     * Executes the provided {@code action} on the {@link #ioExecutor}.
+     * <p>
+     * The {@code action} is created by the caller, meaning that its arguments are validated (and the target channel
+     * is extracted from the {@link StateContext}) before this method returns. Only the Slack API call is executed
+     * asynchronously.
+     * <p>
+     * <b>Note</b>: actions executed asynchronously are not ordered, two messages posted to the same channel can be
+     * received in any order. Chain the returned {@link CompletableFuture}s to post messages in a given order.
+     *
+     * @param action the {@link RuntimeAction} to execute
+     * @return a {@link CompletableFuture} completed with the {@link RuntimeActionResult} of the {@code action}, or
+     * completed exceptionally with the error thrown by the {@code action}
+     */
+    private CompletableFuture<RuntimeActionResult> callAsync(RuntimeAction<SlackPlatform> action) {
+        CompletableFuture<RuntimeActionResult> future = new CompletableFuture<>();
+        try {
+            ioExecutor.execute(() -> {
+                try {
+                    RuntimeActionResult result = action.call();
+                    if (result.isError()) {
+                        future.completeExceptionally(result.getThrowable());
+                    } else {
+                        future.complete(result);
+                    }
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new XatkitException(MessageFormat.format("Cannot execute the action {0}, " +
+                    "the platform {1} is shut down", action.getClass().getSimpleName(),
+                    SlackPlatform.class.getSimpleName()), e));
+        }
+        return future;
+    }
+
+    /**
+     * Posts the provided broadcast {@code message} to the given {@code target}.
+     * <p>
+     * The channel of the {@code target} is resolved with {@link #getChannelId(String, String)} on the
+     * {@link #ioExecutor}, and the message is delivered through the {@link #outboundQueue}.
+     *
+     * @param target  the {@link SlackBroadcaster.Target} to post the message to
+     * @param message the message to post
+     * @return a {@link CompletableFuture} completed with the response of the Slack API
+     */
+    private CompletableFuture<ChatPostMessageResponse> postBroadcastMessage(SlackBroadcaster.Target target,
+                                                                            String message) {
+        String teamId = target.getTeamId();
+        return CompletableFuture.supplyAsync(() -> getChannelId(teamId, target.getChannel()), ioExecutor)
+                .thenCompose(channelId -> outboundQueue.submit(teamId, channelId,
+                        () -> slack.methods().chatPostMessage(ChatPostMessageRequest.builder()
+                                .token(getSlackToken(teamId))
+                                .channel(channelId)
+                                .text(message)
+                                .unfurlLinks(true)
+                                .unfurlMedia(true)
+                                .build())))
+                .thenApply(response -> {
+                    logSlackApiResponse(response);
+                    return response;
+                });
+    }
+
+    /**
+     * Creates the {@link SlackStreamingReply.MessageClient} posting and editing the messages of a streaming reply in
+     * the given {@code channelId}.
+     * <p>
+     * The messages are delivered through the {@link #outboundQueue}.
+     *
+     * @param teamId    the identifier of the workspace containing the channel
+     * @param channelId the identifier of the channel containing the streaming reply
+     * @return the created {@link SlackStreamingReply.MessageClient}
+     */
+    private SlackStreamingReply.MessageClient createStreamingClient(String teamId, String channelId) {
+        return new SlackStreamingReply.MessageClient() {
+            @Override
+            public CompletableFuture<String> post(String threadTs, String text) {
+                return outboundQueue.submit(teamId, channelId,
+                        () -> slack.methods().chatPostMessage(ChatPostMessageRequest.builder()
+                                .token(getSlackToken(teamId))
+                                .channel(channelId)
+                                .threadTs(threadTs)
+                                .text(text)
+                                .unfurlLinks(true)
+                                .unfurlMedia(true)
+                                .build()))
+                        .thenApply(response -> {
+                            checkResponse(response);
+                            return response.getTs();
+                        });
+            }
+
+            @Override
+            public CompletableFuture<?> update(String ts, String text) {
+                return outboundQueue.submit(teamId, channelId,
+                        () -> slack.methods().chatUpdate(ChatUpdateRequest.builder()
+                                .token(getSlackToken(teamId))
+                                .channel(channelId)
+                                .ts(ts)
+                                .text(text)
+                                .build()))
+                        .thenAccept(this::checkResponse);
+            }
+
+            private void checkResponse(SlackApiResponse response) {
+                logSlackApiResponse(response);
+                if (!response.isOk()) {
+                    throw new XatkitException(MessageFormat.format("Cannot update the streaming reply in channel " +
+                            "{0}, received error {1}", channelId, response.getError()));
+                }
+            }
+        };
+    }
+
+    /**
+     * Registers the REST handler that manages OAuth requests sent by Slack when the app is installed.
+     * <p>
+     * The defined endpoint URI is {@code <basePath>/slack/oauth/redirect}, this URI must be specified in the
+     * associated Slack app settings to ensure that Xatkit receives the OAuth requests and populate its internal data
+     * structure with the new installation information.
+     * <p>
+     * <b>Note</b>: the OAuth REST handler is not started if the {@code configuration} used to initialize the
+     * platform contains a Slack {@code token}. In this case the platform assumes that the app is currently under
+     * development and does not authorize multiple installations.
+     *
+     * @see com.xatkit.core.server.XatkitServer
+     */
+    private void registerOAuthRestHandler() {
+        this.xatkitBot.getXatkitServer().registerRestEndpoint(HttpMethod.GET, "/slack/oauth/redirect",
+                RestHandlerFactory.createJsonRestHandler((headers, param, content) -> {
+                    JsonObject result = new JsonObject();
+                    String code = HttpUtils.getParameterValue("code", param);
+                    try {
+                        OAuthAccessResponse response = this.slack.methods().oauthAccess(OAuthAccessRequest.builder()
+                                .clientId(clientId)
+                                .clientSecret(clientSecret)
+                                .code(code)
+                                .build());
+                        logSlackApiResponse(response);
+                        String teamId = response.getTeamId();
+                        if (isNull(teamId)) {
+                            result.addProperty("Error", "The Slack API response does not contain a team identifier");
+                            return result;
+                        }
+                        String botAccessToken = response.getBot().getBotAccessToken();
+                        if (isNull(botAccessToken)) {
+                            result.addProperty("Error", "The Slack API response does not contain a bot access token");
+                            return result;
+                        }
+                        Log.info("Adding installation mapping {0} -> {1}", teamId, botAccessToken);
+                        String botUserId = response.getBot().getBotUserId();
+                        if (nonNull(botUserId)) {
+                            /*
+                             * The OAuth response already contains the bot identity, no need to call auth.test.
+                             */
+                            this.botIdentities.put(botAccessToken, new SlackBotIdentity(teamId,
+                                    response.getTeamName(), botUserId, null));
+                        }
+                        this.teamIdToSlackToken.put(teamId, botAccessToken);
+                        if (nonNull(this.installationStore)) {
+                            try {
+                                this.installationStore.save(teamId, botAccessToken);
+                            } catch (IOException e) {
+                                Log.error("Cannot save the installation of workspace {0}, see the attached " +
+                                        "exception", teamId, e);
+                            }
+                        }
+                        initializeChannels(teamId);
+                        this.notifyNewInstallation(teamId, botAccessToken);
+                    } catch (IOException | SlackApiException e) {
+                        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                        PrintWriter printWriter = new PrintWriter(baos, true);
+                        e.printStackTrace(printWriter);
+                        result.addProperty("Error", baos.toString());
+                        return result;
+                    }
+                    result.addProperty("Message", "Installed!");
+                    return result;
+                }));
+    }
+
+    /**
+     * Registers the REST handler that receives the events sent by the Slack Events API.
+     * <p>
+     * The defined endpoint URI is {@code <basePath>/slack/events}, this URI must be specified as the {@code Request
+     * URL} of the event subscriptions in the associated Slack app settings. The handler verifies the signature of the
+     * received requests with the provided {@code signingSecret}, and forwards the received events to the started
+     * {@link SlackIntentProvider}s.
+     * <p>
+     * <b>Note</b>: the Events API REST handler is only registered if the {@link SlackUtils#INGESTION_MODE_KEY} is
+     * set to {@link SlackUtils#INGESTION_MODE_EVENTS_API}.
+     *
+     * @param signingSecret the signing secret of the Slack app
+     * @see SlackEventsRestHandler
+     * @see com.xatkit.core.server.XatkitServer
+     */
+    private void registerEventsRestHandler(String signingSecret) {
+        SlackEventDecoder decoder = new SlackEventDecoder(SlackUtils.MESSAGE_TYPE, SlackUtils.USER_CHANGE_TYPE,
+                SlackUtils.CHANNEL_CREATED_TYPE, SlackUtils.CHANNEL_RENAME_TYPE, SlackUtils.CHANNEL_DELETED_TYPE,
+                SlackUtils.IM_CREATED_TYPE, SlackUtils.GROUP_JOINED_TYPE, SlackUtils.MEMBER_JOINED_CHANNEL_TYPE);
+        this.xatkitBot.getXatkitServer().registerRestEndpoint(HttpMethod.POST, SlackUtils.EVENTS_API_ENDPOINT,
+                new SlackEventsRestHandler(signingSecret, decoder, this::notifyEvent));
+    }
+
+    /**
+     * Notifies the started {@link SlackIntentProvider}s that the provided {@code event} has been received.
+     * <p>
+     * This method is called by the Events API server threads, the {@link SlackIntentProvider}s drop the event
+     * instead of blocking the acknowledgment of the request if their dispatch queue is full.
+     *
+     * @param event    the received {@link SlackEvent}
+     * @param rawEvent the raw payload the {@code event} has been decoded from
+     */
+    private void notifyEvent(SlackEvent event, String rawEvent) {
+        this.getEventProviderMap().forEach((providerName, providerThread) -> {
+            if (providerThread.getRuntimeEventProvider() instanceof SlackIntentProvider) {
+                ((SlackIntentProvider) providerThread.getRuntimeEventProvider()).notifyEvent(event, rawEvent,
+                        false);
+            }
+        });
+    }
+
+    /**
+     * Notifies the started {@link com.xatkit.core.platform.io.RuntimeEventProvider}s that the Slack app has been
+     * installed in a new workspace.
+     *
+     * @param teamId     the identifier of the workspace where the app has been installed
+     * @param slackToken the Slack {@code token} associated to the new installation
+     */
+    private void notifyNewInstallation(String teamId, String slackToken) {
+        this.getEventProviderMap().forEach((providerName, providerThread) -> {
+            if (providerThread.getRuntimeEventProvider() instanceof SlackIntentProvider) {
+                SlackIntentProvider slackIntentProvider =
+                        (SlackIntentProvider) providerThread.getRuntimeEventProvider();
+                slackIntentProvider.notifyNewInstallation(teamId, slackToken);
+            }
+        });
+    }
+
+    /**
+     * Returns the {@link Map} containing the Slack {@code token}s associated to the identifiers of the workspaces
+     * where the Slack app is installed.
+     *
+     * @return the {@link Map} containing the Slack {@code token}s associated to the identifiers of the workspaces
+     * where the Slack app is installed
+     */
+    public Map<String, String> getTeamIdToSlackTokenMap() {
+        return this.teamIdToSlackToken;
+    }
+
+    /**
+     * Returns the Slack {@code token} associated to the provided {@code teamId}.
+     *
+     * @param teamId a workspace identifier
+     * @return the Slack {@code token} associated to the provided {@code teamId} if it exists, {@code null} otherwise
+     */
+    public String getSlackToken(String teamId) {
+        return teamIdToSlackToken.get(teamId);
+    }
+
+    /**
+     * Returns the Slack API client.
+     *
+     * @return the Slack API client.
+     */
+    public Slack getSlack() {
+        return slack;
+    }
+
+    /**
+     * Returns the {@link SlackOutboundQueue} delivering the messages and files posted by the platform.
+     * <p>
+     * Actions posting to a channel should submit their Slack API calls to this queue instead of calling
+     * {@link #getSlack()} directly, in order to honor the Slack rate limits. The returned queue also provides the
+     * queue depth and delay metrics of the platform.
+     *
+     * @return the {@link SlackOutboundQueue}
+     */
+    public SlackOutboundQueue getOutboundQueue() {
+        return outboundQueue;
+    }
+
+    /**
+     * Returns the {@link SlackReplyCoalescer} merging the text messages posted to the same channel.
+     *
+     * @return the {@link SlackReplyCoalescer}, or {@code null} if coalescing is disabled
+     * @see SlackUtils#COALESCING_WINDOW_KEY
+     */
+    public @Nullable SlackReplyCoalescer getReplyCoalescer() {
+        return replyCoalescer;
+    }
+
+    /**
+     * Returns the {@link SlackExternalFileUploader} streaming the files posted by the platform.
+     *
+     * @return the {@link SlackExternalFileUploader}
+     */
+    public SlackExternalFileUploader getFileUploader() {
+        return fileUploader;
+    }
+
+    /**
+     * Returns the {@link SlackFileUploadCache} de-duplicating the files uploaded by the platform.
+     * <p>
+     * The returned cache exposes the number of de-duplicated uploads and the number of bytes they saved.
+     *
+     * @return the {@link SlackFileUploadCache}, or {@code null} if upload de-duplication is disabled
+     * @see SlackUtils#UPLOAD_CACHE_MAX_SIZE_KEY
+     */
+    public @Nullable SlackFileUploadCache getUploadCache() {
+        return uploadCache;
+    }
+
+    /**
+     * Returns the {@link StateContext} associated to the provided {@code teamId} and {@code channel}.
+     * <p>
+     * The provided {@code teamId} <b>must</b> be a valid workspace identifier, while the provided {@code channel}
+     * can be an identifier or a channel name.
+     *
+     * @param teamId  the identifier of the workspace to create a session for
+     * @param channel the workspace's {@code channel} to create a session for
+     * @return the {@link StateContext} associated to the provided {@code teamId} and {@code channel}
+     */
+    public StateContext createSessionFromChannel(String teamId, String channel) {
+        return this.xatkitBot.getOrCreateContext(teamId + "@" + this.getChannelId(teamId, channel));
+    }
+
+    /**
+     * Retrieves the User ID associated to the provided {@code username} from the workspace identified with {@code
+     * teamId}.
+     * <p>
+     * This method looks for any user with a {@code id}, {@code name}, {@code realName}, or {@code displayName}
+     * matching the provided {@code username} in the {@link SlackUserDirectory} of the workspace, and returns its
+     * identifier.
+     *
+     * @param teamId   the identifier of the workspace containing the user to retrieve the ID of
+     * @param username the name of the user to retrieve the ID of
+     * @return the User ID if it exists
+     * @throws XatkitException      if an error occurred when accessing the Slack API
+     * @throws NullPointerException if the provided {@code teamId} or {@code username} is {@code null}
+     * @see #getUserDirectory(String)
+     */
+    public String getUserId(String teamId, String username) {
+        checkNotNull(teamId, "Cannot retrieve the user ID from the provided team %s", teamId);
+        checkNotNull(username, "Cannot retrieve the user ID from the provided username %s", username);
+        return getUserDirectory(teamId).findUserId(username);
+    }
+
+    /**
+     * Returns the {@link SlackUserDirectory} of the workspace identified by the provided {@code teamId}.
+     * <p>
+     * The directory is loaded from the Slack API the first time it is accessed, and is then refreshed in the
+     * background every {@link SlackUtils#USER_DIRECTORY_REFRESH_INTERVAL_KEY} ms. Concurrent accesses to a
+     * directory that is not loaded yet share a single load.
+     * <p>
+     * <b>Note</b>: the users of a directory restored from a warm-start snapshot only define their ID, name, real
+     * name, and display name (the other fields, such as the email or the time zone, are {@code null}) until the
+     * background revalidation of the workspace reloads the directory from the Slack API.
+     *
+     * @param teamId the identifier of the workspace to retrieve the directory of
+     * @return the {@link SlackUserDirectory} of the workspace
+     * @throws XatkitException if an error occurred when loading the directory
+     */
+    public SlackUserDirectory getUserDirectory(String teamId) {
+        touchWorkspace(teamId);
+        SlackUserDirectory directory = this.userDirectories.get(teamId);
+        if (nonNull(directory)) {
+            return directory;
+        }
+        CompletableFuture<SlackUserDirectory> load = new CompletableFuture<>();
+        CompletableFuture<SlackUserDirectory> pendingLoad = this.pendingDirectoryLoads.putIfAbsent(teamId, load);
+        if (nonNull(pendingLoad)) {
+            Log.debug("Waiting for the pending load of the user directory of workspace {0}", teamId);
+            return awaitPending(pendingLoad);
+        }
+        try {
+            /*
+             * The directory may have been stored between the first lookup and the registration of the load.
+             */
+            directory = this.userDirectories.get(teamId);
+            if (isNull(directory)) {
+                directory = loadUserDirectory(teamId);
+                SlackUserDirectory storedDirectory = this.userDirectories.putIfAbsent(teamId, directory);
+                if (nonNull(storedDirectory)) {
+                    directory = storedDirectory;
+                }
+            }
+            load.complete(directory);
+            return directory;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.pendingDirectoryLoads.remove(teamId, load);
+        }
+    }
+
+    /**
+     * Loads the {@link SlackUserDirectory} of the workspace identified by the provided {@code teamId}.
+     *
+     * @param teamId the identifier of the workspace to load the directory of
+     * @return the loaded {@link SlackUserDirectory}
+     * @throws XatkitException if the bot is not installed in the workspace or if an error occurred when accessing
+     *                         the Slack API
+     */
+    private SlackUserDirectory loadUserDirectory(String teamId) {
+        String teamSlackToken = getSlackToken(teamId);
+        if (isNull(teamSlackToken)) {
+            throw new XatkitException(MessageFormat.format("Cannot load the users of team {0}, the bot is not " +
+                    "installed in this workspace", teamId));
+        }
+        return SlackUserDirectory.load(teamId, cursor -> {
+            acquireTier2Permit(teamId);
+            return slack.methods().usersList(UsersListRequest.builder()
+                    .token(teamSlackToken)
+                    .cursor(cursor)
+                    .limit(SlackUserDirectory.PAGE_SIZE)
+                    .build());
+        });
+    }
+
+    /**
+     * Reloads the {@link SlackUserDirectory} of the workspace identified by the provided {@code teamId}.
+     * <p>
+     * The reloaded directory only replaces the stored one: it is not stored if the directory of the workspace has
+     * been removed during the reload (e.g. because the workspace has been evicted), otherwise the evicted
+     * directory would be kept forever.
+     *
+     * @param teamId the identifier of the workspace to reload the directory of
+     * @return the reloaded {@link SlackUserDirectory}
+     * @throws XatkitException if the bot is not installed in the workspace or if an error occurred when accessing
+     *                         the Slack API
+     * @see #evictIdleWorkspaces()
+     */
+    private SlackUserDirectory reloadUserDirectory(String teamId) {
+        SlackUserDirectory directory = loadUserDirectory(teamId);
+        this.userDirectories.computeIfPresent(teamId, (id, currentDirectory) -> directory);
+        return directory;
+    }
+
+    /**
+     * Reloads the {@link SlackUserDirectory} instances that have already been loaded.
+     * <p>
+     * A directory that cannot be reloaded is kept until the next refresh.
+     */
+    private void refreshUserDirectories() {
+        for (String teamId : this.userDirectories.keySet()) {
+            try {
+                reloadUserDirectory(teamId);
+                saveSnapshot(teamId);
+            } catch (RuntimeException e) {
+                Log.error("Cannot refresh the user directory of workspace {0}, see the attached exception", teamId,
+                        e);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method also stops the background tasks of the platform (e.g. the refresh of the
+     * {@link SlackUserDirectory} instances). Pending asynchronous actions and queued messages are still
+     * delivered, but new ones are rejected.
+     */
+    @Override
+    public void shutdown() {
+        if (nonNull(this.backgroundExecutor)) {
+            this.backgroundExecutor.shutdownNow();
+        }
+        if (nonNull(this.ioExecutor)) {
+            this.ioExecutor.shutdown();
+        }
+        if (nonNull(this.outboundExecutor)) {
+            /*
+             * Deliver the queued messages, the threads are daemon ones and do not prevent the JVM from exiting.
+             */
+            this.outboundExecutor.shutdown();
+        }
+        super.shutdown();
+    }
+
+    /**
+     * Retrieves the ID of the {@code channelName} from the workspace identified with {@code teamId}.
+     * <p>
+     * This method supports channel IDs, names, as well as user names, real names, and display names (in this case
+     * the private {@code im} channel ID between the bot and the user is returned). The returned ID can be used to
+     * send messages to the channel.
+     * <p>
+     * The channels of the workspace are reloaded if the provided {@code channelName} is not found, unless the name
+     * could not be resolved by a recent reload (see {@link SlackChannelMissCache}).
+     *
+     * @param teamId      the identifier of the workspace containing the channel to retrieve the identifier
+     * @param channelName the name of the channel to retrieve the ID from
+     * @return the channel ID if it exists
+     * @throws XatkitException if the provided {@code teamId} does not correspond to a valid Slack app installation,
+     *                         if the channels of the workspace cannot be loaded, or if the provided {@code
+     *                         channelName} does not correspond to any channel accessible by the bot
+     */
+    public String getChannelId(String teamId, String channelName) {
+        String id = getActiveChannelIndex(teamId).getChannelId(channelName);
+        if (isNull(id)) {
+            /*
+             * Check if the channel has been created since the previous lookup. This is not done by default because
+             * it reloads all the channel and may take some time.
+             */
+            if (!this.channelMissCache.contains(teamId, channelName)) {
+                reloadChannels(teamId);
+                id = getActiveChannelIndex(teamId).getChannelId(channelName);
+                if (isNull(id)) {
+                    this.channelMissCache.add(teamId, channelName);
+                }
+            }
+            if (isNull(id)) {
+                /*
+                 * Cannot find the channel after a fresh lookup.
+                 */
+                throw new XatkitException(MessageFormat.format("Cannot find the channel {0}, please ensure that " +
+                        "the provided channel is either a valid channel ID, name, or a valid user name, real name, " +
+                        "or display name", channelName));
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Returns whether the {@code channelId} from the workspace {@code teamId} is a group channel (that can contain
+     * multiple users) or not.
+     * <p>
+     * The channels of the workspace are reloaded if the provided {@code channelId} is not found, unless the
+     * identifier could not be resolved by a recent reload (see {@link SlackChannelMissCache}).
+     *
+     * @param teamId    the identifier of the workspace containing the channel to check
+     * @param channelId the identifier of the Slack channel to check
+     * @return {@code true} if the channel is a group channel, {@code false} otherwise
+     * @throws XatkitException if the provided {@code teamId} does not correspond to a valid Slack app installation,
+     *                         or if the channels of the workspace cannot be loaded
+     */
+    public boolean isGroupChannel(String teamId, String channelId) {
+        SlackChannelIndex channelIndex = getActiveChannelIndex(teamId);
+        /*
+         * First check if it's a user channel, if so no need to do additional calls on the Slack API, we know it's
+         * not a group channel.
+         */
+        if (channelIndex.isUserChannel(channelId)) {
+            return false;
+        } else {
+            if (channelIndex.isGroupChannel(channelId)) {
+                return true;
+            } else {
+                if (this.channelMissCache.contains(teamId, channelId)) {
+                    return false;
+                }
+                /*
+                 * Reload the channels in case the group channel has been created since the last check.
                  */
-                workspaceChannelNames.put(conversationId, conversationId);
-                if (nonNull(conversation.getName())) {
-                    workspaceChannelNames.put(conversation.getName(), conversation.getId());
-                    workspaceGroupChannels.add(conversation.getId());
-                    Log.debug("Conversation name: {0}, ID: {1}", conversation.getName(), conversationId);
+                reloadChannels(teamId);
+                channelIndex = getActiveChannelIndex(teamId);
+                if (channelIndex.isGroupChannel(channelId)) {
+                    return true;
+                }
+                if (!channelIndex.isUserChannel(channelId)) {
+                    this.channelMissCache.add(teamId, channelId);
+                }
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns the {@link SlackChannelIndex} of the workspace {@code teamId}, bootstrapping the workspace if needed.
+     * <p>
+     * The channels of the workspace are initialized if they have not been loaded yet (e.g. if the workspace is
+     * bootstrapped lazily, or if it has been evicted because it was idle). Concurrent accesses to the same
+     * workspace share a single initialization.
+     *
+     * @param teamId the identifier of the workspace
+     * @return the {@link SlackChannelIndex} of the workspace
+     * @throws XatkitException if the provided {@code teamId} does not correspond to a valid Slack app installation,
+     *                         or if the channels of the workspace cannot be loaded
+     * @see SlackUtils#BOOTSTRAP_LAZY_KEY
+     */
+    private SlackChannelIndex getActiveChannelIndex(String teamId) {
+        touchWorkspace(teamId);
+        SlackChannelIndex channelIndex = this.channelIndexes.get(teamId);
+        if (nonNull(channelIndex)) {
+            return channelIndex;
+        }
+        if (isNull(getSlackToken(teamId))) {
+            throw new XatkitException(MessageFormat.format("Unknown teamId {0}, please ensure that the bot is " +
+                    "installed in this workspace", teamId));
+        }
+        runSingleFlight(teamId, () -> {
+            if (!this.channelIndexes.containsKey(teamId)) {
+                Log.info("Bootstrapping workspace {0} on first access", teamId);
+                bootstrapChannels(teamId);
+            }
+        });
+        channelIndex = this.channelIndexes.get(teamId);
+        return isNull(channelIndex) ? SlackChannelIndex.EMPTY : channelIndex;
+    }
+
+    /**
+     * Records an access to the workspace {@code teamId}.
+     * <p>
+     * This method does nothing if the workspaces are not bootstrapped lazily (they are never evicted).
+     *
+     * @param teamId the identifier of the accessed workspace
+     * @see #evictIdleWorkspaces()
+     */
+    private void touchWorkspace(String teamId) {
+        if (lazyBootstrap && nonNull(teamId)) {
+            this.lastAccessTimes.put(teamId, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Evicts the channels and users of the workspaces that have not been accessed for
+     * {@link SlackUtils#IDLE_EVICTION_TIMEOUT_KEY} ms.
+     * <p>
+     * Evicted workspaces are bootstrapped again the next time they are accessed. Workspaces with a pending channel
+     * load are not evicted.
+     */
+    private void evictIdleWorkspaces() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Long> entry : this.lastAccessTimes.entrySet()) {
+            String teamId = entry.getKey();
+            long lastAccessTime = entry.getValue();
+            /*
+             * Only remove the entry if it has not been updated concurrently, otherwise the workspace is being
+             * accessed.
+             */
+            if (now - lastAccessTime >= idleEvictionTimeout && !this.pendingChannelReloads.containsKey(teamId)
+                    && this.lastAccessTimes.remove(teamId, lastAccessTime)) {
+                this.channelIndexes.remove(teamId);
+                this.userDirectories.remove(teamId);
+                this.channelLoadStatistics.remove(teamId);
+                Log.info("Evicted the idle workspace {0} (last accessed {1}ms ago)", teamId, now - lastAccessTime);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the channels of the workspace {@code teamId} are loaded.
+     * <p>
+     * Workspaces that are bootstrapped lazily are not loaded until they are accessed, and are unloaded when they
+     * are evicted.
+     *
+     * @param teamId the identifier of the workspace
+     * @return {@code true} if the channels of the workspace are loaded, {@code false} otherwise
+     * @see SlackUtils#BOOTSTRAP_LAZY_KEY
+     */
+    public boolean isWorkspaceLoaded(String teamId) {
+        return this.channelIndexes.containsKey(teamId);
+    }
+
+    /**
+     * Returns the {@link SlackChannelIndex} of the workspace identified by the provided {@code teamId}.
+     * <p>
+     * The returned index is an immutable snapshot: it is not updated when the channels of the workspace are
+     * reloaded.
+     *
+     * @param teamId the identifier of the workspace
+     * @return the {@link SlackChannelIndex} of the workspace, or {@code null} if the bot is not installed in the
+     * workspace
+     */
+    public @Nullable SlackChannelIndex getChannelIndex(String teamId) {
+        return this.channelIndexes.get(teamId);
+    }
+
+    /**
+     * Applies the provided {@code update} to the {@link SlackChannelIndex} of the workspace {@code teamId}.
+     * <p>
+     * This method is used to maintain the index incrementally from the channel events received from the Slack API,
+     * instead of reloading all the channels of the workspace. The update is applied atomically, and is ignored if
+     * the channels of the workspace have not been loaded yet (the next load will contain the updated channels).
+     *
+     * @param teamId the identifier of the workspace to update the channel index of
+     * @param update the function computing the updated {@link SlackChannelIndex} from the current one
+     */
+    public void updateChannelIndex(@NonNull String teamId, @NonNull UnaryOperator<SlackChannelIndex> update) {
+        this.channelIndexes.computeIfPresent(teamId, (id, channelIndex) -> update.apply(channelIndex));
+    }
+
+    /**
+     * Returns the {@link SlackChannelMissCache} storing the channel names and identifiers that cannot be resolved.
+     *
+     * @return the {@link SlackChannelMissCache}
+     */
+    public SlackChannelMissCache getChannelMissCache() {
+        return this.channelMissCache;
+    }
+
+    /**
+     * Reloads the channels of the workspace {@code teamId}, or waits for the pending reload of these channels.
+     * <p>
+     * This method ensures that concurrent lookups missing a channel of the same workspace (e.g. a burst of messages
+     * from a newly created channel) share a single reload.
+     *
+     * @param teamId the identifier of the workspace to reload the channels of
+     * @throws XatkitException if the bot is not installed in the workspace or if the channels cannot be loaded
+     * @see #loadChannels(String)
+     */
+    private void reloadChannels(String teamId) {
+        runSingleFlight(teamId, () -> loadChannels(teamId));
+    }
+
+    /**
+     * Runs the provided channel loading {@code task} for the workspace {@code teamId}, or waits for the pending
+     * one.
+     * <p>
+     * At most one channel loading task is executed for a given workspace at a time. Callers arriving while a task
+     * is running wait for its completion instead of running their own.
+     *
+     * @param teamId the identifier of the workspace to load the channels of
+     * @param task   the task loading the channels
+     * @throws RuntimeException if the executed (or awaited) task failed
+     */
+    private void runSingleFlight(String teamId, Runnable task) {
+        CompletableFuture<Void> reload = new CompletableFuture<>();
+        CompletableFuture<Void> pendingReload = this.pendingChannelReloads.putIfAbsent(teamId, reload);
+        if (nonNull(pendingReload)) {
+            Log.debug("Waiting for the pending reload of the channels of workspace {0}", teamId);
+            awaitPending(pendingReload);
+            return;
+        }
+        try {
+            task.run();
+            reload.complete(null);
+        } catch (RuntimeException e) {
+            reload.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.pendingChannelReloads.remove(teamId, reload);
+        }
+    }
+
+    /**
+     * Waits for the provided {@code pending} task started by another caller and returns its result.
+     *
+     * @param pending the {@link CompletableFuture} of the pending task
+     * @param <T>     the type of the result of the task
+     * @return the result of the task
+     * @throws RuntimeException if the awaited task failed
+     */
+    private static <T> T awaitPending(CompletableFuture<T> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Loads the channels associated to the workspace's {@code teamId} and store channel-related information.
+     * <p>
+     * The stored information can be retrieved with dedicated methods, and reduce the number of calls to the Slack API.
+     * <p>
+     * The conversations are retrieved page by page from {@code conversations.list}. The names of the users
+     * associated to direct message channels are resolved from the {@link SlackUserDirectory} of the workspace, which
+     * is loaded concurrently with the conversations if needed. The directory is reloaded once if it does not contain
+     * the user of a direct message channel (e.g. if the user joined the workspace after the last directory refresh).
+     * <p>
+     * Calls to the Slack API are throttled by the Tier 2 {@link SlackRateLimiter} of the workspace. The statistics
+     * of the load can be retrieved with {@link #getChannelLoadStatistics(String)}.
+     * <p>
+     * The current {@link SlackChannelIndex} of the workspace is left untouched if the load fails: a workspace that
+     * has never been loaded stays unloaded, and is loaded again by the next lookup.
+     *
+     * @throws XatkitException if the bot is not installed in the workspace or if the channels cannot be retrieved
+     * @see #getChannelId(String, String)
+     * @see #isGroupChannel(String, String)
+     */
+    private void loadChannels(String teamId) {
+        String teamSlackToken = teamIdToSlackToken.get(teamId);
+        if (isNull(teamSlackToken)) {
+            throw new XatkitException(MessageFormat.format("Cannot load the channels for team {0}, the bot is not " +
+                    "installed in this workspace", teamId));
+        }
+        long start = System.currentTimeMillis();
+        SlackUserDirectory previousDirectory = this.userDirectories.get(teamId);
+        /*
+         * Revalidations run in the backgroundExecutor: the directory is loaded in the current thread if no thread
+         * of the executor is available, instead of waiting for a task queued behind the current one.
+         */
+        SlackForkedTask<SlackUserDirectory> directoryTask = SlackForkedTask.fork(() -> getUserDirectory(teamId),
+                backgroundExecutor);
+        List<Conversation> conversations = new ArrayList<>();
+        int conversationsListCalls;
+        SlackUserDirectory directory;
+        try {
+            conversationsListCalls = fetchConversations(teamId, teamSlackToken, conversations);
+            directory = directoryTask.join();
+        } catch (IOException | SlackApiException | XatkitException | CompletionException e) {
+            throw new XatkitException(MessageFormat.format("Cannot load the channels of workspace {0}", teamId), e);
+        }
+        boolean directoryReloaded = directory != previousDirectory;
+        int usersListCalls = directoryReloaded ? directory.getPageCount() : 0;
+        SlackChannelIndex.Builder channelIndexBuilder = new SlackChannelIndex.Builder();
+        for (Conversation conversation : conversations) {
+            String conversationId = conversation.getId();
+            if (nonNull(conversation.getName())) {
+                channelIndexBuilder.groupChannel(conversationId, conversation.getName());
+                Log.debug("Conversation name: {0}, ID: {1}", conversation.getName(), conversationId);
+            } else {
+                String userId = conversation.getUser();
+                User user = directory.getUser(userId);
+                if (isNull(user) && !directoryReloaded) {
+                    /*
+                     * The user may have joined the workspace after the last directory refresh.
+                     */
+                    directoryReloaded = true;
+                    try {
+                        directory = reloadUserDirectory(teamId);
+                        usersListCalls += directory.getPageCount();
+                        user = directory.getUser(userId);
+                    } catch (XatkitException e) {
+                        Log.error("Cannot reload the user directory of workspace {0}, see the attached exception",
+                                teamId, e);
+                    }
+                }
+                if (isNull(user)) {
+                    Log.warn("Cannot find the user {0} of the conversation {1}", userId, conversationId);
                 } else {
-                    String userId = conversation.getUser();
-                    UsersInfoResponse userResponse = slack.methods().usersInfo(UsersInfoRequest.builder()
-                            .token(teamSlackToken)
-                            .user(userId)
-                            .build());
-                    logSlackApiResponse(userResponse);
-                    workspaceChannelNames.put(userResponse.getUser().getName(), conversationId);
-                    workspaceChannelNames.put(userResponse.getUser().getRealName(), conversationId);
-                    workspaceChannelNames.put(userResponse.getUser().getProfile().getDisplayName(), conversationId);
-                    workspaceUserChannels.add(conversationId);
-                    Log.debug("User name: {0}", userResponse.getUser().getName());
-                    Log.debug("User real name: {0}", userResponse.getUser().getRealName());
-                    Log.debug("User display name: {0}", userResponse.getUser().getProfile().getDisplayName());
+                    Log.debug("User name: {0}, ID: {1}", user.getName(), conversationId);
+                }
+                channelIndexBuilder.userChannel(conversationId, user);
+            }
+        }
+        SlackChannelIndex channelIndex = channelIndexBuilder.build();
+        this.channelIndexes.put(teamId, channelIndex);
+        long end = System.currentTimeMillis();
+        SlackChannelLoadStatistics statistics = new SlackChannelLoadStatistics(end, end - start,
+                conversationsListCalls, usersListCalls, channelIndex.getGroupChannelIds().size(),
+                channelIndex.getUserChannelIds().size());
+        this.channelLoadStatistics.put(teamId, statistics);
+        Log.info("Loaded the channels of workspace {0}: {1}", teamId, statistics);
+        saveSnapshot(teamId);
+    }
+
+    /**
+     * Initializes the channels of the newly installed workspace {@code teamId}.
+     * <p>
+     * This method bootstraps the channels of the workspace, unless the workspaces are bootstrapped lazily. In this
+     * case the channels are loaded when the workspace is first accessed.
+     * <p>
+     * A failed bootstrap does not prevent the installation of the workspace: the workspace is left unloaded, and its
+     * channels are loaded by the first lookup (which reports the error if the Slack API is still failing).
+     *
+     * @param teamId the identifier of the workspace to initialize the channels of
+     * @see #bootstrapChannels(String)
+     * @see SlackUtils#BOOTSTRAP_LAZY_KEY
+     */
+    private void initializeChannels(String teamId) {
+        if (lazyBootstrap) {
+            Log.debug("Deferring the bootstrap of workspace {0} to its first access", teamId);
+            return;
+        }
+        try {
+            bootstrapChannels(teamId);
+        } catch (XatkitException e) {
+            Log.error("Cannot bootstrap the channels of workspace {0}, they will be loaded on first access, see the " +
+                    "attached exception", teamId, e);
+        }
+    }
+
+    /**
+     * Bootstraps the channels of the workspace {@code teamId}.
+     * <p>
+     * The channels and users of the workspace are restored from its warm-start snapshot if it exists, and are then
+     * revalidated against the Slack API in the background. The channels are loaded from the Slack API otherwise.
+     *
+     * @param teamId the identifier of the workspace to bootstrap the channels of
+     * @throws XatkitException if the bot is not installed in the workspace or if the channels cannot be loaded
+     * @see SlackUtils#WARM_START_DIRECTORY_KEY
+     */
+    private void bootstrapChannels(String teamId) {
+        if (restoreSnapshot(teamId)) {
+            backgroundExecutor.execute(() -> {
+                try {
+                    reloadChannels(teamId);
+                } catch (RuntimeException e) {
+                    Log.error("Cannot revalidate the channels of workspace {0}, see the attached exception", teamId,
+                            e);
                 }
+            });
+        } else {
+            loadChannels(teamId);
+        }
+    }
+
+    /**
+     * Returns the warm-start snapshot file of the workspace {@code teamId}.
+     *
+     * @param teamId the identifier of the workspace
+     * @return the snapshot file, or {@code null} if warm-start snapshots are disabled or if the {@code teamId}
+     * cannot be used as a file name
+     */
+    private @Nullable Path getSnapshotFile(String teamId) {
+        if (isNull(warmStartDirectory) || !teamId.matches("[A-Za-z0-9_-]+")) {
+            return null;
+        }
+        return warmStartDirectory.resolve(teamId + ".snapshot");
+    }
+
+    /**
+     * Restores the channels and users of the workspace {@code teamId} from its warm-start snapshot.
+     *
+     * @param teamId the identifier of the workspace to restore
+     * @return {@code true} if the workspace has been restored, {@code false} if there is no valid snapshot for the
+     * workspace
+     */
+    private boolean restoreSnapshot(String teamId) {
+        Path snapshotFile = getSnapshotFile(teamId);
+        if (isNull(snapshotFile) || !Files.isRegularFile(snapshotFile)) {
+            return false;
+        }
+        SlackWorkspaceSnapshot snapshot;
+        try {
+            snapshot = SlackWorkspaceSnapshot.read(snapshotFile);
+        } catch (IOException e) {
+            Log.warn("Cannot read the warm-start snapshot {0}, the workspace {1} will be loaded from the Slack API " +
+                    "({2})", snapshotFile, teamId, e.getMessage());
+            return false;
+        }
+        if (!teamId.equals(snapshot.getTeamId())) {
+            Log.warn("The warm-start snapshot {0} does not correspond to the workspace {1}, ignoring it",
+                    snapshotFile, teamId);
+            return false;
+        }
+        this.userDirectories.put(teamId, snapshot.getUserDirectory());
+        this.channelIndexes.put(teamId, snapshot.getChannelIndex());
+        Log.info("Restored workspace {0} from its warm-start snapshot ({1} users, {2}ms old)", teamId,
+                snapshot.getUserDirectory().size(), System.currentTimeMillis() - snapshot.getSnapshotTime());
+        return true;
+    }
+
+    /**
+     * Saves the channels and users of the workspace {@code teamId} in its warm-start snapshot.
+     * <p>
+     * The snapshot is written in the background. This method does nothing if warm-start snapshots are disabled or
+     * if the channels and users of the workspace have not been loaded.
+     *
+     * @param teamId the identifier of the workspace to save
+     */
+    private void saveSnapshot(String teamId) {
+        Path snapshotFile = getSnapshotFile(teamId);
+        if (isNull(snapshotFile)) {
+            return;
+        }
+        backgroundExecutor.execute(() -> {
+            SlackChannelIndex channelIndex = this.channelIndexes.get(teamId);
+            SlackUserDirectory userDirectory = this.userDirectories.get(teamId);
+            if (isNull(channelIndex) || channelIndex == SlackChannelIndex.EMPTY || isNull(userDirectory)) {
+                return;
+            }
+            try {
+                new SlackWorkspaceSnapshot(teamId, System.currentTimeMillis(), channelIndex, userDirectory)
+                        .write(snapshotFile);
+                Log.debug("Saved the warm-start snapshot of workspace {0}", teamId);
+            } catch (IOException e) {
+                Log.error("Cannot save the warm-start snapshot of workspace {0}, see the attached exception", teamId,
+                        e);
+            }
+        });
+    }
+
+    /**
+     * Fetches all the conversations of the workspace identified by the provided {@code teamId}.
+     * <p>
+     * This method follows the {@code next_cursor} of the {@code conversations.list} pages. Pages are fetched
+     * sequentially: the cursor of a page is only known once the previous page has been retrieved.
+     *
+     * @param teamId        the identifier of the workspace to fetch the conversations of
+     * @param token         the Slack {@code token} of the workspace
+     * @param conversations the {@link List} to add the fetched conversations to
+     * @return the number of {@code conversations.list} calls performed
+     * @throws IOException       if an error occurred when reaching the Slack API
+     * @throws SlackApiException if the Slack API returned an error
+     * @throws XatkitException   if the Slack API returned an error response
+     */
+    private int fetchConversations(String teamId, String token, List<Conversation> conversations)
+            throws IOException, SlackApiException {
+        String cursor = null;
+        int calls = 0;
+        do {
+            acquireTier2Permit(teamId);
+            ConversationsListResponse response = slack.methods().conversationsList(ConversationsListRequest.builder()
+                    .token(token)
+                    .types(Arrays.asList(ConversationType.PUBLIC_CHANNEL, ConversationType.PUBLIC_CHANNEL,
+                            ConversationType.IM, ConversationType.MPIM))
+                    .cursor(cursor)
+                    .limit(CONVERSATIONS_PAGE_SIZE)
+                    .build());
+            calls++;
+            logSlackApiResponse(response);
+            if (!response.isOk()) {
+                throw new XatkitException(MessageFormat.format("Cannot list the conversations of workspace {0}, the " +
+                        "Slack API returned the error {1}", teamId, response.getError()));
+            }
+            if (nonNull(response.getChannels())) {
+                conversations.addAll(response.getChannels());
+            }
+            cursor = isNull(response.getResponseMetadata()) ? null : response.getResponseMetadata().getNextCursor();
+        } while (nonNull(cursor) && !cursor.isEmpty());
+        return calls;
+    }
+
+    /**
+     * Returns the statistics of the last channel load of the workspace identified by the provided {@code teamId}.
+     *
+     * @param teamId the identifier of the workspace
+     * @return the {@link SlackChannelLoadStatistics} of the last load, or {@code null} if the channels of the
+     * workspace have not been loaded
+     */
+    public @Nullable SlackChannelLoadStatistics getChannelLoadStatistics(String teamId) {
+        return this.channelLoadStatistics.get(teamId);
+    }
+
+    /**
+     * Acquires a permit from the Tier 2 {@link SlackRateLimiter} of the workspace identified by the provided {@code
+     * teamId}.
+     *
+     * @param teamId the identifier of the workspace
+     * @throws InterruptedIOException if the current thread is interrupted while waiting for the permit
+     */
+    private void acquireTier2Permit(String teamId) throws InterruptedIOException {
+        SlackRateLimiter rateLimiter = this.tier2RateLimiters.computeIfAbsent(teamId,
+                id -> new SlackRateLimiter(tier2RequestsPerMinute));
+        try {
+            long waitTime = rateLimiter.acquire();
+            if (waitTime > 0) {
+                Log.debug("Waited {0}ms for the Tier 2 rate limit of workspace {1}", waitTime, teamId);
             }
-        } catch (Exception e) {
-            e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the Slack API rate limit");
         }
     }
 }
@@ -0,0 +1,272 @@
+package com.xatkit.plugins.slack.platform;
+
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.methods.response.chat.ChatPostMessageResponse;
+import com.xatkit.core.XatkitException;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Merges the text messages posted to the same channel within a short window into a single Slack message.
+ * <p>
+ * Each message posted to a {@code (team, channel, thread)} starts a batch if there is no pending one, and the batch
+ * is posted {@code window} ms later. Messages posted to the same {@code (team, channel, thread)} in the meantime are
+ * appended to the batch (separated by a new line), as long as the merged text does not exceed
+ * {@link #MAX_TEXT_LENGTH} characters. All the messages of a batch are completed with the response of the merged
+ * message, meaning that their callers receive the same {@code ts}.
+ * <p>
+ * <b>Note</b>: a caller waiting for its message to be posted cannot post another message in the meantime. This
+ * class merges the messages posted asynchronously (e.g. with
+ * {@link SlackPlatform#replyAsync(com.xatkit.execution.StateContext, String)}) or concurrently by different sessions.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see SlackPlatform#getReplyCoalescer()
+ * @see com.xatkit.plugins.slack.SlackUtils#COALESCING_WINDOW_KEY
+ */
+public class SlackReplyCoalescer {
+
+    /**
+     * The maximum number of characters of a merged message.
+     * <p>
+     * Slack truncates the messages longer than 40000 characters, and recommends to keep them under 4000 characters.
+     * Messages longer than this value are never merged, but are still posted.
+     */
+    public static final int MAX_TEXT_LENGTH = 4000;
+
+    /**
+     * The separator inserted between merged messages.
+     */
+    private static final String SEPARATOR = "\n";
+
+    /**
+     * The {@link ScheduledExecutorService} posting the batches at the end of their window.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The duration (in ms) during which a batch accepts new messages.
+     */
+    private final long window;
+
+    /**
+     * The {@link MessageSender} posting the merged messages.
+     */
+    private final MessageSender sender;
+
+    /**
+     * The pending batches.
+     * <p>
+     * Keys in this {@link Map} are {@code teamId:channelId:threadTs} strings. Batches are only modified within the
+     * atomic operations of this {@link Map}.
+     */
+    private final Map<String, Batch> batches = new ConcurrentHashMap<>();
+
+    /**
+     * The number of messages merged into a previous message.
+     */
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * Constructs a {@link SlackReplyCoalescer} with the provided parameters.
+     *
+     * @param scheduler the {@link ScheduledExecutorService} posting the batches at the end of their window
+     * @param window    the duration (in ms) during which a batch accepts new messages
+     * @param sender    the {@link MessageSender} posting the merged messages
+     * @throws IllegalArgumentException if the provided {@code window} is lower than {@code 1}
+     */
+    public SlackReplyCoalescer(ScheduledExecutorService scheduler, long window, MessageSender sender) {
+        checkArgument(window > 0, "Cannot create a %s with the provided window %s, expected a strictly positive " +
+                "number", SlackReplyCoalescer.class.getSimpleName(), window);
+        this.scheduler = scheduler;
+        this.window = window;
+        this.sender = sender;
+    }
+
+    /**
+     * Submits the provided {@code text} to post in the given {@code channelId}.
+     *
+     * @param teamId    the identifier of the workspace containing the channel
+     * @param channelId the identifier of the channel to post the message to
+     * @param threadTs  the timestamp of the thread to post the message to, or {@code null} to post it in the channel
+     * @param text      the text of the message
+     * @return a {@link CompletableFuture} completed with the response of the (merged) posted message
+     */
+    public CompletableFuture<ChatPostMessageResponse> submit(String teamId, String channelId,
+                                                             @Nullable String threadTs, String text) {
+        String key = teamId + ':' + channelId + ':' + (isNull(threadTs) ? "" : threadTs);
+        Batch[] result = new Batch[1];
+        Batch[] full = new Batch[1];
+        try {
+            batches.compute(key, (k, batch) -> {
+                if (nonNull(batch)
+                        && batch.text.length() + SEPARATOR.length() + text.length() <= MAX_TEXT_LENGTH) {
+                    batch.text.append(SEPARATOR).append(text);
+                    coalescedCount.incrementAndGet();
+                    result[0] = batch;
+                    return batch;
+                }
+                /*
+                 * The pending batch (if any) cannot contain the text, post it right away to preserve the order of
+                 * the messages.
+                 */
+                full[0] = batch;
+                Batch newBatch = new Batch(teamId, channelId, threadTs, text);
+                scheduler.schedule(() -> flush(key, newBatch), window, TimeUnit.MILLISECONDS);
+                result[0] = newBatch;
+                return newBatch;
+            });
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<ChatPostMessageResponse> future = new CompletableFuture<>();
+            future.completeExceptionally(new XatkitException("Cannot post the message, the reply coalescer is shut " +
+                    "down", e));
+            return future;
+        }
+        if (nonNull(full[0])) {
+            post(full[0]);
+        }
+        return result[0].future;
+    }
+
+    /**
+     * Submits the provided {@code text} to post in the given {@code channelId} and waits for the response.
+     *
+     * @param teamId    the identifier of the workspace containing the channel
+     * @param channelId the identifier of the channel to post the message to
+     * @param threadTs  the timestamp of the thread to post the message to, or {@code null} to post it in the channel
+     * @param text      the text of the message
+     * @return the response of the (merged) posted message
+     * @throws IOException       if an error occurred when reaching the Slack API, or if the current thread is
+     *                           interrupted while waiting for the response
+     * @throws SlackApiException if the Slack API returned an error
+     * @see #submit(String, String, String, String)
+     */
+    public ChatPostMessageResponse send(String teamId, String channelId, @Nullable String threadTs, String text)
+            throws IOException, SlackApiException {
+        return SlackOutboundQueue.await(submit(teamId, channelId, threadTs, text));
+    }
+
+    /**
+     * Returns the number of messages merged into a previous message.
+     *
+     * @return the number of merged messages
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * Posts the provided {@code batch} if it is still pending.
+     * <p>
+     * This method does nothing if the {@code batch} has already been posted because it could not contain a new
+     * message.
+     *
+     * @param key   the {@code teamId:channelId:threadTs} key of the {@code batch}
+     * @param batch the {@link Batch} to post
+     */
+    private void flush(String key, Batch batch) {
+        if (batches.remove(key, batch)) {
+            post(batch);
+        }
+    }
+
+    /**
+     * Posts the merged text of the provided {@code batch}.
+     *
+     * @param batch the {@link Batch} to post
+     */
+    private void post(Batch batch) {
+        CompletableFuture<ChatPostMessageResponse> response;
+        try {
+            response = sender.send(batch.teamId, batch.channelId, batch.threadTs, batch.text.toString());
+        } catch (RuntimeException e) {
+            batch.future.completeExceptionally(e);
+            return;
+        }
+        response.whenComplete((r, t) -> {
+            if (nonNull(t)) {
+                batch.future.completeExceptionally(t);
+            } else {
+                batch.future.complete(r);
+            }
+        });
+    }
+
+    /**
+     * Posts a message to a Slack channel.
+     */
+    @FunctionalInterface
+    public interface MessageSender {
+
+        /**
+         * Posts the provided {@code text} to the given {@code channelId}.
+         *
+         * @param teamId    the identifier of the workspace containing the channel
+         * @param channelId the identifier of the channel to post the message to
+         * @param threadTs  the timestamp of the thread to post the message to, or {@code null} to post it in the
+         *                  channel
+         * @param text      the text of the message
+         * @return a {@link CompletableFuture} completed with the response of the Slack API
+         */
+        CompletableFuture<ChatPostMessageResponse> send(String teamId, String channelId, @Nullable String threadTs,
+                                                        String text);
+    }
+
+    /**
+     * The pending messages of a {@code (team, channel, thread)}.
+     */
+    private static class Batch {
+
+        /**
+         * The identifier of the workspace containing the channel.
+         */
+        private final String teamId;
+
+        /**
+         * The identifier of the channel to post the message to.
+         */
+        private final String channelId;
+
+        /**
+         * The timestamp of the thread to post the message to.
+         */
+        private final String threadTs;
+
+        /**
+         * The merged text of the messages.
+         */
+        private final StringBuilder text;
+
+        /**
+         * The {@link CompletableFuture} completed with the response of the merged message.
+         */
+        private final CompletableFuture<ChatPostMessageResponse> future = new CompletableFuture<>();
+
+        /**
+         * Constructs a {@link Batch} with the provided parameters.
+         *
+         * @param teamId    the identifier of the workspace containing the channel
+         * @param channelId the identifier of the channel to post the message to
+         * @param threadTs  the timestamp of the thread to post the message to
+         * @param text      the text of the first message of the batch
+         */
+        private Batch(String teamId, String channelId, @Nullable String threadTs, String text) {
+            this.teamId = teamId;
+            this.channelId = channelId;
+            this.threadTs = threadTs;
+            this.text = new StringBuilder(text);
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.xatkit.plugins.slack.platform;
+
+import fr.inria.atlanmod.commons.log.Log;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+import static fr.inria.atlanmod.commons.Preconditions.checkState;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A Slack message progressively edited as the chunks of a long answer are produced.
+ * <p>
+ * A streaming reply starts from a placeholder message already posted to the channel. The chunks provided with
+ * {@link #append(String)} are buffered, and the message is edited (with {@code chat.update}) at most once every
+ * {@code updateInterval} ms: the chunks appended in the meantime are merged into a single edit. This keeps the
+ * number of edits within the rate limit of the channel, whatever the rate at which chunks are produced.
+ * <p>
+ * When the text grows past {@code maxLength} characters the message is split (preferably on a line break or a
+ * space): the current message is frozen and the rest of the text is posted as a reply in the thread of the
+ * placeholder message (or in the thread containing it).
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see SlackPlatform#streamReply(com.xatkit.execution.StateContext, String)
+ * @see com.xatkit.plugins.slack.SlackUtils#STREAMING_UPDATE_INTERVAL_KEY
+ */
+public class SlackStreamingReply {
+
+    /**
+     * The {@link ScheduledExecutorService} used to schedule the edits of the message.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The minimum duration (in ms) between two edits of the message.
+     */
+    private final long updateInterval;
+
+    /**
+     * The maximum number of characters of a message.
+     */
+    private final int maxLength;
+
+    /**
+     * The timestamp of the thread the overflowing text is posted to.
+     */
+    private final String replyThreadTs;
+
+    /**
+     * The timestamp of the placeholder message.
+     */
+    private final String ts;
+
+    /**
+     * The {@link MessageClient} posting and editing the messages.
+     */
+    private final MessageClient client;
+
+    /**
+     * The text of the message currently edited.
+     * <p>
+     * This field and the following ones are guarded by {@code this}.
+     */
+    private final StringBuilder currentText = new StringBuilder();
+
+    /**
+     * The timestamp of the message currently edited, or {@code null} if the current text has not been posted yet.
+     */
+    private String currentTs;
+
+    /**
+     * The text displayed by the message currently edited.
+     */
+    private String sentText;
+
+    /**
+     * Whether a flush of the message is scheduled.
+     */
+    private boolean flushScheduled;
+
+    /**
+     * Whether a call to the Slack API is in progress.
+     */
+    private boolean inFlight;
+
+    /**
+     * Whether the reply has been completed with {@link #complete()}.
+     */
+    private boolean completed;
+
+    /**
+     * The time (in ms since epoch) at which the last call to the Slack API completed.
+     */
+    private long lastUpdateTime;
+
+    /**
+     * The number of edits sent to the Slack API.
+     */
+    private long updateCount;
+
+    /**
+     * The {@link CompletableFuture} completed when all the text has been posted.
+     */
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    /**
+     * Constructs a {@link SlackStreamingReply} editing the provided placeholder message.
+     *
+     * @param scheduler      the {@link ScheduledExecutorService} used to schedule the edits of the message
+     * @param updateInterval the minimum duration (in ms) between two edits of the message
+     * @param maxLength      the maximum number of characters of a message
+     * @param threadTs       the timestamp of the thread containing the placeholder message, or {@code null} if it
+     *                       is not in a thread
+     * @param ts             the timestamp of the placeholder message
+     * @param placeholder    the text of the placeholder message
+     * @param client         the {@link MessageClient} posting and editing the messages
+     * @throws IllegalArgumentException if the provided {@code updateInterval} is negative or if the provided {@code
+     *                                  maxLength} is lower than {@code 1}
+     */
+    public SlackStreamingReply(ScheduledExecutorService scheduler, long updateInterval, int maxLength,
+                               @Nullable String threadTs, String ts, String placeholder, MessageClient client) {
+        checkArgument(updateInterval >= 0, "Cannot create a %s with the provided update interval %s, expected a " +
+                "positive number", SlackStreamingReply.class.getSimpleName(), updateInterval);
+        checkArgument(maxLength > 0, "Cannot create a %s with the provided maximum length %s, expected a strictly " +
+                "positive number", SlackStreamingReply.class.getSimpleName(), maxLength);
+        this.scheduler = scheduler;
+        this.updateInterval = updateInterval;
+        this.maxLength = maxLength;
+        this.replyThreadTs = isNull(threadTs) || threadTs.isEmpty() ? ts : threadTs;
+        this.ts = ts;
+        this.client = client;
+        this.currentTs = ts;
+        this.sentText = placeholder;
+        this.lastUpdateTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Appends the provided {@code chunk} to the message.
+     * <p>
+     * The message is not edited right away, the edit is scheduled so that it is sent at most {@code
+     * updateInterval} ms after the previous one.
+     *
+     * @param chunk the text to append
+     * @throws IllegalStateException if the reply has already been completed
+     */
+    public synchronized void append(String chunk) {
+        checkState(!completed, "Cannot append the chunk %s, the streaming reply is completed", chunk);
+        currentText.append(chunk);
+        scheduleFlush();
+    }
+
+    /**
+     * Completes the reply.
+     * <p>
+     * The remaining text is posted, and no chunk can be appended to the reply once it is completed.
+     *
+     * @return a {@link CompletableFuture} completed when all the text has been posted
+     */
+    public synchronized CompletableFuture<Void> complete() {
+        completed = true;
+        scheduleFlush();
+        return completion;
+    }
+
+    /**
+     * Returns the timestamp of the placeholder message.
+     *
+     * @return the timestamp of the placeholder message
+     */
+    public String getTs() {
+        return ts;
+    }
+
+    /**
+     * Returns the number of edits sent to the Slack API.
+     *
+     * @return the number of edits
+     */
+    public synchronized long getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * Schedules a flush of the message if there is no pending one.
+     * <p>
+     * The flush is delayed to respect the {@code updateInterval} since the last call to the Slack API.
+     */
+    private void scheduleFlush() {
+        if (flushScheduled || inFlight || completion.isDone()) {
+            return;
+        }
+        flushScheduled = true;
+        long delay = Math.max(0, lastUpdateTime + updateInterval - System.currentTimeMillis());
+        try {
+            scheduler.schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            flushScheduled = false;
+            completion.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Sends the buffered text to the Slack API.
+     * <p>
+     * This method performs at most one call to the Slack API: it freezes the current message if it is too long,
+     * posts a new message if the current text has not been posted yet, or edits the current message if its text
+     * changed. The next flush is scheduled once the call completes.
+     */
+    private synchronized void flush() {
+        flushScheduled = false;
+        CompletableFuture<?> call;
+        if (currentText.length() > maxLength) {
+            int split = findSplitIndex();
+            String head = currentText.substring(0, split);
+            int cut = split < currentText.length() && isSeparator(currentText.charAt(split)) ? split + 1 : split;
+            currentText.delete(0, cut);
+            String frozenTs = currentTs;
+            boolean changed = !head.equals(sentText);
+            currentTs = null;
+            sentText = "";
+            if (isNull(frozenTs)) {
+                /*
+                 * The previous message has already been frozen (the remaining text still exceeds the maximum
+                 * length), the head is posted as a new message.
+                 */
+                call = client.post(replyThreadTs, head);
+            } else {
+                call = changed ? update(frozenTs, head) : CompletableFuture.completedFuture(null);
+            }
+        } else if (currentText.length() == 0) {
+            /*
+             * Nothing to post, Slack rejects empty messages.
+             */
+            call = null;
+        } else if (isNull(currentTs)) {
+            String text = currentText.toString();
+            call = client.post(replyThreadTs, text).thenAccept(postedTs -> {
+                synchronized (this) {
+                    currentTs = postedTs;
+                    sentText = text;
+                }
+            });
+        } else if (!sentText.contentEquals(currentText)) {
+            String text = currentText.toString();
+            call = update(currentTs, text).thenRun(() -> {
+                synchronized (this) {
+                    sentText = text;
+                }
+            });
+        } else {
+            call = null;
+        }
+        if (isNull(call)) {
+            if (completed) {
+                completion.complete(null);
+            }
+            return;
+        }
+        inFlight = true;
+        call.whenComplete((r, t) -> onCallComplete(t));
+    }
+
+    /**
+     * Edits the message with the provided {@code messageTs}.
+     *
+     * @param messageTs the timestamp of the message to edit
+     * @param text      the new text of the message
+     * @return a {@link CompletableFuture} completed when the message has been edited
+     */
+    private CompletableFuture<?> update(String messageTs, String text) {
+        updateCount++;
+        return client.update(messageTs, text);
+    }
+
+    /**
+     * Handles the completion of a call to the Slack API.
+     *
+     * @param throwable the error thrown by the call, or {@code null} if it succeeded
+     */
+    private synchronized void onCallComplete(@Nullable Throwable throwable) {
+        inFlight = false;
+        lastUpdateTime = System.currentTimeMillis();
+        if (nonNull(throwable)) {
+            Log.error("Cannot update the streaming reply {0}, see the attached exception", ts, throwable);
+            completion.completeExceptionally(throwable);
+            return;
+        }
+        if (completed || currentText.length() > maxLength || !sentText.contentEquals(currentText)) {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Returns the index at which the current text is split when it is too long.
+     * <p>
+     * The text is preferably split on the last line break, then on the last space, of the second half of the
+     * message. Surrogate pairs are never split.
+     *
+     * @return the index at which the current text is split
+     */
+    private int findSplitIndex() {
+        int min = maxLength / 2;
+        for (int i = maxLength; i > min; i--) {
+            if (currentText.charAt(i) == '\n') {
+                return i;
+            }
+        }
+        for (int i = maxLength; i > min; i--) {
+            if (currentText.charAt(i) == ' ') {
+                return i;
+            }
+        }
+        return Character.isHighSurrogate(currentText.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+    }
+
+    /**
+     * Returns whether the provided {@code c} is a separator removed when the text is split.
+     *
+     * @param c the character to check
+     * @return {@code true} if the character is a line break or a space, {@code false} otherwise
+     */
+    private static boolean isSeparator(char c) {
+        return c == '\n' || c == ' ';
+    }
+
+    /**
+     * Posts and edits the messages of a {@link SlackStreamingReply}.
+     * <p>
+     * The returned {@link CompletableFuture}s are completed exceptionally if the Slack API returns an error.
+     */
+    public interface MessageClient {
+
+        /**
+         * Posts the provided {@code text} in the given thread.
+         *
+         * @param threadTs the timestamp of the thread to post the message to
+         * @param text     the text of the message
+         * @return a {@link CompletableFuture} completed with the timestamp of the posted message
+         */
+        CompletableFuture<String> post(String threadTs, String text);
+
+        /**
+         * Replaces the text of the message with the provided {@code ts}.
+         *
+         * @param ts   the timestamp of the message to edit
+         * @param text the new text of the message
+         * @return a {@link CompletableFuture} completed when the message has been edited
+         */
+        CompletableFuture<?> update(String ts, String text);
+    }
+}
@@ -0,0 +1,254 @@
+package com.xatkit.plugins.slack.platform;
+
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.methods.response.users.UsersListResponse;
+import com.github.seratch.jslack.api.model.User;
+import com.xatkit.core.XatkitException;
+import fr.inria.atlanmod.commons.log.Log;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.xatkit.plugins.slack.util.SlackUtils.logSlackApiResponse;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * An immutable snapshot of the users of a Slack workspace.
+ * <p>
+ * The directory is loaded from the paginated {@code users.list} Slack API method, and indexes the users by
+ * identifier, name, real name, and display name. This allows to retrieve a user from any of these values without
+ * calling the Slack API.
+ * <p>
+ * Instances of this class are immutable: the {@link SlackPlatform} refreshes the directories by loading a new
+ * snapshot and replacing the previous one, meaning that readers never see a partially loaded directory.
+ *
+ * @see SlackPlatform#getUserDirectory(String)
+ */
+public class SlackUserDirectory {
+
+    /**
+     * The number of users requested for each {@code users.list} page.
+     * <p>
+     * The Slack API recommends to request no more than 200 results per page.
+     */
+    public static final int PAGE_SIZE = 200;
+
+    /**
+     * The users of the workspace, indexed by identifier.
+     */
+    private final Map<String, User> usersById;
+
+    /**
+     * The identifiers of the users, indexed by name, real name, and display name.
+     */
+    private final Map<String, String> userIdsByName;
+
+    /**
+     * The time (in ms since epoch) this directory has been loaded.
+     */
+    private final long loadTime;
+
+    /**
+     * The number of {@code users.list} pages fetched to load this directory.
+     */
+    private final int pageCount;
+
+    /**
+     * Constructs a {@link SlackUserDirectory} with the provided parameters.
+     *
+     * @param usersById     the users of the workspace, indexed by identifier
+     * @param userIdsByName the identifiers of the users, indexed by name, real name, and display name
+     * @param loadTime      the time (in ms since epoch) this directory has been loaded
+     * @param pageCount     the number of {@code users.list} pages fetched to load this directory
+     */
+    private SlackUserDirectory(Map<String, User> usersById, Map<String, String> userIdsByName, long loadTime,
+                               int pageCount) {
+        this.usersById = Collections.unmodifiableMap(usersById);
+        this.userIdsByName = Collections.unmodifiableMap(userIdsByName);
+        this.loadTime = loadTime;
+        this.pageCount = pageCount;
+    }
+
+    /**
+     * Loads a {@link SlackUserDirectory} from the pages returned by the provided {@code fetcher}.
+     * <p>
+     * This method follows the {@code next_cursor} of each page until the last page is fetched.
+     *
+     * @param teamId  the identifier of the workspace to load the users of
+     * @param fetcher the {@link PageFetcher} retrieving the {@code users.list} pages
+     * @return the loaded {@link SlackUserDirectory}
+     * @throws XatkitException if an error occurred when accessing the Slack API
+     */
+    public static SlackUserDirectory load(String teamId, PageFetcher fetcher) {
+        long start = System.currentTimeMillis();
+        Map<String, User> usersById = new LinkedHashMap<>();
+        Map<String, String> userIdsByName = new HashMap<>();
+        String cursor = null;
+        int pageCount = 0;
+        do {
+            UsersListResponse response;
+            try {
+                response = fetcher.fetch(cursor);
+            } catch (IOException | SlackApiException e) {
+                throw new XatkitException(MessageFormat.format("Cannot load the users of workspace {0}, see the " +
+                        "attached exception", teamId), e);
+            }
+            logSlackApiResponse(response);
+            if (!response.isOk()) {
+                throw new XatkitException(MessageFormat.format("Cannot load the users of workspace {0}, the Slack " +
+                        "API returned the error {1}", teamId, response.getError()));
+            }
+            pageCount++;
+            if (nonNull(response.getMembers())) {
+                for (User user : response.getMembers()) {
+                    index(user, usersById, userIdsByName);
+                }
+            }
+            cursor = isNull(response.getResponseMetadata()) ? null : response.getResponseMetadata().getNextCursor();
+        } while (nonNull(cursor) && !cursor.isEmpty());
+        long loadTime = System.currentTimeMillis();
+        Log.info("Loaded {0} users from workspace {1} ({2} pages, {3}ms)", usersById.size(), teamId, pageCount,
+                loadTime - start);
+        return new SlackUserDirectory(usersById, userIdsByName, loadTime, pageCount);
+    }
+
+    /**
+     * Creates a {@link SlackUserDirectory} containing the provided {@code users}.
+     * <p>
+     * This method is used to restore a directory from a {@link SlackWorkspaceSnapshot}, the created directory does
+     * not correspond to any {@code users.list} page.
+     *
+     * @param users    the users of the workspace
+     * @param loadTime the time (in ms since epoch) the users have been loaded from the Slack API
+     * @return the created {@link SlackUserDirectory}
+     */
+    static SlackUserDirectory of(Collection<User> users, long loadTime) {
+        Map<String, User> usersById = new LinkedHashMap<>();
+        Map<String, String> userIdsByName = new HashMap<>();
+        for (User user : users) {
+            index(user, usersById, userIdsByName);
+        }
+        return new SlackUserDirectory(usersById, userIdsByName, loadTime, 0);
+    }
+
+    /**
+     * Adds the provided {@code user} to the given indexes.
+     * <p>
+     * Names shared by several users are associated to the first user defining them.
+     *
+     * @param user          the {@link User} to index
+     * @param usersById     the users indexed by identifier
+     * @param userIdsByName the user identifiers indexed by name, real name, and display name
+     */
+    private static void index(User user, Map<String, User> usersById, Map<String, String> userIdsByName) {
+        String id = user.getId();
+        if (isNull(id)) {
+            return;
+        }
+        usersById.put(id, user);
+        indexName(user.getName(), id, userIdsByName);
+        indexName(user.getRealName(), id, userIdsByName);
+        if (nonNull(user.getProfile())) {
+            indexName(user.getProfile().getRealName(), id, userIdsByName);
+            indexName(user.getProfile().getDisplayName(), id, userIdsByName);
+        }
+    }
+
+    /**
+     * Associates the provided {@code name} to the given {@code id}.
+     *
+     * @param name          the name to index
+     * @param id            the identifier of the user
+     * @param userIdsByName the user identifiers indexed by name
+     */
+    private static void indexName(@Nullable String name, String id, Map<String, String> userIdsByName) {
+        if (nonNull(name) && !name.isEmpty()) {
+            userIdsByName.putIfAbsent(name, id);
+        }
+    }
+
+    /**
+     * Returns the identifier of the user matching the provided {@code username}.
+     * <p>
+     * The provided {@code username} can be a user identifier, name, real name, or display name.
+     *
+     * @param username the identifier or name of the user to retrieve
+     * @return the identifier of the user, or {@code null} if the directory does not contain a matching user
+     */
+    public @Nullable String findUserId(String username) {
+        if (usersById.containsKey(username)) {
+            return username;
+        }
+        return userIdsByName.get(username);
+    }
+
+    /**
+     * Returns the {@link User} with the provided {@code userId}.
+     *
+     * @param userId the identifier of the user to retrieve
+     * @return the {@link User}, or {@code null} if the directory does not contain the user
+     */
+    public @Nullable User getUser(String userId) {
+        return usersById.get(userId);
+    }
+
+    /**
+     * Returns the users of the workspace.
+     *
+     * @return an unmodifiable {@link Collection} containing the users of the workspace
+     */
+    public Collection<User> getUsers() {
+        return usersById.values();
+    }
+
+    /**
+     * Returns the number of users in the directory.
+     *
+     * @return the number of users
+     */
+    public int size() {
+        return usersById.size();
+    }
+
+    /**
+     * Returns the time (in ms since epoch) this directory has been loaded.
+     *
+     * @return the load time
+     */
+    public long getLoadTime() {
+        return loadTime;
+    }
+
+    /**
+     * Returns the number of {@code users.list} pages fetched to load this directory.
+     *
+     * @return the number of fetched pages
+     */
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Retrieves a page of the {@code users.list} Slack API method.
+     */
+    @FunctionalInterface
+    public interface PageFetcher {
+
+        /**
+         * Fetches the page starting at the provided {@code cursor}.
+         *
+         * @param cursor the cursor of the page to fetch, or {@code null} to fetch the first page
+         * @return the {@link UsersListResponse} containing the page
+         * @throws IOException       if an error occurred when reaching the Slack API
+         * @throws SlackApiException if the Slack API returned an error
+         */
+        UsersListResponse fetch(@Nullable String cursor) throws IOException, SlackApiException;
+    }
+}
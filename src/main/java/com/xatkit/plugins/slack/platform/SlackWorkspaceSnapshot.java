@@ -0,0 +1,317 @@
+package com.xatkit.plugins.slack.platform;
+
+import com.github.seratch.jslack.api.model.User;
+
+import javax.annotation.Nullable;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+
+/**
+ * An on-disk snapshot of the {@link SlackChannelIndex} and {@link SlackUserDirectory} of a Slack workspace.
+ * <p>
+ * Snapshots allow the {@link SlackPlatform} to start without fetching the channels and users of each workspace from
+ * the Slack API: the indexes are restored from the snapshot, and revalidated against the Slack API in the
+ * background.
+ * <p>
+ * Snapshots are stored in a compact binary format (length-prefixed UTF-8 strings), written to a temporary file
+ * that atomically replaces the previous snapshot, and memory-mapped when they are read.
+ *
+ * @see com.xatkit.plugins.slack.SlackUtils#WARM_START_DIRECTORY_KEY
+ */
+public class SlackWorkspaceSnapshot {
+
+    /**
+     * The magic number identifying snapshot files ({@code SLKS}).
+     */
+    private static final int MAGIC = 0x534C4B53;
+
+    /**
+     * The version of the snapshot format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The length used to encode {@code null} strings.
+     */
+    private static final int NULL_LENGTH = -1;
+
+    /**
+     * The identifier of the workspace.
+     */
+    private final String teamId;
+
+    /**
+     * The time (in ms since epoch) the snapshot has been taken.
+     */
+    private final long snapshotTime;
+
+    /**
+     * The {@link SlackChannelIndex} of the workspace.
+     */
+    private final SlackChannelIndex channelIndex;
+
+    /**
+     * The {@link SlackUserDirectory} of the workspace.
+     */
+    private final SlackUserDirectory userDirectory;
+
+    /**
+     * Constructs a {@link SlackWorkspaceSnapshot} with the provided parameters.
+     *
+     * @param teamId        the identifier of the workspace
+     * @param snapshotTime  the time (in ms since epoch) the snapshot has been taken
+     * @param channelIndex  the {@link SlackChannelIndex} of the workspace
+     * @param userDirectory the {@link SlackUserDirectory} of the workspace
+     */
+    public SlackWorkspaceSnapshot(String teamId, long snapshotTime, SlackChannelIndex channelIndex,
+                                  SlackUserDirectory userDirectory) {
+        this.teamId = teamId;
+        this.snapshotTime = snapshotTime;
+        this.channelIndex = channelIndex;
+        this.userDirectory = userDirectory;
+    }
+
+    /**
+     * Returns the identifier of the workspace.
+     *
+     * @return the identifier of the workspace
+     */
+    public String getTeamId() {
+        return teamId;
+    }
+
+    /**
+     * Returns the time (in ms since epoch) the snapshot has been taken.
+     *
+     * @return the snapshot time
+     */
+    public long getSnapshotTime() {
+        return snapshotTime;
+    }
+
+    /**
+     * Returns the {@link SlackChannelIndex} of the workspace.
+     *
+     * @return the {@link SlackChannelIndex} of the workspace
+     */
+    public SlackChannelIndex getChannelIndex() {
+        return channelIndex;
+    }
+
+    /**
+     * Returns the {@link SlackUserDirectory} of the workspace.
+     *
+     * @return the {@link SlackUserDirectory} of the workspace
+     */
+    public SlackUserDirectory getUserDirectory() {
+        return userDirectory;
+    }
+
+    /**
+     * Writes this snapshot to the provided {@code file}.
+     * <p>
+     * The snapshot is written to a temporary file in the same directory, which is then atomically moved to {@code
+     * file}. This ensures that readers never see a partially written snapshot, even if the process is stopped while
+     * writing.
+     *
+     * @param file the file to write the snapshot to
+     * @throws IOException if an error occurred when writing the snapshot
+     */
+    public void write(Path file) throws IOException {
+        /*
+         * Use a unique temporary file, concurrent writes of the same snapshot must not share it.
+         */
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try (OutputStream fileStream = Files.newOutputStream(tempFile);
+             DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileStream))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(snapshotTime);
+            writeString(output, teamId);
+            Map<String, String> channelIds = channelIndex.getChannelIds();
+            output.writeInt(channelIds.size());
+            for (Map.Entry<String, String> entry : channelIds.entrySet()) {
+                writeString(output, entry.getKey());
+                writeString(output, entry.getValue());
+            }
+            writeStrings(output, channelIndex.getGroupChannelIds());
+            writeStrings(output, channelIndex.getUserChannelIds());
+            output.writeLong(userDirectory.getLoadTime());
+            output.writeInt(userDirectory.size());
+            for (User user : userDirectory.getUsers()) {
+                writeString(output, user.getId());
+                writeString(output, user.getName());
+                writeString(output, user.getRealName());
+                User.Profile profile = user.getProfile();
+                writeString(output, isNull(profile) ? null : profile.getRealName());
+                writeString(output, isNull(profile) ? null : profile.getDisplayName());
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads the snapshot stored in the provided {@code file}.
+     * <p>
+     * The file is memory-mapped, and the indexes are directly decoded from the mapped buffer.
+     *
+     * @param file the file to read the snapshot from
+     * @return the read {@link SlackWorkspaceSnapshot}
+     * @throws IOException if an error occurred when reading the file, or if the file is not a valid snapshot
+     */
+    public static SlackWorkspaceSnapshot read(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            int magic = buffer.getInt();
+            int version = buffer.getInt();
+            if (magic != MAGIC || version != VERSION) {
+                throw new IOException(MessageFormat.format("Cannot read the snapshot {0}, unsupported format (magic "
+                        + "{1}, version {2})", file, Integer.toHexString(magic), version));
+            }
+            long snapshotTime = buffer.getLong();
+            String teamId = readString(buffer);
+            int channelIdCount = readCount(buffer);
+            Map<String, String> channelIds = new HashMap<>(channelIdCount * 2);
+            for (int i = 0; i < channelIdCount; i++) {
+                channelIds.put(readString(buffer), readString(buffer));
+            }
+            Set<String> groupChannelIds = readStrings(buffer);
+            Set<String> userChannelIds = readStrings(buffer);
+            long userLoadTime = buffer.getLong();
+            int userCount = readCount(buffer);
+            List<User> users = new ArrayList<>(userCount);
+            for (int i = 0; i < userCount; i++) {
+                User user = new User();
+                user.setId(readString(buffer));
+                user.setName(readString(buffer));
+                user.setRealName(readString(buffer));
+                User.Profile profile = new User.Profile();
+                profile.setRealName(readString(buffer));
+                profile.setDisplayName(readString(buffer));
+                user.setProfile(profile);
+                users.add(user);
+            }
+            return new SlackWorkspaceSnapshot(teamId, snapshotTime, SlackChannelIndex.of(channelIds,
+                    groupChannelIds, userChannelIds), SlackUserDirectory.of(users, userLoadTime));
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException(MessageFormat.format("Cannot read the snapshot {0}, the file is truncated or " +
+                    "corrupted", file), e);
+        }
+    }
+
+    /**
+     * Writes the provided {@code value} to the given {@code output}.
+     *
+     * @param output the {@link DataOutputStream} to write the value to
+     * @param value  the value to write
+     * @throws IOException if an error occurred when writing the value
+     */
+    private static void writeString(DataOutputStream output, @Nullable String value) throws IOException {
+        if (isNull(value)) {
+            output.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Writes the provided {@code values} to the given {@code output}.
+     *
+     * @param output the {@link DataOutputStream} to write the values to
+     * @param values the values to write
+     * @throws IOException if an error occurred when writing the values
+     */
+    private static void writeStrings(DataOutputStream output, Collection<String> values) throws IOException {
+        output.writeInt(values.size());
+        for (String value : values) {
+            writeString(output, value);
+        }
+    }
+
+    /**
+     * Reads the next string of the provided {@code buffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to read the string from
+     * @return the read string
+     * @throws IllegalArgumentException if the encoded length is invalid
+     */
+    private static @Nullable String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the next set of strings of the provided {@code buffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to read the strings from
+     * @return the read strings
+     * @throws IllegalArgumentException if an encoded length is invalid
+     */
+    private static Set<String> readStrings(ByteBuffer buffer) {
+        int count = readCount(buffer);
+        Set<String> values = new HashSet<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            values.add(readString(buffer));
+        }
+        return values;
+    }
+
+    /**
+     * Reads the next element count of the provided {@code buffer}.
+     * <p>
+     * Each element takes at least 4 bytes, this allows to reject corrupted counts before allocating collections.
+     *
+     * @param buffer the {@link ByteBuffer} to read the count from
+     * @return the read count
+     * @throws IllegalArgumentException if the count is invalid
+     */
+    private static int readCount(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / 4) {
+            throw new IllegalArgumentException("Invalid element count " + count);
+        }
+        return count;
+    }
+}
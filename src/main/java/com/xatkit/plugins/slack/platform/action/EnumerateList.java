@@ -2,6 +2,7 @@ package com.xatkit.plugins.slack.platform.action;
 
 import com.xatkit.execution.StateContext;
 import com.xatkit.plugins.chat.platform.action.FormatList;
+import com.xatkit.plugins.slack.platform.SlackListPaginator;
 import com.xatkit.plugins.slack.platform.SlackPlatform;
 import lombok.NonNull;
 
@@ -16,10 +17,18 @@ import java.util.List;
  * This action supports any kind of {@link List}, and call the {@link Object#toString()} method on each object.
  * <p>
  * <b>Note:</b> this action does not perform any operation on the Slack API, but returns a formatted {@link String}
- * that can be reused as part of a Slack message using {@link Reply} or {@link PostMessage}.
+ * that can be reused as part of a Slack message using {@link Reply} or {@link PostMessage}. Use a
+ * {@link SlackListPaginator} to render large collections as pages posted on demand.
+ *
+ * @see SlackListPaginator
  */
 public class EnumerateList extends FormatList<SlackPlatform> {
 
+    /**
+     * The estimated length of a formatted item, used to size the formatted {@link String}.
+     */
+    private static final int ESTIMATED_ITEM_LENGTH = 32;
+
     /**
      * Constructs an {@link EnumerateList} with the provided {@code runtimePlatform}, {@code session}, and {@code list}.
      *
@@ -42,7 +51,7 @@ public class EnumerateList extends FormatList<SlackPlatform> {
      */
     @Override
     protected Object formatList() {
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = new StringBuilder(list.size() * ESTIMATED_ITEM_LENGTH);
         for (int i = 0; i < list.size(); i++) {
             sb.append("[")
                     .append(i)
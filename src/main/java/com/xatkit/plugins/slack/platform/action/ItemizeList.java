@@ -2,11 +2,11 @@ package com.xatkit.plugins.slack.platform.action;
 
 import com.xatkit.execution.StateContext;
 import com.xatkit.plugins.chat.platform.action.FormatList;
+import com.xatkit.plugins.slack.platform.SlackListPaginator;
 import com.xatkit.plugins.slack.platform.SlackPlatform;
 import lombok.NonNull;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Formats the provided {@link List} into a set of items that can be embedded in Slack messages.
@@ -17,10 +17,18 @@ import java.util.stream.Collectors;
  * This action supports any kind of {@link List}, and call the {@link Object#toString()} method on each object.
  * <p>
  * <b>Note:</b> this action does not perform any operation on the Slack API, but returns a formatted {@link String}
- * that can be reused as part of a Slack message using {@link Reply} or {@link PostMessage}.
+ * that can be reused as part of a Slack message using {@link Reply} or {@link PostMessage}. Use a
+ * {@link SlackListPaginator} to render large collections as pages posted on demand.
+ *
+ * @see SlackListPaginator
  */
 public class ItemizeList extends FormatList<SlackPlatform> {
 
+    /**
+     * The estimated length of a formatted item, used to size the formatted {@link String}.
+     */
+    private static final int ESTIMATED_ITEM_LENGTH = 32;
+
     /**
      * Constructs a {@link ItemizeList} with the provided {@code runtimePlatform}, {@code session}, and {@code list}.
      *
@@ -43,12 +51,13 @@ public class ItemizeList extends FormatList<SlackPlatform> {
      */
     @Override
     protected Object formatList() {
-        if (list.isEmpty()) {
-            return "";
-        } else {
-            return "- " + String.join("\n- ", list.stream()
-                    .map(Object::toString)
-                    .collect(Collectors.toList()));
+        StringBuilder sb = new StringBuilder(list.size() * ESTIMATED_ITEM_LENGTH);
+        for (Object item : list) {
+            if (sb.length() > 0) {
+                sb.append('\n');
+            }
+            sb.append("- ").append(item.toString());
         }
+        return sb.toString();
     }
 }
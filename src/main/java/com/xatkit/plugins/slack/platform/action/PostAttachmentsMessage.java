@@ -174,15 +174,17 @@ public class PostAttachmentsMessage extends RuntimeArtifactAction<SlackPlatform>
      */
     @Override
     public Object compute() throws IOException {
+        String channelId = this.runtimePlatform.getChannelId(teamId, channel);
         ChatPostMessageRequest request = ChatPostMessageRequest.builder()
                 .token(runtimePlatform.getSlackToken(teamId))
-                .channel(this.runtimePlatform.getChannelId(teamId, channel))
+                .channel(channelId)
                 .attachments(attachments)
                 .unfurlLinks(true)
                 .unfurlMedia(true)
                 .build();
         try {
-            ChatPostMessageResponse response = runtimePlatform.getSlack().methods().chatPostMessage(request);
+            ChatPostMessageResponse response = runtimePlatform.getOutboundQueue().send(teamId, channelId,
+                    () -> runtimePlatform.getSlack().methods().chatPostMessage(request));
             logSlackApiResponse(response);
             if (response.isOk()) {
                 Log.trace("Request {0} successfully sent to the Slack API", request);
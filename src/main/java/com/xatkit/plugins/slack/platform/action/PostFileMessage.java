@@ -1,22 +1,32 @@
 package com.xatkit.plugins.slack.platform.action;
 
 import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.methods.request.chat.ChatPostMessageRequest;
 import com.github.seratch.jslack.api.methods.request.files.FilesUploadRequest;
+import com.github.seratch.jslack.api.methods.response.chat.ChatPostMessageResponse;
 import com.github.seratch.jslack.api.methods.response.files.FilesUploadResponse;
 import com.xatkit.core.XatkitException;
 import com.xatkit.core.platform.action.RuntimeArtifactAction;
 import com.xatkit.execution.StateContext;
+import com.xatkit.plugins.slack.platform.SlackExternalFileUploader;
+import com.xatkit.plugins.slack.platform.SlackFileUploadCache;
 import com.xatkit.plugins.slack.platform.SlackPlatform;
 import fr.inria.atlanmod.commons.log.Log;
 import lombok.NonNull;
 
+import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.Arrays;
 
 import static com.xatkit.plugins.slack.util.SlackUtils.logSlackApiResponse;
 import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 /**
@@ -61,6 +71,21 @@ public class PostFileMessage extends RuntimeArtifactAction<SlackPlatform> {
      */
     private String message;
 
+    /**
+     * The {@link Path} of the file to stream to the given Slack {@code channel}.
+     */
+    private Path path;
+
+    /**
+     * The {@link InputStream} to stream as a file to the given Slack {@code channel}.
+     */
+    private InputStream stream;
+
+    /**
+     * The number of bytes to read from the {@code stream}.
+     */
+    private long length;
+
     /**
      * Constructs {@link PostFileMessage} instance with the provided {@code runtimePlatform}, {@code session}, {@code
      * message}, {@code file}, {@code channel}, and {@code teamId}.
@@ -139,6 +164,85 @@ public class PostFileMessage extends RuntimeArtifactAction<SlackPlatform> {
         this.message = message;
     }
 
+    /**
+     * Constructs a {@link PostFileMessage} instance with the provided {@code runtimePlatform}, {@code session}, {@code
+     * message}, {@code path}, {@code channel}, and {@code teamId}.
+     * <p>
+     * This constructor builds a {@link PostFileMessage} action that streams the file at the provided {@code path} to
+     * the given Slack {@code channel} with the external upload flow. The content of the file is never fully loaded
+     * in memory, making this constructor suitable to upload large files.
+     *
+     * @param platform the {@link SlackPlatform} containing this action
+     * @param context  the {@link StateContext} associated to this action
+     * @param message  the message to associate to the uploaded file
+     * @param path     the {@link Path} of the file to upload
+     * @param channel  the Slack channel to upload the file to
+     * @param teamId   the unique identifier of the Slack workspace containing the channel to post the message to
+     * @throws IllegalArgumentException if the provided {@code channel} or {@code teamId} is empty, or if the
+     *                                  provided {@code path} is not a regular file
+     * @see SlackExternalFileUploader
+     */
+    public PostFileMessage(@NonNull SlackPlatform platform, @NonNull StateContext context, @NonNull String message,
+                           @NonNull Path path, @NonNull String channel, @NonNull String teamId) {
+        super(platform, context);
+        checkArgument(!teamId.isEmpty(), "Cannot construct a %s action with the provided team %s, " +
+                "expected a non-null and not empty String", this.getClass().getSimpleName(), teamId);
+        this.teamId = teamId;
+
+        checkArgument(!channel.isEmpty(), "Cannot construct a %s action with the provided channel" +
+                " %s, expected a non-null and not empty String", this.getClass().getSimpleName(), channel);
+        this.channel = channel;
+
+        checkArgument(Files.isRegularFile(path), "Cannot construct a %s action with the provided path %s, " +
+                "expected an existing regular file", this.getClass().getSimpleName(), path);
+        this.path = path;
+        this.title = path.getFileName().toString();
+        this.message = message;
+    }
+
+    /**
+     * Constructs a {@link PostFileMessage} instance with the provided {@code runtimePlatform}, {@code session}, {@code
+     * title}, {@code message}, {@code stream}, {@code length}, {@code channel}, and {@code teamId}.
+     * <p>
+     * This constructor builds a {@link PostFileMessage} action that streams {@code length} bytes of the provided
+     * {@code stream} as a file to the given Slack {@code channel} with the external upload flow. The {@code stream}
+     * is read once when the action is computed, and is not closed by the action.
+     *
+     * @param platform the {@link SlackPlatform} containing this action
+     * @param context  the {@link StateContext} associated to this action
+     * @param title    the title of the file to upload
+     * @param message  the message to associate to the uploaded file
+     * @param stream   the {@link InputStream} to upload
+     * @param length   the number of bytes to read from the {@code stream}
+     * @param channel  the Slack channel to upload the file to
+     * @param teamId   the unique identifier of the Slack workspace containing the channel to post the message to
+     * @throws IllegalArgumentException if the provided {@code title}, {@code channel}, or {@code teamId} is empty,
+     *                                  or if the provided {@code length} is lower than {@code 1}
+     * @see SlackExternalFileUploader
+     */
+    public PostFileMessage(@NonNull SlackPlatform platform, @NonNull StateContext context, @NonNull String title,
+                           @NonNull String message, @NonNull InputStream stream, long length,
+                           @NonNull String channel, @NonNull String teamId) {
+        super(platform, context);
+        checkArgument(!teamId.isEmpty(), "Cannot construct a %s action with the provided team %s, " +
+                "expected a non-null and not empty String", this.getClass().getSimpleName(), teamId);
+        this.teamId = teamId;
+
+        checkArgument(!channel.isEmpty(), "Cannot construct a %s action with the provided channel" +
+                " %s, expected a non-null and not empty String", this.getClass().getSimpleName(), channel);
+        this.channel = channel;
+
+        checkArgument(!title.isEmpty(), "Cannot construct a %s action with the provided title %s, "
+                + "expected a non-null and not empty String", this.getClass().getSimpleName(), title);
+        this.title = title;
+
+        checkArgument(length > 0, "Cannot construct a %s action with the provided length %s, expected a strictly " +
+                "positive number", this.getClass().getSimpleName(), length);
+        this.stream = stream;
+        this.length = length;
+        this.message = message;
+    }
+
     /**
      * Uploads the provided {@code file} and post it with the associated {@code message} to the {@code teamId}
      * workspace's {@code channel}.
@@ -150,9 +254,25 @@ public class PostFileMessage extends RuntimeArtifactAction<SlackPlatform> {
      */
     @Override
     public Object compute() {
+        String channelId = this.runtimePlatform.getChannelId(teamId, channel);
+        SlackFileUploadCache uploadCache = runtimePlatform.getUploadCache();
+        String contentHash = null;
+        if (nonNull(uploadCache) && isNull(stream)) {
+            /*
+             * Streams are not hashed: they can only be read once.
+             */
+            contentHash = hashContent();
+            String permalink = uploadCache.lookup(teamId, getUploadTitle(), contentHash, getContentSize());
+            if (nonNull(permalink)) {
+                return shareUploadedFile(channelId, permalink);
+            }
+        }
+        if (nonNull(path) || nonNull(stream)) {
+            return computeExternalUpload(channelId, contentHash);
+        }
         FilesUploadRequest.FilesUploadRequestBuilder builder = FilesUploadRequest.builder();
         builder.token(runtimePlatform.getSlackToken(teamId))
-                .channels(Arrays.asList(this.runtimePlatform.getChannelId(teamId, channel)));
+                .channels(Arrays.asList(channelId));
         if (nonNull(message) && !message.isEmpty()) {
             /*
              * Uploading the initial comment
@@ -172,10 +292,12 @@ public class PostFileMessage extends RuntimeArtifactAction<SlackPlatform> {
         }
         FilesUploadRequest request = builder.build();
         try {
-            FilesUploadResponse response = runtimePlatform.getSlack().methods().filesUpload(request);
+            FilesUploadResponse response = runtimePlatform.getOutboundQueue().send(teamId, channelId,
+                    () -> runtimePlatform.getSlack().methods().filesUpload(request));
             logSlackApiResponse(response);
             if (response.isOk()) {
                 Log.trace("Request {0} successfully sent to the Slack API", request);
+                cacheUploadedFile(channelId, contentHash, response.getFile());
             } else {
                 Log.error("An error occurred when processing the request {0}: received response {1}", request,
                         response);
@@ -186,6 +308,164 @@ public class PostFileMessage extends RuntimeArtifactAction<SlackPlatform> {
         return null;
     }
 
+    /**
+     * Streams the provided {@code path} or {@code stream} to the given {@code channelId} with the external upload
+     * flow.
+     * <p>
+     * The content is uploaded before entering the {@link SlackPlatform#getOutboundQueue()}, only the call sharing
+     * the uploaded file in the channel is rate limited. This ensures that long uploads do not block the other
+     * messages of the channel.
+     *
+     * @param channelId   the identifier of the channel to post the file to
+     * @param contentHash the hash of the content to upload, or {@code null} if it is not cached
+     * @return {@code null}
+     * @throws XatkitException if an error occurred when uploading the file
+     */
+    private Object computeExternalUpload(String channelId, @Nullable String contentHash) {
+        SlackExternalFileUploader uploader = runtimePlatform.getFileUploader();
+        String token = runtimePlatform.getSlackToken(teamId);
+        try {
+            String fileId;
+            if (nonNull(path)) {
+                fileId = uploader.uploadContent(token, title, path);
+            } else {
+                fileId = uploader.uploadContent(token, title, stream, length);
+            }
+            SlackExternalFileUploader.CompleteUploadResponse response = runtimePlatform.getOutboundQueue().send(teamId,
+                    channelId, () -> uploader.completeUpload(token, fileId, title, channelId, message));
+            logSlackApiResponse(response);
+            if (response.isOk()) {
+                Log.trace("File {0} successfully uploaded to the Slack API", title);
+                if (nonNull(response.getFiles()) && !response.getFiles().isEmpty()) {
+                    cacheUploadedFile(channelId, contentHash, response.getFiles().get(0));
+                }
+            } else {
+                Log.error("An error occurred when uploading the file {0}: received error {1}", title,
+                        response.getError());
+            }
+        } catch (IOException | SlackApiException e) {
+            throw new XatkitException(MessageFormat.format("Cannot upload the file {0} to the Slack API", title), e);
+        }
+        return null;
+    }
+
+    /**
+     * Shares the already uploaded file with the provided {@code permalink} in the given {@code channelId}.
+     * <p>
+     * The file is shared by posting its {@code permalink} (along with the {@code message}), which is unfurled by
+     * Slack. This avoids uploading the same content again.
+     *
+     * @param channelId the identifier of the channel to share the file in
+     * @param permalink the permalink of the uploaded file
+     * @return {@code null}
+     * @throws XatkitException if an error occurred when sharing the file
+     * @see SlackFileUploadCache
+     */
+    private Object shareUploadedFile(String channelId, String permalink) {
+        String text = '<' + permalink + '>';
+        if (nonNull(message) && !message.isEmpty()) {
+            text = message + '\n' + text;
+        }
+        ChatPostMessageRequest request = ChatPostMessageRequest.builder()
+                .token(runtimePlatform.getSlackToken(teamId))
+                .channel(channelId)
+                .text(text)
+                .unfurlLinks(true)
+                .unfurlMedia(true)
+                .build();
+        try {
+            ChatPostMessageResponse response = runtimePlatform.getOutboundQueue().send(teamId, channelId,
+                    () -> runtimePlatform.getSlack().methods().chatPostMessage(request));
+            logSlackApiResponse(response);
+            if (response.isOk()) {
+                Log.trace("Previously uploaded file {0} successfully shared with the Slack API", permalink);
+            } else {
+                Log.error("An error occurred when sharing the file {0}: received error {1}", permalink,
+                        response.getError());
+            }
+        } catch (IOException | SlackApiException e) {
+            throw new XatkitException(MessageFormat.format("Cannot share the file {0} with the Slack API",
+                    permalink), e);
+        }
+        return null;
+    }
+
+    /**
+     * Computes the hash of the content to upload.
+     *
+     * @return the hash of the content to upload
+     * @throws XatkitException if an error occurred when reading the content
+     * @see SlackFileUploadCache#hash(Path)
+     * @see SlackFileUploadCache#hash(byte[])
+     */
+    private String hashContent() {
+        try {
+            if (nonNull(file)) {
+                return SlackFileUploadCache.hash(file.toPath());
+            } else if (nonNull(path)) {
+                return SlackFileUploadCache.hash(path);
+            } else {
+                return SlackFileUploadCache.hash(content.getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            throw new XatkitException(MessageFormat.format("Cannot read the content of the file {0}", title), e);
+        }
+    }
+
+    /**
+     * Returns the title of the file to upload.
+     *
+     * @return the title of the file to upload
+     */
+    private String getUploadTitle() {
+        return nonNull(file) ? file.getName() : title;
+    }
+
+    /**
+     * Returns the size (in bytes) of the content to upload.
+     *
+     * @return the size of the content to upload
+     */
+    private long getContentSize() {
+        if (nonNull(file)) {
+            return file.length();
+        } else if (nonNull(path)) {
+            return path.toFile().length();
+        } else {
+            return content.getBytes(StandardCharsets.UTF_8).length;
+        }
+    }
+
+    /**
+     * Stores the provided {@code uploadedFile} in the {@link SlackFileUploadCache} of the platform.
+     * <p>
+     * This method does nothing if the content has not been hashed, or if the Slack API did not return the permalink
+     * of the file. Files that are not public (i.e. only shared in private channels or direct messages) are not
+     * cached either: their permalink cannot be opened by the members of the other channels.
+     *
+     * @param channelId    the identifier of the channel the file has been uploaded to
+     * @param contentHash  the hash of the uploaded content, or {@code null} if it is not cached
+     * @param uploadedFile the uploaded {@link com.github.seratch.jslack.api.model.File} returned by the Slack API
+     */
+    private void cacheUploadedFile(String channelId, @Nullable String contentHash,
+                                   @Nullable com.github.seratch.jslack.api.model.File uploadedFile) {
+        SlackFileUploadCache uploadCache = runtimePlatform.getUploadCache();
+        if (isNull(uploadCache) || isNull(contentHash) || isNull(uploadedFile)
+                || isNull(uploadedFile.getPermalink())) {
+            return;
+        }
+        /*
+         * The channels field of a file only contains the public channels it has been shared in.
+         */
+        boolean isPublic = uploadedFile.isPublic()
+                || (nonNull(uploadedFile.getChannels()) && uploadedFile.getChannels().contains(channelId));
+        if (isPublic) {
+            uploadCache.put(teamId, getUploadTitle(), contentHash, uploadedFile.getPermalink());
+        } else {
+            Log.debug("Not caching the upload of {0}, the file is not public", getUploadTitle());
+        }
+    }
+
     @Override
     protected StateContext getClientStateContext() {
         return this.runtimePlatform.createSessionFromChannel(teamId, channel);
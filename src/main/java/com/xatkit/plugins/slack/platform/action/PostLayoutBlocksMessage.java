@@ -4,19 +4,26 @@ import com.github.seratch.jslack.api.methods.SlackApiException;
 import com.github.seratch.jslack.api.methods.request.chat.ChatPostMessageRequest;
 import com.github.seratch.jslack.api.methods.response.chat.ChatPostMessageResponse;
 import com.github.seratch.jslack.api.model.block.LayoutBlock;
+import com.github.seratch.jslack.common.http.SlackHttpClient;
 import com.xatkit.core.XatkitException;
 import com.xatkit.core.platform.action.RuntimeAction;
 import com.xatkit.core.platform.action.RuntimeArtifactAction;
 import com.xatkit.execution.StateContext;
+import com.xatkit.plugins.slack.platform.SlackExternalFileUploader;
 import com.xatkit.plugins.slack.platform.SlackPlatform;
+import com.xatkit.plugins.slack.util.SlackBlockTemplate;
 import fr.inria.atlanmod.commons.log.Log;
 import lombok.NonNull;
+import okhttp3.FormBody;
+import okhttp3.Response;
 
 import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.List;
+import java.util.Map;
 
 import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+import static java.util.Objects.nonNull;
 
 /**
  * A {@link RuntimeAction} that posts the {@code layoutBlocks} list to a given Slack {@code channel}.
@@ -44,6 +51,14 @@ public class PostLayoutBlocksMessage extends RuntimeArtifactAction<SlackPlatform
      */
     protected List<LayoutBlock> layoutBlocks;
 
+    /**
+     * The serialized layout blocks to post to the Slack channel.
+     * <p>
+     * This field is set when the action is created from a {@link SlackBlockTemplate}, in this case
+     * {@link #layoutBlocks} is {@code null}.
+     */
+    protected String renderedBlocks;
+
     /**
      * Constructs a new {@link PostLayoutBlocksMessage} with the provided {@code runtimePlatform}, {@code session},
      * {@code layoutBlocks} and {@code channel}.
@@ -69,6 +84,37 @@ public class PostLayoutBlocksMessage extends RuntimeArtifactAction<SlackPlatform
         this.layoutBlocks = layoutBlocks;
     }
 
+    /**
+     * Constructs a new {@link PostLayoutBlocksMessage} with the provided {@code runtimePlatform}, {@code session},
+     * {@code template}, {@code values}, and {@code channel}.
+     * <p>
+     * The {@code template} is rendered when the action is created, and the rendered blocks are posted without being
+     * serialized again.
+     *
+     * @param platform the {@link SlackPlatform} containing this action
+     * @param context  the {@link StateContext} associated to this action
+     * @param template the {@link SlackBlockTemplate} to render
+     * @param values   the values of the placeholders of the {@code template}
+     * @param channel  the Slack channel to post the layout blocks to
+     * @param teamId   the unique identifier of the Slack workspace containing the channel to post the blocks to
+     * @throws IllegalArgumentException if the provided {@code channel} or {@code teamId} is empty, or if the
+     *                                  provided {@code values} does not contain a value for a placeholder of the
+     *                                  {@code template}
+     * @see SlackBlockTemplate#render(Map)
+     */
+    public PostLayoutBlocksMessage(@NonNull SlackPlatform platform, @NonNull StateContext context,
+                                   @NonNull SlackBlockTemplate template, @NonNull Map<String, ?> values,
+                                   @NonNull String channel, @NonNull String teamId) {
+        super(platform, context);
+        checkArgument(!teamId.isEmpty(), "Cannot construct a %s action with the provided team %s, " +
+                "expected a non-null and not empty String", this.getClass().getSimpleName(), teamId);
+        this.teamId = teamId;
+        checkArgument(!channel.isEmpty(), "Cannot construct a %s action with the provided channel"
+                + " %s, expected a non-null and not empty String", this.getClass().getSimpleName(), channel);
+        this.channel = channel;
+        this.renderedBlocks = template.render(values);
+    }
+
     /**
      * Posts the provided {@code layoutBlocks} to the given {@code channel}.
      * <p>
@@ -81,15 +127,20 @@ public class PostLayoutBlocksMessage extends RuntimeArtifactAction<SlackPlatform
      */
     @Override
     public Object compute() throws IOException {
+        String channelId = this.runtimePlatform.getChannelId(teamId, channel);
+        if (nonNull(renderedBlocks)) {
+            return computeRenderedBlocks(channelId);
+        }
         ChatPostMessageRequest.ChatPostMessageRequestBuilder builder = ChatPostMessageRequest.builder();
         builder.token(runtimePlatform.getSlackToken(teamId))
-                .channel(this.runtimePlatform.getChannelId(teamId, channel))
+                .channel(channelId)
                 .blocks(layoutBlocks)
                 .unfurlLinks(true)
                 .unfurlMedia(true);
         ChatPostMessageRequest request = builder.build();
         try {
-            ChatPostMessageResponse response = runtimePlatform.getSlack().methods().chatPostMessage(request);
+            ChatPostMessageResponse response = runtimePlatform.getOutboundQueue().send(teamId, channelId,
+                    () -> runtimePlatform.getSlack().methods().chatPostMessage(request));
             if (response.isOk()) {
                 Log.trace("Request {0} successfully sent to the Slack API", request);
             } else {
@@ -102,6 +153,46 @@ public class PostLayoutBlocksMessage extends RuntimeArtifactAction<SlackPlatform
         return null;
     }
 
+    /**
+     * Posts the {@link #renderedBlocks} to the given {@code channelId}.
+     * <p>
+     * jslack serializes the blocks of a {@link ChatPostMessageRequest} from their object model. This method posts
+     * the already serialized blocks with the {@link SlackHttpClient} of the platform instead.
+     *
+     * @param channelId the identifier of the channel to post the blocks to
+     * @return {@code null}
+     * @throws IOException     if an I/O error occurred when sending the message
+     * @throws XatkitException if the Slack API returned an HTTP error
+     */
+    private Object computeRenderedBlocks(String channelId) throws IOException {
+        String token = runtimePlatform.getSlackToken(teamId);
+        FormBody form = new FormBody.Builder()
+                .add("channel", channelId)
+                .add("blocks", renderedBlocks)
+                .add("unfurl_links", "true")
+                .add("unfurl_media", "true")
+                .build();
+        try {
+            ChatPostMessageResponse response = runtimePlatform.getOutboundQueue().send(teamId, channelId, () -> {
+                SlackHttpClient httpClient = runtimePlatform.getSlack().getHttpClient();
+                try (Response httpResponse = httpClient.postFormWithBearerHeader(
+                        SlackExternalFileUploader.DEFAULT_ENDPOINT_URL_PREFIX + "chat.postMessage", token, form)) {
+                    return httpClient.parseJsonResponse(httpResponse, ChatPostMessageResponse.class);
+                }
+            });
+            if (response.isOk()) {
+                Log.trace("Blocks {0} successfully sent to the Slack API", renderedBlocks);
+            } else {
+                Log.error("An error occurred when posting the blocks {0}: received response {1}", renderedBlocks,
+                        response);
+            }
+        } catch (SlackApiException e) {
+            throw new XatkitException(MessageFormat.format("Cannot send the blocks {0} to the Slack API",
+                    renderedBlocks), e);
+        }
+        return null;
+    }
+
     @Override
     protected StateContext getClientStateContext() {
         return this.runtimePlatform.createSessionFromChannel(teamId, channel);
@@ -7,6 +7,7 @@ import com.xatkit.core.XatkitException;
 import com.xatkit.core.platform.action.RuntimeMessageAction;
 import com.xatkit.execution.StateContext;
 import com.xatkit.plugins.slack.platform.SlackPlatform;
+import com.xatkit.plugins.slack.platform.SlackReplyCoalescer;
 import fr.inria.atlanmod.commons.log.Log;
 import lombok.NonNull;
 
@@ -38,6 +39,13 @@ public class PostMessage extends RuntimeMessageAction<SlackPlatform> {
      */
     protected String threadTs;
 
+    /**
+     * Whether the message can be merged with the other messages posted to the same channel and thread.
+     *
+     * @see SlackPlatform#getReplyCoalescer()
+     */
+    protected boolean coalescing = true;
+
     /**
      * Constructs a {@link PostMessage} instance with the provided {@code runtimePlatform}, {@code session}, {@code
      * message}, {@code channel}, and {@code teamId}.
@@ -84,6 +92,19 @@ public class PostMessage extends RuntimeMessageAction<SlackPlatform> {
         this.threadTs = threadTs;
     }
 
+    /**
+     * Sets whether the message can be merged with the other messages posted to the same channel and thread.
+     * <p>
+     * Coalescing must be disabled for messages that are edited once posted, since a merged message contains the
+     * text of other messages.
+     *
+     * @param coalescing {@code true} to allow coalescing (default), {@code false} otherwise
+     * @see SlackPlatform#getReplyCoalescer()
+     */
+    public void setCoalescing(boolean coalescing) {
+        this.coalescing = coalescing;
+    }
+
     /**
      * Posts the provided {@code message} to the {@code teamId} workspace's {@code channel} with the given {@code
      * threadTs}.
@@ -92,15 +113,20 @@ public class PostMessage extends RuntimeMessageAction<SlackPlatform> {
      * {@code channel} itself. If {@code threadTs} contains a value the provided {@code message} is posted as a reply
      * to the thread.
      * <p>
+     * The message is delivered through the {@link SlackPlatform#getOutboundQueue()}, meaning that this method
+     * waits until the rate limits of the channel and the workspace allow to post it. If coalescing is enabled the
+     * message can be merged with the other messages posted to the same channel and thread (see
+     * {@link SlackPlatform#getReplyCoalescer()}).
      *
      * @return the {@code timestamp} of the posted message
      * @throws XatkitException if an error occurred when sending the message
      */
     @Override
     public Object compute() {
+        String channelId = this.runtimePlatform.getChannelId(teamId, channel);
         ChatPostMessageRequest.ChatPostMessageRequestBuilder builder = ChatPostMessageRequest.builder();
         builder.token(runtimePlatform.getSlackToken(teamId))
-                .channel(this.runtimePlatform.getChannelId(teamId, channel))
+                .channel(channelId)
                 .text(message)
                 .unfurlLinks(true)
                 .unfurlMedia(true);
@@ -108,8 +134,19 @@ public class PostMessage extends RuntimeMessageAction<SlackPlatform> {
             builder.threadTs(threadTs);
         }
         ChatPostMessageRequest request = builder.build();
+        SlackReplyCoalescer replyCoalescer = runtimePlatform.getReplyCoalescer();
         try {
-            ChatPostMessageResponse response = runtimePlatform.getSlack().methods().chatPostMessage(request);
+            ChatPostMessageResponse response;
+            if (nonNull(replyCoalescer) && coalescing) {
+                /*
+                 * The message may be merged with other messages posted to the same channel and thread, in which case
+                 * the returned ts is the one of the merged message.
+                 */
+                response = replyCoalescer.send(teamId, channelId, request.getThreadTs(), message);
+            } else {
+                response = runtimePlatform.getOutboundQueue().send(teamId, channelId,
+                        () -> runtimePlatform.getSlack().methods().chatPostMessage(request));
+            }
             logSlackApiResponse(response);
             if (response.isOk()) {
                 Log.trace("Request {0} successfully sent to the Slack API", request);
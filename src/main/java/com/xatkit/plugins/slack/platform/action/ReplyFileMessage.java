@@ -5,6 +5,8 @@ import com.xatkit.plugins.slack.platform.SlackPlatform;
 import lombok.NonNull;
 
 import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Path;
 
 /**
  * Replies to a message by uploading a {@code file} using the input {@code teamId} workspace's {@code channel}.
@@ -55,4 +57,40 @@ public class ReplyFileMessage extends PostFileMessage {
                             @NonNull String message, @NonNull String content) {
         super(platform, context, title, message, content, Reply.getChannel(context), Reply.getTeamId(context));
     }
+
+    /**
+     * Constructs a new {@link ReplyFileMessage} with the provided {@code platform}, {@code context}, {@code
+     * message}, and {@code path}.
+     *
+     * @param platform the {@link SlackPlatform} containing this action
+     * @param context  the {@link StateContext} associated to this action
+     * @param message  the message to associate to the uploaded file
+     * @param path     the {@link Path} of the file to stream
+     * @throws IllegalArgumentException if the provided {@code path} is not a regular file
+     * @see PostFileMessage#PostFileMessage(SlackPlatform, StateContext, String, Path, String, String)
+     */
+    public ReplyFileMessage(@NonNull SlackPlatform platform, @NonNull StateContext context, @NonNull String message,
+                            @NonNull Path path) {
+        super(platform, context, message, path, Reply.getChannel(context), Reply.getTeamId(context));
+    }
+
+    /**
+     * Constructs a new {@link ReplyFileMessage} with the provided {@code platform}, {@code context}, {@code title},
+     * {@code message}, {@code stream}, and {@code length}.
+     *
+     * @param platform the {@link SlackPlatform} containing this action
+     * @param context  the {@link StateContext} associated to this action
+     * @param title    the title of the file to upload
+     * @param message  the message to associate to the uploaded file
+     * @param stream   the {@link InputStream} to stream
+     * @param length   the number of bytes to read from the {@code stream}
+     * @throws IllegalArgumentException if the provided {@code title} is empty, or if the provided {@code length} is
+     *                                  lower than {@code 1}
+     * @see PostFileMessage#PostFileMessage(SlackPlatform, StateContext, String, String, InputStream, long, String,
+     * String)
+     */
+    public ReplyFileMessage(@NonNull SlackPlatform platform, @NonNull StateContext context, @NonNull String title,
+                            @NonNull String message, @NonNull InputStream stream, long length) {
+        super(platform, context, title, message, stream, length, Reply.getChannel(context), Reply.getTeamId(context));
+    }
 }
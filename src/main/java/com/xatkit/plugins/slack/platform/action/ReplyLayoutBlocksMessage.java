@@ -3,9 +3,11 @@ package com.xatkit.plugins.slack.platform.action;
 import com.github.seratch.jslack.api.model.block.LayoutBlock;
 import com.xatkit.execution.StateContext;
 import com.xatkit.plugins.slack.platform.SlackPlatform;
+import com.xatkit.plugins.slack.util.SlackBlockTemplate;
 import lombok.NonNull;
 
 import java.util.List;
+import java.util.Map;
 
 public class ReplyLayoutBlocksMessage extends PostLayoutBlocksMessage {
 
@@ -24,4 +26,23 @@ public class ReplyLayoutBlocksMessage extends PostLayoutBlocksMessage {
         super(platform, context, layoutBlocks, Reply.getChannel(context), Reply.getTeamId(context));
     }
 
+    /**
+     * Constructs a new {@link ReplyLayoutBlocksMessage} with the provided
+     * {@code runtimePlatform}, {@code session}, {@code template}, and {@code values}.
+     *
+     * @param platform the {@link SlackPlatform} containing this action
+     * @param context  the {@link StateContext} associated to this action
+     * @param template the {@link SlackBlockTemplate} to render
+     * @param values   the values of the placeholders of the {@code template}
+     * @throws IllegalArgumentException if the provided {@code values} does not contain a value for a placeholder of
+     *                                  the {@code template}
+     * @see Reply#getChannel(StateContext)
+     * @see PostLayoutBlocksMessage#PostLayoutBlocksMessage(SlackPlatform, StateContext, SlackBlockTemplate, Map,
+     * String, String)
+     */
+    public ReplyLayoutBlocksMessage(@NonNull SlackPlatform platform, @NonNull StateContext context,
+                                    @NonNull SlackBlockTemplate template, @NonNull Map<String, ?> values) {
+        super(platform, context, template, values, Reply.getChannel(context), Reply.getTeamId(context));
+    }
+
 }
@@ -0,0 +1,248 @@
+package com.xatkit.plugins.slack.platform.io;
+
+import javax.annotation.Nullable;
+
+/**
+ * A decoded Slack event.
+ * <p>
+ * This class only contains the event fields that are used by the {@link SlackIntentProvider}. Instances of this
+ * class are mutable and are reused by the {@link SlackEventDecoder} to decode successive events without allocating
+ * new objects. Client code that needs to keep event information after decoding the next event must copy the field
+ * values.
+ *
+ * @see SlackEventDecoder
+ */
+public class SlackEvent {
+
+    /**
+     * The type of the event.
+     */
+    private String type;
+
+    /**
+     * The subtype of the event.
+     */
+    private String subtype;
+
+    /**
+     * The identifier of the workspace containing the event.
+     */
+    private String team;
+
+    /**
+     * The identifier of the channel containing the event.
+     */
+    private String channel;
+
+    /**
+     * The name of the channel containing the event.
+     * <p>
+     * This field is only set for the events containing a channel object (e.g. {@code channel_created}).
+     */
+    private String channelName;
+
+    /**
+     * The identifier of the user that triggered the event.
+     */
+    private String user;
+
+    /**
+     * The text of the event.
+     */
+    private String text;
+
+    /**
+     * The timestamp of the event.
+     */
+    private String ts;
+
+    /**
+     * The timestamp of the thread containing the event.
+     */
+    private String threadTs;
+
+    /**
+     * Resets all the fields of this event.
+     * <p>
+     * This method is called by the {@link SlackEventDecoder} before decoding a new event in this instance.
+     */
+    void clear() {
+        this.type = null;
+        this.subtype = null;
+        this.team = null;
+        this.channel = null;
+        this.channelName = null;
+        this.user = null;
+        this.text = null;
+        this.ts = null;
+        this.threadTs = null;
+    }
+
+    /**
+     * Returns the type of the event.
+     *
+     * @return the type of the event, or {@code null} if the decoded event does not define a type
+     */
+    public @Nullable String getType() {
+        return type;
+    }
+
+    /**
+     * Sets the type of the event.
+     *
+     * @param type the type of the event
+     */
+    void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns the subtype of the event.
+     *
+     * @return the subtype of the event, or {@code null} if the event does not define a subtype
+     */
+    public @Nullable String getSubtype() {
+        return subtype;
+    }
+
+    /**
+     * Sets the subtype of the event.
+     *
+     * @param subtype the subtype of the event
+     */
+    void setSubtype(String subtype) {
+        this.subtype = subtype;
+    }
+
+    /**
+     * Returns the identifier of the workspace containing the event.
+     *
+     * @return the identifier of the workspace, or {@code null} if the event does not define it
+     */
+    public @Nullable String getTeam() {
+        return team;
+    }
+
+    /**
+     * Sets the identifier of the workspace containing the event.
+     *
+     * @param team the identifier of the workspace
+     */
+    void setTeam(String team) {
+        this.team = team;
+    }
+
+    /**
+     * Returns the identifier of the channel containing the event.
+     *
+     * @return the identifier of the channel, or {@code null} if the event does not define it
+     */
+    public @Nullable String getChannel() {
+        return channel;
+    }
+
+    /**
+     * Sets the identifier of the channel containing the event.
+     *
+     * @param channel the identifier of the channel
+     */
+    void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Returns the name of the channel containing the event.
+     *
+     * @return the name of the channel, or {@code null} if the event does not contain a channel object
+     */
+    public @Nullable String getChannelName() {
+        return channelName;
+    }
+
+    /**
+     * Sets the name of the channel containing the event.
+     *
+     * @param channelName the name of the channel
+     */
+    void setChannelName(String channelName) {
+        this.channelName = channelName;
+    }
+
+    /**
+     * Returns the identifier of the user that triggered the event.
+     *
+     * @return the identifier of the user, or {@code null} if the event does not define it
+     */
+    public @Nullable String getUser() {
+        return user;
+    }
+
+    /**
+     * Sets the identifier of the user that triggered the event.
+     *
+     * @param user the identifier of the user
+     */
+    void setUser(String user) {
+        this.user = user;
+    }
+
+    /**
+     * Returns the text of the event.
+     *
+     * @return the text of the event, or {@code null} if the event does not define it
+     */
+    public @Nullable String getText() {
+        return text;
+    }
+
+    /**
+     * Sets the text of the event.
+     *
+     * @param text the text of the event
+     */
+    void setText(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Returns the timestamp of the event.
+     *
+     * @return the timestamp of the event, or {@code null} if the event does not define it
+     */
+    public @Nullable String getTs() {
+        return ts;
+    }
+
+    /**
+     * Sets the timestamp of the event.
+     *
+     * @param ts the timestamp of the event
+     */
+    void setTs(String ts) {
+        this.ts = ts;
+    }
+
+    /**
+     * Returns the timestamp of the thread containing the event.
+     *
+     * @return the timestamp of the thread, or {@code null} if the event is not part of a thread
+     */
+    public @Nullable String getThreadTs() {
+        return threadTs;
+    }
+
+    /**
+     * Sets the timestamp of the thread containing the event.
+     *
+     * @param threadTs the timestamp of the thread
+     */
+    void setThreadTs(String threadTs) {
+        this.threadTs = threadTs;
+    }
+
+    @Override
+    public String toString() {
+        return "SlackEvent{type=" + type + ", subtype=" + subtype + ", team=" + team + ", channel=" + channel
+                + ", channelName=" + channelName + ", user=" + user + ", ts=" + ts + ", threadTs=" + threadTs + "}";
+    }
+}
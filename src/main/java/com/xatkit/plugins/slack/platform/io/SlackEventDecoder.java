@@ -0,0 +1,278 @@
+package com.xatkit.plugins.slack.platform.io;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A streaming decoder for the events sent by the Slack API.
+ * <p>
+ * This decoder reads the JSON events with a {@link JsonReader} instead of building a JSON tree, and only extracts
+ * the fields stored in {@link SlackEvent}. Events with a {@code type} that is not accepted by the decoder are
+ * skipped as soon as their {@code type} is read (the Slack API puts the {@code type} field first), meaning that
+ * frequent events the bot does not react to (typing indicators, presence changes, etc) are discarded without
+ * reading their content.
+ * <p>
+ * Fields that can be either an identifier or an object (e.g. the {@code user} field of {@code user_change} events)
+ * are decoded as the identifier contained in the {@code id} field of the object. The {@code name} of channel objects
+ * (e.g. in {@code channel_created} events) is also decoded.
+ * <p>
+ * This class does not hold any decoding state and can be shared by multiple threads.
+ *
+ * @see SlackEvent
+ */
+public class SlackEventDecoder {
+
+    /**
+     * The event types accepted by this decoder.
+     */
+    private final Set<String> acceptedTypes;
+
+    /**
+     * Constructs a {@link SlackEventDecoder} accepting the provided {@code acceptedTypes}.
+     *
+     * @param acceptedTypes the event types to decode
+     */
+    public SlackEventDecoder(String... acceptedTypes) {
+        this.acceptedTypes = new HashSet<>(Arrays.asList(acceptedTypes));
+    }
+
+    /**
+     * Decodes the provided JSON {@code frame} into the given {@code event}.
+     * <p>
+     * The content of the provided {@code event} is reset before decoding the {@code frame}. If the {@code frame}
+     * type is not accepted by this decoder the decoding stops after reading the type, and only the type of the
+     * provided {@code event} is set.
+     *
+     * @param frame the JSON frame to decode
+     * @param event the {@link SlackEvent} to fill with the decoded values
+     * @return {@code true} if the frame defines an accepted type and has been decoded, {@code false} otherwise
+     * @throws IOException if the provided {@code frame} is not a valid JSON object
+     */
+    public boolean decode(String frame, SlackEvent event) throws IOException {
+        event.clear();
+        try (JsonReader reader = new JsonReader(new StringReader(frame))) {
+            return decodeObject(reader, event);
+        } catch (IllegalStateException | NumberFormatException e) {
+            /*
+             * Thrown by JsonReader when the frame does not have the expected structure.
+             */
+            throw new IOException("Cannot decode the Slack event " + frame, e);
+        }
+    }
+
+    /**
+     * Decodes the provided Events API {@code payload} into the given {@code envelope}.
+     * <p>
+     * The content of the provided {@code envelope} is reset before decoding the {@code payload}. The event wrapped
+     * in the {@code payload} is decoded in the {@link SlackEvent} of the {@code envelope}, following the same rules
+     * as {@link #decode(String, SlackEvent)}. If the wrapped event does not define its {@code team}, the {@code
+     * team_id} of the envelope is used.
+     *
+     * @param payload  the JSON payload to decode
+     * @param envelope the {@link SlackEventEnvelope} to fill with the decoded values
+     * @return {@code true} if the payload wraps an event with an accepted type, {@code false} otherwise
+     * @throws IOException if the provided {@code payload} is not a valid JSON object
+     */
+    public boolean decodeEnvelope(String payload, SlackEventEnvelope envelope) throws IOException {
+        envelope.clear();
+        boolean accepted = false;
+        try (JsonReader reader = new JsonReader(new StringReader(payload))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "type":
+                        envelope.setType(nextString(reader));
+                        break;
+                    case "challenge":
+                        envelope.setChallenge(nextString(reader));
+                        break;
+                    case "team_id":
+                        envelope.setTeamId(nextString(reader));
+                        break;
+                    case "event_id":
+                        envelope.setEventId(nextString(reader));
+                        break;
+                    case "event":
+                        accepted = decodeObject(reader, envelope.getEvent(), false);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new IOException("Cannot decode the Slack Events API payload " + payload, e);
+        }
+        SlackEvent event = envelope.getEvent();
+        if (accepted && isNull(event.getTeam())) {
+            event.setTeam(envelope.getTeamId());
+        }
+        return accepted;
+    }
+
+    /**
+     * Decodes the JSON object at the current position of the provided {@code reader} into the given {@code event}.
+     *
+     * @param reader the {@link JsonReader} to read the object from
+     * @param event  the {@link SlackEvent} to fill with the decoded values
+     * @return {@code true} if the object defines an accepted type and has been decoded, {@code false} otherwise
+     * @throws IOException if an error occurred when reading the object
+     */
+    protected boolean decodeObject(JsonReader reader, SlackEvent event) throws IOException {
+        return decodeObject(reader, event, true);
+    }
+
+    /**
+     * Decodes the JSON object at the current position of the provided {@code reader} into the given {@code event}.
+     * <p>
+     * If {@code stopOnIgnoredType} is {@code false} the remaining fields of an object with an ignored type are
+     * skipped, leaving the {@code reader} after the end of the object. This allows to decode nested objects.
+     *
+     * @param reader            the {@link JsonReader} to read the object from
+     * @param event             the {@link SlackEvent} to fill with the decoded values
+     * @param stopOnIgnoredType whether to stop reading as soon as an ignored type is found
+     * @return {@code true} if the object defines an accepted type and has been decoded, {@code false} otherwise
+     * @throws IOException if an error occurred when reading the object
+     */
+    private boolean decodeObject(JsonReader reader, SlackEvent event, boolean stopOnIgnoredType) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+                case "type":
+                    String type = nextString(reader);
+                    event.setType(type);
+                    if (!acceptedTypes.contains(type)) {
+                        if (!stopOnIgnoredType) {
+                            while (reader.hasNext()) {
+                                reader.nextName();
+                                reader.skipValue();
+                            }
+                            reader.endObject();
+                        }
+                        /*
+                         * Stop here, there is no need to read the rest of the frame.
+                         */
+                        return false;
+                    }
+                    break;
+                case "subtype":
+                    event.setSubtype(nextString(reader));
+                    break;
+                case "team":
+                    event.setTeam(nextString(reader));
+                    break;
+                case "channel":
+                    nextChannel(reader, event);
+                    break;
+                case "user":
+                    event.setUser(nextIdentifier(reader));
+                    break;
+                case "text":
+                    event.setText(nextString(reader));
+                    break;
+                case "ts":
+                    event.setTs(nextString(reader));
+                    break;
+                case "thread_ts":
+                    event.setThreadTs(nextString(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return nonNull(event.getType());
+    }
+
+    /**
+     * Reads the next primitive value of the provided {@code reader} as a {@link String}.
+     * <p>
+     * This method skips non-primitive values and returns {@code null}.
+     *
+     * @param reader the {@link JsonReader} to read the value from
+     * @return the read value, or {@code null} if the value is {@code null} or is not a primitive
+     * @throws IOException if an error occurred when reading the value
+     */
+    protected static String nextString(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        switch (token) {
+            case STRING:
+            case NUMBER:
+                return reader.nextString();
+            case BOOLEAN:
+                return Boolean.toString(reader.nextBoolean());
+            case NULL:
+                reader.nextNull();
+                return null;
+            default:
+                reader.skipValue();
+                return null;
+        }
+    }
+
+    /**
+     * Reads the next channel of the provided {@code reader} into the given {@code event}.
+     * <p>
+     * The channel can be either an identifier or a channel object containing an {@code id} and a {@code name}.
+     *
+     * @param reader the {@link JsonReader} to read the channel from
+     * @param event  the {@link SlackEvent} to fill with the channel identifier and name
+     * @throws IOException if an error occurred when reading the value
+     */
+    private static void nextChannel(JsonReader reader, SlackEvent event) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            event.setChannel(nextString(reader));
+            return;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    event.setChannel(nextString(reader));
+                    break;
+                case "name":
+                    event.setChannelName(nextString(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    /**
+     * Reads the next identifier of the provided {@code reader}.
+     * <p>
+     * The identifier can be either a primitive value or an object containing an {@code id} field.
+     *
+     * @param reader the {@link JsonReader} to read the identifier from
+     * @return the read identifier, or {@code null} if the value does not contain an identifier
+     * @throws IOException if an error occurred when reading the value
+     */
+    protected static String nextIdentifier(JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            return nextString(reader);
+        }
+        String id = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("id")) {
+                id = nextString(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return id;
+    }
+}
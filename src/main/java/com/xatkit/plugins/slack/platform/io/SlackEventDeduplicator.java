@@ -0,0 +1,260 @@
+package com.xatkit.plugins.slack.platform.io;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+import static java.util.Objects.isNull;
+
+/**
+ * A bounded, time-windowed filter dropping the Slack messages that are delivered more than once.
+ * <p>
+ * The same message can be delivered several times, e.g. when a RTM client is reconnected or when the Slack Events
+ * API retries a request that has not been acknowledged in time. This filter identifies messages by their {@code
+ * (team, channel, ts)} triple, and reports the messages already seen during the last {@code window} ms as
+ * duplicates.
+ * <p>
+ * Messages are stored as 64-bit fingerprints in fixed-size open addressing tables, meaning that checking a message
+ * does not allocate any object. The tables are split in independently locked stripes to limit contention when
+ * messages are delivered concurrently. When the probed slots of a stripe are all used by messages seen during the
+ * {@code window}, the oldest one is evicted: the filter may accept a duplicate delivered long after the original
+ * message under heavy load, but its memory footprint never grows.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see com.xatkit.plugins.slack.SlackUtils#DEDUPLICATION_WINDOW_KEY
+ * @see com.xatkit.plugins.slack.SlackUtils#DEDUPLICATION_CAPACITY_KEY
+ */
+public class SlackEventDeduplicator {
+
+    /**
+     * The number of stripes of the filter.
+     * <p>
+     * This value must be a power of two.
+     */
+    private static final int STRIPES = 16;
+
+    /**
+     * The maximum number of slots probed to find a fingerprint.
+     */
+    private static final int MAX_PROBES = 8;
+
+    /**
+     * The fingerprint value representing an empty slot.
+     */
+    private static final long EMPTY = 0L;
+
+    /**
+     * The FNV-1a 64-bit offset basis.
+     */
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    /**
+     * The FNV-1a 64-bit prime.
+     */
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * The duration (in ms) during which a message is remembered.
+     */
+    private final long window;
+
+    /**
+     * The stripes storing the fingerprints of the received messages.
+     */
+    private final Stripe[] stripes;
+
+    /**
+     * The number of duplicated messages dropped by this filter.
+     */
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /**
+     * Constructs a {@link SlackEventDeduplicator} with the provided {@code capacity} and {@code window}.
+     *
+     * @param capacity the number of messages the filter can remember
+     * @param window   the duration (in ms) during which a message is remembered
+     * @throws IllegalArgumentException if the provided {@code capacity} or {@code window} is lower than {@code 1}
+     */
+    public SlackEventDeduplicator(int capacity, long window) {
+        checkArgument(capacity > 0, "Cannot create a %s with the provided capacity %s, expected a strictly positive " +
+                "number", SlackEventDeduplicator.class.getSimpleName(), capacity);
+        checkArgument(window > 0, "Cannot create a %s with the provided window %s, expected a strictly positive " +
+                "number", SlackEventDeduplicator.class.getSimpleName(), window);
+        this.window = window;
+        /*
+         * Size the stripes at twice the requested capacity to keep the probe sequences short.
+         */
+        int stripeSize = Integer.highestOneBit(Math.max(MAX_PROBES, (2 * capacity - 1) / STRIPES) * 2);
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(stripeSize);
+        }
+    }
+
+    /**
+     * Records the message identified by the provided {@code team}, {@code channel}, and {@code ts}.
+     * <p>
+     * Messages without a {@code ts} cannot be identified and are always accepted.
+     *
+     * @param team    the identifier of the workspace containing the message
+     * @param channel the identifier of the channel containing the message
+     * @param ts      the timestamp of the message
+     * @return {@code true} if the message has not been received during the window, {@code false} if it is a
+     * duplicate
+     */
+    public boolean accept(String team, String channel, String ts) {
+        return accept(team, channel, ts, System.currentTimeMillis());
+    }
+
+    /**
+     * Records the message identified by the provided {@code team}, {@code channel}, and {@code ts} at the given
+     * {@code currentTimeMillis}.
+     *
+     * @param team              the identifier of the workspace containing the message
+     * @param channel           the identifier of the channel containing the message
+     * @param ts                the timestamp of the message
+     * @param currentTimeMillis the current time, in milliseconds
+     * @return {@code true} if the message has not been received during the window, {@code false} if it is a
+     * duplicate
+     */
+    boolean accept(String team, String channel, String ts, long currentTimeMillis) {
+        if (isNull(ts) || ts.isEmpty()) {
+            return true;
+        }
+        long fingerprint = fingerprint(team, channel, ts);
+        Stripe stripe = stripes[(int) (fingerprint >>> 60) & (STRIPES - 1)];
+        if (stripe.add(fingerprint, currentTimeMillis, window)) {
+            return true;
+        }
+        droppedCount.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Returns the number of duplicated messages dropped by this filter.
+     *
+     * @return the number of dropped messages
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Computes the 64-bit fingerprint of the provided message identifier.
+     * <p>
+     * The fingerprint is never {@link #EMPTY}.
+     *
+     * @param team    the identifier of the workspace containing the message
+     * @param channel the identifier of the channel containing the message
+     * @param ts      the timestamp of the message
+     * @return the fingerprint of the message
+     */
+    private static long fingerprint(String team, String channel, String ts) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = hash(hash, team);
+        hash = hash(hash, channel);
+        hash = hash(hash, ts);
+        /*
+         * Final mix (from MurmurHash3's fmix64) to spread the FNV bits, the high bits are used to select the stripe.
+         */
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == EMPTY ? 1L : hash;
+    }
+
+    /**
+     * Updates the provided FNV-1a {@code hash} with the characters of the given {@code value}.
+     * <p>
+     * A separator is hashed after the value to distinguish e.g. {@code ("ab", "c")} from {@code ("a", "bc")}.
+     *
+     * @param hash  the hash to update
+     * @param value the value to hash
+     * @return the updated hash
+     */
+    private static long hash(long hash, String value) {
+        if (!isNull(value)) {
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= FNV_PRIME;
+            }
+        }
+        hash ^= 0xFFFF;
+        hash *= FNV_PRIME;
+        return hash;
+    }
+
+    /**
+     * A stripe of the filter.
+     * <p>
+     * Each stripe is an open addressing table with linear probing, storing the fingerprints of the received messages
+     * and the time they have been received.
+     */
+    private static class Stripe {
+
+        /**
+         * The fingerprints stored in the stripe.
+         */
+        private final long[] fingerprints;
+
+        /**
+         * The times (in ms since epoch) the stored fingerprints have been received.
+         */
+        private final long[] times;
+
+        /**
+         * The mask used to compute the slot of a fingerprint.
+         */
+        private final int mask;
+
+        /**
+         * Constructs a {@link Stripe} with the provided {@code size}.
+         *
+         * @param size the number of slots of the stripe, must be a power of two
+         */
+        private Stripe(int size) {
+            this.fingerprints = new long[size];
+            this.times = new long[size];
+            this.mask = size - 1;
+        }
+
+        /**
+         * Adds the provided {@code fingerprint} to this stripe.
+         *
+         * @param fingerprint       the fingerprint to add
+         * @param currentTimeMillis the current time, in milliseconds
+         * @param window            the duration (in ms) during which a fingerprint is remembered
+         * @return {@code true} if the fingerprint was not stored in this stripe or has expired, {@code false}
+         * otherwise
+         */
+        private synchronized boolean add(long fingerprint, long currentTimeMillis, long window) {
+            int start = (int) fingerprint & mask;
+            int freeSlot = -1;
+            int oldestSlot = start;
+            for (int i = 0; i < MAX_PROBES; i++) {
+                int slot = (start + i) & mask;
+                long stored = fingerprints[slot];
+                boolean expired = stored == EMPTY || currentTimeMillis - times[slot] >= window;
+                if (stored == fingerprint && !expired) {
+                    return false;
+                }
+                if (expired && freeSlot < 0) {
+                    freeSlot = slot;
+                }
+                if (times[slot] < times[oldestSlot]) {
+                    oldestSlot = slot;
+                }
+            }
+            /*
+             * Evict the oldest fingerprint if all the probed slots are used by fingerprints received during the
+             * window.
+             */
+            int slot = freeSlot >= 0 ? freeSlot : oldestSlot;
+            fingerprints[slot] = fingerprint;
+            times[slot] = currentTimeMillis;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.xatkit.plugins.slack.platform.io;
+
+import javax.annotation.Nullable;
+
+/**
+ * A decoded Slack Events API payload.
+ * <p>
+ * The Events API wraps the events sent to the bot in an envelope containing additional information such as the
+ * identifier of the workspace the event comes from. This class contains the envelope fields used by the
+ * {@link SlackEventsRestHandler}, as well as the wrapped {@link SlackEvent}.
+ *
+ * @see SlackEventDecoder#decodeEnvelope(String, SlackEventEnvelope)
+ */
+public class SlackEventEnvelope {
+
+    /**
+     * The type of the payload ({@code url_verification} or {@code event_callback}).
+     */
+    private String type;
+
+    /**
+     * The challenge to answer when the payload is a {@code url_verification} request.
+     */
+    private String challenge;
+
+    /**
+     * The identifier of the workspace the wrapped event comes from.
+     */
+    private String teamId;
+
+    /**
+     * The unique identifier of the wrapped event.
+     */
+    private String eventId;
+
+    /**
+     * The wrapped {@link SlackEvent}.
+     */
+    private final SlackEvent event = new SlackEvent();
+
+    /**
+     * Resets all the fields of this envelope and of its wrapped event.
+     */
+    void clear() {
+        this.type = null;
+        this.challenge = null;
+        this.teamId = null;
+        this.eventId = null;
+        this.event.clear();
+    }
+
+    /**
+     * Returns the type of the payload.
+     *
+     * @return the type of the payload, or {@code null} if the payload does not define a type
+     */
+    public @Nullable String getType() {
+        return type;
+    }
+
+    /**
+     * Sets the type of the payload.
+     *
+     * @param type the type of the payload
+     */
+    void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns the challenge to answer when the payload is a {@code url_verification} request.
+     *
+     * @return the challenge, or {@code null} if the payload does not contain a challenge
+     */
+    public @Nullable String getChallenge() {
+        return challenge;
+    }
+
+    /**
+     * Sets the challenge to answer.
+     *
+     * @param challenge the challenge to answer
+     */
+    void setChallenge(String challenge) {
+        this.challenge = challenge;
+    }
+
+    /**
+     * Returns the identifier of the workspace the wrapped event comes from.
+     *
+     * @return the identifier of the workspace, or {@code null} if the payload does not define it
+     */
+    public @Nullable String getTeamId() {
+        return teamId;
+    }
+
+    /**
+     * Sets the identifier of the workspace the wrapped event comes from.
+     *
+     * @param teamId the identifier of the workspace
+     */
+    void setTeamId(String teamId) {
+        this.teamId = teamId;
+    }
+
+    /**
+     * Returns the unique identifier of the wrapped event.
+     *
+     * @return the identifier of the event, or {@code null} if the payload does not define it
+     */
+    public @Nullable String getEventId() {
+        return eventId;
+    }
+
+    /**
+     * Sets the unique identifier of the wrapped event.
+     *
+     * @param eventId the identifier of the event
+     */
+    void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
+    /**
+     * Returns the wrapped {@link SlackEvent}.
+     *
+     * @return the wrapped event
+     */
+    public SlackEvent getEvent() {
+        return event;
+    }
+}
@@ -0,0 +1,192 @@
+package com.xatkit.plugins.slack.platform.io;
+
+import com.google.gson.JsonObject;
+import com.xatkit.core.server.RestHandler;
+import com.xatkit.core.server.RestHandlerException;
+import com.xatkit.plugins.slack.SlackUtils;
+import fr.inria.atlanmod.commons.log.Log;
+import lombok.NonNull;
+import org.apache.http.Header;
+import org.apache.http.NameValuePair;
+import org.apache.http.entity.ContentType;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+/**
+ * The {@link RestHandler} receiving the requests sent by the Slack Events API.
+ * <p>
+ * This handler verifies the signature of the received requests with a {@link SlackRequestVerifier}, answers the
+ * {@code url_verification} challenge sent by Slack when the request URL of the app is configured, and forwards the
+ * events wrapped in {@code event_callback} requests to its {@link SlackEventListener}.
+ * <p>
+ * The handler works on the raw body of the request: the signature is computed by Slack on the exact bytes it sent,
+ * and cannot be checked against a re-serialized JSON tree. Events are decoded with a {@link SlackEventDecoder}.
+ * <p>
+ * Slack expects an answer within 3 seconds, and retries the requests that are not acknowledged in time. The
+ * {@link SlackEventListener} should not perform blocking operations (see
+ * {@link SlackIntentProvider#notifyEvent(SlackEvent, String)}, which dispatches the processing of the messages).
+ *
+ * @see SlackUtils#INGESTION_MODE_KEY
+ * @see SlackUtils#EVENTS_API_ENDPOINT
+ */
+public class SlackEventsRestHandler extends RestHandler<String> {
+
+    /**
+     * The Events API payload type sent by Slack to verify the request URL of the app.
+     */
+    public static final String URL_VERIFICATION_TYPE = "url_verification";
+
+    /**
+     * The Events API payload type wrapping the events the app is subscribed to.
+     */
+    public static final String EVENT_CALLBACK_TYPE = "event_callback";
+
+    /**
+     * The {@link SlackRequestVerifier} used to check the signature of the received requests.
+     */
+    private final SlackRequestVerifier verifier;
+
+    /**
+     * The {@link SlackEventDecoder} used to decode the received payloads.
+     */
+    private final SlackEventDecoder decoder;
+
+    /**
+     * The {@link SlackEventListener} notified with the received events.
+     */
+    private final SlackEventListener listener;
+
+    /**
+     * Constructs a {@link SlackEventsRestHandler} with the provided parameters.
+     *
+     * @param signingSecret the signing secret of the Slack app
+     * @param decoder       the {@link SlackEventDecoder} used to decode the received payloads
+     * @param listener      the {@link SlackEventListener} notified with the received events
+     * @throws NullPointerException     if the provided {@code decoder} or {@code listener} is {@code null}
+     * @throws IllegalArgumentException if the provided {@code signingSecret} is {@code null} or empty
+     */
+    public SlackEventsRestHandler(String signingSecret, @NonNull SlackEventDecoder decoder,
+                                  @NonNull SlackEventListener listener) {
+        this.verifier = new SlackRequestVerifier(signingSecret);
+        this.decoder = decoder;
+        this.listener = listener;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The Slack Events API sends its requests with the {@code application/json} content type. Content type
+     * parameters (e.g. {@code charset}) are ignored.
+     */
+    @Override
+    public boolean acceptContentType(@Nullable String contentType) {
+        if (isNull(contentType)) {
+            return false;
+        }
+        int parametersIndex = contentType.indexOf(';');
+        String mimeType = parametersIndex < 0 ? contentType : contentType.substring(0, parametersIndex);
+        return ContentType.APPLICATION_JSON.getMimeType().equalsIgnoreCase(mimeType.trim());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method returns the raw body of the request, the JSON payload is decoded once the signature of the
+     * request has been verified.
+     */
+    @Override
+    protected String parseContent(@Nullable Object content) {
+        if (isNull(content)) {
+            return null;
+        }
+        return content.toString();
+    }
+
+    /**
+     * Verifies and handles the received Events API {@code content}.
+     *
+     * @param headers the HTTP headers of the request
+     * @param params  the HTTP parameters of the request
+     * @param content the raw body of the request
+     * @return a {@link JsonObject} containing the {@code challenge} if the request is a {@code url_verification}
+     * request, an empty {@link JsonObject} otherwise
+     * @throws RestHandlerException if the signature of the request is invalid or if the request body cannot be
+     *                              decoded
+     */
+    @Override
+    protected Object handleParsedContent(@NonNull List<Header> headers, @NonNull List<NameValuePair> params,
+                                         @Nullable String content) throws RestHandlerException {
+        if (isNull(content)) {
+            throw new RestHandlerException(400, "The Slack request does not contain a body");
+        }
+        if (!verifier.verify(getHeaderValue(headers, SlackRequestVerifier.TIMESTAMP_HEADER),
+                getHeaderValue(headers, SlackRequestVerifier.SIGNATURE_HEADER), content)) {
+            Log.warn("Rejecting a Slack Events API request with an invalid signature");
+            throw new RestHandlerException(401, "Invalid Slack request signature");
+        }
+        /*
+         * Requests are handled concurrently by the server threads, create a new envelope for each of them.
+         */
+        SlackEventEnvelope envelope = new SlackEventEnvelope();
+        boolean accepted;
+        try {
+            accepted = decoder.decodeEnvelope(content, envelope);
+        } catch (IOException e) {
+            Log.error("Cannot decode the Slack Events API payload {0}, see the attached exception", content, e);
+            throw new RestHandlerException(400, "Cannot decode the Slack Events API payload");
+        }
+        JsonObject result = new JsonObject();
+        if (URL_VERIFICATION_TYPE.equals(envelope.getType())) {
+            Log.info("Answering the Slack Events API URL verification challenge");
+            result.addProperty("challenge", envelope.getChallenge());
+        } else if (EVENT_CALLBACK_TYPE.equals(envelope.getType())) {
+            if (accepted) {
+                listener.notifyEvent(envelope.getEvent(), content);
+            } else {
+                Log.trace("Skipping {0}, the event type is not supported", content);
+            }
+        } else {
+            Log.warn("Skipping {0}, unsupported Slack Events API payload type {1}", content, envelope.getType());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value of the header with the provided {@code name}.
+     * <p>
+     * HTTP header names are case-insensitive.
+     *
+     * @param headers the headers to search in
+     * @param name    the name of the header to retrieve
+     * @return the value of the header, or {@code null} if the provided {@code headers} do not contain it
+     */
+    private static @Nullable String getHeaderValue(List<Header> headers, String name) {
+        for (Header header : headers) {
+            if (name.equalsIgnoreCase(header.getName())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A listener notified with the events received by a {@link SlackEventsRestHandler}.
+     */
+    @FunctionalInterface
+    public interface SlackEventListener {
+
+        /**
+         * Notifies the listener that the provided {@code event} has been received.
+         * <p>
+         * The provided {@code event} is not reused by the handler once this method returns.
+         *
+         * @param event    the decoded {@link SlackEvent}
+         * @param rawEvent the raw payload the {@code event} has been decoded from
+         */
+        void notifyEvent(SlackEvent event, String rawEvent);
+    }
+}
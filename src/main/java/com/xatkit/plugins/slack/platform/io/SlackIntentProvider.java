@@ -1,17 +1,12 @@
 package com.xatkit.plugins.slack.platform.io;
 
 import com.github.seratch.jslack.api.methods.SlackApiException;
-import com.github.seratch.jslack.api.methods.request.auth.AuthTestRequest;
 import com.github.seratch.jslack.api.methods.request.users.UsersInfoRequest;
-import com.github.seratch.jslack.api.methods.response.auth.AuthTestResponse;
 import com.github.seratch.jslack.api.methods.response.users.UsersInfoResponse;
 import com.github.seratch.jslack.api.model.User;
 import com.github.seratch.jslack.api.rtm.RTMClient;
 import com.github.seratch.jslack.api.rtm.RTMCloseHandler;
 import com.github.seratch.jslack.api.rtm.RTMMessageHandler;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.xatkit.core.XatkitException;
 import com.xatkit.core.platform.io.IntentRecognitionHelper;
 import com.xatkit.core.platform.io.RuntimeEventProvider;
@@ -21,6 +16,7 @@ import com.xatkit.intent.RecognizedIntent;
 import com.xatkit.plugins.chat.ChatUtils;
 import com.xatkit.plugins.chat.platform.io.ChatIntentProvider;
 import com.xatkit.plugins.slack.SlackUtils;
+import com.xatkit.plugins.slack.platform.SlackChannelIndex;
 import com.xatkit.plugins.slack.platform.SlackPlatform;
 import fr.inria.atlanmod.commons.log.Log;
 import org.apache.commons.configuration2.Configuration;
@@ -28,8 +24,9 @@ import org.apache.commons.configuration2.Configuration;
 import javax.websocket.CloseReason;
 import javax.websocket.DeploymentException;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 
 import static com.xatkit.plugins.slack.util.SlackUtils.logSlackApiResponse;
 import static fr.inria.atlanmod.commons.Preconditions.checkNotNull;
@@ -40,7 +37,9 @@ import static java.util.Objects.nonNull;
  * A Slack-based {@link ChatIntentProvider}.
  * <p>
  * This class relies on the Slack RTM API to receive direct messages from workspaces where the Slack app is
- * installed and react to them.
+ * installed and react to them. The provider can also be configured to receive the events through the Slack Events
+ * API (see {@link SlackUtils#INGESTION_MODE_KEY}), in which case the events are received by the HTTP endpoint
+ * registered by the {@link SlackPlatform} and forwarded to {@link #notifyEvent(SlackEvent, String)}.
  * <p>
  * This class loads the Slack {@code token}s stored in its containing {@link SlackPlatform} to initialize its RTM
  * listeners. New installations of the Slack app are handled by {@link #notifyNewInstallation(String, String)}.
@@ -58,27 +57,41 @@ public class SlackIntentProvider extends ChatIntentProvider<SlackPlatform> {
     private static String DEFAULT_USERNAME = "unknown user";
 
     /**
-     * The delay (in ms) to wait before attempting to reconnect disconnected RTM clients.
+     * The {@link Map} containing the {@link RTMClient}s associated to each workspace where the Slack app is installed.
      * <p>
-     * When a RTM client is disconnected abnormally the {@link SlackIntentProvider} attempts to reconnect it by
-     * waiting {@code RECONNECT_WAIT_TIME * <number_of_attempts>} ms. The delay is reset after each successful
-     * reconnection.
+     * Keys in this {@link Map} are {@code teamId}.
+     */
+    private Map<String, RTMClient> rtmClients = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link SlackReconnectScheduler} used to reconnect the RTM clients that have been disconnected.
      *
-     * @see XatkitRTMCloseHandler
+     * @see #getReconnectScheduler()
      */
-    private static int RECONNECT_WAIT_TIME = 2000;
+    private SlackReconnectScheduler reconnectScheduler;
 
     /**
-     * The {@link Map} containing the {@link RTMClient}s associated to each workspace where the Slack app is installed.
+     * The unique identifiers of the bot in each workspace where the Slack app is installed.
      * <p>
-     * Keys in this {@link Map} are {@code teamId}.
+     * These identifiers are used to check input messages and filter the ones that are sent by this bot, in order to
+     * avoid infinite message loops. Note that only messages from this specific bot are ignored. This allows to
+     * define bot swarms where each bot can interact with the other ones.
+     * <p>
+     * Keys in this {@link Map} are {@code teamId}s.
+     */
+    private Map<String, String> botUserIds = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link SlackEventDecoder} used to decode the events received from the Slack API.
      */
-    private Map<String, RTMClient> rtmClients = new HashMap<>();
+    private SlackEventDecoder eventDecoder;
 
     /**
-     * The {@link JsonParser} used to manipulate Slack API answers.
+     * Specifies whether the events are received through the Slack Events API instead of RTM connections.
+     *
+     * @see SlackUtils#INGESTION_MODE_KEY
      */
-    private JsonParser jsonParser;
+    private boolean eventsApiMode;
 
     /**
      * Specifies whether {@code DEFAULT_FALLBACK_INTENT}s should be ignored in group channel (default to {@code false}).
@@ -92,6 +105,39 @@ public class SlackIntentProvider extends ChatIntentProvider<SlackPlatform> {
      */
     private boolean listenMentionsOnGroupChannels;
 
+    /**
+     * The {@link SlackMessageDispatcher} used to process the received messages outside of the RTM threads.
+     *
+     * @see #getMessageDispatcher()
+     */
+    private SlackMessageDispatcher dispatcher;
+
+    /**
+     * The {@link SlackEventDeduplicator} used to drop the messages that are delivered more than once.
+     *
+     * @see #getEventDeduplicator()
+     */
+    private SlackEventDeduplicator deduplicator;
+
+    /**
+     * The {@link SlackUserCache}s containing the profiles of the users that sent messages to the bot.
+     * <p>
+     * Keys in this {@link Map} are {@code teamId}s.
+     *
+     * @see #getUserCache(String)
+     */
+    private Map<String, SlackUserCache> userCaches = new ConcurrentHashMap<>();
+
+    /**
+     * The delay (in ms) after which a cached user profile expires.
+     */
+    private long userCacheTtl;
+
+    /**
+     * The maximum number of cached user profiles per workspace.
+     */
+    private int userCacheMaxSize;
+
     /**
      * Constructs a {@link SlackIntentProvider} and binds it to the provided {@code slackPlatform}.
      *
@@ -122,8 +168,30 @@ public class SlackIntentProvider extends ChatIntentProvider<SlackPlatform> {
         this.listenMentionsOnGroupChannels =
                 configuration.getBoolean(SlackUtils.LISTEN_MENTIONS_ON_GROUP_CHANNELS_KEY,
                         SlackUtils.DEFAULT_LISTEN_MENTIONS_ON_GROUP_CHANNELS);
-        this.jsonParser = new JsonParser();
-        this.rtmClients = new HashMap<>();
+        this.dispatcher = new SlackMessageDispatcher(
+                configuration.getInt(SlackUtils.DISPATCHER_THREADS_KEY, SlackUtils.DEFAULT_DISPATCHER_THREADS),
+                configuration.getInt(SlackUtils.DISPATCHER_QUEUE_CAPACITY_KEY,
+                        SlackUtils.DEFAULT_DISPATCHER_QUEUE_CAPACITY));
+        this.deduplicator = new SlackEventDeduplicator(
+                configuration.getInt(SlackUtils.DEDUPLICATION_CAPACITY_KEY, SlackUtils.DEFAULT_DEDUPLICATION_CAPACITY),
+                configuration.getLong(SlackUtils.DEDUPLICATION_WINDOW_KEY, SlackUtils.DEFAULT_DEDUPLICATION_WINDOW));
+        this.userCacheTtl = configuration.getLong(SlackUtils.USER_CACHE_TTL_KEY, SlackUtils.DEFAULT_USER_CACHE_TTL);
+        this.userCacheMaxSize = configuration.getInt(SlackUtils.USER_CACHE_MAX_SIZE_KEY,
+                SlackUtils.DEFAULT_USER_CACHE_MAX_SIZE);
+        this.userCaches = new ConcurrentHashMap<>();
+        this.eventDecoder = new SlackEventDecoder(SlackUtils.HELLO_TYPE, SlackUtils.MESSAGE_TYPE,
+                SlackUtils.USER_CHANGE_TYPE, SlackUtils.CHANNEL_CREATED_TYPE, SlackUtils.CHANNEL_RENAME_TYPE,
+                SlackUtils.CHANNEL_DELETED_TYPE, SlackUtils.IM_CREATED_TYPE, SlackUtils.GROUP_JOINED_TYPE,
+                SlackUtils.MEMBER_JOINED_CHANNEL_TYPE);
+        this.eventsApiMode = SlackUtils.INGESTION_MODE_EVENTS_API.equals(
+                configuration.getString(SlackUtils.INGESTION_MODE_KEY, SlackUtils.DEFAULT_INGESTION_MODE));
+        this.botUserIds = new ConcurrentHashMap<>();
+        this.reconnectScheduler = new SlackReconnectScheduler(
+                configuration.getLong(SlackUtils.RECONNECT_BASE_DELAY_KEY, SlackUtils.DEFAULT_RECONNECT_BASE_DELAY),
+                configuration.getLong(SlackUtils.RECONNECT_MAX_DELAY_KEY, SlackUtils.DEFAULT_RECONNECT_MAX_DELAY),
+                configuration.getInt(SlackUtils.RECONNECT_MAX_CONCURRENT_KEY,
+                        SlackUtils.DEFAULT_RECONNECT_MAX_CONCURRENT));
+        this.rtmClients = new ConcurrentHashMap<>();
         this.runtimePlatform.getTeamIdToSlackTokenMap().forEach(this::notifyNewInstallation);
     }
 
@@ -133,49 +201,61 @@ public class SlackIntentProvider extends ChatIntentProvider<SlackPlatform> {
      * This method is typically called when the Slack app is installed in a new workspace. In this case this provider
      * starts a new {@link RTMClient} associated to the provided {@code teamId} that will listen to the new
      * installation.
+     * <p>
+     * No {@link RTMClient} is started if the provider is configured to receive events through the Slack Events API.
+     * In this case the events of the new installation are received by the {@link SlackEventsRestHandler} registered
+     * by the {@link SlackPlatform}.
      *
      * @param teamId the identifier of the workspace where the bot has been installed
      * @param token  the Slack {@code token} corresponding to the new installation
      */
     public void notifyNewInstallation(String teamId, String token) {
-        String workspaceBotId = this.getSelfId(token);
-        RTMClient rtmClient;
-        try {
-            rtmClient = this.runtimePlatform.getSlack().rtm(token);
-        } catch (IOException e) {
-            throw new XatkitException("An error occurred when starting the RTM client, see the attached exception", e);
+        botUserIds.put(teamId, this.getSelfId(token));
+        if (eventsApiMode) {
+            return;
         }
-        rtmClient.addMessageHandler(new XatkitRTMMessageHandler(workspaceBotId));
-        rtmClient.addCloseHandler(new XatkitRTMCloseHandler(teamId));
         try {
-            rtmClient.connect();
+            connectRtmClient(teamId, token);
         } catch (DeploymentException | IOException e) {
             String errorMessage = "Cannot start the Slack RTM websocket, please check your internet connection";
             Log.error(errorMessage);
             throw new XatkitException(errorMessage, e);
         }
+    }
+
+    /**
+     * Creates and connects a new {@link RTMClient} for the provided {@code teamId} and {@code token}.
+     *
+     * @param teamId the identifier of the workspace to connect to
+     * @param token  the Slack {@code token} of the workspace
+     * @throws IOException         if an error occurred when starting the RTM client
+     * @throws DeploymentException if an error occurred when connecting the RTM websocket
+     */
+    private void connectRtmClient(String teamId, String token) throws IOException, DeploymentException {
+        RTMClient rtmClient = this.runtimePlatform.getSlack().rtm(token);
+        rtmClient.addMessageHandler(new XatkitRTMMessageHandler(teamId));
+        rtmClient.addCloseHandler(new XatkitRTMCloseHandler(teamId));
+        rtmClient.connect();
         rtmClients.put(teamId, rtmClient);
     }
 
     /**
      * Returns the unique identifier of the bot in the workspace defined by the provided {@code slackToken}.
      * <p>
+     * The identifier is retrieved from the {@link com.xatkit.plugins.slack.platform.SlackBotIdentity} cached by the
+     * {@link SlackPlatform}, meaning that {@code auth.test} is called at most once per {@code token}.
+     * <p>
      * This identifier is used to check input messages and filter the ones that are sent by this bot, in order to
      * avoid infinite message loops. Note that only messages from this specific bot are ignored. This allows to
      * define bot swarms where each bot can interact with the other ones.
      *
      * @param slackToken the Slack {@code token} corresponding to the workspace to get the bot identifier from
      * @return the unique identifier of the bot in the provide workspace
+     * @throws XatkitException if an error occurred when retrieving the bot identity
+     * @see SlackPlatform#getBotIdentity(String)
      */
     protected String getSelfId(String slackToken) {
-        AuthTestRequest request = AuthTestRequest.builder().token(slackToken).build();
-        try {
-            AuthTestResponse response = this.runtimePlatform.getSlack().methods().authTest(request);
-            logSlackApiResponse(response);
-            return response.getUserId();
-        } catch (IOException | SlackApiException e) {
-            throw new XatkitException("Cannot retrieve the bot identifier", e);
-        }
+        return this.runtimePlatform.getBotIdentity(slackToken).getBotUserId();
     }
 
     /**
@@ -246,24 +326,41 @@ public class SlackIntentProvider extends ChatIntentProvider<SlackPlatform> {
     /**
      * Retrieves the {@link User} instance associated to the provided {@code teamId} and {@code userId}.
      * <p>
-     * This method is used to access user-related information. Note that each call to this method will call the Slack
-     * API (see #3).
+     * This method is used to access user-related information. Retrieved {@link User}s are stored in the
+     * {@link SlackUserCache} of the workspace, meaning that the Slack API is only called if the user is not in the
+     * cache or if the cached entry has expired.
      *
      * @param teamId the identifier of the workspace to retrieve the {@link User} instance from
      * @param userId the user identifier to retrieve the {@link User} instance from
      * @return the {@link User} instance associated to the provided {@code userId}
      * @throws SlackApiException if the Slack API returns an error
      * @throws IOException       if an error occurred when reaching the Slack API
+     * @see #getUserCache(String)
      */
     private User getUserFromUserId(String teamId, String userId) throws SlackApiException, IOException {
-        Log.debug("Retrieving User for the user ID {0}", userId);
-        UsersInfoRequest usersInfoRequest = UsersInfoRequest.builder()
-                .token(this.runtimePlatform.getSlackToken(teamId))
-                .user(userId)
-                .build();
-        UsersInfoResponse response = this.runtimePlatform.getSlack().methods().usersInfo(usersInfoRequest);
-        logSlackApiResponse(response);
-        return response.getUser();
+        return getUserCache(teamId).get(userId, id -> {
+            Log.debug("Retrieving User for the user ID {0}", id);
+            UsersInfoRequest usersInfoRequest = UsersInfoRequest.builder()
+                    .token(this.runtimePlatform.getSlackToken(teamId))
+                    .user(id)
+                    .build();
+            UsersInfoResponse response = this.runtimePlatform.getSlack().methods().usersInfo(usersInfoRequest);
+            logSlackApiResponse(response);
+            return response.getUser();
+        });
+    }
+
+    /**
+     * Returns the {@link SlackUserCache} containing the user profiles of the workspace identified by the provided
+     * {@code teamId}.
+     * <p>
+     * The returned cache can be used to monitor the number of cache hits and misses.
+     *
+     * @param teamId the identifier of the workspace to retrieve the cache of
+     * @return the {@link SlackUserCache} of the workspace
+     */
+    public SlackUserCache getUserCache(String teamId) {
+        return userCaches.computeIfAbsent(teamId, id -> new SlackUserCache(userCacheTtl, userCacheMaxSize));
     }
 
     /**
@@ -276,6 +373,366 @@ public class SlackIntentProvider extends ChatIntentProvider<SlackPlatform> {
         return rtmClients.get(teamId);
     }
 
+    /**
+     * Returns the {@link SlackReconnectScheduler} used to reconnect the RTM clients that have been disconnected.
+     * <p>
+     * The returned scheduler can be used to monitor the reconnection state and the number of attempts of each
+     * workspace.
+     *
+     * @return the {@link SlackReconnectScheduler} used to reconnect the RTM clients
+     */
+    public SlackReconnectScheduler getReconnectScheduler() {
+        return reconnectScheduler;
+    }
+
+    /**
+     * Returns the {@link SlackEventDeduplicator} used to drop the messages that are delivered more than once.
+     * <p>
+     * The returned filter can be used to monitor the number of dropped duplicates.
+     *
+     * @return the {@link SlackEventDeduplicator} used to drop duplicated messages
+     */
+    public SlackEventDeduplicator getEventDeduplicator() {
+        return deduplicator;
+    }
+
+    /**
+     * Returns the {@link SlackMessageDispatcher} used to process the received messages.
+     * <p>
+     * The returned dispatcher can be used to monitor the number of pending messages and the time they spend in the
+     * queue before being processed.
+     *
+     * @return the {@link SlackMessageDispatcher} used to process the received messages
+     */
+    public SlackMessageDispatcher getMessageDispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * Handles the provided decoded {@code event}, waiting for some room in the {@link SlackMessageDispatcher} if
+     * its queue is full.
+     * <p>
+     * This method is the entry point of the processing pipeline of the RTM ingestion mode, where blocking the
+     * websocket thread slows down the reception of the next messages.
+     *
+     * @param event      the decoded {@link SlackEvent} to handle
+     * @param rawMessage the raw message the {@code event} has been decoded from, used for logging purposes
+     * @see #notifyEvent(SlackEvent, String, boolean)
+     */
+    public void notifyEvent(SlackEvent event, String rawMessage) {
+        notifyEvent(event, rawMessage, true);
+    }
+
+    /**
+     * Handles the provided decoded {@code event}.
+     * <p>
+     * This method is the entry point of the processing pipeline for both the RTM and the Events API ingestion
+     * modes. Message events are checked and dispatched to the {@link SlackMessageDispatcher}, meaning that this
+     * method does not block the caller while the message is processed.
+     * <p>
+     * If the queue of the {@link SlackMessageDispatcher} is full the caller is blocked until some room is available,
+     * unless {@code blocking} is {@code false}, in which case the event is dropped (see
+     * {@link SlackMessageDispatcher#getDroppedCount()}). The Events API requests use the non-blocking mode: they
+     * must be acknowledged within 3 seconds, otherwise Slack retries them.
+     * <p>
+     * The values of the provided {@code event} are copied before being dispatched, the {@link SlackEvent} instance
+     * can be reused by the caller once this method returns.
+     *
+     * @param event      the decoded {@link SlackEvent} to handle
+     * @param rawMessage the raw message the {@code event} has been decoded from, used for logging purposes
+     * @param blocking   whether to wait for some room in the {@link SlackMessageDispatcher} if its queue is full
+     * @see SlackEventsRestHandler
+     */
+    public void notifyEvent(SlackEvent event, String rawMessage, boolean blocking) {
+        Log.debug("received {0}", rawMessage);
+        if (isNull(event.getType())) {
+            Log.error("The message does not define a \"type\" field, skipping it");
+            return;
+        }
+        switch (event.getType()) {
+            case SlackUtils.HELLO_TYPE:
+                Log.info("Slack listener connected");
+                break;
+            case SlackUtils.USER_CHANGE_TYPE:
+                /*
+                 * The profile of a user has been updated, remove it from the cache to make sure the next
+                 * messages of this user are enriched with up-to-date information.
+                 */
+                if (nonNull(event.getTeam()) && nonNull(event.getUser())) {
+                    getUserCache(event.getTeam()).invalidate(event.getUser());
+                }
+                break;
+            case SlackUtils.MESSAGE_TYPE:
+                handleMessageEvent(event, rawMessage, blocking);
+                break;
+            case SlackUtils.CHANNEL_CREATED_TYPE:
+            case SlackUtils.CHANNEL_RENAME_TYPE:
+            case SlackUtils.CHANNEL_DELETED_TYPE:
+            case SlackUtils.IM_CREATED_TYPE:
+            case SlackUtils.GROUP_JOINED_TYPE:
+            case SlackUtils.MEMBER_JOINED_CHANNEL_TYPE:
+                handleChannelEvent(event, blocking);
+                break;
+            default:
+                Log.trace("Skipping {0}, the message type is not \"{1}\"", rawMessage, SlackUtils.MESSAGE_TYPE);
+        }
+    }
+
+    /**
+     * Applies the provided channel {@code event} to the {@link SlackChannelIndex} of its workspace.
+     * <p>
+     * This method keeps the channel index up to date when channels are created, renamed, deleted, or joined by the
+     * bot, without reloading all the channels of the workspace. {@code member_joined_channel} events are only
+     * applied if the joining user is the bot itself.
+     * <p>
+     * Events of workspaces whose channels are not loaded are skipped (the next load will contain the updated
+     * channels). The user of an {@code im_created} event is resolved in the {@link SlackMessageDispatcher}, the
+     * {@link com.xatkit.plugins.slack.platform.SlackUserDirectory} may have to be loaded from the Slack API.
+     *
+     * @param event    the decoded channel event
+     * @param blocking whether to wait for some room in the {@link SlackMessageDispatcher} if its queue is full
+     * @see SlackPlatform#updateChannelIndex(String, UnaryOperator)
+     */
+    private void handleChannelEvent(SlackEvent event, boolean blocking) {
+        String teamId = event.getTeam();
+        String channelId = event.getChannel();
+        if (isNull(teamId) || isNull(channelId)) {
+            Log.warn("Cannot apply the {0} event {1}, the event does not define a team and a channel",
+                    event.getType(), event);
+            return;
+        }
+        if (!this.getRuntimePlatform().isWorkspaceLoaded(teamId)) {
+            Log.debug("Skipping the {0} event of channel {1}, the channels of workspace {2} are not loaded",
+                    event.getType(), channelId, teamId);
+            return;
+        }
+        UnaryOperator<SlackChannelIndex> update;
+        switch (event.getType()) {
+            case SlackUtils.CHANNEL_CREATED_TYPE:
+            case SlackUtils.GROUP_JOINED_TYPE:
+                String channelName = event.getChannelName();
+                update = index -> index.toBuilder().groupChannel(channelId, channelName).build();
+                break;
+            case SlackUtils.CHANNEL_RENAME_TYPE:
+                String newChannelName = event.getChannelName();
+                update = index -> index.toBuilder().removeChannel(channelId).groupChannel(channelId,
+                        newChannelName).build();
+                break;
+            case SlackUtils.CHANNEL_DELETED_TYPE:
+                update = index -> index.toBuilder().removeChannel(channelId).build();
+                break;
+            case SlackUtils.IM_CREATED_TYPE:
+                /*
+                 * Resolve the user outside of the receive thread, the directory may need to be loaded from the Slack
+                 * API.
+                 */
+                String userId = event.getUser();
+                String eventType = event.getType();
+                dispatch(teamId, channelId, blocking, () -> {
+                    User user = null;
+                    if (nonNull(userId)) {
+                        try {
+                            user = this.getRuntimePlatform().getUserDirectory(teamId).getUser(userId);
+                        } catch (XatkitException e) {
+                            Log.warn("Cannot retrieve the user {0}, the direct message channel {1} is only indexed " +
+                                    "by its identifier", userId, channelId);
+                        }
+                    }
+                    User imUser = user;
+                    applyChannelUpdate(teamId, channelId, eventType,
+                            index -> index.toBuilder().userChannel(channelId, imUser).build());
+                });
+                return;
+            case SlackUtils.MEMBER_JOINED_CHANNEL_TYPE:
+                if (isNull(event.getUser()) || !event.getUser().equals(botUserIds.get(teamId))) {
+                    return;
+                }
+                update = index -> index.isGroupChannel(channelId) ? index :
+                        index.toBuilder().groupChannel(channelId, null).build();
+                break;
+            default:
+                return;
+        }
+        applyChannelUpdate(teamId, channelId, event.getType(), update);
+    }
+
+    /**
+     * Applies the provided {@code update} to the {@link SlackChannelIndex} of the workspace {@code teamId}.
+     *
+     * @param teamId    the identifier of the workspace to update the channel index of
+     * @param channelId the identifier of the channel targeted by the event
+     * @param eventType the type of the event, used for logging purposes
+     * @param update    the function computing the updated {@link SlackChannelIndex} from the current one
+     */
+    private void applyChannelUpdate(String teamId, String channelId, String eventType,
+                                    UnaryOperator<SlackChannelIndex> update) {
+        this.getRuntimePlatform().updateChannelIndex(teamId, update);
+        Log.debug("Applied the {0} event to the channel index of workspace {1} (channel {2})", eventType, teamId,
+                channelId);
+    }
+
+    /**
+     * Checks the decoded {@code message} event and dispatches it for processing.
+     * <p>
+     * The values of the decoded event are copied before being dispatched: the {@link SlackEvent} instance is
+     * reused to decode the next message.
+     *
+     * @param event    the decoded message event
+     * @param message  the raw message, used for logging purposes
+     * @param blocking whether to wait for some room in the {@link SlackMessageDispatcher} if its queue is full
+     */
+    private void handleMessageEvent(SlackEvent event, String message, boolean blocking) {
+        String team = event.getTeam();
+        if (isNull(team)) {
+            Log.warn("Skipping {0}, the message does not contain a \"team\" field", message);
+            return;
+        }
+        String channel = event.getChannel();
+        if (isNull(channel)) {
+            Log.warn("Skipping {0}, the message does not contain a \"channel\" field", message);
+            return;
+        }
+        /*
+         * The name of the user that sent the message
+         */
+        String user = event.getUser();
+        if (isNull(user)) {
+            Log.warn("Skipping {0}, the message does not contain a \"user\" field", message);
+            return;
+        }
+        String botSelfId = botUserIds.get(team);
+        if (user.equals(botSelfId)) {
+            Log.trace("Skipping {0}, the message was sent by this bot", message);
+            return;
+        }
+        String text = event.getText();
+        if (isNull(text)) {
+            Log.warn("The message does not contain a \"text\" field, skipping it");
+            return;
+        }
+        if (text.isEmpty()) {
+            Log.warn("Received an empty message, skipping it");
+            return;
+        }
+        Log.debug("Received message {0} from user {1} (channel: {2})", text, user, channel);
+        /*
+         * Extract thread-related information. The thread_ts field contains a value if the received message is
+         * part of a thread, otherwise the field is not specified.
+         */
+        String threadTs = isNull(event.getThreadTs()) ? "" : event.getThreadTs();
+        String messageTs = isNull(event.getTs()) ? "" : event.getTs();
+        /*
+         * Drop the messages delivered more than once (e.g. after a RTM reconnection or an Events API retry) before
+         * any enrichment or recognition is performed.
+         */
+        if (!deduplicator.accept(team, channel, messageTs)) {
+            Log.debug("Skipping {0}, the message has already been received", message);
+            return;
+        }
+        /*
+         * Do not process the message in the receiving thread: the processing involves calls to the Slack API and
+         * to the intent recognition provider, and would delay the reception of the next messages.
+         */
+        dispatch(team, channel, blocking, () -> processMessage(team, channel, user, text, threadTs, messageTs,
+                botSelfId));
+    }
+
+    /**
+     * Dispatches the provided {@code task} to the {@link SlackMessageDispatcher}.
+     *
+     * @param teamId   the identifier of the workspace containing the channel that sent the event
+     * @param channel  the identifier of the channel that sent the event
+     * @param blocking whether to wait for some room in the {@link SlackMessageDispatcher} if its queue is full
+     * @param task     the processing to execute
+     */
+    private void dispatch(String teamId, String channel, boolean blocking, Runnable task) {
+        if (blocking) {
+            dispatcher.dispatch(teamId, channel, task);
+        } else {
+            dispatcher.tryDispatch(teamId, channel, task);
+        }
+    }
+
+    /**
+     * Computes the intent of the provided {@code text} and sends it to the bot.
+     * <p>
+     * This method is executed by the {@link SlackMessageDispatcher} of the provider, and can perform blocking
+     * operations without delaying the reception of subsequent messages.
+     *
+     * @param team      the identifier of the workspace containing the channel that sent the message
+     * @param channel   the identifier of the channel that sent the message
+     * @param user      the identifier of the user that sent the message
+     * @param text      the text of the message
+     * @param threadTs  the timestamp of the thread containing the message (empty if the message is not part of
+     *                  a thread)
+     * @param messageTs the timestamp of the message
+     * @param botSelfId the unique identifier of the bot in the workspace containing the channel
+     */
+    private void processMessage(String team, String channel, String user, String text, String threadTs,
+                                String messageTs, String botSelfId) {
+        if (listenMentionsOnGroupChannels && runtimePlatform.isGroupChannel(team, channel)) {
+            String botMention = "<@" + botSelfId + ">";
+            if (text.contains(botMention)) {
+                /*
+                 * The message contains a mention to the bot, we need to remove it before sending it to the NLP
+                 * engine to avoid pollution and false negative matches.
+                 */
+                text = text.replaceAll(botMention, "").trim();
+            } else {
+                /*
+                 * Nothing to do, the bot listens to mentions and the message is not a mention.
+                 */
+                return;
+            }
+        }
+
+        StateContext context = runtimePlatform.createSessionFromChannel(team, channel);
+        /*
+         * Call getRecognizedIntent before setting any context variable, the recognition triggers a decrement of
+         * all the context variables.
+         */
+        RecognizedIntent recognizedIntent;
+        try {
+            recognizedIntent = IntentRecognitionHelper.getRecognizedIntent(text, context,
+                    xatkitBot);
+        } catch (IntentRecognitionProviderException e) {
+            throw new RuntimeException("An internal error occurred when computing the intent, see attached " +
+                    "exception", e);
+        }
+        /*
+         * Chat-related values (from ChatUtils). These are required for all the platforms extending ChatPlatform.
+         */
+        recognizedIntent.getPlatformData().put(ChatUtils.CHAT_CHANNEL_CONTEXT_KEY, channel);
+        recognizedIntent.getPlatformData().put(ChatUtils.CHAT_USERNAME_CONTEXT_KEY, getUsernameFromUserId(team,
+                user));
+        recognizedIntent.getPlatformData().put(ChatUtils.CHAT_RAW_MESSAGE_CONTEXT_KEY, text);
+        /*
+         * Slack-specific platform values.
+         */
+        recognizedIntent.getPlatformData().put(SlackUtils.SLACK_TEAM_CONTEXT_KEY, team);
+        recognizedIntent.getPlatformData().put(SlackUtils.SLACK_USER_EMAIL_CONTEXT_KEY,
+                getUserEmailFromUserId(team, user));
+        recognizedIntent.getPlatformData().put(SlackUtils.SLACK_USER_ID_CONTEXT_KEY, user);
+        recognizedIntent.getPlatformData().put(SlackUtils.SLACK_THREAD_TS, threadTs);
+        recognizedIntent.getPlatformData().put(SlackUtils.SLACK_MESSAGE_TS, messageTs);
+        if (recognizedIntent.getDefinition().getName().equals("Default_Fallback_Intent")
+                && ignoreFallbackOnGroupChannels) {
+            /*
+             * First check the property, if fallback intents are not ignored no need to check if this is a group
+             * channel or not (this may trigger additional Slack API calls).
+             */
+            if (!runtimePlatform.isGroupChannel(team, channel)) {
+                sendEventInstance(recognizedIntent, context);
+            } else {
+                /*
+                 * Do nothing, fallback intents are ignored in group channels and this is a group channel.
+                 */
+            }
+        } else {
+            sendEventInstance(recognizedIntent, context);
+        }
+    }
+
     @Override
     public void run() {
         /*
@@ -292,10 +749,16 @@ public class SlackIntentProvider extends ChatIntentProvider<SlackPlatform> {
     }
 
     /**
-     * Disconnects the underlying Slack RTM clients.
+     * Disconnects the underlying Slack RTM clients and stops the reconnect scheduler and the message dispatcher.
      */
     @Override
     public void close() {
+        if (nonNull(this.reconnectScheduler)) {
+            /*
+             * Shutdown the scheduler first, the RTM clients must not be reconnected once they are closed.
+             */
+            this.reconnectScheduler.shutdown();
+        }
         Log.info("Closing Slack RTM clients");
         this.rtmClients.forEach((teamId, rtmClient) -> {
             try {
@@ -305,6 +768,9 @@ public class SlackIntentProvider extends ChatIntentProvider<SlackPlatform> {
                         e);
             }
         });
+        if (nonNull(this.dispatcher)) {
+            this.dispatcher.shutdown();
+        }
     }
 
     /**
@@ -313,194 +779,74 @@ public class SlackIntentProvider extends ChatIntentProvider<SlackPlatform> {
     private class XatkitRTMMessageHandler implements RTMMessageHandler {
 
         /**
-         * The unique identifier of the bot in the workspace this handler listens to.
+         * The identifier of the workspace this handler listens to.
+         */
+        private String teamId;
+
+        /**
+         * The {@link SlackEvent} used to decode the received messages.
          * <p>
-         * This identifier is used to check input messages and filter the ones that are sent by this bot, in order to
-         * avoid infinite message loops. Note that only messages from this specific bot are ignored. This allows to
-         * define bot swarms where each bot can interact with the other ones.
+         * RTM messages are received sequentially, this instance is reused for each message to avoid unnecessary
+         * allocations.
          */
-        private String botSelfId;
+        private SlackEvent event;
 
         /**
-         * Constructs a {@link XatkitRTMMessageHandler} with the provided {@code botSelfId}.
+         * Constructs a {@link XatkitRTMMessageHandler} with the provided {@code teamId}.
          *
-         * @param botSelfId the unique identifier of the bot in the workspace this handler listens to
+         * @param teamId the identifier of the workspace this handler listens to
          */
-        public XatkitRTMMessageHandler(String botSelfId) {
-            this.botSelfId = botSelfId;
+        public XatkitRTMMessageHandler(String teamId) {
+            this.event = new SlackEvent();
+            this.teamId = teamId;
         }
 
         @Override
         public void handle(String message) {
-            JsonObject json = jsonParser.parse(message).getAsJsonObject();
-            if (nonNull(json.get("type"))) {
-                /*
-                 * The message has a type, this should always be true
-                 */
-                Log.debug("received {0}", json);
-                if (json.get("type").getAsString().equals(SlackUtils.HELLO_TYPE)) {
-                    Log.info("Slack listener connected");
-                }
-                if (json.get("type").getAsString().equals(SlackUtils.MESSAGE_TYPE)) {
-                    /*
-                     * The message hasn't been sent by a bot
-                     */
-                    JsonElement teamObject = json.get("team");
-                    if (nonNull(teamObject)) {
-                        String team = teamObject.getAsString();
-                        JsonElement channelObject = json.get("channel");
-                        if (nonNull(channelObject)) {
-                            /*
-                             * The message channel is set
-                             */
-                            String channel = channelObject.getAsString();
-                            JsonElement userObject = json.get("user");
-                            if (nonNull(userObject)) {
-                                /*
-                                 * The name of the user that sent the message
-                                 */
-                                String user = userObject.getAsString();
-                                if (!user.equals(botSelfId)) {
-                                    JsonElement textObject = json.get("text");
-                                    if (nonNull(textObject)) {
-                                        String text = textObject.getAsString();
-                                        if (!text.isEmpty()) {
-                                            Log.debug("Received message {0} from user {1} (channel: {2})", text,
-                                                    user, channel);
-
-                                            if (listenMentionsOnGroupChannels && SlackIntentProvider.this.runtimePlatform.isGroupChannel(team, channel)) {
-//                                                String botMention = "<@" + SlackIntentProvider.this.getSelfId() + ">";
-                                                String botMention = "<@" + botSelfId + ">";
-                                                if (text.contains(botMention)) {
-                                                    /*
-                                                     * The message contains a mention to the bot, we need to remove it
-                                                     * before sending it to the NLP engine to avoid pollution and false
-                                                     * negative matches.
-                                                     */
-                                                    text = text.replaceAll(botMention, "").trim();
-                                                } else {
-                                                    /*
-                                                     * Nothing to do, the bot listens to mentions and the message is not
-                                                     * a mention.
-                                                     */
-                                                    return;
-                                                }
-                                            }
-
-                                            /*
-                                             * Extract thread-related information. The thread_ts field contains a value
-                                             * if the received message is part of a thread, otherwise the field is not
-                                             * specified.
-                                             */
-                                            JsonElement threadTsObject = json.get("thread_ts");
-                                            String threadTs = "";
-                                            if (nonNull(threadTsObject)) {
-                                                threadTs = threadTsObject.getAsString();
-                                            }
-
-                                            JsonElement tsObject = json.get("ts");
-                                            String messageTs = "";
-                                            if (nonNull(tsObject)) {
-                                                messageTs = tsObject.getAsString();
-                                            }
-
-                                            StateContext context =
-                                                    runtimePlatform.createSessionFromChannel(team, channel);
-                                            /*
-                                             * Call getRecognizedIntent before setting any context variable, the
-                                             * recognition triggers a decrement of all the context variables.
-                                             */
-                                            RecognizedIntent recognizedIntent;
-                                            try {
-                                                recognizedIntent =
-                                                        IntentRecognitionHelper.getRecognizedIntent(text, context,
-                                                                SlackIntentProvider.this.xatkitBot);
-                                            } catch (IntentRecognitionProviderException e) {
-                                                throw new RuntimeException("An internal error occurred when computing" +
-                                                        " the intent, see attached exception", e);
-                                            }
-                                            /*
-                                             * Chat-related values (from ChatUtils). These are required for all the
-                                             * platforms extending ChatPlatform.
-                                             */
-                                            recognizedIntent.getPlatformData().put(ChatUtils.CHAT_CHANNEL_CONTEXT_KEY
-                                                    , channel);
-                                            recognizedIntent.getPlatformData().put(ChatUtils.CHAT_USERNAME_CONTEXT_KEY, getUsernameFromUserId(team, user));
-                                            recognizedIntent.getPlatformData().put(ChatUtils.CHAT_RAW_MESSAGE_CONTEXT_KEY, text);
-                                            /*
-                                             * Slack-specific platform values.
-                                             */
-                                            recognizedIntent.getPlatformData().put(SlackUtils.SLACK_TEAM_CONTEXT_KEY,
-                                                    team);
-                                            recognizedIntent.getPlatformData().put(SlackUtils.SLACK_USER_EMAIL_CONTEXT_KEY, getUserEmailFromUserId(team, user));
-                                            recognizedIntent.getPlatformData().put(SlackUtils.SLACK_USER_ID_CONTEXT_KEY, user);
-                                            recognizedIntent.getPlatformData().put(SlackUtils.SLACK_THREAD_TS,
-                                                    threadTs);
-                                            recognizedIntent.getPlatformData().put(SlackUtils.SLACK_MESSAGE_TS,
-                                                    messageTs);
-                                            if (recognizedIntent.getDefinition().getName().equals(
-                                                    "Default_Fallback_Intent") && ignoreFallbackOnGroupChannels) {
-                                                /*
-                                                 * First check the property, if fallback intents are not ignored no
-                                                 * need to
-                                                 * check if this is a group channel or not (this may trigger additional
-                                                 * Slack
-                                                 * API calls).
-                                                 */
-                                                if (!SlackIntentProvider.this.runtimePlatform.isGroupChannel(team,
-                                                        channel)) {
-                                                    SlackIntentProvider.this.sendEventInstance(recognizedIntent,
-                                                            context);
-                                                } else {
-                                                    /*
-                                                     * Do nothing, fallback intents are ignored in group channels and
-                                                     * this is a group channel.
-                                                     */
-                                                }
-                                            } else {
-                                                SlackIntentProvider.this.sendEventInstance(recognizedIntent, context);
-                                            }
-                                        } else {
-                                            Log.warn("Received an empty message, skipping it");
-                                        }
-                                    } else {
-                                        Log.warn("The message does not contain a \"text\" field, skipping it");
-                                    }
-                                } else {
-                                    Log.trace("Skipping {0}, the message was sent by this bot", json);
-                                }
-                            } else {
-                                Log.warn("Skipping {0}, the message does not contain a \"user\" field",
-                                        json);
-                            }
-                        } else {
-                            Log.warn("Skipping {0}, the message does not contain a \"channel\" field", json);
-                        }
+            try {
+                if (!eventDecoder.decode(message, event)) {
+                    if (isNull(event.getType())) {
+                        Log.error("The message does not define a \"type\" field, skipping it");
                     } else {
-                        Log.warn("Skipping {0}, the message does not contain a \"team\" field", json);
+                        Log.trace("Skipping {0}, the message type is not \"{1}\"", message, SlackUtils.MESSAGE_TYPE);
                     }
-                } else {
-                    Log.trace("Skipping {0}, the message type is not \"{1}\"", json, SlackUtils.MESSAGE_TYPE);
+                    return;
                 }
-            } else {
-                Log.error("The message does not define a \"type\" field, skipping it");
+            } catch (IOException e) {
+                Log.error("Cannot decode the received message {0}, skipping it", message);
+                return;
+            }
+            if (isNull(event.getTeam())) {
+                /*
+                 * Hello and user_change RTM events do not contain a team field.
+                 */
+                event.setTeam(teamId);
             }
+            notifyEvent(event, message);
         }
     }
 
     /**
      * The {@link RTMCloseHandler} used to handle RTM client connection issues.
      * <p>
-     * This handler will attempt to reconnect the RTM client by creating a new {@link RTMClient} instance after
-     * waiting {@code RECONNECT_WAIT_TIME * <number_of_attempts>} ms. Note that reconnecting the RTM client will be
-     * executed in the main threadTs and will block Xatkit execution.
+     * This handler schedules the reconnection of the workspace with the {@link SlackReconnectScheduler} of the
+     * provider when the RTM client is closed abnormally. The reconnection is executed by the scheduler threads and
+     * does not block the thread that notified the closing of the client.
      *
-     * @see #RECONNECT_WAIT_TIME
+     * @see #getReconnectScheduler()
      */
     private class XatkitRTMCloseHandler implements RTMCloseHandler {
 
+        /**
+         * The identifier of the workspace this handler listens to.
+         */
         private String teamId;
 
+        /**
+         * Constructs a {@link XatkitRTMCloseHandler} with the provided {@code teamId}.
+         *
+         * @param teamId the identifier of the workspace this handler listens to
+         */
         public XatkitRTMCloseHandler(String teamId) {
             this.teamId = teamId;
         }
@@ -508,30 +854,9 @@ public class SlackIntentProvider extends ChatIntentProvider<SlackPlatform> {
         @Override
         public void handle(CloseReason reason) {
             if (reason.getCloseCode().equals(CloseReason.CloseCodes.CLOSED_ABNORMALLY)) {
-                Log.error("Connection to the Slack RTM client lost");
-                int attempts = 0;
-                while (true) {
-                    try {
-                        attempts++;
-                        int waitTime = attempts * RECONNECT_WAIT_TIME;
-                        Log.info("Trying to reconnect in {0}ms", waitTime);
-                        Thread.sleep(waitTime);
-                        String slackToken = SlackIntentProvider.this.getRuntimePlatform().getSlackToken(teamId);
-                        RTMClient rtmClient = SlackIntentProvider.this.getRuntimePlatform().getSlack().rtm(slackToken);
-                        rtmClient.addMessageHandler(new XatkitRTMMessageHandler(SlackIntentProvider.this.getSelfId(slackToken)));
-                        rtmClient.addCloseHandler(new XatkitRTMCloseHandler(teamId));
-                        rtmClient.connect();
-                        rtmClients.put(teamId, rtmClient);
-                        /*
-                         * The RTM client is reconnected and the handlers are set.
-                         */
-                        break;
-                    } catch (DeploymentException | IOException e) {
-                        Log.error("Unable to reconnect the RTM client");
-                    } catch (InterruptedException e) {
-                        Log.error("An error occurred while waiting to reconnect the RTM client");
-                    }
-                }
+                Log.error("Connection to the Slack RTM client lost for workspace {0}", teamId);
+                reconnectScheduler.scheduleReconnect(teamId, () -> connectRtmClient(teamId,
+                        getRuntimePlatform().getSlackToken(teamId)));
             }
         }
     }
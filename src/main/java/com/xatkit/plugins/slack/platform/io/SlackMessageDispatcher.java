@@ -0,0 +1,306 @@
+package com.xatkit.plugins.slack.platform.io;
+
+import fr.inria.atlanmod.commons.log.Log;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+import static java.util.Objects.isNull;
+
+/**
+ * A bounded executor that processes received Slack messages outside of the thread that received them.
+ * <p>
+ * This class is used by the {@link SlackIntentProvider} to move the expensive part of message handling (user
+ * information retrieval, intent recognition, event dispatching) out of the RTM websocket thread. Messages are
+ * dispatched to a fixed number of <i>lanes</i>, each lane being backed by a single thread and a bounded queue. All
+ * the messages from a given {@code (teamId, channel)} pair are dispatched to the same lane, meaning that messages
+ * sent in a channel are processed in the order they have been received.
+ * <p>
+ * When the queue of a lane is full {@link #dispatch(String, String, Runnable)} blocks the dispatching thread until
+ * some room is available in the queue. This back-pressure ensures that a burst of messages cannot exhaust the memory
+ * of the bot. Callers that cannot be blocked (e.g. the Events API requests, that must be acknowledged within 3
+ * seconds) use {@link #tryDispatch(String, String, Runnable)}, which drops the message instead.
+ * <p>
+ * A {@link SlackMessageDispatcher} created with {@code 0} threads processes the messages in the caller thread.
+ *
+ * @see com.xatkit.plugins.slack.SlackUtils#DISPATCHER_THREADS_KEY
+ * @see com.xatkit.plugins.slack.SlackUtils#DISPATCHER_QUEUE_CAPACITY_KEY
+ */
+public class SlackMessageDispatcher {
+
+    /**
+     * The maximum duration (in ms) a dispatching thread waits for some room in a full lane before checking whether
+     * the dispatcher has been shut down.
+     */
+    private static final long OFFER_TIMEOUT = 100;
+
+    /**
+     * The lanes used to process the dispatched messages.
+     * <p>
+     * This array is empty if the dispatcher processes the messages in the caller thread.
+     */
+    private final ThreadPoolExecutor[] lanes;
+
+    /**
+     * The number of tasks that have been dispatched by this dispatcher.
+     */
+    private final AtomicLong dispatchedCount = new AtomicLong();
+
+    /**
+     * The number of tasks that have been dropped because their lane was full.
+     */
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /**
+     * The number of tasks that have been started by this dispatcher.
+     */
+    private final AtomicLong startedCount = new AtomicLong();
+
+    /**
+     * The cumulated time (in ns) spent by the started tasks in the lane queues.
+     */
+    private final AtomicLong totalWaitTime = new AtomicLong();
+
+    /**
+     * The maximum time (in ns) spent by a started task in a lane queue.
+     */
+    private final AtomicLong maxWaitTime = new AtomicLong();
+
+    /**
+     * Constructs a {@link SlackMessageDispatcher} with the provided {@code threads} and {@code queueCapacity}.
+     *
+     * @param threads       the number of lanes (and threads) used to process the messages, or {@code 0} to process
+     *                      the messages in the caller thread
+     * @param queueCapacity the maximum number of pending messages in each lane
+     * @throws IllegalArgumentException if the provided {@code threads} is negative or if the provided {@code
+     *                                  queueCapacity} is lower than {@code 1}
+     */
+    public SlackMessageDispatcher(int threads, int queueCapacity) {
+        checkArgument(threads >= 0, "Cannot create a %s with the provided number of threads %s, expected a " +
+                "positive number", SlackMessageDispatcher.class.getSimpleName(), threads);
+        checkArgument(queueCapacity > 0, "Cannot create a %s with the provided queue capacity %s, expected a " +
+                "strictly positive number", SlackMessageDispatcher.class.getSimpleName(), queueCapacity);
+        this.lanes = new ThreadPoolExecutor[threads];
+        ThreadFactory threadFactory = new DispatcherThreadFactory();
+        for (int i = 0; i < threads; i++) {
+            /*
+             * The lanes reject the tasks when their queue is full, the dispatch methods decide whether to wait or to
+             * drop the task.
+             */
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+
+    /**
+     * Dispatches the provided {@code task} to the lane associated to the given {@code teamId} and {@code channel}.
+     * <p>
+     * This method blocks if the queue of the lane is full.
+     *
+     * @param teamId  the identifier of the workspace containing the channel that sent the message
+     * @param channel the identifier of the channel that sent the message
+     * @param task    the processing to execute
+     */
+    public void dispatch(String teamId, String channel, Runnable task) {
+        dispatchedCount.incrementAndGet();
+        Runnable measuredTask = measure(teamId, channel, task);
+        if (lanes.length == 0) {
+            measuredTask.run();
+            return;
+        }
+        ThreadPoolExecutor lane = getLane(teamId, channel);
+        try {
+            lane.execute(measuredTask);
+        } catch (RejectedExecutionException e) {
+            waitForRoom(lane, measuredTask);
+        }
+    }
+
+    /**
+     * Dispatches the provided {@code task} to the lane associated to the given {@code teamId} and {@code channel}
+     * if the queue of the lane is not full.
+     * <p>
+     * This method never blocks: the {@code task} is dropped if the queue of the lane is full, and the drop is
+     * reported by {@link #getDroppedCount()}.
+     *
+     * @param teamId  the identifier of the workspace containing the channel that sent the message
+     * @param channel the identifier of the channel that sent the message
+     * @param task    the processing to execute
+     * @return {@code true} if the {@code task} has been dispatched, {@code false} if it has been dropped
+     */
+    public boolean tryDispatch(String teamId, String channel, Runnable task) {
+        Runnable measuredTask = measure(teamId, channel, task);
+        if (lanes.length == 0) {
+            dispatchedCount.incrementAndGet();
+            measuredTask.run();
+            return true;
+        }
+        ThreadPoolExecutor lane = getLane(teamId, channel);
+        try {
+            lane.execute(measuredTask);
+            dispatchedCount.incrementAndGet();
+            return true;
+        } catch (RejectedExecutionException e) {
+            if (lane.isShutdown()) {
+                Log.warn("Cannot dispatch the Slack message, the dispatcher is shut down");
+                return false;
+            }
+            droppedCount.incrementAndGet();
+            Log.warn("Cannot dispatch the Slack message from channel {0} (team {1}), the queue is full, the message " +
+                    "is dropped", channel, teamId);
+            return false;
+        }
+    }
+
+    /**
+     * Blocks the caller until there is some room in the queue of the provided {@code lane} for the given {@code
+     * task}.
+     * <p>
+     * Putting the task at the end of the queue preserves the ordering of the messages in the lane. The shutdown
+     * state is checked between two attempts: a lane shut down while the caller is waiting is never drained.
+     *
+     * @param lane the lane to add the {@code task} to
+     * @param task the task to add
+     */
+    private static void waitForRoom(ThreadPoolExecutor lane, Runnable task) {
+        try {
+            while (!lane.isShutdown()) {
+                if (lane.getQueue().offer(task, OFFER_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    if (lane.isTerminated() && lane.getQueue().remove(task)) {
+                        break;
+                    }
+                    return;
+                }
+            }
+            Log.warn("Cannot dispatch the Slack message, the dispatcher is shut down");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Log.error("Interrupted while waiting to dispatch a Slack message, the message is dropped");
+        }
+    }
+
+    /**
+     * Wraps the provided {@code task} to record its queuing metrics and log its errors.
+     *
+     * @param teamId  the identifier of the workspace containing the channel that sent the message
+     * @param channel the identifier of the channel that sent the message
+     * @param task    the processing to execute
+     * @return the wrapped task
+     */
+    private Runnable measure(String teamId, String channel, Runnable task) {
+        long enqueueTime = System.nanoTime();
+        return () -> {
+            long waitTime = System.nanoTime() - enqueueTime;
+            startedCount.incrementAndGet();
+            totalWaitTime.addAndGet(waitTime);
+            maxWaitTime.accumulateAndGet(waitTime, Math::max);
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                Log.error("An error occurred when processing a Slack message from channel {0} (team {1}), see the " +
+                        "attached exception", channel, teamId, e);
+            }
+        };
+    }
+
+    /**
+     * Returns the lane associated to the provided {@code teamId} and {@code channel}.
+     *
+     * @param teamId  the identifier of the workspace containing the channel
+     * @param channel the identifier of the channel
+     * @return the lane
+     */
+    private ThreadPoolExecutor getLane(String teamId, String channel) {
+        int hash = 31 * (isNull(teamId) ? 0 : teamId.hashCode()) + (isNull(channel) ? 0 : channel.hashCode());
+        return lanes[Math.floorMod(hash, lanes.length)];
+    }
+
+    /**
+     * Returns the number of messages waiting to be processed.
+     *
+     * @return the number of messages waiting to be processed
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            depth += lane.getQueue().size();
+        }
+        return depth;
+    }
+
+    /**
+     * Returns the number of messages dispatched since the creation of this dispatcher.
+     *
+     * @return the number of dispatched messages
+     */
+    public long getDispatchedCount() {
+        return dispatchedCount.get();
+    }
+
+    /**
+     * Returns the number of messages dropped by {@link #tryDispatch(String, String, Runnable)} because their lane was
+     * full.
+     *
+     * @return the number of dropped messages
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Returns the average time (in ms) spent by the messages in the queue before being processed.
+     *
+     * @return the average wait time in ms
+     */
+    public double getAverageWaitTime() {
+        long started = startedCount.get();
+        if (started == 0) {
+            return 0;
+        }
+        return (double) totalWaitTime.get() / started / 1_000_000;
+    }
+
+    /**
+     * Returns the maximum time (in ms) spent by a message in the queue before being processed.
+     *
+     * @return the maximum wait time in ms
+     */
+    public long getMaxWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitTime.get());
+    }
+
+    /**
+     * Shuts down the lanes of this dispatcher.
+     * <p>
+     * Messages that are already queued are processed before the lane threads terminate.
+     */
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    /**
+     * The {@link ThreadFactory} creating the daemon threads of the dispatcher lanes.
+     */
+    private static class DispatcherThreadFactory implements ThreadFactory {
+
+        /**
+         * The counter used to name the created threads.
+         */
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "slack-dispatcher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
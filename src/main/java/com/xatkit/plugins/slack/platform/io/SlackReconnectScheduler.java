@@ -0,0 +1,435 @@
+package com.xatkit.plugins.slack.platform.io;
+
+import fr.inria.atlanmod.commons.log.Log;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+
+/**
+ * Schedules the reconnection of the RTM clients that have been disconnected.
+ * <p>
+ * This class replaces blocking reconnection loops by tasks scheduled on a small shared pool of threads. Failed
+ * attempts are retried with a capped exponential backoff: the delay before the {@code n}th retry is a random value
+ * between {@code 0} and {@code min(maxDelay, baseDelay * 2^n)} (<i>full jitter</i>). The jitter prevents
+ * workspaces disconnected at the same time from reconnecting in lockstep.
+ * <p>
+ * The number of reconnections running at the same time is bounded by {@code maxConcurrentReconnects}, which is the
+ * number of threads of the scheduler. Attempts that are due while the limit is reached wait for a thread to be
+ * available.
+ * <p>
+ * The reconnection state of each workspace can be retrieved with {@link #getReconnectState(String)}.
+ *
+ * @see com.xatkit.plugins.slack.SlackUtils#RECONNECT_BASE_DELAY_KEY
+ * @see com.xatkit.plugins.slack.SlackUtils#RECONNECT_MAX_DELAY_KEY
+ * @see com.xatkit.plugins.slack.SlackUtils#RECONNECT_MAX_CONCURRENT_KEY
+ */
+public class SlackReconnectScheduler {
+
+    /**
+     * The maximum exponent used to compute the backoff delay.
+     * <p>
+     * This bound prevents overflows when computing {@code baseDelay * 2^attempts}.
+     */
+    private static final int MAX_BACKOFF_EXPONENT = 30;
+
+    /**
+     * The base delay (in ms) of the exponential backoff.
+     */
+    private final long baseDelay;
+
+    /**
+     * The maximum delay (in ms) between two attempts.
+     */
+    private final long maxDelay;
+
+    /**
+     * The number of reconnections that are currently running.
+     */
+    private final AtomicInteger activeReconnects = new AtomicInteger();
+
+    /**
+     * The {@link ScheduledExecutorService} running the reconnection attempts.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * The reconnection states of the workspaces currently reconnecting.
+     * <p>
+     * Keys in this {@link Map} are {@code teamId}s. Workspaces are removed from this {@link Map} once they are
+     * reconnected.
+     */
+    private final Map<String, TeamReconnect> reconnects = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a {@link SlackReconnectScheduler} with the provided parameters.
+     *
+     * @param baseDelay               the base delay (in ms) of the exponential backoff
+     * @param maxDelay                the maximum delay (in ms) between two attempts
+     * @param maxConcurrentReconnects the maximum number of reconnections running at the same time
+     * @throws IllegalArgumentException if the provided {@code baseDelay} or {@code maxConcurrentReconnects} is lower
+     *                                  than {@code 1}, or if the provided {@code maxDelay} is lower than {@code
+     *                                  baseDelay}
+     */
+    public SlackReconnectScheduler(long baseDelay, long maxDelay, int maxConcurrentReconnects) {
+        checkArgument(baseDelay > 0, "Cannot create a %s with the provided base delay %s, expected a strictly " +
+                "positive number", SlackReconnectScheduler.class.getSimpleName(), baseDelay);
+        checkArgument(maxDelay >= baseDelay, "Cannot create a %s with the provided max delay %s, expected a value " +
+                "greater or equal to the base delay %s", SlackReconnectScheduler.class.getSimpleName(), maxDelay,
+                baseDelay);
+        checkArgument(maxConcurrentReconnects > 0, "Cannot create a %s with the provided max concurrent " +
+                        "reconnects %s, expected a strictly positive number",
+                SlackReconnectScheduler.class.getSimpleName(), maxConcurrentReconnects);
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(maxConcurrentReconnects,
+                new ReconnectThreadFactory());
+        scheduledExecutor.setRemoveOnCancelPolicy(true);
+        this.executor = scheduledExecutor;
+    }
+
+    /**
+     * Schedules the reconnection of the workspace identified by the provided {@code teamId}.
+     * <p>
+     * The provided {@code task} is executed until it completes without throwing an exception. This method does
+     * nothing if a reconnection is already scheduled for the provided {@code teamId}.
+     *
+     * @param teamId the identifier of the workspace to reconnect
+     * @param task   the {@link ReconnectTask} reconnecting the workspace
+     * @return {@code true} if the reconnection has been scheduled, {@code false} if a reconnection is already
+     * scheduled for the workspace or if the scheduler is shut down
+     */
+    public boolean scheduleReconnect(String teamId, ReconnectTask task) {
+        TeamReconnect reconnect = new TeamReconnect(teamId, task);
+        if (reconnects.putIfAbsent(teamId, reconnect) != null) {
+            Log.debug("A reconnection is already scheduled for workspace {0}", teamId);
+            return false;
+        }
+        if (!schedule(reconnect, computeDelay(0))) {
+            reconnects.remove(teamId, reconnect);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Computes the delay (in ms) to wait before the attempt following the provided number of failed {@code
+     * attempts}.
+     *
+     * @param attempts the number of failed attempts
+     * @return a random delay between {@code 0} and {@code min(maxDelay, baseDelay * 2^attempts)}
+     */
+    long computeDelay(int attempts) {
+        long cap = Math.min(maxDelay, baseDelay << Math.min(attempts, MAX_BACKOFF_EXPONENT));
+        if (cap <= 0) {
+            /*
+             * baseDelay * 2^attempts overflowed.
+             */
+            cap = maxDelay;
+        }
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    /**
+     * Schedules the next attempt of the provided {@code reconnect} after the given {@code delay}.
+     *
+     * @param reconnect the {@link TeamReconnect} to schedule
+     * @param delay     the delay (in ms) to wait before the attempt
+     * @return {@code true} if the attempt has been scheduled, {@code false} if the scheduler is shut down
+     */
+    private boolean schedule(TeamReconnect reconnect, long delay) {
+        reconnect.update(ReconnectState.Status.SCHEDULED, System.currentTimeMillis() + delay);
+        try {
+            executor.schedule(() -> attempt(reconnect), delay, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            Log.warn("Cannot schedule the reconnection of workspace {0}, the scheduler is shut down",
+                    reconnect.teamId);
+            return false;
+        }
+    }
+
+    /**
+     * Runs an attempt of the provided {@code reconnect}.
+     * <p>
+     * Failed attempts are rescheduled with an exponential backoff.
+     *
+     * @param reconnect the {@link TeamReconnect} to attempt
+     */
+    private void attempt(TeamReconnect reconnect) {
+        boolean reconnected = false;
+        activeReconnects.incrementAndGet();
+        try {
+            reconnect.update(ReconnectState.Status.CONNECTING, 0);
+            Log.info("Reconnecting workspace {0} (attempt {1})", reconnect.teamId, reconnect.attempts + 1);
+            reconnect.task.reconnect();
+            reconnected = true;
+        } catch (Exception e) {
+            reconnect.attempts++;
+            reconnect.lastError = e.getMessage();
+            Log.error("Unable to reconnect workspace {0} (attempt {1}), see the attached exception",
+                    reconnect.teamId, reconnect.attempts, e);
+        } finally {
+            activeReconnects.decrementAndGet();
+        }
+        if (reconnected) {
+            Log.info("Workspace {0} reconnected", reconnect.teamId);
+            reconnects.remove(reconnect.teamId, reconnect);
+        } else {
+            long delay = computeDelay(reconnect.attempts);
+            Log.info("Trying to reconnect workspace {0} in {1}ms", reconnect.teamId, delay);
+            if (!schedule(reconnect, delay)) {
+                reconnects.remove(reconnect.teamId, reconnect);
+            }
+        }
+    }
+
+    /**
+     * Returns the reconnection state of the workspace identified by the provided {@code teamId}.
+     *
+     * @param teamId the identifier of the workspace
+     * @return the {@link ReconnectState} of the workspace, or {@code null} if the workspace is not reconnecting
+     */
+    public @Nullable ReconnectState getReconnectState(String teamId) {
+        TeamReconnect reconnect = reconnects.get(teamId);
+        return reconnect == null ? null : reconnect.toState();
+    }
+
+    /**
+     * Returns the reconnection states of all the workspaces that are currently reconnecting.
+     *
+     * @return an unmodifiable {@link Map} containing the {@link ReconnectState}s, indexed by {@code teamId}
+     */
+    public Map<String, ReconnectState> getReconnectStates() {
+        Map<String, ReconnectState> states = new HashMap<>();
+        reconnects.forEach((teamId, reconnect) -> states.put(teamId, reconnect.toState()));
+        return Collections.unmodifiableMap(states);
+    }
+
+    /**
+     * Returns the number of reconnections that are currently running.
+     *
+     * @return the number of running reconnections
+     */
+    public int getActiveReconnectCount() {
+        return activeReconnects.get();
+    }
+
+    /**
+     * Cancels the scheduled reconnections and shuts down the scheduler threads.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        reconnects.clear();
+    }
+
+    /**
+     * A task reconnecting a workspace.
+     */
+    @FunctionalInterface
+    public interface ReconnectTask {
+
+        /**
+         * Reconnects the workspace.
+         *
+         * @throws Exception if the reconnection failed
+         */
+        void reconnect() throws Exception;
+    }
+
+    /**
+     * An immutable snapshot of the reconnection state of a workspace.
+     */
+    public static class ReconnectState {
+
+        /**
+         * The status of a reconnection.
+         */
+        public enum Status {
+            /**
+             * The next attempt is scheduled.
+             */
+            SCHEDULED,
+            /**
+             * An attempt is running.
+             */
+            CONNECTING
+        }
+
+        /**
+         * The status of the reconnection.
+         */
+        private final Status status;
+
+        /**
+         * The number of failed attempts.
+         */
+        private final int attempts;
+
+        /**
+         * The time (in ms since epoch) of the next attempt, or {@code 0} if an attempt is running.
+         */
+        private final long nextAttemptTime;
+
+        /**
+         * The message of the error that made the last attempt fail.
+         */
+        private final String lastError;
+
+        /**
+         * Constructs a {@link ReconnectState} with the provided parameters.
+         *
+         * @param status          the status of the reconnection
+         * @param attempts        the number of failed attempts
+         * @param nextAttemptTime the time (in ms since epoch) of the next attempt
+         * @param lastError       the message of the error that made the last attempt fail
+         */
+        private ReconnectState(Status status, int attempts, long nextAttemptTime, String lastError) {
+            this.status = status;
+            this.attempts = attempts;
+            this.nextAttemptTime = nextAttemptTime;
+            this.lastError = lastError;
+        }
+
+        /**
+         * Returns the status of the reconnection.
+         *
+         * @return the status of the reconnection
+         */
+        public Status getStatus() {
+            return status;
+        }
+
+        /**
+         * Returns the number of failed attempts.
+         *
+         * @return the number of failed attempts
+         */
+        public int getAttempts() {
+            return attempts;
+        }
+
+        /**
+         * Returns the time (in ms since epoch) of the next attempt.
+         *
+         * @return the time of the next attempt, or {@code 0} if an attempt is running
+         */
+        public long getNextAttemptTime() {
+            return nextAttemptTime;
+        }
+
+        /**
+         * Returns the message of the error that made the last attempt fail.
+         *
+         * @return the error message, or {@code null} if no attempt failed
+         */
+        public @Nullable String getLastError() {
+            return lastError;
+        }
+
+        @Override
+        public String toString() {
+            return "ReconnectState{status=" + status + ", attempts=" + attempts + ", nextAttemptTime="
+                    + nextAttemptTime + ", lastError=" + lastError + "}";
+        }
+    }
+
+    /**
+     * The mutable reconnection state of a workspace.
+     * <p>
+     * The attempts of a given workspace are never executed concurrently, the fields of this class are volatile to
+     * be safely read by the monitoring methods.
+     */
+    private static class TeamReconnect {
+
+        /**
+         * The identifier of the workspace to reconnect.
+         */
+        private final String teamId;
+
+        /**
+         * The {@link ReconnectTask} reconnecting the workspace.
+         */
+        private final ReconnectTask task;
+
+        /**
+         * The status of the reconnection.
+         */
+        private volatile ReconnectState.Status status;
+
+        /**
+         * The number of failed attempts.
+         */
+        private volatile int attempts;
+
+        /**
+         * The time (in ms since epoch) of the next attempt.
+         */
+        private volatile long nextAttemptTime;
+
+        /**
+         * The message of the error that made the last attempt fail.
+         */
+        private volatile String lastError;
+
+        /**
+         * Constructs a {@link TeamReconnect} for the provided {@code teamId} and {@code task}.
+         *
+         * @param teamId the identifier of the workspace to reconnect
+         * @param task   the {@link ReconnectTask} reconnecting the workspace
+         */
+        private TeamReconnect(String teamId, ReconnectTask task) {
+            this.teamId = teamId;
+            this.task = task;
+        }
+
+        /**
+         * Updates the status and the next attempt time of the reconnection.
+         *
+         * @param status          the new status
+         * @param nextAttemptTime the time (in ms since epoch) of the next attempt
+         */
+        private void update(ReconnectState.Status status, long nextAttemptTime) {
+            this.status = status;
+            this.nextAttemptTime = nextAttemptTime;
+        }
+
+        /**
+         * Returns an immutable snapshot of this reconnection.
+         *
+         * @return the {@link ReconnectState}
+         */
+        private ReconnectState toState() {
+            return new ReconnectState(status, attempts, nextAttemptTime, lastError);
+        }
+    }
+
+    /**
+     * The {@link ThreadFactory} creating the daemon threads of the scheduler.
+     */
+    private static class ReconnectThreadFactory implements ThreadFactory {
+
+        /**
+         * The counter used to name the created threads.
+         */
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "slack-reconnect-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
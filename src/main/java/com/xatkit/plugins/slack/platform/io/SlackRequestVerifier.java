@@ -0,0 +1,147 @@
+package com.xatkit.plugins.slack.platform.io;
+
+import fr.inria.atlanmod.commons.log.Log;
+
+import javax.annotation.Nullable;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Verifies the signature of the HTTP requests sent by Slack.
+ * <p>
+ * Slack signs its requests with the signing secret of the app: the {@code X-Slack-Signature} header contains the
+ * hexadecimal HMAC-SHA256 of {@code v0:<X-Slack-Request-Timestamp>:<body>} prefixed with {@code v0=}. This class
+ * computes the expected signature and compares it in constant time with the received one. Requests with a timestamp
+ * older than {@link #MAX_REQUEST_AGE} are rejected to prevent replay attacks.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see SlackEventsRestHandler
+ */
+public class SlackRequestVerifier {
+
+    /**
+     * The HTTP header containing the signature of the request.
+     */
+    public static final String SIGNATURE_HEADER = "X-Slack-Signature";
+
+    /**
+     * The HTTP header containing the timestamp of the request.
+     */
+    public static final String TIMESTAMP_HEADER = "X-Slack-Request-Timestamp";
+
+    /**
+     * The maximum age (in seconds) of an accepted request.
+     */
+    public static final long MAX_REQUEST_AGE = TimeUnit.MINUTES.toSeconds(5);
+
+    /**
+     * The version prefix of the signatures computed by Slack.
+     */
+    private static final String VERSION = "v0";
+
+    /**
+     * The HMAC algorithm used to compute the signatures.
+     */
+    private static final String ALGORITHM = "HmacSHA256";
+
+    /**
+     * The hexadecimal digits used to encode the computed signatures.
+     */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * The key built from the signing secret of the Slack app.
+     */
+    private final SecretKeySpec key;
+
+    /**
+     * Constructs a {@link SlackRequestVerifier} with the provided {@code signingSecret}.
+     *
+     * @param signingSecret the signing secret of the Slack app
+     * @throws IllegalArgumentException if the provided {@code signingSecret} is {@code null} or empty
+     */
+    public SlackRequestVerifier(String signingSecret) {
+        checkArgument(nonNull(signingSecret) && !signingSecret.isEmpty(), "Cannot construct a %s with the provided " +
+                "signing secret %s", SlackRequestVerifier.class.getSimpleName(), signingSecret);
+        this.key = new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    /**
+     * Verifies the provided request information.
+     *
+     * @param timestamp the value of the {@link #TIMESTAMP_HEADER} header
+     * @param signature the value of the {@link #SIGNATURE_HEADER} header
+     * @param body      the raw body of the request
+     * @return {@code true} if the request is signed with the signing secret of the app and is not too old, {@code
+     * false} otherwise
+     */
+    public boolean verify(@Nullable String timestamp, @Nullable String signature, String body) {
+        return verify(timestamp, signature, body, System.currentTimeMillis());
+    }
+
+    /**
+     * Verifies the provided request information at the given {@code currentTimeMillis}.
+     *
+     * @param timestamp         the value of the {@link #TIMESTAMP_HEADER} header
+     * @param signature         the value of the {@link #SIGNATURE_HEADER} header
+     * @param body              the raw body of the request
+     * @param currentTimeMillis the current time, in milliseconds
+     * @return {@code true} if the request is signed with the signing secret of the app and is not too old, {@code
+     * false} otherwise
+     */
+    boolean verify(@Nullable String timestamp, @Nullable String signature, String body, long currentTimeMillis) {
+        if (isNull(timestamp) || isNull(signature) || isNull(body)) {
+            return false;
+        }
+        long requestTime;
+        try {
+            requestTime = Long.parseLong(timestamp.trim());
+        } catch (NumberFormatException e) {
+            Log.warn("Cannot parse the Slack request timestamp {0}", timestamp);
+            return false;
+        }
+        if (Math.abs(TimeUnit.MILLISECONDS.toSeconds(currentTimeMillis) - requestTime) > MAX_REQUEST_AGE) {
+            Log.warn("Rejecting the Slack request with timestamp {0}, the request is too old", timestamp);
+            return false;
+        }
+        String expected = sign(timestamp.trim(), body);
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8),
+                signature.trim().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Computes the signature of the provided {@code body} sent at the given {@code timestamp}.
+     *
+     * @param timestamp the timestamp of the request
+     * @param body      the raw body of the request
+     * @return the signature of the request, prefixed with {@code v0=}
+     */
+    String sign(String timestamp, String body) {
+        byte[] digest;
+        try {
+            /*
+             * Mac instances are not thread-safe, create a new one for each request.
+             */
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            digest = mac.doFinal((VERSION + ":" + timestamp + ":" + body).getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot compute the signature of the Slack request", e);
+        }
+        StringBuilder sb = new StringBuilder(VERSION.length() + 1 + digest.length * 2);
+        sb.append(VERSION).append('=');
+        for (byte b : digest) {
+            sb.append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+        }
+        return sb.toString();
+    }
+}
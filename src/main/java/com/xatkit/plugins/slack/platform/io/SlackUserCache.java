@@ -0,0 +1,235 @@
+package com.xatkit.plugins.slack.platform.io;
+
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.model.User;
+import fr.inria.atlanmod.commons.log.Log;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+import static java.util.Objects.nonNull;
+
+/**
+ * A size-bounded cache of the {@link User}s of a Slack workspace.
+ * <p>
+ * This cache is used by the {@link SlackIntentProvider} to retrieve the profile of the users sending messages
+ * without calling the Slack API for each received message. Cached entries expire after a configurable delay, and
+ * the least recently used entries are evicted when the cache is full. Entries are also explicitly invalidated when
+ * the Slack API notifies that a user profile has changed.
+ *
+ * @see com.xatkit.plugins.slack.SlackUtils#USER_CACHE_TTL_KEY
+ * @see com.xatkit.plugins.slack.SlackUtils#USER_CACHE_MAX_SIZE_KEY
+ */
+public class SlackUserCache {
+
+    /**
+     * The delay (in ms) after which a cached {@link User} expires.
+     */
+    private final long ttl;
+
+    /**
+     * The cached {@link User}s, ordered from the least recently accessed to the most recently accessed.
+     * <p>
+     * Accesses to this {@link Map} must be synchronized on the map itself.
+     */
+    private final Map<String, CachedUser> users;
+
+    /**
+     * The loads in progress, associated to the identifier of the loaded {@link User}.
+     * <p>
+     * A load is removed from this {@link Map} when its {@link User} is invalidated, meaning that its (stale) result
+     * is not cached. Accesses to this {@link Map} must be synchronized on {@link #users}.
+     */
+    private final Map<String, Object> pendingLoads = new HashMap<>();
+
+    /**
+     * The number of lookups that have been answered from the cache.
+     */
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * The number of lookups that required to load the {@link User}.
+     */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Constructs a {@link SlackUserCache} with the provided {@code ttl} and {@code maxSize}.
+     *
+     * @param ttl     the delay (in ms) after which a cached {@link User} expires
+     * @param maxSize the maximum number of {@link User}s stored in the cache
+     * @throws IllegalArgumentException if the provided {@code ttl} or {@code maxSize} is lower than {@code 1}
+     */
+    public SlackUserCache(long ttl, int maxSize) {
+        checkArgument(ttl > 0, "Cannot create a %s with the provided TTL %s, expected a strictly positive value",
+                SlackUserCache.class.getSimpleName(), ttl);
+        checkArgument(maxSize > 0, "Cannot create a %s with the provided maximum size %s, expected a strictly " +
+                "positive value", SlackUserCache.class.getSimpleName(), maxSize);
+        this.ttl = ttl;
+        this.users = new LinkedHashMap<String, CachedUser>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedUser> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the {@link User} associated to the provided {@code userId}.
+     * <p>
+     * The {@link User} is loaded with the provided {@code loader} if it is not in the cache or if the cached entry
+     * has expired. Users that cannot be loaded are not cached, and neither are users invalidated while they are
+     * loaded (the loaded profile may predate the invalidation).
+     *
+     * @param userId the identifier of the {@link User} to retrieve
+     * @param loader the {@link UserLoader} used to retrieve the {@link User} from the Slack API
+     * @return the {@link User} if it exists, {@code null} otherwise
+     * @throws SlackApiException if the Slack API returns an error when loading the {@link User}
+     * @throws IOException       if an error occurred when reaching the Slack API
+     */
+    public @Nullable User get(String userId, UserLoader loader) throws SlackApiException, IOException {
+        CachedUser cachedUser;
+        synchronized (users) {
+            cachedUser = users.get(userId);
+            if (nonNull(cachedUser) && cachedUser.expirationTime <= System.currentTimeMillis()) {
+                users.remove(userId);
+                cachedUser = null;
+            }
+        }
+        if (nonNull(cachedUser)) {
+            hitCount.incrementAndGet();
+            return cachedUser.user;
+        }
+        missCount.incrementAndGet();
+        Object load = new Object();
+        synchronized (users) {
+            pendingLoads.put(userId, load);
+        }
+        /*
+         * Do not hold the lock while loading the user, the loader typically calls the Slack API.
+         */
+        User user = null;
+        try {
+            user = loader.load(userId);
+        } finally {
+            synchronized (users) {
+                if (pendingLoads.remove(userId, load) && nonNull(user)) {
+                    users.put(userId, new CachedUser(user, System.currentTimeMillis() + ttl));
+                }
+            }
+        }
+        return user;
+    }
+
+    /**
+     * Removes the {@link User} associated to the provided {@code userId} from the cache.
+     *
+     * @param userId the identifier of the {@link User} to remove
+     */
+    public void invalidate(String userId) {
+        synchronized (users) {
+            pendingLoads.remove(userId);
+            if (nonNull(users.remove(userId))) {
+                Log.debug("Invalidated the cached profile of user {0}", userId);
+            }
+        }
+    }
+
+    /**
+     * Removes all the {@link User}s from the cache.
+     */
+    public void invalidateAll() {
+        synchronized (users) {
+            pendingLoads.clear();
+            users.clear();
+        }
+    }
+
+    /**
+     * Returns the number of {@link User}s stored in the cache.
+     *
+     * @return the number of {@link User}s stored in the cache
+     */
+    public int size() {
+        synchronized (users) {
+            return users.size();
+        }
+    }
+
+    /**
+     * Returns the number of lookups that have been answered from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of lookups that required to load the {@link User}.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the ratio of lookups that have been answered from the cache.
+     *
+     * @return the hit ratio, or {@code 0} if the cache has not been accessed yet
+     */
+    public double getHitRatio() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Loads a {@link User} from the Slack API.
+     */
+    @FunctionalInterface
+    public interface UserLoader {
+
+        /**
+         * Loads the {@link User} associated to the provided {@code userId}.
+         *
+         * @param userId the identifier of the {@link User} to load
+         * @return the loaded {@link User}, or {@code null} if it does not exist
+         * @throws SlackApiException if the Slack API returns an error
+         * @throws IOException       if an error occurred when reaching the Slack API
+         */
+        @Nullable User load(String userId) throws SlackApiException, IOException;
+    }
+
+    /**
+     * A cached {@link User} and its expiration time.
+     */
+    private static class CachedUser {
+
+        /**
+         * The cached {@link User}.
+         */
+        private final User user;
+
+        /**
+         * The time (in ms since epoch) after which the cached {@link User} is expired.
+         */
+        private final long expirationTime;
+
+        /**
+         * Constructs a {@link CachedUser} with the provided {@code user} and {@code expirationTime}.
+         *
+         * @param user           the cached {@link User}
+         * @param expirationTime the time (in ms since epoch) after which the cached {@link User} is expired
+         */
+        private CachedUser(User user, long expirationTime) {
+            this.user = user;
+            this.expirationTime = expirationTime;
+        }
+    }
+}
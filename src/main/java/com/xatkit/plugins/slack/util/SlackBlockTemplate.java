@@ -0,0 +1,262 @@
+package com.xatkit.plugins.slack.util;
+
+import com.github.seratch.jslack.api.model.block.LayoutBlock;
+import com.github.seratch.jslack.common.json.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+import static java.util.Objects.nonNull;
+
+/**
+ * A compiled Block Kit message with named placeholders.
+ * <p>
+ * Posting a {@link LayoutBlock} list serializes the whole object graph with {@link Gson} reflection for each
+ * message. Bots posting the same block structures with only a few values changed can compile them once into a
+ * {@link SlackBlockTemplate}: the blocks are parsed and serialized when the template is compiled, and rendering the
+ * template only appends the serialized fragments and the escaped placeholder values to a buffer.
+ * <p>
+ * Placeholders are written {@code {{name}}} in the text values of the blocks, for example:
+ * <pre>
+ * {@code
+ * SlackBlockTemplate template = SlackBlockTemplate.compile("[{\"type\": \"section\", \"text\": {\"type\": " +
+ *     "\"mrkdwn\", \"text\": \"Build *{{build}}* finished with status {{status}}\"}}]");
+ * String blocks = template.render(values);
+ * }
+ * </pre>
+ * Rendered values are escaped as JSON string content. They are not escaped for Slack's {@code mrkdwn} syntax,
+ * meaning that values can contain formatting and links.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @see com.xatkit.plugins.slack.platform.action.PostLayoutBlocksMessage
+ */
+public class SlackBlockTemplate {
+
+    /**
+     * The pattern matching the placeholders of a template.
+     */
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{\\{([A-Za-z0-9_.\\-]+)}}");
+
+    /**
+     * The {@link Gson} instance used to serialize the {@link LayoutBlock}s.
+     */
+    private static final Gson GSON = GsonFactory.createSnakeCase();
+
+    /**
+     * The {@link Type} of a {@link LayoutBlock} list.
+     */
+    private static final Type LAYOUT_BLOCKS_TYPE = new TypeToken<List<LayoutBlock>>() {
+    }.getType();
+
+    /**
+     * The hexadecimal digits used to escape control characters.
+     */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * The maximum capacity of the reused rendering buffers.
+     * <p>
+     * Buffers that grew larger than this capacity are not kept, to avoid retaining large arrays in each thread.
+     */
+    private static final int MAX_BUFFER_CAPACITY = 64 * 1024;
+
+    /**
+     * The rendering buffers reused by each thread.
+     */
+    private static final ThreadLocal<StringBuilder> BUFFERS = ThreadLocal.withInitial(StringBuilder::new);
+
+    /**
+     * The serialized fragments of the template, located between the placeholders.
+     * <p>
+     * This array contains one more element than {@link #placeholders}: fragment {@code i} is rendered before
+     * placeholder {@code i}.
+     */
+    private final String[] fragments;
+
+    /**
+     * The names of the placeholders of the template, in rendering order.
+     */
+    private final String[] placeholders;
+
+    /**
+     * The length of the serialized template without its placeholders.
+     */
+    private final int fragmentsLength;
+
+    /**
+     * Constructs a {@link SlackBlockTemplate} from the provided serialized {@code blocks}.
+     *
+     * @param blocks the serialized blocks containing the placeholders
+     */
+    private SlackBlockTemplate(String blocks) {
+        List<String> fragmentList = new ArrayList<>();
+        List<String> placeholderList = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(blocks);
+        int start = 0;
+        while (matcher.find()) {
+            fragmentList.add(blocks.substring(start, matcher.start()));
+            placeholderList.add(matcher.group(1));
+            start = matcher.end();
+        }
+        fragmentList.add(blocks.substring(start));
+        this.fragments = fragmentList.toArray(new String[0]);
+        this.placeholders = placeholderList.toArray(new String[0]);
+        int length = 0;
+        for (String fragment : fragments) {
+            length += fragment.length();
+        }
+        this.fragmentsLength = length;
+    }
+
+    /**
+     * Compiles the provided {@code blocks} JSON array into a {@link SlackBlockTemplate}.
+     * <p>
+     * The provided {@code blocks} are checked against the {@link LayoutBlock} model before compiling the template.
+     *
+     * @param blocks the JSON array of blocks containing the placeholders
+     * @return the compiled {@link SlackBlockTemplate}
+     * @throws IllegalArgumentException if the provided {@code blocks} is not a valid JSON array of blocks
+     */
+    public static SlackBlockTemplate compile(String blocks) {
+        List<LayoutBlock> layoutBlocks;
+        try {
+            JsonElement element = new JsonParser().parse(blocks);
+            checkArgument(element.isJsonArray(), "Cannot compile the provided blocks %s, expected a JSON array",
+                    blocks);
+            layoutBlocks = GSON.fromJson(element, LAYOUT_BLOCKS_TYPE);
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("Cannot compile the provided blocks, see the attached exception", e);
+        }
+        return compile(layoutBlocks);
+    }
+
+    /**
+     * Compiles the provided {@code layoutBlocks} into a {@link SlackBlockTemplate}.
+     * <p>
+     * The {@code layoutBlocks} are serialized once, further modifications of the list are not reflected in the
+     * template.
+     *
+     * @param layoutBlocks the {@link LayoutBlock}s containing the placeholders
+     * @return the compiled {@link SlackBlockTemplate}
+     */
+    public static SlackBlockTemplate compile(List<LayoutBlock> layoutBlocks) {
+        return new SlackBlockTemplate(GSON.toJson(layoutBlocks, LAYOUT_BLOCKS_TYPE));
+    }
+
+    /**
+     * Returns the names of the placeholders of the template.
+     *
+     * @return an unmodifiable {@link Set} containing the names of the placeholders
+     */
+    public Set<String> getPlaceholders() {
+        Set<String> result = new LinkedHashSet<>();
+        Collections.addAll(result, placeholders);
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * Renders the template with the provided {@code values}.
+     * <p>
+     * This method renders the template in a buffer reused by the calling thread.
+     *
+     * @param values the values of the placeholders
+     * @return the rendered JSON array of blocks
+     * @throws IllegalArgumentException if the provided {@code values} does not contain a value for a placeholder
+     * @see #render(Map, StringBuilder)
+     */
+    public String render(Map<String, ?> values) {
+        StringBuilder buffer = BUFFERS.get();
+        buffer.setLength(0);
+        render(values, buffer);
+        String result = buffer.toString();
+        if (buffer.capacity() > MAX_BUFFER_CAPACITY) {
+            BUFFERS.remove();
+        }
+        return result;
+    }
+
+    /**
+     * Renders the template with the provided {@code values} into the given {@code buffer}.
+     * <p>
+     * Values are converted with {@link String#valueOf(Object)} and escaped as JSON string content. Line and paragraph
+     * separators are escaped as well, since they are not valid in some JavaScript parsers.
+     *
+     * @param values the values of the placeholders
+     * @param buffer the {@link StringBuilder} to append the rendered template to
+     * @throws IllegalArgumentException if the provided {@code values} does not contain a value for a placeholder
+     */
+    public void render(Map<String, ?> values, StringBuilder buffer) {
+        buffer.ensureCapacity(buffer.length() + fragmentsLength + placeholders.length * 16);
+        for (int i = 0; i < placeholders.length; i++) {
+            buffer.append(fragments[i]);
+            Object value = values.get(placeholders[i]);
+            checkArgument(nonNull(value), "Cannot render the template, missing a value for the placeholder %s",
+                    placeholders[i]);
+            appendEscaped(buffer, String.valueOf(value));
+        }
+        buffer.append(fragments[placeholders.length]);
+    }
+
+    /**
+     * Appends the provided {@code value} to the given {@code buffer}, escaped as JSON string content.
+     *
+     * @param buffer the {@link StringBuilder} to append the escaped value to
+     * @param value  the value to escape
+     */
+    private static void appendEscaped(StringBuilder buffer, String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    buffer.append("\\\"");
+                    break;
+                case '\\':
+                    buffer.append("\\\\");
+                    break;
+                case '\n':
+                    buffer.append("\\n");
+                    break;
+                case '\r':
+                    buffer.append("\\r");
+                    break;
+                case '\t':
+                    buffer.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        buffer.append("\\u")
+                                .append(HEX_DIGITS[(c >> 12) & 0xF])
+                                .append(HEX_DIGITS[(c >> 8) & 0xF])
+                                .append(HEX_DIGITS[(c >> 4) & 0xF])
+                                .append(HEX_DIGITS[c & 0xF]);
+                    } else {
+                        buffer.append(c);
+                    }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < placeholders.length; i++) {
+            builder.append(fragments[i]).append("{{").append(placeholders[i]).append("}}");
+        }
+        return builder.append(fragments[placeholders.length]).toString();
+    }
+}
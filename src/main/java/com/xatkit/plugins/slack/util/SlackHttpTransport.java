@@ -0,0 +1,169 @@
+package com.xatkit.plugins.slack.util;
+
+import com.xatkit.plugins.slack.SlackUtils;
+import fr.inria.atlanmod.commons.log.Log;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.apache.commons.configuration2.Configuration;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+
+/**
+ * The settings of the HTTP transport used to call the Slack Web API.
+ * <p>
+ * The {@link OkHttpClient}s created from these settings are shared by all the platforms of the JVM: bots
+ * configured with the same settings use the same connection pool instead of opening their own connections.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @see #getSharedClient()
+ * @see SlackUtils#HTTP_MAX_IDLE_CONNECTIONS_KEY
+ * @see SlackUtils#HTTP_KEEP_ALIVE_KEY
+ * @see SlackUtils#HTTP_CONNECT_TIMEOUT_KEY
+ * @see SlackUtils#HTTP_READ_TIMEOUT_KEY
+ * @see SlackUtils#HTTP_2_KEY
+ */
+public class SlackHttpTransport {
+
+    /**
+     * The {@link OkHttpClient}s shared by the platforms of the JVM, indexed by their settings.
+     */
+    private static final Map<SlackHttpTransport, OkHttpClient> SHARED_CLIENTS = new ConcurrentHashMap<>();
+
+    /**
+     * The maximum number of idle connections kept in the connection pool.
+     */
+    private final int maxIdleConnections;
+
+    /**
+     * The duration (in ms) an idle connection is kept in the connection pool.
+     */
+    private final long keepAlive;
+
+    /**
+     * The timeout (in ms) to establish a connection.
+     */
+    private final long connectTimeout;
+
+    /**
+     * The timeout (in ms) to read a response.
+     */
+    private final long readTimeout;
+
+    /**
+     * Whether HTTP/2 is negotiated with the Slack API.
+     */
+    private final boolean http2;
+
+    /**
+     * Constructs a {@link SlackHttpTransport} with the provided settings.
+     *
+     * @param maxIdleConnections the maximum number of idle connections kept in the connection pool
+     * @param keepAlive          the duration (in ms) an idle connection is kept in the connection pool
+     * @param connectTimeout     the timeout (in ms) to establish a connection, {@code 0} means no timeout
+     * @param readTimeout        the timeout (in ms) to read a response, {@code 0} means no timeout
+     * @param http2              whether HTTP/2 is negotiated with the Slack API
+     * @throws IllegalArgumentException if the provided {@code maxIdleConnections} or {@code keepAlive} is lower
+     *                                  than {@code 1}, or if the provided timeouts are negative
+     */
+    public SlackHttpTransport(int maxIdleConnections, long keepAlive, long connectTimeout, long readTimeout,
+                              boolean http2) {
+        checkArgument(maxIdleConnections > 0, "Cannot create a %s with the provided maximum idle connections %s, " +
+                "expected a strictly positive number", SlackHttpTransport.class.getSimpleName(), maxIdleConnections);
+        checkArgument(keepAlive > 0, "Cannot create a %s with the provided keep-alive %s, expected a strictly " +
+                "positive number", SlackHttpTransport.class.getSimpleName(), keepAlive);
+        checkArgument(connectTimeout >= 0, "Cannot create a %s with the provided connect timeout %s, expected a " +
+                "positive number", SlackHttpTransport.class.getSimpleName(), connectTimeout);
+        checkArgument(readTimeout >= 0, "Cannot create a %s with the provided read timeout %s, expected a positive " +
+                "number", SlackHttpTransport.class.getSimpleName(), readTimeout);
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAlive = keepAlive;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.http2 = http2;
+    }
+
+    /**
+     * Creates a {@link SlackHttpTransport} from the provided {@code configuration}.
+     *
+     * @param configuration the {@link Configuration} containing the transport settings
+     * @return the created {@link SlackHttpTransport}
+     * @throws IllegalArgumentException if the {@code configuration} contains invalid settings
+     */
+    public static SlackHttpTransport fromConfiguration(Configuration configuration) {
+        return new SlackHttpTransport(
+                configuration.getInt(SlackUtils.HTTP_MAX_IDLE_CONNECTIONS_KEY,
+                        SlackUtils.DEFAULT_HTTP_MAX_IDLE_CONNECTIONS),
+                configuration.getLong(SlackUtils.HTTP_KEEP_ALIVE_KEY, SlackUtils.DEFAULT_HTTP_KEEP_ALIVE),
+                configuration.getLong(SlackUtils.HTTP_CONNECT_TIMEOUT_KEY, SlackUtils.DEFAULT_HTTP_CONNECT_TIMEOUT),
+                configuration.getLong(SlackUtils.HTTP_READ_TIMEOUT_KEY, SlackUtils.DEFAULT_HTTP_READ_TIMEOUT),
+                configuration.getBoolean(SlackUtils.HTTP_2_KEY, SlackUtils.DEFAULT_HTTP_2));
+    }
+
+    /**
+     * Returns the {@link OkHttpClient} configured with these settings.
+     * <p>
+     * The client is created the first time it is requested, and is then shared by all the callers using the same
+     * settings.
+     *
+     * @return the shared {@link OkHttpClient}
+     */
+    public OkHttpClient getSharedClient() {
+        return SHARED_CLIENTS.computeIfAbsent(this, SlackHttpTransport::createClient);
+    }
+
+    /**
+     * Creates an {@link OkHttpClient} configured with these settings.
+     * <p>
+     * HTTP/2 is only used if it is supported by the JVM (ALPN) and negotiated by the Slack API, the client falls back
+     * to HTTP/1.1 otherwise. The protocols of the client are left to the OkHttp defaults (HTTP/2 and HTTP/1.1) when
+     * HTTP/2 is enabled, and restricted to HTTP/1.1 when it is disabled.
+     *
+     * @return the created {@link OkHttpClient}
+     */
+    private OkHttpClient createClient() {
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAlive, TimeUnit.MILLISECONDS))
+                .connectTimeout(connectTimeout, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeout, TimeUnit.MILLISECONDS);
+        if (!http2) {
+            builder.protocols(Collections.singletonList(Protocol.HTTP_1_1));
+        }
+        Log.debug("Creating a shared HTTP client for the Slack API with the settings {0}", this);
+        return builder.build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SlackHttpTransport)) {
+            return false;
+        }
+        SlackHttpTransport that = (SlackHttpTransport) o;
+        return maxIdleConnections == that.maxIdleConnections
+                && keepAlive == that.keepAlive
+                && connectTimeout == that.connectTimeout
+                && readTimeout == that.readTimeout
+                && http2 == that.http2;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxIdleConnections, keepAlive, connectTimeout, readTimeout, http2);
+    }
+
+    @Override
+    public String toString() {
+        return "SlackHttpTransport{maxIdleConnections=" + maxIdleConnections + ", keepAlive=" + keepAlive + "ms, "
+                + "connectTimeout=" + connectTimeout + "ms, readTimeout=" + readTimeout + "ms, http2=" + http2 + "}";
+    }
+}
@@ -0,0 +1,129 @@
+package com.xatkit.plugins.slack.util;
+
+import java.util.concurrent.TimeUnit;
+
+import static fr.inria.atlanmod.commons.Preconditions.checkArgument;
+
+/**
+ * A token bucket limiting the rate of the calls to a Slack API method tier.
+ * <p>
+ * Slack rate limits its Web API methods per workspace and per <i>tier</i> (e.g. {@code users.list} and {@code
+ * conversations.list} are Tier 2 methods, allowing about 20 calls per minute). This class allows bursts of up to
+ * {@code requestsPerMinute} calls, and then spreads the following calls evenly over the minute.
+ * <p>
+ * This class is thread-safe.
+ */
+public class SlackRateLimiter {
+
+    /**
+     * The number of nanoseconds in a minute.
+     */
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * The maximum number of available permits.
+     */
+    private final double capacity;
+
+    /**
+     * The delay (in ns) to produce a permit.
+     */
+    private final double nanosPerPermit;
+
+    /**
+     * The number of available permits.
+     */
+    private double permits;
+
+    /**
+     * The last time (in ns) the available permits have been updated.
+     */
+    private long lastRefillTime;
+
+    /**
+     * Constructs a {@link SlackRateLimiter} allowing the provided {@code requestsPerMinute}.
+     *
+     * @param requestsPerMinute the number of calls allowed per minute
+     * @throws IllegalArgumentException if the provided {@code requestsPerMinute} is lower than {@code 1}
+     */
+    public SlackRateLimiter(int requestsPerMinute) {
+        checkArgument(requestsPerMinute > 0, "Cannot create a %s with the provided requests per minute %s, " +
+                "expected a strictly positive number", SlackRateLimiter.class.getSimpleName(), requestsPerMinute);
+        this.capacity = requestsPerMinute;
+        this.nanosPerPermit = (double) NANOS_PER_MINUTE / requestsPerMinute;
+        this.permits = requestsPerMinute;
+        this.lastRefillTime = System.nanoTime();
+    }
+
+    /**
+     * Acquires a permit, blocking until one is available.
+     *
+     * @return the time (in ms) spent waiting for the permit
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public long acquire() throws InterruptedException {
+        long waitTime = reserve();
+        if (waitTime > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitTime);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(waitTime);
+    }
+
+    /**
+     * Acquires a permit if one is available.
+     *
+     * @return {@code true} if a permit has been acquired, {@code false} otherwise
+     */
+    public synchronized boolean tryAcquire() {
+        refill(System.nanoTime());
+        if (permits >= 1) {
+            permits--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Acquires a permit if one is available, or returns the time to wait before one is.
+     * <p>
+     * Unlike {@link #acquire()} this method never blocks, allowing callers sharing a thread pool to reschedule their
+     * call instead of sleeping on a thread of the pool. No permit is reserved if none is available.
+     *
+     * @return {@code 0} if a permit has been acquired, or the time (in ms) to wait before a permit is available
+     */
+    public synchronized long tryAcquireOrGetDelay() {
+        refill(System.nanoTime());
+        if (permits >= 1) {
+            permits--;
+            return 0;
+        }
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis((long) Math.ceil((1 - permits) * nanosPerPermit)));
+    }
+
+    /**
+     * Reserves a permit and returns the time (in ns) to wait before using it.
+     * <p>
+     * The number of available permits can become negative, meaning that the permits of the next callers are
+     * already reserved. This ensures that waiting callers are served in order.
+     *
+     * @return the time (in ns) to wait before using the reserved permit
+     */
+    private synchronized long reserve() {
+        refill(System.nanoTime());
+        permits--;
+        if (permits >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-permits * nanosPerPermit);
+    }
+
+    /**
+     * Adds the permits produced since the last refill.
+     *
+     * @param now the current time, in ns
+     */
+    private void refill(long now) {
+        permits = Math.min(capacity, permits + (now - lastRefillTime) / nanosPerPermit);
+        lastRefillTime = now;
+    }
+}
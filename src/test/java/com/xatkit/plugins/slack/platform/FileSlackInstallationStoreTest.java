@@ -0,0 +1,61 @@
+package com.xatkit.plugins.slack.platform;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FileSlackInstallationStoreTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test(expected = NullPointerException.class)
+    public void constructNullFile() throws IOException {
+        new FileSlackInstallationStore(null);
+    }
+
+    @Test
+    public void loadAllMissingFile() throws IOException {
+        FileSlackInstallationStore store = new FileSlackInstallationStore(getStoreFile());
+        assertThat(store.loadAll()).isEmpty();
+    }
+
+    @Test
+    public void saveReload() throws IOException {
+        FileSlackInstallationStore store = new FileSlackInstallationStore(getStoreFile());
+        store.save("T1", "xoxb-1");
+        store.save("T2", "xoxb-2");
+        store.save("T1", "xoxb-3");
+        FileSlackInstallationStore reloadedStore = new FileSlackInstallationStore(getStoreFile());
+        assertThat(reloadedStore.loadAll()).hasSize(2).containsEntry("T1", "xoxb-3").containsEntry("T2", "xoxb-2");
+    }
+
+    @Test
+    public void removeReload() throws IOException {
+        FileSlackInstallationStore store = new FileSlackInstallationStore(getStoreFile());
+        store.save("T1", "xoxb-1");
+        store.save("T2", "xoxb-2");
+        store.remove("T1");
+        store.remove("T3");
+        FileSlackInstallationStore reloadedStore = new FileSlackInstallationStore(getStoreFile());
+        assertThat(reloadedStore.loadAll()).hasSize(1).containsEntry("T2", "xoxb-2");
+    }
+
+    @Test
+    public void saveCreatesParentDirectories() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("nested").resolve("installations.properties");
+        new FileSlackInstallationStore(file).save("T1", "xoxb-1");
+        assertThat(file).exists();
+        assertThat(file.getParent().toFile().list()).as("Temporary file moved")
+                .containsExactly("installations.properties");
+    }
+
+    private Path getStoreFile() {
+        return temporaryFolder.getRoot().toPath().resolve("installations.properties");
+    }
+}
@@ -0,0 +1,199 @@
+package com.xatkit.plugins.slack.platform;
+
+import com.github.seratch.jslack.api.methods.response.chat.ChatPostMessageResponse;
+import com.xatkit.core.XatkitException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackBroadcasterTest {
+
+    private static final SlackBroadcaster.Target TARGET_1 = new SlackBroadcaster.Target("T1", "general");
+
+    private static final SlackBroadcaster.Target TARGET_2 = new SlackBroadcaster.Target("T1", "random");
+
+    private static final SlackBroadcaster.Target TARGET_3 = new SlackBroadcaster.Target("T2", "general");
+
+    private ScheduledExecutorService scheduler;
+
+    private Map<SlackBroadcaster.Target, AtomicInteger> attempts;
+
+    @Before
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        attempts = new ConcurrentHashMap<>();
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructZeroMaxAttempts() {
+        new SlackBroadcaster(scheduler, 0, 0, (target, message) -> ok());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void broadcastEmptyMessage() {
+        new SlackBroadcaster(scheduler, 1, 0, (target, message) -> ok()).broadcast("", Arrays.asList(TARGET_1));
+    }
+
+    @Test
+    public void broadcastAllDelivered() throws Exception {
+        SlackBroadcaster broadcaster = new SlackBroadcaster(scheduler, 3, 0, (target, message) -> {
+            countAttempt(target);
+            return ok();
+        });
+        SlackBroadcastReport report = broadcaster.broadcast("Hello", Arrays.asList(TARGET_1, TARGET_2, TARGET_3,
+                TARGET_1)).get(5, TimeUnit.SECONDS);
+        assertThat(report.getTargetCount()).as("Duplicated target posted once").isEqualTo(3);
+        assertThat(report.getDeliveredCount()).isEqualTo(3);
+        assertThat(report.isComplete()).isTrue();
+        assertThat(report.getRetryCount()).isEqualTo(0);
+        assertThat(report.getDeliveries()).extracting(SlackBroadcastReport.Delivery::getTs).containsOnly("1.0");
+        assertThat(attempts.get(TARGET_1).get()).isEqualTo(1);
+    }
+
+    @Test
+    public void broadcastRetriesTransientError() throws Exception {
+        SlackBroadcaster broadcaster = new SlackBroadcaster(scheduler, 3, 10, (target, message) -> {
+            if (countAttempt(target) < 3) {
+                return error("service_unavailable");
+            }
+            return ok();
+        });
+        SlackBroadcastReport report = broadcaster.broadcast("Hello", Arrays.asList(TARGET_1)).get(5,
+                TimeUnit.SECONDS);
+        assertThat(report.isComplete()).isTrue();
+        assertThat(report.getDeliveries().get(0).getAttempts()).isEqualTo(3);
+        assertThat(report.getRetryCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void broadcastRetriesConnectException() throws Exception {
+        SlackBroadcaster broadcaster = new SlackBroadcaster(scheduler, 2, 0, (target, message) -> {
+            if (countAttempt(target) == 1) {
+                return failure(new ConnectException("Connection refused"));
+            }
+            return ok();
+        });
+        SlackBroadcastReport report = broadcaster.broadcast("Hello", Arrays.asList(TARGET_1)).get(5,
+                TimeUnit.SECONDS);
+        assertThat(report.isComplete()).isTrue();
+        assertThat(report.getRetryCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void broadcastDoesNotRetryReadTimeout() throws Exception {
+        SlackBroadcaster broadcaster = new SlackBroadcaster(scheduler, 3, 0, (target, message) -> {
+            countAttempt(target);
+            return failure(new SocketTimeoutException("Read timed out"));
+        });
+        SlackBroadcastReport report = broadcaster.broadcast("Hello", Arrays.asList(TARGET_1)).get(5,
+                TimeUnit.SECONDS);
+        assertThat(report.getFailures().get(0).getError()).isEqualTo("Read timed out");
+        assertThat(attempts.get(TARGET_1).get()).as("The message may have been posted").isEqualTo(1);
+    }
+
+    @Test
+    public void broadcastDoesNotRetryServerError() throws Exception {
+        SlackBroadcaster broadcaster = new SlackBroadcaster(scheduler, 3, 0, (target, message) -> {
+            countAttempt(target);
+            return error("internal_error");
+        });
+        SlackBroadcastReport report = broadcaster.broadcast("Hello", Arrays.asList(TARGET_1)).get(5,
+                TimeUnit.SECONDS);
+        assertThat(report.isComplete()).isFalse();
+        assertThat(attempts.get(TARGET_1).get()).isEqualTo(1);
+    }
+
+    @Test
+    public void broadcastDoesNotRetryPermanentError() throws Exception {
+        SlackBroadcaster broadcaster = new SlackBroadcaster(scheduler, 3, 0, (target, message) -> {
+            countAttempt(target);
+            if (target.equals(TARGET_2)) {
+                return error("channel_not_found");
+            }
+            return ok();
+        });
+        SlackBroadcastReport report = broadcaster.broadcast("Hello", Arrays.asList(TARGET_1, TARGET_2)).get(5,
+                TimeUnit.SECONDS);
+        assertThat(report.getDeliveredCount()).isEqualTo(1);
+        assertThat(report.getFailures()).hasSize(1);
+        SlackBroadcastReport.Delivery failure = report.getFailures().get(0);
+        assertThat(failure.getTarget()).isEqualTo(TARGET_2);
+        assertThat(failure.getError()).isEqualTo("channel_not_found");
+        assertThat(attempts.get(TARGET_2).get()).isEqualTo(1);
+    }
+
+    @Test
+    public void broadcastReportsExhaustedRetries() throws Exception {
+        SlackBroadcaster broadcaster = new SlackBroadcaster(scheduler, 2, 0, (target, message) -> {
+            countAttempt(target);
+            return error("ratelimited");
+        });
+        SlackBroadcastReport report = broadcaster.broadcast("Hello", Arrays.asList(TARGET_1)).get(5,
+                TimeUnit.SECONDS);
+        assertThat(report.isComplete()).isFalse();
+        assertThat(report.getFailures().get(0).getAttempts()).isEqualTo(2);
+        assertThat(report.getThroughput()).isEqualTo(0);
+    }
+
+    @Test
+    public void broadcastSenderThrowsException() throws Exception {
+        SlackBroadcaster broadcaster = new SlackBroadcaster(scheduler, 3, 0, (target, message) -> {
+            countAttempt(target);
+            throw new XatkitException("Cannot find the channel " + target.getChannel());
+        });
+        SlackBroadcastReport report = broadcaster.broadcast("Hello", Arrays.asList(TARGET_1)).get(5,
+                TimeUnit.SECONDS);
+        assertThat(report.getFailures().get(0).getError()).isEqualTo("Cannot find the channel general");
+        assertThat(attempts.get(TARGET_1).get()).isEqualTo(1);
+    }
+
+    @Test
+    public void getBackoff() {
+        SlackBroadcaster broadcaster = new SlackBroadcaster(scheduler, 3, 1000, (target, message) -> ok());
+        assertThat(broadcaster.getBackoff(1)).isEqualTo(1000);
+        assertThat(broadcaster.getBackoff(3)).isEqualTo(4000);
+        assertThat(broadcaster.getBackoff(100)).isEqualTo(SlackBroadcaster.MAX_BACKOFF);
+    }
+
+    private int countAttempt(SlackBroadcaster.Target target) {
+        return attempts.computeIfAbsent(target, t -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private static CompletableFuture<ChatPostMessageResponse> ok() {
+        ChatPostMessageResponse response = new ChatPostMessageResponse();
+        response.setOk(true);
+        response.setTs("1.0");
+        return CompletableFuture.completedFuture(response);
+    }
+
+    private static CompletableFuture<ChatPostMessageResponse> failure(Throwable throwable) {
+        CompletableFuture<ChatPostMessageResponse> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    private static CompletableFuture<ChatPostMessageResponse> error(String error) {
+        ChatPostMessageResponse response = new ChatPostMessageResponse();
+        response.setOk(false);
+        response.setError(error);
+        return CompletableFuture.completedFuture(response);
+    }
+}
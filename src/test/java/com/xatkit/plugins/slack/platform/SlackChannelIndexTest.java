@@ -0,0 +1,101 @@
+package com.xatkit.plugins.slack.platform;
+
+import com.github.seratch.jslack.api.model.User;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackChannelIndexTest {
+
+    @Test
+    public void emptyIndex() {
+        assertThat(SlackChannelIndex.EMPTY.getChannelId("general")).isNull();
+        assertThat(SlackChannelIndex.EMPTY.isGroupChannel("C1")).isFalse();
+        assertThat(SlackChannelIndex.EMPTY.isUserChannel("D1")).isFalse();
+    }
+
+    @Test
+    public void groupChannel() {
+        SlackChannelIndex index = new SlackChannelIndex.Builder().groupChannel("C1", "general").build();
+        assertThat(index.getChannelId("general")).isEqualTo("C1");
+        assertThat(index.getChannelId("C1")).as("ID indexed").isEqualTo("C1");
+        assertThat(index.isGroupChannel("C1")).isTrue();
+        assertThat(index.isUserChannel("C1")).isFalse();
+    }
+
+    @Test
+    public void userChannel() {
+        User user = new User();
+        user.setName("jdoe");
+        user.setRealName("John Doe");
+        User.Profile profile = new User.Profile();
+        profile.setDisplayName("John");
+        user.setProfile(profile);
+        SlackChannelIndex index = new SlackChannelIndex.Builder().userChannel("D1", user).build();
+        assertThat(index.getChannelId("jdoe")).isEqualTo("D1");
+        assertThat(index.getChannelId("John Doe")).isEqualTo("D1");
+        assertThat(index.getChannelId("John")).isEqualTo("D1");
+        assertThat(index.getChannelId("D1")).isEqualTo("D1");
+        assertThat(index.isUserChannel("D1")).isTrue();
+        assertThat(index.isGroupChannel("D1")).isFalse();
+    }
+
+    @Test
+    public void userChannelUnknownUser() {
+        SlackChannelIndex index = new SlackChannelIndex.Builder().userChannel("D1", null).build();
+        assertThat(index.getChannelId("D1")).isEqualTo("D1");
+        assertThat(index.isUserChannel("D1")).isTrue();
+    }
+
+    @Test
+    public void buildIsolatedFromBuilder() {
+        SlackChannelIndex.Builder builder = new SlackChannelIndex.Builder().groupChannel("C1", "general");
+        SlackChannelIndex index = builder.build();
+        builder.groupChannel("C2", "random");
+        assertThat(index.getChannelId("random")).isNull();
+        assertThat(index.getGroupChannelIds()).containsExactly("C1");
+    }
+
+    @Test
+    public void toBuilderIsolatedFromIndex() {
+        SlackChannelIndex index = new SlackChannelIndex.Builder().groupChannel("C1", "general").build();
+        SlackChannelIndex updated = index.toBuilder().groupChannel("C2", "random").build();
+        assertThat(index.getChannelId("random")).isNull();
+        assertThat(updated.getChannelId("general")).isEqualTo("C1");
+        assertThat(updated.getChannelId("random")).isEqualTo("C2");
+    }
+
+    @Test
+    public void removeChannel() {
+        SlackChannelIndex index = new SlackChannelIndex.Builder()
+                .groupChannel("C1", "general")
+                .groupChannel("C2", "random")
+                .build()
+                .toBuilder()
+                .removeChannel("C1")
+                .build();
+        assertThat(index.getChannelId("general")).isNull();
+        assertThat(index.getChannelId("C1")).isNull();
+        assertThat(index.isGroupChannel("C1")).isFalse();
+        assertThat(index.getChannelId("random")).isEqualTo("C2");
+    }
+
+    @Test
+    public void renameChannel() {
+        SlackChannelIndex index = new SlackChannelIndex.Builder().groupChannel("C1", "general").build()
+                .toBuilder()
+                .removeChannel("C1")
+                .groupChannel("C1", "announcements")
+                .build();
+        assertThat(index.getChannelId("general")).isNull();
+        assertThat(index.getChannelId("announcements")).isEqualTo("C1");
+        assertThat(index.isGroupChannel("C1")).isTrue();
+    }
+
+    @Test
+    public void groupChannelWithoutName() {
+        SlackChannelIndex index = new SlackChannelIndex.Builder().groupChannel("G1", null).build();
+        assertThat(index.getChannelId("G1")).isEqualTo("G1");
+        assertThat(index.isGroupChannel("G1")).isTrue();
+    }
+}
@@ -0,0 +1,55 @@
+package com.xatkit.plugins.slack.platform;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackChannelMissCacheTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructZeroTtl() {
+        new SlackChannelMissCache(0, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructZeroMaxSize() {
+        new SlackChannelMissCache(1000, 0);
+    }
+
+    @Test
+    public void containsUnknownName() {
+        SlackChannelMissCache cache = new SlackChannelMissCache(1000, 10);
+        assertThat(cache.contains("T1", "general", 0)).isFalse();
+        assertThat(cache.getHitCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void containsCachedMiss() {
+        SlackChannelMissCache cache = new SlackChannelMissCache(1000, 10);
+        cache.add("T1", "genral", 0);
+        assertThat(cache.contains("T1", "genral", 500)).isTrue();
+        assertThat(cache.contains("T2", "genral", 500)).as("Misses are scoped by workspace").isFalse();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void containsExpiredMiss() {
+        SlackChannelMissCache cache = new SlackChannelMissCache(1000, 10);
+        cache.add("T1", "genral", 0);
+        assertThat(cache.contains("T1", "genral", 1000)).isFalse();
+        assertThat(cache.size()).as("Expired miss removed").isEqualTo(0);
+    }
+
+    @Test
+    public void addExceedingMaxSize() {
+        SlackChannelMissCache cache = new SlackChannelMissCache(1000, 2);
+        cache.add("T1", "a", 0);
+        cache.add("T1", "b", 0);
+        cache.add("T1", "a", 10);
+        cache.add("T1", "c", 10);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.contains("T1", "b", 20)).as("Oldest miss evicted").isFalse();
+        assertThat(cache.contains("T1", "a", 20)).isTrue();
+        assertThat(cache.contains("T1", "c", 20)).isTrue();
+    }
+}
@@ -0,0 +1,138 @@
+package com.xatkit.plugins.slack.platform;
+
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.xatkit.core.XatkitException;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackExternalFileUploaderTest {
+
+    private static final String PREFIX = "https://slack.test/api/";
+
+    private static final String UPLOAD_URL = "https://files.slack.test/upload/F1";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Map<String, byte[]> receivedBodies;
+
+    private boolean uploadUrlOk;
+
+    private int uploadStatus;
+
+    private SlackExternalFileUploader uploader;
+
+    @Before
+    public void setUp() {
+        receivedBodies = new ConcurrentHashMap<>();
+        uploadUrlOk = true;
+        uploadStatus = 200;
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> fakeSlackApi(chain.request()))
+                .build();
+        uploader = new SlackExternalFileUploader(httpClient, PREFIX);
+    }
+
+    @Test
+    public void uploadContentPath() throws IOException, SlackApiException {
+        byte[] content = randomContent(SlackExternalFileUploader.CHUNK_SIZE * 3 + 17);
+        Path path = temporaryFolder.newFile("large.bin").toPath();
+        Files.write(path, content);
+        String fileId = uploader.uploadContent("xoxb-token", "large.bin", path);
+        assertThat(fileId).isEqualTo("F1");
+        assertThat(receivedBodies.get(UPLOAD_URL)).isEqualTo(content);
+        assertThat(new String(receivedBodies.get(PREFIX + "files.getUploadURLExternal")))
+                .contains("filename=large.bin")
+                .contains("length=" + content.length);
+    }
+
+    @Test
+    public void uploadContentStream() throws IOException, SlackApiException {
+        byte[] content = randomContent(SlackExternalFileUploader.CHUNK_SIZE + 1);
+        String fileId = uploader.uploadContent("xoxb-token", "stream.bin", new ByteArrayInputStream(content),
+                content.length);
+        assertThat(fileId).isEqualTo("F1");
+        assertThat(receivedBodies.get(UPLOAD_URL)).isEqualTo(content);
+    }
+
+    @Test(expected = IOException.class)
+    public void uploadContentStreamTooShort() throws IOException, SlackApiException {
+        uploader.uploadContent("xoxb-token", "stream.bin", new ByteArrayInputStream(new byte[10]), 20);
+    }
+
+    @Test(expected = XatkitException.class)
+    public void uploadContentUploadUrlError() throws IOException, SlackApiException {
+        uploadUrlOk = false;
+        uploader.uploadContent("xoxb-token", "stream.bin", new ByteArrayInputStream(new byte[10]), 10);
+    }
+
+    @Test(expected = SlackApiException.class)
+    public void uploadContentHttpError() throws IOException, SlackApiException {
+        uploadStatus = 500;
+        uploader.uploadContent("xoxb-token", "stream.bin", new ByteArrayInputStream(new byte[10]), 10);
+    }
+
+    @Test
+    public void completeUpload() throws IOException, SlackApiException {
+        SlackExternalFileUploader.CompleteUploadResponse response = uploader.completeUpload("xoxb-token", "F1",
+                "Title", "C1", "Hello");
+        assertThat(response.isOk()).isTrue();
+        assertThat(response.getFiles()).hasSize(1);
+        assertThat(response.getFiles().get(0).getId()).isEqualTo("F1");
+        String form = new String(receivedBodies.get(PREFIX + "files.completeUploadExternal"));
+        assertThat(form).contains("channel_id=C1").contains("initial_comment=Hello");
+    }
+
+    private Response fakeSlackApi(Request request) throws IOException {
+        String url = request.url().toString();
+        Buffer buffer = new Buffer();
+        request.body().writeTo(buffer);
+        receivedBodies.put(url, buffer.readByteArray());
+        if (url.equals(PREFIX + "files.getUploadURLExternal")) {
+            assertThat(request.header("Authorization")).isEqualTo("Bearer xoxb-token");
+            return response(request, 200, uploadUrlOk
+                    ? "{\"ok\":true,\"upload_url\":\"" + UPLOAD_URL + "\",\"file_id\":\"F1\"}"
+                    : "{\"ok\":false,\"error\":\"invalid_arguments\"}");
+        } else if (url.equals(UPLOAD_URL)) {
+            return response(request, uploadStatus, "OK - " + buffer.size());
+        } else if (url.equals(PREFIX + "files.completeUploadExternal")) {
+            return response(request, 200, "{\"ok\":true,\"files\":[{\"id\":\"F1\",\"title\":\"Title\"}]}");
+        }
+        return response(request, 404, "");
+    }
+
+    private static Response response(Request request, int code, String body) {
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("Test")
+                .body(ResponseBody.create(MediaType.parse("application/json"), body))
+                .build();
+    }
+
+    private static byte[] randomContent(int size) {
+        byte[] content = new byte[size];
+        new Random(42).nextBytes(content);
+        return content;
+    }
+}
@@ -0,0 +1,101 @@
+package com.xatkit.plugins.slack.platform;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackFileUploadCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructZeroTtl() {
+        new SlackFileUploadCache(0, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructZeroMaxSize() {
+        new SlackFileUploadCache(1000, 0);
+    }
+
+    @Test
+    public void hashBytes() {
+        assertThat(SlackFileUploadCache.hash("abc".getBytes(StandardCharsets.UTF_8)))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    public void hashPathMatchesHashBytes() throws IOException {
+        byte[] content = new byte[200 * 1024];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Path path = temporaryFolder.newFile("report.bin").toPath();
+        Files.write(path, content);
+        assertThat(SlackFileUploadCache.hash(path)).isEqualTo(SlackFileUploadCache.hash(content));
+    }
+
+    @Test
+    public void lookupCachedUpload() {
+        SlackFileUploadCache cache = new SlackFileUploadCache(60000, 10);
+        assertThat(cache.lookup("T1", "report.txt", "hash", 100)).isNull();
+        cache.put("T1", "report.txt", "hash", "https://slack.test/files/F1");
+        assertThat(cache.lookup("T1", "report.txt", "hash", 100)).isEqualTo("https://slack.test/files/F1");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getBytesSaved()).isEqualTo(100);
+    }
+
+    @Test
+    public void lookupOtherTeam() {
+        SlackFileUploadCache cache = new SlackFileUploadCache(60000, 10);
+        cache.put("T1", "report.txt", "hash", "https://slack.test/files/F1");
+        assertThat(cache.lookup("T2", "report.txt", "hash", 100)).as("Uploads are scoped to their workspace").isNull();
+        assertThat(cache.getBytesSaved()).isEqualTo(0);
+    }
+
+    @Test
+    public void lookupOtherTitle() {
+        SlackFileUploadCache cache = new SlackFileUploadCache(60000, 10);
+        cache.put("T1", "report.txt", "hash", "https://slack.test/files/F1");
+        assertThat(cache.lookup("T1", "summary.txt", "hash", 100)).as("Uploads are identified by their title")
+                .isNull();
+    }
+
+    @Test
+    public void lookupExpiredUpload() throws InterruptedException {
+        SlackFileUploadCache cache = new SlackFileUploadCache(20, 10);
+        cache.put("T1", "report.txt", "hash", "https://slack.test/files/F1");
+        Thread.sleep(50);
+        assertThat(cache.lookup("T1", "report.txt", "hash", 100)).isNull();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void putEvictsLeastRecentlyUsed() {
+        SlackFileUploadCache cache = new SlackFileUploadCache(60000, 2);
+        cache.put("T1", "report.txt", "hash1", "https://slack.test/files/F1");
+        cache.put("T1", "report.txt", "hash2", "https://slack.test/files/F2");
+        cache.lookup("T1", "report.txt", "hash1", 100);
+        cache.put("T1", "report.txt", "hash3", "https://slack.test/files/F3");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.lookup("T1", "report.txt", "hash2", 100)).isNull();
+        assertThat(cache.lookup("T1", "report.txt", "hash1", 100)).isNotNull();
+    }
+
+    @Test
+    public void invalidate() {
+        SlackFileUploadCache cache = new SlackFileUploadCache(60000, 10);
+        cache.put("T1", "report.txt", "hash", "https://slack.test/files/F1");
+        cache.invalidate("T1", "report.txt", "hash");
+        assertThat(cache.lookup("T1", "report.txt", "hash", 100)).isNull();
+    }
+}
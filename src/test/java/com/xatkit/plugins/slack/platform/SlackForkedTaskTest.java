@@ -0,0 +1,107 @@
+package com.xatkit.plugins.slack.platform;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackForkedTaskTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        /*
+         * Same number of threads as the background executor of the platform.
+         */
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void joinStartedTask() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        SlackForkedTask<String> task = SlackForkedTask.fork(() -> {
+            started.countDown();
+            return Thread.currentThread().getName();
+        }, executor);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(task.join()).isNotEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void joinQueuedTaskRunsInline() throws InterruptedException {
+        CountDownLatch blocker = new CountDownLatch(1);
+        executor.execute(() -> await(blocker));
+        executor.execute(() -> await(blocker));
+        SlackForkedTask<String> task = SlackForkedTask.fork(() -> Thread.currentThread().getName(), executor);
+        assertThat(task.join()).isEqualTo(Thread.currentThread().getName());
+        blocker.countDown();
+    }
+
+    @Test
+    public void joinRejectedTaskRunsInline() {
+        SlackForkedTask<String> task = SlackForkedTask.fork(() -> Thread.currentThread().getName(), r -> {
+            throw new RejectedExecutionException("shut down");
+        });
+        assertThat(task.join()).isEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test(expected = CompletionException.class)
+    public void joinFailedTask() {
+        SlackForkedTask<String> task = SlackForkedTask.fork(() -> {
+            throw new IllegalStateException("users.list failed");
+        }, executor);
+        task.join();
+    }
+
+    @Test
+    public void revalidateFourRestoredTeamsConcurrently() throws Exception {
+        /*
+         * Mimics the revalidation of snapshot-restored workspaces: each revalidation runs in the executor and forks
+         * the load of the user directory of its workspace in the same executor. With more workspaces than threads
+         * the directory loads are queued behind the revalidations that join them.
+         */
+        CountDownLatch allStarted = new CountDownLatch(2);
+        List<Future<String>> revalidations = new ArrayList<>();
+        for (String teamId : Arrays.asList("T1", "T2", "T3", "T4")) {
+            revalidations.add(executor.submit(() -> {
+                allStarted.countDown();
+                /*
+                 * Ensure both threads run a revalidation before the directory loads are forked.
+                 */
+                allStarted.await(5, TimeUnit.SECONDS);
+                SlackForkedTask<String> directoryTask = SlackForkedTask.fork(() -> "directory-" + teamId,
+                        executor);
+                return directoryTask.join();
+            }));
+        }
+        for (int i = 0; i < revalidations.size(); i++) {
+            assertThat(revalidations.get(i).get(5, TimeUnit.SECONDS)).isEqualTo("directory-T" + (i + 1));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
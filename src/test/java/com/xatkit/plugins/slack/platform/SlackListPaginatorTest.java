@@ -0,0 +1,90 @@
+package com.xatkit.plugins.slack.platform;
+
+import com.github.seratch.jslack.api.model.block.ContextBlock;
+import com.github.seratch.jslack.api.model.block.LayoutBlock;
+import com.github.seratch.jslack.api.model.block.SectionBlock;
+import com.github.seratch.jslack.api.model.block.composition.MarkdownTextObject;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackListPaginatorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructZeroMaxItems() {
+        new SlackListPaginator(Collections.emptyIterator(), SlackListPaginator.Style.ITEMIZE, 0, 100);
+    }
+
+    @Test
+    public void itemizeSinglePage() {
+        SlackListPaginator paginator = SlackListPaginator.itemize(Arrays.asList("a", "b", "c").iterator());
+        assertThat(paginator.nextPage()).isEqualTo("- a\n- b\n- c");
+        assertThat(paginator.hasNextPage()).isFalse();
+        assertThat(paginator.getPageCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void emptyIterator() {
+        SlackListPaginator paginator = SlackListPaginator.itemize(Collections.emptyIterator());
+        assertThat(paginator.hasNextPage()).isFalse();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void nextPageNoRemainingElement() {
+        SlackListPaginator.itemize(Collections.emptyIterator()).nextPage();
+    }
+
+    @Test
+    public void enumerateKeepsIndexesAcrossPages() {
+        SlackListPaginator paginator = new SlackListPaginator(Stream.of("a", "b", "c").iterator(),
+                SlackListPaginator.Style.ENUMERATE, 2, 100);
+        assertThat(paginator.nextPage()).isEqualTo("[0] a\n[1] b");
+        assertThat(paginator.nextPage()).isEqualTo("[2] c");
+        assertThat(paginator.hasNextPage()).isFalse();
+    }
+
+    @Test
+    public void nextPageSplitsOnMaxLength() {
+        SlackListPaginator paginator = new SlackListPaginator(Arrays.asList("aaa", "bbb", "ccc").iterator(),
+                SlackListPaginator.Style.ITEMIZE, 10, 12);
+        assertThat(paginator.nextPage()).isEqualTo("- aaa\n- bbb");
+        assertThat(paginator.nextPage()).isEqualTo("- ccc");
+    }
+
+    @Test
+    public void nextPageTruncatesLongElement() {
+        SlackListPaginator paginator = new SlackListPaginator(Arrays.asList("a", "bbbbbbbbbb").iterator(),
+                SlackListPaginator.Style.ITEMIZE, 10, 6);
+        assertThat(paginator.nextPage()).isEqualTo("- a");
+        assertThat(paginator.nextPage()).isEqualTo("- bbb…").hasSize(6);
+        assertThat(paginator.hasNextPage()).isFalse();
+    }
+
+    @Test
+    public void nextPagePullsOnlyPageElements() {
+        AtomicInteger pulled = new AtomicInteger();
+        Iterator<Integer> items = IntStream.range(0, 1_000_000).peek(i -> pulled.incrementAndGet()).iterator();
+        SlackListPaginator paginator = new SlackListPaginator(items, SlackListPaginator.Style.ITEMIZE, 10, 3000);
+        paginator.nextPage();
+        assertThat(pulled.get()).as("Only the first page and the next element are pulled").isLessThanOrEqualTo(11);
+    }
+
+    @Test
+    public void nextPageBlocks() {
+        SlackListPaginator paginator = new SlackListPaginator(Arrays.asList("a", "b").iterator(),
+                SlackListPaginator.Style.ITEMIZE, 1, 100);
+        List<LayoutBlock> blocks = paginator.nextPageBlocks();
+        assertThat(blocks).hasSize(2);
+        assertThat(((MarkdownTextObject) ((SectionBlock) blocks.get(0)).getText()).getText()).isEqualTo("- a");
+        assertThat(blocks.get(1)).isInstanceOf(ContextBlock.class);
+    }
+}
@@ -0,0 +1,199 @@
+package com.xatkit.plugins.slack.platform;
+
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.methods.response.chat.ChatPostMessageResponse;
+import com.xatkit.plugins.slack.util.SlackRateLimiter;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackOutboundQueueTest {
+
+    private ScheduledExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newScheduledThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructNegativeChannelInterval() {
+        new SlackOutboundQueue(executor, -1, teamId -> new SlackRateLimiter(60));
+    }
+
+    @Test
+    public void sendReturnsResponse() throws IOException, SlackApiException {
+        SlackOutboundQueue queue = createQueue(0);
+        ChatPostMessageResponse response = queue.send("T1", "C1", () -> okResponse("1"));
+        assertThat(response.getTs()).isEqualTo("1");
+        assertThat(queue.getDeliveredCount()).isEqualTo(1);
+        assertThat(queue.getQueueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    public void sendPreservesOrder() throws Exception {
+        SlackOutboundQueue queue = createQueue(0);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[5];
+        for (int i = 0; i < futures.length; i++) {
+            String ts = Integer.toString(i);
+            futures[i] = queue.submit("T1", "C1", () -> {
+                delivered.add(ts);
+                return okResponse(ts);
+            });
+        }
+        CompletableFuture.allOf(futures).get();
+        assertThat(delivered).containsExactly("0", "1", "2", "3", "4");
+    }
+
+    @Test
+    public void sendPacesChannel() throws Exception {
+        SlackOutboundQueue queue = createQueue(200);
+        List<Long> deliveryTimes = new CopyOnWriteArrayList<>();
+        CompletableFuture<ChatPostMessageResponse> first = queue.submit("T1", "C1", () -> {
+            deliveryTimes.add(System.currentTimeMillis());
+            return okResponse("1");
+        });
+        CompletableFuture<ChatPostMessageResponse> second = queue.submit("T1", "C1", () -> {
+            deliveryTimes.add(System.currentTimeMillis());
+            return okResponse("2");
+        });
+        assertThat(queue.getQueueDepth("T1", "C1")).as("Second message queued").isGreaterThanOrEqualTo(1);
+        CompletableFuture.allOf(first, second).get();
+        assertThat(deliveryTimes.get(1) - deliveryTimes.get(0)).as("Second message paced")
+                .isGreaterThanOrEqualTo(200);
+        assertThat(queue.getMaxDelay()).isGreaterThanOrEqualTo(150);
+    }
+
+    @Test
+    public void sendDoesNotPaceOtherChannels() throws Exception {
+        SlackOutboundQueue queue = createQueue(5000);
+        long start = System.currentTimeMillis();
+        queue.send("T1", "C1", () -> okResponse("1"));
+        queue.send("T1", "C2", () -> okResponse("2"));
+        queue.send("T2", "C1", () -> okResponse("3"));
+        assertThat(System.currentTimeMillis() - start).as("Channels paced independently").isLessThan(2000);
+    }
+
+    @Test
+    public void sendRetriesRateLimitedCall() throws IOException, SlackApiException {
+        SlackOutboundQueue queue = createQueue(0);
+        AtomicInteger attempts = new AtomicInteger();
+        ChatPostMessageResponse response = queue.send("T1", "C1", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new SlackApiException(rateLimitedHttpResponse("1"), "");
+            }
+            return okResponse("1");
+        });
+        assertThat(response.isOk()).isTrue();
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(queue.getRetryCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void sendRetriesRateLimitedError() throws IOException, SlackApiException {
+        SlackOutboundQueue queue = createQueue(0);
+        AtomicInteger attempts = new AtomicInteger();
+        ChatPostMessageResponse response = queue.send("T1", "C1", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                ChatPostMessageResponse rateLimited = new ChatPostMessageResponse();
+                rateLimited.setOk(false);
+                rateLimited.setError("ratelimited");
+                return rateLimited;
+            }
+            return okResponse("1");
+        });
+        assertThat(response.isOk()).isTrue();
+        assertThat(queue.getRetryCount()).isEqualTo(1);
+    }
+
+    @Test(expected = IOException.class)
+    public void sendThrowsCallException() throws IOException, SlackApiException {
+        SlackOutboundQueue queue = createQueue(0);
+        queue.send("T1", "C1", () -> {
+            throw new IOException("Network error");
+        });
+    }
+
+    @Test
+    public void sendReturnsErrorResponse() throws IOException, SlackApiException {
+        SlackOutboundQueue queue = createQueue(0);
+        ChatPostMessageResponse response = queue.send("T1", "C1", () -> {
+            ChatPostMessageResponse error = new ChatPostMessageResponse();
+            error.setOk(false);
+            error.setError("channel_not_found");
+            return error;
+        });
+        assertThat(response.getError()).isEqualTo("channel_not_found");
+        assertThat(queue.getRetryCount()).as("Non rate limit errors are not retried").isEqualTo(0);
+    }
+
+    @Test
+    public void exhaustedBudgetDoesNotBlockOtherWorkspaces() throws Exception {
+        SlackRateLimiter exhaustedBudget = new SlackRateLimiter(1);
+        exhaustedBudget.tryAcquire();
+        SlackRateLimiter budget = new SlackRateLimiter(6000);
+        SlackOutboundQueue queue = new SlackOutboundQueue(executor, 0,
+                teamId -> teamId.equals("T1") ? exhaustedBudget : budget);
+        /*
+         * Saturate the threads of the executor with deliveries to the exhausted workspace.
+         */
+        CompletableFuture<ChatPostMessageResponse> postponed1 = queue.submit("T1", "C1", () -> okResponse("1"));
+        CompletableFuture<ChatPostMessageResponse> postponed2 = queue.submit("T1", "C2", () -> okResponse("2"));
+        CompletableFuture<ChatPostMessageResponse> postponed3 = queue.submit("T1", "C3", () -> okResponse("3"));
+        ChatPostMessageResponse response = queue.submit("T2", "C1", () -> okResponse("4")).get(1,
+                TimeUnit.SECONDS);
+        assertThat(response.getTs()).isEqualTo("4");
+        assertThat(postponed1.isDone() || postponed2.isDone() || postponed3.isDone()).isFalse();
+        assertThat(queue.getQueueDepth()).isEqualTo(3);
+        assertThat(queue.getRetryCount()).as("Postponed deliveries are not retries").isEqualTo(0);
+    }
+
+    @Test
+    public void parseRetryAfter() {
+        assertThat(SlackOutboundQueue.parseRetryAfter("5")).isEqualTo(5000);
+        assertThat(SlackOutboundQueue.parseRetryAfter(null)).isEqualTo(SlackOutboundQueue.DEFAULT_RETRY_AFTER);
+        assertThat(SlackOutboundQueue.parseRetryAfter("soon")).isEqualTo(SlackOutboundQueue.DEFAULT_RETRY_AFTER);
+    }
+
+    private SlackOutboundQueue createQueue(long channelInterval) {
+        SlackRateLimiter rateLimiter = new SlackRateLimiter(6000);
+        return new SlackOutboundQueue(executor, channelInterval, teamId -> rateLimiter);
+    }
+
+    private static ChatPostMessageResponse okResponse(String ts) {
+        ChatPostMessageResponse response = new ChatPostMessageResponse();
+        response.setOk(true);
+        response.setTs(ts);
+        return response;
+    }
+
+    private static Response rateLimitedHttpResponse(String retryAfter) {
+        return new Response.Builder()
+                .request(new Request.Builder().url("https://slack.com/api/chat.postMessage").build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(429)
+                .message("Too Many Requests")
+                .header("Retry-After", retryAfter)
+                .build();
+    }
+}
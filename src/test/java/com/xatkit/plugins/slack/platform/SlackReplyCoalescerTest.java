@@ -0,0 +1,95 @@
+package com.xatkit.plugins.slack.platform;
+
+import com.github.seratch.jslack.api.methods.response.chat.ChatPostMessageResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackReplyCoalescerTest {
+
+    private ScheduledExecutorService scheduler;
+
+    private List<String> postedTexts;
+
+    private SlackReplyCoalescer coalescer;
+
+    @Before
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        postedTexts = new CopyOnWriteArrayList<>();
+        coalescer = new SlackReplyCoalescer(scheduler, 100, (teamId, channelId, threadTs, text) -> {
+            postedTexts.add(text);
+            ChatPostMessageResponse response = new ChatPostMessageResponse();
+            response.setOk(true);
+            response.setTs(channelId + '-' + postedTexts.size());
+            return CompletableFuture.completedFuture(response);
+        });
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructZeroWindow() {
+        new SlackReplyCoalescer(scheduler, 0, (teamId, channelId, threadTs, text) -> null);
+    }
+
+    @Test
+    public void submitSameChannel() throws Exception {
+        CompletableFuture<ChatPostMessageResponse> first = coalescer.submit("T1", "C1", null, "Hello");
+        CompletableFuture<ChatPostMessageResponse> second = coalescer.submit("T1", "C1", null, "World");
+        assertThat(first.get().getTs()).isEqualTo("C1-1");
+        assertThat(second.get().getTs()).as("Merged messages share the same ts").isEqualTo("C1-1");
+        assertThat(postedTexts).containsExactly("Hello\nWorld");
+        assertThat(coalescer.getCoalescedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void submitDifferentChannels() throws Exception {
+        CompletableFuture<ChatPostMessageResponse> first = coalescer.submit("T1", "C1", null, "Hello");
+        CompletableFuture<ChatPostMessageResponse> second = coalescer.submit("T1", "C2", null, "World");
+        CompletableFuture.allOf(first, second).get();
+        assertThat(postedTexts).containsExactlyInAnyOrder("Hello", "World");
+        assertThat(coalescer.getCoalescedCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void submitDifferentThreads() throws Exception {
+        CompletableFuture<ChatPostMessageResponse> first = coalescer.submit("T1", "C1", null, "Hello");
+        CompletableFuture<ChatPostMessageResponse> second = coalescer.submit("T1", "C1", "123.456", "World");
+        CompletableFuture.allOf(first, second).get();
+        assertThat(postedTexts).containsExactlyInAnyOrder("Hello", "World");
+    }
+
+    @Test
+    public void submitAfterWindow() throws Exception {
+        coalescer.submit("T1", "C1", null, "Hello").get();
+        coalescer.submit("T1", "C1", null, "World").get();
+        assertThat(postedTexts).containsExactly("Hello", "World");
+    }
+
+    @Test
+    public void submitExceedingMaxTextLength() throws Exception {
+        char[] chars = new char[SlackReplyCoalescer.MAX_TEXT_LENGTH - 10];
+        Arrays.fill(chars, 'a');
+        String longText = new String(chars);
+        CompletableFuture<ChatPostMessageResponse> first = coalescer.submit("T1", "C1", null, longText);
+        CompletableFuture<ChatPostMessageResponse> second = coalescer.submit("T1", "C1", null, "This text does not " +
+                "fit in the pending message");
+        assertThat(first.get().getTs()).isEqualTo("C1-1");
+        assertThat(second.get().getTs()).isEqualTo("C1-2");
+        assertThat(postedTexts).hasSize(2);
+        assertThat(postedTexts.get(0)).as("Full batch posted first").isEqualTo(longText);
+    }
+}
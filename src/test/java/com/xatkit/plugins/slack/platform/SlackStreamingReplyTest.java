@@ -0,0 +1,183 @@
+package com.xatkit.plugins.slack.platform;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackStreamingReplyTest {
+
+    private ScheduledExecutorService scheduler;
+
+    private Map<String, String> messages;
+
+    private List<String> postedThreads;
+
+    private AtomicInteger postCount;
+
+    private SlackStreamingReply.MessageClient client;
+
+    @Before
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        messages = new ConcurrentHashMap<>();
+        postedThreads = new CopyOnWriteArrayList<>();
+        postCount = new AtomicInteger();
+        messages.put("1", "Thinking...");
+        client = new SlackStreamingReply.MessageClient() {
+            @Override
+            public CompletableFuture<String> post(String threadTs, String text) {
+                String ts = Integer.toString(postCount.incrementAndGet() + 1);
+                postedThreads.add(threadTs);
+                messages.put(ts, text);
+                return CompletableFuture.completedFuture(ts);
+            }
+
+            @Override
+            public CompletableFuture<?> update(String ts, String text) {
+                messages.put(ts, text);
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructZeroMaxLength() {
+        new SlackStreamingReply(scheduler, 0, 0, null, "1", "Thinking...", client);
+    }
+
+    @Test
+    public void appendUpdatesPlaceholder() throws Exception {
+        SlackStreamingReply reply = new SlackStreamingReply(scheduler, 0, 100, null, "1", "Thinking...", client);
+        reply.append("Hello");
+        reply.append(" World");
+        reply.complete().get(5, TimeUnit.SECONDS);
+        assertThat(messages).containsEntry("1", "Hello World").hasSize(1);
+    }
+
+    @Test
+    public void appendCoalescesUpdates() throws Exception {
+        SlackStreamingReply reply = new SlackStreamingReply(scheduler, 200, 100, null, "1", "Thinking...", client);
+        for (int i = 0; i < 20; i++) {
+            reply.append(Integer.toString(i % 10));
+        }
+        reply.complete().get(5, TimeUnit.SECONDS);
+        assertThat(messages.get("1")).isEqualTo("01234567890123456789");
+        assertThat(reply.getUpdateCount()).as("Chunks merged in a single edit").isEqualTo(1);
+    }
+
+    @Test
+    public void appendThrottlesUpdates() throws Exception {
+        List<Long> updateTimes = new CopyOnWriteArrayList<>();
+        SlackStreamingReply.MessageClient timedClient = new SlackStreamingReply.MessageClient() {
+            @Override
+            public CompletableFuture<String> post(String threadTs, String text) {
+                return client.post(threadTs, text);
+            }
+
+            @Override
+            public CompletableFuture<?> update(String ts, String text) {
+                updateTimes.add(System.currentTimeMillis());
+                return client.update(ts, text);
+            }
+        };
+        SlackStreamingReply reply = new SlackStreamingReply(scheduler, 150, 100, null, "1", "Thinking...",
+                timedClient);
+        reply.append("Hello");
+        Thread.sleep(50);
+        reply.append(" World");
+        Thread.sleep(200);
+        reply.append("!");
+        reply.complete().get(5, TimeUnit.SECONDS);
+        assertThat(messages.get("1")).isEqualTo("Hello World!");
+        for (int i = 1; i < updateTimes.size(); i++) {
+            assertThat(updateTimes.get(i) - updateTimes.get(i - 1)).as("Edits are throttled")
+                    .isGreaterThanOrEqualTo(140);
+        }
+    }
+
+    @Test
+    public void appendSplitsLongText() throws Exception {
+        SlackStreamingReply reply = new SlackStreamingReply(scheduler, 0, 10, null, "1", "Thinking...", client);
+        reply.append("aaaa bbbb cccc dddd");
+        reply.complete().get(5, TimeUnit.SECONDS);
+        assertThat(messages.get("1")).isEqualTo("aaaa bbbb");
+        assertThat(messages.get("2")).isEqualTo("cccc dddd");
+        assertThat(postedThreads).containsExactly("1");
+    }
+
+    @Test
+    public void appendSplitsVeryLongChunk() throws Exception {
+        SlackStreamingReply reply = new SlackStreamingReply(scheduler, 0, 10, null, "1", "Thinking...", client);
+        reply.append("aaaaaaaaaa bbbbbbbbbb cccccccccc dddd");
+        reply.complete().get(5, TimeUnit.SECONDS);
+        assertThat(messages.get("1")).isEqualTo("aaaaaaaaaa");
+        assertThat(messages.get("2")).isEqualTo("bbbbbbbbbb");
+        assertThat(messages.get("3")).isEqualTo("cccccccccc");
+        assertThat(messages.get("4")).isEqualTo("dddd");
+        assertThat(postedThreads).containsExactly("1", "1", "1");
+    }
+
+    @Test
+    public void appendSplitsInExistingThread() throws Exception {
+        SlackStreamingReply reply = new SlackStreamingReply(scheduler, 0, 10, "0.5", "1", "Thinking...", client);
+        reply.append("aaaaaaaaaaaaaaa");
+        reply.complete().get(5, TimeUnit.SECONDS);
+        assertThat(messages.get("1")).isEqualTo("aaaaaaaaaa");
+        assertThat(messages.get("2")).isEqualTo("aaaaa");
+        assertThat(postedThreads).containsExactly("0.5");
+    }
+
+    @Test
+    public void completeWithoutChunkKeepsPlaceholder() throws Exception {
+        SlackStreamingReply reply = new SlackStreamingReply(scheduler, 0, 10, null, "1", "Thinking...", client);
+        reply.complete().get(5, TimeUnit.SECONDS);
+        assertThat(messages).containsEntry("1", "Thinking...");
+        assertThat(reply.getUpdateCount()).isEqualTo(0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void appendAfterComplete() {
+        SlackStreamingReply reply = new SlackStreamingReply(scheduler, 0, 10, null, "1", "Thinking...", client);
+        reply.complete();
+        reply.append("Hello");
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void completeFailedUpdate() throws Exception {
+        SlackStreamingReply.MessageClient failingClient = new SlackStreamingReply.MessageClient() {
+            @Override
+            public CompletableFuture<String> post(String threadTs, String text) {
+                return client.post(threadTs, text);
+            }
+
+            @Override
+            public CompletableFuture<?> update(String ts, String text) {
+                CompletableFuture<?> future = new CompletableFuture<>();
+                future.completeExceptionally(new IllegalStateException("message_not_found"));
+                return future;
+            }
+        };
+        SlackStreamingReply reply = new SlackStreamingReply(scheduler, 0, 10, null, "1", "Thinking...",
+                failingClient);
+        reply.append("Hello");
+        reply.complete().get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,92 @@
+package com.xatkit.plugins.slack.platform;
+
+import com.github.seratch.jslack.api.methods.response.users.UsersListResponse;
+import com.github.seratch.jslack.api.model.ResponseMetadata;
+import com.github.seratch.jslack.api.model.User;
+import com.xatkit.core.XatkitException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackUserDirectoryTest {
+
+    @Test
+    public void loadFollowsCursors() {
+        List<String> cursors = new ArrayList<>();
+        SlackUserDirectory directory = SlackUserDirectory.load("T1", cursor -> {
+            cursors.add(cursor);
+            if (cursor == null) {
+                return page("next", user("U1", "alice", "Alice Liddell", "ali"));
+            } else {
+                return page("", user("U2", "bob", "Bob Sponge", "bobby"));
+            }
+        });
+        assertThat(cursors).containsExactly(null, "next");
+        assertThat(directory.getPageCount()).isEqualTo(2);
+        assertThat(directory.size()).isEqualTo(2);
+        assertThat(directory.getUser("U2").getName()).isEqualTo("bob");
+    }
+
+    @Test
+    public void findUserId() {
+        SlackUserDirectory directory = SlackUserDirectory.load("T1", cursor -> page(null, user("U1", "alice",
+                "Alice Liddell", "ali"), user("U2", "bob", "Bob Sponge", "bobby")));
+        assertThat(directory.findUserId("U1")).isEqualTo("U1");
+        assertThat(directory.findUserId("bob")).isEqualTo("U2");
+        assertThat(directory.findUserId("Alice Liddell")).isEqualTo("U1");
+        assertThat(directory.findUserId("bobby")).isEqualTo("U2");
+        assertThat(directory.findUserId("carol")).isNull();
+    }
+
+    @Test
+    public void findUserIdSharedNameReturnsFirstUser() {
+        SlackUserDirectory directory = SlackUserDirectory.load("T1", cursor -> page(null, user("U1", "alice",
+                "Alice", "al"), user("U2", "alice2", "Alice", "al")));
+        assertThat(directory.findUserId("Alice")).isEqualTo("U1");
+        assertThat(directory.findUserId("al")).isEqualTo("U1");
+    }
+
+    @Test(expected = XatkitException.class)
+    public void loadErrorResponse() {
+        SlackUserDirectory.load("T1", cursor -> {
+            UsersListResponse response = new UsersListResponse();
+            response.setOk(false);
+            response.setError("ratelimited");
+            return response;
+        });
+    }
+
+    @Test(expected = XatkitException.class)
+    public void loadIOException() {
+        SlackUserDirectory.load("T1", cursor -> {
+            throw new IOException("Connection reset");
+        });
+    }
+
+    private static UsersListResponse page(String nextCursor, User... users) {
+        UsersListResponse response = new UsersListResponse();
+        response.setOk(true);
+        response.setMembers(Arrays.asList(users));
+        ResponseMetadata metadata = new ResponseMetadata();
+        metadata.setNextCursor(nextCursor);
+        response.setResponseMetadata(metadata);
+        return response;
+    }
+
+    private static User user(String id, String name, String realName, String displayName) {
+        User user = new User();
+        user.setId(id);
+        user.setName(name);
+        user.setRealName(realName);
+        User.Profile profile = new User.Profile();
+        profile.setRealName(realName);
+        profile.setDisplayName(displayName);
+        user.setProfile(profile);
+        return user;
+    }
+}
@@ -0,0 +1,87 @@
+package com.xatkit.plugins.slack.platform;
+
+import com.github.seratch.jslack.api.model.User;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackWorkspaceSnapshotTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void writeRead() throws IOException {
+        User user = createUser("U1", "jdoe", "John Doe", "John");
+        SlackChannelIndex channelIndex = new SlackChannelIndex.Builder()
+                .groupChannel("C1", "général")
+                .userChannel("D1", user)
+                .build();
+        SlackUserDirectory userDirectory = SlackUserDirectory.of(Arrays.asList(user, createUser("U2", "alice", null,
+                null)), 42L);
+        Path file = temporaryFolder.getRoot().toPath().resolve("T1.snapshot");
+        new SlackWorkspaceSnapshot("T1", 100L, channelIndex, userDirectory).write(file);
+
+        SlackWorkspaceSnapshot snapshot = SlackWorkspaceSnapshot.read(file);
+        assertThat(snapshot.getTeamId()).isEqualTo("T1");
+        assertThat(snapshot.getSnapshotTime()).isEqualTo(100L);
+        assertThat(snapshot.getChannelIndex().getChannelId("général")).isEqualTo("C1");
+        assertThat(snapshot.getChannelIndex().getChannelId("John")).isEqualTo("D1");
+        assertThat(snapshot.getChannelIndex().isGroupChannel("C1")).isTrue();
+        assertThat(snapshot.getChannelIndex().isUserChannel("D1")).isTrue();
+        assertThat(snapshot.getUserDirectory().size()).isEqualTo(2);
+        assertThat(snapshot.getUserDirectory().getLoadTime()).isEqualTo(42L);
+        assertThat(snapshot.getUserDirectory().findUserId("John Doe")).isEqualTo("U1");
+        assertThat(snapshot.getUserDirectory().getUser("U2").getRealName()).isNull();
+        assertThat(temporaryFolder.getRoot().list()).as("Temporary file moved").containsExactly("T1.snapshot");
+    }
+
+    @Test
+    public void writeReplacesPreviousSnapshot() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("T1.snapshot");
+        SlackUserDirectory userDirectory = SlackUserDirectory.of(Arrays.asList(), 0L);
+        new SlackWorkspaceSnapshot("T1", 1L, new SlackChannelIndex.Builder().groupChannel("C1", "general").build(),
+                userDirectory).write(file);
+        new SlackWorkspaceSnapshot("T1", 2L, new SlackChannelIndex.Builder().groupChannel("C2", "random").build(),
+                userDirectory).write(file);
+        SlackWorkspaceSnapshot snapshot = SlackWorkspaceSnapshot.read(file);
+        assertThat(snapshot.getSnapshotTime()).isEqualTo(2L);
+        assertThat(snapshot.getChannelIndex().getChannelId("general")).isNull();
+        assertThat(snapshot.getChannelIndex().getChannelId("random")).isEqualTo("C2");
+    }
+
+    @Test(expected = IOException.class)
+    public void readInvalidFile() throws IOException {
+        Path file = temporaryFolder.newFile("T1.snapshot").toPath();
+        Files.write(file, "not a snapshot".getBytes("UTF-8"));
+        SlackWorkspaceSnapshot.read(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void readTruncatedFile() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("T1.snapshot");
+        new SlackWorkspaceSnapshot("T1", 1L, new SlackChannelIndex.Builder().groupChannel("C1", "general").build(),
+                SlackUserDirectory.of(Arrays.asList(), 0L)).write(file);
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 6));
+        SlackWorkspaceSnapshot.read(file);
+    }
+
+    private static User createUser(String id, String name, String realName, String displayName) {
+        User user = new User();
+        user.setId(id);
+        user.setName(name);
+        user.setRealName(realName);
+        User.Profile profile = new User.Profile();
+        profile.setDisplayName(displayName);
+        user.setProfile(profile);
+        return user;
+    }
+}
@@ -0,0 +1,127 @@
+package com.xatkit.plugins.slack.platform.io;
+
+import com.xatkit.plugins.slack.SlackUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackEventDecoderTest {
+
+    private SlackEventDecoder decoder;
+
+    private SlackEvent event;
+
+    @Before
+    public void setUp() {
+        decoder = new SlackEventDecoder(SlackUtils.MESSAGE_TYPE, SlackUtils.USER_CHANGE_TYPE);
+        event = new SlackEvent();
+    }
+
+    @Test
+    public void decodeMessage() throws IOException {
+        boolean decoded = decoder.decode("{\"type\":\"message\",\"channel\":\"C1\",\"user\":\"U1\",\"text\":\"hello " +
+                "\\\"world\\\"\",\"ts\":\"1355517523.000005\",\"thread_ts\":\"1355517520.000001\",\"team\":\"T1\"," +
+                "\"blocks\":[{\"type\":\"rich_text\",\"elements\":[]}],\"edited\":{\"user\":\"U2\"}}", event);
+        assertThat(decoded).isTrue();
+        assertThat(event.getType()).isEqualTo(SlackUtils.MESSAGE_TYPE);
+        assertThat(event.getTeam()).isEqualTo("T1");
+        assertThat(event.getChannel()).isEqualTo("C1");
+        assertThat(event.getUser()).isEqualTo("U1");
+        assertThat(event.getText()).isEqualTo("hello \"world\"");
+        assertThat(event.getTs()).isEqualTo("1355517523.000005");
+        assertThat(event.getThreadTs()).isEqualTo("1355517520.000001");
+        assertThat(event.getSubtype()).isNull();
+    }
+
+    @Test
+    public void decodeIgnoredType() throws IOException {
+        boolean decoded = decoder.decode("{\"type\":\"user_typing\",\"channel\":\"C1\",\"user\":\"U1\"}", event);
+        assertThat(decoded).isFalse();
+        assertThat(event.getType()).isEqualTo("user_typing");
+        assertThat(event.getChannel()).as("Fields after an ignored type are not decoded").isNull();
+    }
+
+    @Test
+    public void decodeNoType() throws IOException {
+        boolean decoded = decoder.decode("{\"channel\":\"C1\"}", event);
+        assertThat(decoded).isFalse();
+        assertThat(event.getType()).isNull();
+    }
+
+    @Test
+    public void decodeUserObject() throws IOException {
+        boolean decoded = decoder.decode("{\"type\":\"user_change\",\"user\":{\"profile\":{\"id\":\"P1\"}," +
+                "\"id\":\"U1\",\"name\":\"bob\"}}", event);
+        assertThat(decoded).isTrue();
+        assertThat(event.getUser()).isEqualTo("U1");
+    }
+
+    @Test
+    public void decodeChannelObject() throws IOException {
+        SlackEventDecoder channelDecoder = new SlackEventDecoder(SlackUtils.CHANNEL_CREATED_TYPE);
+        boolean decoded = channelDecoder.decode("{\"type\":\"channel_created\",\"channel\":{\"id\":\"C1\"," +
+                "\"is_channel\":true,\"name\":\"fun\",\"created\":1360782804,\"creator\":\"U1\"}}", event);
+        assertThat(decoded).isTrue();
+        assertThat(event.getChannel()).isEqualTo("C1");
+        assertThat(event.getChannelName()).isEqualTo("fun");
+        assertThat(event.getUser()).isNull();
+    }
+
+    @Test
+    public void decodeReusedEventIsCleared() throws IOException {
+        decoder.decode("{\"type\":\"message\",\"channel\":\"C1\",\"user\":\"U1\",\"text\":\"hi\"}", event);
+        decoder.decode("{\"type\":\"message\",\"subtype\":\"message_deleted\",\"channel\":\"C2\"}", event);
+        assertThat(event.getChannel()).isEqualTo("C2");
+        assertThat(event.getSubtype()).isEqualTo("message_deleted");
+        assertThat(event.getUser()).isNull();
+        assertThat(event.getText()).isNull();
+        assertThat(event.getChannelName()).isNull();
+    }
+
+    @Test
+    public void decodeEnvelopeEventCallback() throws IOException {
+        SlackEventEnvelope envelope = new SlackEventEnvelope();
+        boolean decoded = decoder.decodeEnvelope("{\"token\":\"x\",\"event\":{\"type\":\"message\"," +
+                "\"channel\":\"C1\",\"user\":\"U1\",\"text\":\"hi\"},\"type\":\"event_callback\"," +
+                "\"event_id\":\"Ev1\",\"team_id\":\"T1\"}", envelope);
+        assertThat(decoded).isTrue();
+        assertThat(envelope.getType()).isEqualTo("event_callback");
+        assertThat(envelope.getEventId()).isEqualTo("Ev1");
+        assertThat(envelope.getTeamId()).isEqualTo("T1");
+        assertThat(envelope.getEvent().getText()).isEqualTo("hi");
+        assertThat(envelope.getEvent().getTeam()).as("The envelope team_id is used when the event has no team")
+                .isEqualTo("T1");
+    }
+
+    @Test
+    public void decodeEnvelopeIgnoredEventType() throws IOException {
+        SlackEventEnvelope envelope = new SlackEventEnvelope();
+        boolean decoded = decoder.decodeEnvelope("{\"type\":\"event_callback\",\"event\":{\"type\":" +
+                "\"reaction_added\",\"item\":{\"channel\":\"C1\"}},\"team_id\":\"T1\"}", envelope);
+        assertThat(decoded).isFalse();
+        assertThat(envelope.getTeamId()).as("Fields after an ignored event are decoded").isEqualTo("T1");
+    }
+
+    @Test
+    public void decodeEnvelopeUrlVerification() throws IOException {
+        SlackEventEnvelope envelope = new SlackEventEnvelope();
+        boolean decoded = decoder.decodeEnvelope("{\"token\":\"x\",\"challenge\":\"abc\",\"type\":" +
+                "\"url_verification\"}", envelope);
+        assertThat(decoded).isFalse();
+        assertThat(envelope.getType()).isEqualTo("url_verification");
+        assertThat(envelope.getChallenge()).isEqualTo("abc");
+    }
+
+    @Test(expected = IOException.class)
+    public void decodeInvalidJson() throws IOException {
+        decoder.decode("{\"type\":\"message\",", event);
+    }
+
+    @Test(expected = IOException.class)
+    public void decodeNotAnObject() throws IOException {
+        decoder.decode("[\"message\"]", event);
+    }
+}
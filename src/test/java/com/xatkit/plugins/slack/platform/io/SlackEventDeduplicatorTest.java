@@ -0,0 +1,97 @@
+package com.xatkit.plugins.slack.platform.io;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackEventDeduplicatorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructZeroCapacity() {
+        new SlackEventDeduplicator(0, 1000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructZeroWindow() {
+        new SlackEventDeduplicator(10, 0);
+    }
+
+    @Test
+    public void acceptDuplicate() {
+        SlackEventDeduplicator deduplicator = new SlackEventDeduplicator(10, 1000);
+        assertThat(deduplicator.accept("T1", "C1", "1.1", 0)).isTrue();
+        assertThat(deduplicator.accept("T1", "C1", "1.1", 10)).isFalse();
+        assertThat(deduplicator.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void acceptSameTsOtherChannel() {
+        SlackEventDeduplicator deduplicator = new SlackEventDeduplicator(10, 1000);
+        assertThat(deduplicator.accept("T1", "C1", "1.1", 0)).isTrue();
+        assertThat(deduplicator.accept("T1", "C2", "1.1", 0)).isTrue();
+        assertThat(deduplicator.accept("T2", "C1", "1.1", 0)).isTrue();
+        assertThat(deduplicator.accept("T1", "C11", "1", 0)).as("Fields are not simply concatenated").isTrue();
+        assertThat(deduplicator.getDroppedCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void acceptDuplicateAfterWindow() {
+        SlackEventDeduplicator deduplicator = new SlackEventDeduplicator(10, 1000);
+        assertThat(deduplicator.accept("T1", "C1", "1.1", 0)).isTrue();
+        assertThat(deduplicator.accept("T1", "C1", "1.1", 1000)).isTrue();
+    }
+
+    @Test
+    public void acceptNoTs() {
+        SlackEventDeduplicator deduplicator = new SlackEventDeduplicator(10, 1000);
+        assertThat(deduplicator.accept("T1", "C1", null, 0)).isTrue();
+        assertThat(deduplicator.accept("T1", "C1", null, 0)).isTrue();
+        assertThat(deduplicator.accept("T1", "C1", "", 0)).isTrue();
+        assertThat(deduplicator.accept("T1", "C1", "", 0)).isTrue();
+    }
+
+    @Test
+    public void acceptManyMessagesIsBounded() {
+        SlackEventDeduplicator deduplicator = new SlackEventDeduplicator(100, 1000);
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(deduplicator.accept("T1", "C1", Integer.toString(i), i / 1000)).isTrue();
+        }
+        /*
+         * The most recent messages are still remembered.
+         */
+        assertThat(deduplicator.accept("T1", "C1", "99999", 100)).isFalse();
+    }
+
+    @Test
+    public void acceptConcurrentDeliveries() throws InterruptedException {
+        SlackEventDeduplicator deduplicator = new SlackEventDeduplicator(1000, 60000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 500; i++) {
+                    if (deduplicator.accept("T1", "C1", Integer.toString(i))) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(accepted).hasValue(500);
+        assertThat(deduplicator.getDroppedCount()).isEqualTo(7 * 500);
+    }
+}
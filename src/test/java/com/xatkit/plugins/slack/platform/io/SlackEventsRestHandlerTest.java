@@ -0,0 +1,111 @@
+package com.xatkit.plugins.slack.platform.io;
+
+import com.google.gson.JsonObject;
+import com.xatkit.core.server.RestHandlerException;
+import com.xatkit.plugins.slack.SlackUtils;
+import org.apache.http.Header;
+import org.apache.http.message.BasicHeader;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackEventsRestHandlerTest {
+
+    private static final String SIGNING_SECRET = "secret";
+
+    private SlackRequestVerifier signer = new SlackRequestVerifier(SIGNING_SECRET);
+
+    private List<String> receivedTexts;
+
+    private SlackEventsRestHandler handler;
+
+    @Before
+    public void setUp() {
+        receivedTexts = new ArrayList<>();
+        handler = new SlackEventsRestHandler(SIGNING_SECRET, new SlackEventDecoder(SlackUtils.MESSAGE_TYPE),
+                (event, rawEvent) -> receivedTexts.add(event.getTeam() + ":" + event.getText()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructNullSigningSecret() {
+        new SlackEventsRestHandler(null, new SlackEventDecoder(), (event, rawEvent) -> {
+        });
+    }
+
+    @Test
+    public void acceptContentType() {
+        assertThat(handler.acceptContentType("application/json")).isTrue();
+        assertThat(handler.acceptContentType("application/json; charset=utf-8")).isTrue();
+        assertThat(handler.acceptContentType("application/x-www-form-urlencoded")).isFalse();
+        assertThat(handler.acceptContentType(null)).isFalse();
+    }
+
+    @Test
+    public void handleUrlVerification() throws RestHandlerException {
+        String body = "{\"token\":\"x\",\"challenge\":\"3eZbrw1aBm2rZgRNFdxV2595E9CY3gmdALWMmHkvFXO7tYXAYM8P\"," +
+                "\"type\":\"url_verification\"}";
+        Object result = handler.handleContent(signedHeaders(body), Collections.emptyList(), body);
+        assertThat(result).isInstanceOf(JsonObject.class);
+        assertThat(((JsonObject) result).get("challenge").getAsString())
+                .isEqualTo("3eZbrw1aBm2rZgRNFdxV2595E9CY3gmdALWMmHkvFXO7tYXAYM8P");
+        assertThat(receivedTexts).isEmpty();
+    }
+
+    @Test
+    public void handleEventCallback() throws RestHandlerException {
+        String body = "{\"type\":\"event_callback\",\"team_id\":\"T1\",\"event\":{\"type\":\"message\"," +
+                "\"channel\":\"C1\",\"user\":\"U1\",\"text\":\"hello\"}}";
+        handler.handleContent(signedHeaders(body), Collections.emptyList(), body);
+        assertThat(receivedTexts).containsExactly("T1:hello");
+    }
+
+    @Test
+    public void handleIgnoredEvent() throws RestHandlerException {
+        String body = "{\"type\":\"event_callback\",\"team_id\":\"T1\",\"event\":{\"type\":\"reaction_added\"}}";
+        handler.handleContent(signedHeaders(body), Collections.emptyList(), body);
+        assertThat(receivedTexts).isEmpty();
+    }
+
+    @Test(expected = RestHandlerException.class)
+    public void handleInvalidSignature() throws RestHandlerException {
+        String body = "{\"type\":\"event_callback\",\"team_id\":\"T1\",\"event\":{\"type\":\"message\"}}";
+        List<Header> headers = Arrays.asList(new BasicHeader(SlackRequestVerifier.TIMESTAMP_HEADER, now()),
+                new BasicHeader(SlackRequestVerifier.SIGNATURE_HEADER, "v0=0000"));
+        try {
+            handler.handleContent(headers, Collections.emptyList(), body);
+        } finally {
+            assertThat(receivedTexts).isEmpty();
+        }
+    }
+
+    @Test(expected = RestHandlerException.class)
+    public void handleMissingSignature() throws RestHandlerException {
+        String body = "{\"type\":\"url_verification\",\"challenge\":\"abc\"}";
+        handler.handleContent(Collections.emptyList(), Collections.emptyList(), body);
+    }
+
+    @Test(expected = RestHandlerException.class)
+    public void handleInvalidJson() throws RestHandlerException {
+        String body = "{\"type\":";
+        handler.handleContent(signedHeaders(body), Collections.emptyList(), body);
+    }
+
+    private List<Header> signedHeaders(String body) {
+        String timestamp = now();
+        /*
+         * Use lower case header names, HTTP header names are case-insensitive.
+         */
+        return Arrays.asList(new BasicHeader("x-slack-request-timestamp", timestamp),
+                new BasicHeader("x-slack-signature", signer.sign(timestamp, body)));
+    }
+
+    private static String now() {
+        return Long.toString(System.currentTimeMillis() / 1000);
+    }
+}
@@ -158,6 +158,17 @@ public class SlackIntentProviderTest extends AbstractEventProviderTest<SlackInte
                 any(StateContext.class));
     }
 
+    @Test
+    public void sendDuplicatedSlackMessage() throws IntentRecognitionProviderException {
+        when(mockedIntentRecognitionProvider.getIntent(any(String.class), any(StateContext.class))).thenReturn(VALID_RECOGNIZED_INTENT);
+        provider = getValidSlackInputProvider();
+        provider.getRtmClient(slackTeamId).onMessage(getValidMessageWithTs());
+        provider.getRtmClient(slackTeamId).onMessage(getValidMessageWithTs());
+        verify(mockedExecutionService, times(1)).handleEventInstance(any(EventInstance.class),
+                any(StateContext.class));
+        assertThat(provider.getEventDeduplicator().getDroppedCount()).as("Duplicate dropped").isEqualTo(1);
+    }
+
     @Test
     public void sendSlackMessageInvalidType() {
         provider = getValidSlackInputProvider();
@@ -217,6 +228,10 @@ public class SlackIntentProviderTest extends AbstractEventProviderTest<SlackInte
     private Configuration getValidSlackIntentProviderConfiguration() {
         Configuration configuration = new BaseConfiguration();
         configuration.addProperty(SlackUtils.SLACK_TOKEN_KEY, SlackTestUtils.getSlackToken());
+        /*
+         * Process the messages in the RTM thread, the tests check the sent events right after calling onMessage.
+         */
+        configuration.addProperty(SlackUtils.DISPATCHER_THREADS_KEY, 0);
         return configuration;
     }
 
@@ -225,6 +240,12 @@ public class SlackIntentProviderTest extends AbstractEventProviderTest<SlackInte
                 "\"channel\":\"{1}\", \"user\":\"UBD4Z7SKH\"'}'", slackTeamId, slackChannel);
     }
 
+    private String getValidMessageWithTs() {
+        return MessageFormat.format("'{'\"type\":\"message\",\"text\":\"hello\", \"team\":\"{0}\", " +
+                "\"channel\":\"{1}\", \"user\":\"UBD4Z7SKH\", \"ts\":\"1355517523.000005\"'}'", slackTeamId,
+                slackChannel);
+    }
+
     private String getValidMessageMention() {
         String botMention = "<@" + provider.getSelfId(platform.getSlackToken(slackTeamId)) + ">";
         return MessageFormat.format("'{'\"type\":\"message\",\"text\":\"hello {0}\", \"team\":\"{1}\", " +
@@ -0,0 +1,135 @@
+package com.xatkit.plugins.slack.platform.io;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackMessageDispatcherTest {
+
+    private SlackMessageDispatcher dispatcher;
+
+    @After
+    public void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructNegativeThreads() {
+        dispatcher = new SlackMessageDispatcher(-1, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructZeroQueueCapacity() {
+        dispatcher = new SlackMessageDispatcher(1, 0);
+    }
+
+    @Test
+    public void dispatchNoThreadRunsInCallerThread() {
+        dispatcher = new SlackMessageDispatcher(0, 10);
+        List<Thread> threads = new ArrayList<>();
+        dispatcher.dispatch("T1", "C1", () -> threads.add(Thread.currentThread()));
+        assertThat(threads).containsExactly(Thread.currentThread());
+        assertThat(dispatcher.getDispatchedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void dispatchPreservesChannelOrder() throws InterruptedException {
+        dispatcher = new SlackMessageDispatcher(4, 2);
+        int messageCount = 200;
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(messageCount);
+        for (int i = 0; i < messageCount; i++) {
+            int index = i;
+            dispatcher.dispatch("T1", "C1", () -> {
+                processed.add(index);
+                latch.countDown();
+            });
+        }
+        assertThat(latch.await(10, TimeUnit.SECONDS)).as("All the messages are processed").isTrue();
+        for (int i = 0; i < messageCount; i++) {
+            assertThat(processed.get(i)).as("Message %s processed in order", i).isEqualTo(i);
+        }
+        assertThat(dispatcher.getDispatchedCount()).isEqualTo(messageCount);
+        assertThat(dispatcher.getQueueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    public void dispatchBlockedLaneReportsQueueMetrics() throws InterruptedException {
+        dispatcher = new SlackMessageDispatcher(1, 10);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+        dispatcher.dispatch("T1", "C1", () -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        });
+        dispatcher.dispatch("T1", "C1", done::countDown);
+        dispatcher.dispatch("T1", "C1", done::countDown);
+        assertThat(dispatcher.getQueueDepth()).isEqualTo(2);
+        Thread.sleep(50);
+        blocker.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatcher.getMaxWaitTime()).isGreaterThanOrEqualTo(50);
+        assertThat(dispatcher.getAverageWaitTime()).isGreaterThan(0);
+    }
+
+    @Test
+    public void dispatchFullLaneReturnsOnShutdown() throws InterruptedException {
+        dispatcher = new SlackMessageDispatcher(1, 1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        dispatcher.dispatch("T1", "C1", () -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        dispatcher.dispatch("T1", "C1", () -> {
+        });
+        Thread dispatchingThread = new Thread(() -> dispatcher.dispatch("T1", "C1", () -> {
+        }));
+        dispatchingThread.start();
+        Thread.sleep(50);
+        assertThat(dispatchingThread.isAlive()).as("The dispatching thread waits for some room in the lane")
+                .isTrue();
+        dispatcher.shutdown();
+        dispatchingThread.join(2000);
+        assertThat(dispatchingThread.isAlive()).as("The dispatching thread returned after the shutdown").isFalse();
+        blocker.countDown();
+    }
+
+    @Test
+    public void tryDispatchFullLaneDropsMessage() throws InterruptedException {
+        dispatcher = new SlackMessageDispatcher(1, 1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        assertThat(dispatcher.tryDispatch("T1", "C1", () -> {
+            started.countDown();
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        })).isTrue();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatcher.tryDispatch("T1", "C1", () -> {
+        })).as("The message is queued").isTrue();
+        assertThat(dispatcher.tryDispatch("T1", "C1", () -> {
+        })).as("The message is dropped without blocking").isFalse();
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(1);
+        assertThat(dispatcher.getDispatchedCount()).isEqualTo(2);
+        blocker.countDown();
+    }
+}
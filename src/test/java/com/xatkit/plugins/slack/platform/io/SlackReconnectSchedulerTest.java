@@ -0,0 +1,125 @@
+package com.xatkit.plugins.slack.platform.io;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackReconnectSchedulerTest {
+
+    private SlackReconnectScheduler scheduler;
+
+    @After
+    public void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructMaxDelayLowerThanBaseDelay() {
+        new SlackReconnectScheduler(100, 10, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructZeroMaxConcurrent() {
+        new SlackReconnectScheduler(10, 100, 0);
+    }
+
+    @Test
+    public void computeDelayIsCapped() {
+        scheduler = new SlackReconnectScheduler(100, 1000, 1);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(scheduler.computeDelay(0)).isBetween(0L, 100L);
+            assertThat(scheduler.computeDelay(2)).isBetween(0L, 400L);
+            assertThat(scheduler.computeDelay(10)).isBetween(0L, 1000L);
+            assertThat(scheduler.computeDelay(Integer.MAX_VALUE)).isBetween(0L, 1000L);
+        }
+    }
+
+    @Test
+    public void scheduleReconnectRetriesUntilSuccess() throws InterruptedException {
+        scheduler = new SlackReconnectScheduler(1, 5, 1);
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch reconnected = new CountDownLatch(1);
+        boolean scheduled = scheduler.scheduleReconnect("T1", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IOException("Connection refused");
+            }
+            reconnected.countDown();
+        });
+        assertThat(scheduled).isTrue();
+        assertThat(reconnected.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(attempts).hasValue(3);
+        waitUntilReconnected("T1");
+        assertThat(scheduler.getReconnectState("T1")).as("Reconnected workspaces are not tracked").isNull();
+    }
+
+    @Test
+    public void scheduleReconnectAlreadyScheduled() {
+        scheduler = new SlackReconnectScheduler(60000, 60000, 1);
+        assertThat(scheduler.scheduleReconnect("T1", () -> {
+        })).isTrue();
+        assertThat(scheduler.scheduleReconnect("T1", () -> {
+        })).isFalse();
+        SlackReconnectScheduler.ReconnectState state = scheduler.getReconnectState("T1");
+        assertThat(state).isNotNull();
+        assertThat(state.getStatus()).isEqualTo(SlackReconnectScheduler.ReconnectState.Status.SCHEDULED);
+        assertThat(state.getAttempts()).isEqualTo(0);
+        assertThat(scheduler.getReconnectStates()).containsOnlyKeys("T1");
+    }
+
+    @Test
+    public void scheduleReconnectFailedAttemptsAreObservable() throws InterruptedException {
+        scheduler = new SlackReconnectScheduler(1, 1, 1);
+        CountDownLatch failures = new CountDownLatch(2);
+        scheduler.scheduleReconnect("T1", () -> {
+            failures.countDown();
+            throw new IOException("Connection refused");
+        });
+        assertThat(failures.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(20);
+        SlackReconnectScheduler.ReconnectState state = scheduler.getReconnectState("T1");
+        assertThat(state).isNotNull();
+        assertThat(state.getAttempts()).isGreaterThanOrEqualTo(2);
+        assertThat(state.getLastError()).isEqualTo("Connection refused");
+    }
+
+    @Test
+    public void scheduleReconnectLimitsConcurrentReconnects() throws InterruptedException {
+        scheduler = new SlackReconnectScheduler(1, 1, 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            scheduler.scheduleReconnect("T" + i, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(10);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void scheduleReconnectAfterShutdown() {
+        scheduler = new SlackReconnectScheduler(1, 1, 1);
+        scheduler.shutdown();
+        assertThat(scheduler.scheduleReconnect("T1", () -> {
+        })).isFalse();
+        assertThat(scheduler.getReconnectState("T1")).isNull();
+    }
+
+    private void waitUntilReconnected(String teamId) throws InterruptedException {
+        for (int i = 0; i < 100 && scheduler.getReconnectState(teamId) != null; i++) {
+            Thread.sleep(10);
+        }
+    }
+}
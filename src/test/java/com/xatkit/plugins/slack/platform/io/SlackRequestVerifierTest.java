@@ -0,0 +1,69 @@
+package com.xatkit.plugins.slack.platform.io;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackRequestVerifierTest {
+
+    /*
+     * Example request from the Slack documentation (https://api.slack.com/authentication/verifying-requests-from-slack).
+     */
+    private static final String SIGNING_SECRET = "8f742231b10e8888abcd99yyyzzz85a5";
+
+    private static final String TIMESTAMP = "1531420618";
+
+    private static final String BODY = "token=xyzz0WbapA4vBCDEFasx0q6G&team_id=T1DC2JH3J&team_domain=testteamnow" +
+            "&channel_id=G8PSS9T3V&channel_name=foobar&user_id=U2CERLKJA&user_name=roadrunner&command=%2Fwebhook" +
+            "-collect&text=&response_url=https%3A%2F%2Fhooks.slack.com%2Fcommands%2FT1DC2JH3J%2F397700885554" +
+            "%2F96rGlfmibIGlgcZRskXaIFfN&trigger_id=398738663015.47445629121.803a0bc887a14d10d2c447fce8b6703c";
+
+    private static final String SIGNATURE = "v0=a2114d57b48eac39b9ad189dd8316235a7b4a8d21a10bd27519666489c69b503";
+
+    private static final long REQUEST_TIME_MILLIS = Long.parseLong(TIMESTAMP) * 1000;
+
+    private SlackRequestVerifier verifier = new SlackRequestVerifier(SIGNING_SECRET);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructEmptySigningSecret() {
+        new SlackRequestVerifier("");
+    }
+
+    @Test
+    public void signDocumentationExample() {
+        assertThat(verifier.sign(TIMESTAMP, BODY)).isEqualTo(SIGNATURE);
+    }
+
+    @Test
+    public void verifyValidRequest() {
+        assertThat(verifier.verify(TIMESTAMP, SIGNATURE, BODY, REQUEST_TIME_MILLIS + 1000)).isTrue();
+    }
+
+    @Test
+    public void verifyTamperedBody() {
+        assertThat(verifier.verify(TIMESTAMP, SIGNATURE, BODY + "&admin=true", REQUEST_TIME_MILLIS)).isFalse();
+    }
+
+    @Test
+    public void verifyOtherSigningSecret() {
+        SlackRequestVerifier otherVerifier = new SlackRequestVerifier("another-secret");
+        assertThat(otherVerifier.verify(TIMESTAMP, SIGNATURE, BODY, REQUEST_TIME_MILLIS)).isFalse();
+    }
+
+    @Test
+    public void verifyOldRequest() {
+        long now = REQUEST_TIME_MILLIS + (SlackRequestVerifier.MAX_REQUEST_AGE + 1) * 1000;
+        assertThat(verifier.verify(TIMESTAMP, SIGNATURE, BODY, now)).isFalse();
+    }
+
+    @Test
+    public void verifyMissingHeaders() {
+        assertThat(verifier.verify(null, SIGNATURE, BODY, REQUEST_TIME_MILLIS)).isFalse();
+        assertThat(verifier.verify(TIMESTAMP, null, BODY, REQUEST_TIME_MILLIS)).isFalse();
+    }
+
+    @Test
+    public void verifyInvalidTimestamp() {
+        assertThat(verifier.verify("not-a-timestamp", SIGNATURE, BODY, REQUEST_TIME_MILLIS)).isFalse();
+    }
+}
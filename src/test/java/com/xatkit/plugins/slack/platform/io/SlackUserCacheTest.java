@@ -0,0 +1,102 @@
+package com.xatkit.plugins.slack.platform.io;
+
+import com.github.seratch.jslack.api.methods.SlackApiException;
+import com.github.seratch.jslack.api.model.User;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackUserCacheTest {
+
+    private AtomicInteger loadCount = new AtomicInteger();
+
+    private SlackUserCache.UserLoader loader = userId -> {
+        loadCount.incrementAndGet();
+        User user = new User();
+        user.setId(userId);
+        return user;
+    };
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructZeroTtl() {
+        new SlackUserCache(0, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructZeroMaxSize() {
+        new SlackUserCache(1000, 0);
+    }
+
+    @Test
+    public void getSameUserLoadsOnce() throws SlackApiException, IOException {
+        SlackUserCache cache = new SlackUserCache(60000, 10);
+        User first = cache.get("U1", loader);
+        User second = cache.get("U1", loader);
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount).hasValue(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void getExpiredUserReloads() throws SlackApiException, IOException, InterruptedException {
+        SlackUserCache cache = new SlackUserCache(20, 10);
+        cache.get("U1", loader);
+        Thread.sleep(50);
+        cache.get("U1", loader);
+        assertThat(loadCount).hasValue(2);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void getNullUserNotCached() throws SlackApiException, IOException {
+        SlackUserCache cache = new SlackUserCache(60000, 10);
+        assertThat(cache.get("U1", userId -> null)).isNull();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void getFullCacheEvictsLeastRecentlyUsed() throws SlackApiException, IOException {
+        SlackUserCache cache = new SlackUserCache(60000, 2);
+        cache.get("U1", loader);
+        cache.get("U2", loader);
+        cache.get("U1", loader);
+        cache.get("U3", loader);
+        assertThat(cache.size()).isEqualTo(2);
+        cache.get("U1", loader);
+        assertThat(loadCount).as("U1 is still cached").hasValue(3);
+        cache.get("U2", loader);
+        assertThat(loadCount).as("U2 has been evicted").hasValue(4);
+    }
+
+    @Test
+    public void invalidateUserReloads() throws SlackApiException, IOException {
+        SlackUserCache cache = new SlackUserCache(60000, 10);
+        cache.get("U1", loader);
+        cache.invalidate("U1");
+        cache.get("U1", loader);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    public void invalidateDuringLoadNotCached() throws SlackApiException, IOException {
+        SlackUserCache cache = new SlackUserCache(60000, 10);
+        /*
+         * The user is invalidated (e.g. by a user_change event) while its stale profile is loaded.
+         */
+        User user = cache.get("U1", userId -> {
+            User loaded = loader.load(userId);
+            cache.invalidate(userId);
+            return loaded;
+        });
+        assertThat(user).isNotNull();
+        assertThat(cache.size()).isEqualTo(0);
+        cache.get("U1", loader);
+        assertThat(loadCount).hasValue(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,103 @@
+package com.xatkit.plugins.slack.util;
+
+import com.github.seratch.jslack.api.methods.RequestFormBuilder;
+import com.github.seratch.jslack.api.methods.request.chat.ChatPostMessageRequest;
+import com.github.seratch.jslack.api.model.block.ContextBlock;
+import com.github.seratch.jslack.api.model.block.DividerBlock;
+import com.github.seratch.jslack.api.model.block.LayoutBlock;
+import com.github.seratch.jslack.api.model.block.SectionBlock;
+import com.github.seratch.jslack.api.model.block.composition.MarkdownTextObject;
+import okhttp3.FormBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the serialization of a {@link LayoutBlock} object graph with the rendering of a
+ * {@link SlackBlockTemplate}.
+ * <p>
+ * Both benchmarks build the form posted to {@code chat.postMessage}. This benchmark is not executed by the test
+ * suite, run it with {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlackBlockTemplateBenchmark {
+
+    private SlackBlockTemplate template;
+
+    private Map<String, Object> values;
+
+    @Setup
+    public void setUp() {
+        template = SlackBlockTemplate.compile(createLayoutBlocks("{{build}}", "{{status}}", "{{author}}"));
+        values = new HashMap<>();
+        values.put("build", 1234);
+        values.put("status", "success");
+        values.put("author", "xatkit-bot");
+    }
+
+    @Benchmark
+    public FormBody layoutBlocks() {
+        List<LayoutBlock> layoutBlocks = createLayoutBlocks(values.get("build").toString(),
+                values.get("status").toString(), values.get("author").toString());
+        ChatPostMessageRequest request = ChatPostMessageRequest.builder()
+                .channel("C1")
+                .blocks(layoutBlocks)
+                .unfurlLinks(true)
+                .unfurlMedia(true)
+                .build();
+        return RequestFormBuilder.toForm(request).build();
+    }
+
+    @Benchmark
+    public FormBody template() {
+        return new FormBody.Builder()
+                .add("channel", "C1")
+                .add("blocks", template.render(values))
+                .add("unfurl_links", "true")
+                .add("unfurl_media", "true")
+                .build();
+    }
+
+    private static List<LayoutBlock> createLayoutBlocks(String build, String status, String author) {
+        return Arrays.asList(
+                SectionBlock.builder()
+                        .text(MarkdownTextObject.builder().text("Build *" + build + "* finished").build())
+                        .fields(Arrays.asList(
+                                MarkdownTextObject.builder().text("*Status*\n" + status).build(),
+                                MarkdownTextObject.builder().text("*Author*\n" + author).build()))
+                        .build(),
+                DividerBlock.builder().build(),
+                ContextBlock.builder()
+                        .elements(Collections.singletonList(MarkdownTextObject.builder()
+                                .text("Triggered by " + author).build()))
+                        .build());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SlackBlockTemplateBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
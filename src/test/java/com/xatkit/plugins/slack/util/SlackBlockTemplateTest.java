@@ -0,0 +1,91 @@
+package com.xatkit.plugins.slack.util;
+
+import com.github.seratch.jslack.api.model.block.LayoutBlock;
+import com.github.seratch.jslack.api.model.block.SectionBlock;
+import com.github.seratch.jslack.api.model.block.composition.MarkdownTextObject;
+import com.github.seratch.jslack.common.json.GsonFactory;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackBlockTemplateTest {
+
+    private static final String BLOCKS = "[{\"type\": \"section\", \"text\": {\"type\": \"mrkdwn\", \"text\": "
+            + "\"Build *{{build}}* finished with status {{status}}\"}}, {\"type\": \"divider\"}]";
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compileInvalidJson() {
+        SlackBlockTemplate.compile("[{\"type\": ");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compileNotArray() {
+        SlackBlockTemplate.compile("{\"type\": \"divider\"}");
+    }
+
+    @Test
+    public void getPlaceholders() {
+        SlackBlockTemplate template = SlackBlockTemplate.compile(BLOCKS);
+        assertThat(template.getPlaceholders()).containsExactly("build", "status");
+    }
+
+    @Test
+    public void render() {
+        SlackBlockTemplate template = SlackBlockTemplate.compile(BLOCKS);
+        Map<String, Object> values = new HashMap<>();
+        values.put("build", 42);
+        values.put("status", "success");
+        JsonArray rendered = new JsonParser().parse(template.render(values)).getAsJsonArray();
+        assertThat(rendered).hasSize(2);
+        assertThat(rendered.get(0).getAsJsonObject().getAsJsonObject("text").get("text").getAsString())
+                .isEqualTo("Build *42* finished with status success");
+        assertThat(rendered.get(1).getAsJsonObject().get("type").getAsString()).isEqualTo("divider");
+    }
+
+    @Test
+    public void renderEscapesValues() {
+        SlackBlockTemplate template = SlackBlockTemplate.compile(BLOCKS);
+        Map<String, Object> values = new HashMap<>();
+        values.put("build", "\"quoted\" \\ back");
+        values.put("status", "line\nbreak\u0001");
+        String rendered = template.render(values);
+        JsonArray blocks = new JsonParser().parse(rendered).getAsJsonArray();
+        assertThat(blocks.get(0).getAsJsonObject().getAsJsonObject("text").get("text").getAsString())
+                .isEqualTo("Build *\"quoted\" \\ back* finished with status line\nbreak\u0001");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void renderMissingValue() {
+        SlackBlockTemplate template = SlackBlockTemplate.compile(BLOCKS);
+        template.render(Collections.singletonMap("build", 42));
+    }
+
+    @Test
+    public void renderIntoBuffer() {
+        SlackBlockTemplate template = SlackBlockTemplate.compile("[{\"type\": \"section\", \"text\": {\"type\": "
+                + "\"mrkdwn\", \"text\": \"{{text}}\"}}]");
+        StringBuilder buffer = new StringBuilder("prefix:");
+        template.render(Collections.singletonMap("text", "Hello"), buffer);
+        assertThat(buffer.toString()).startsWith("prefix:[").contains("\"text\":\"Hello\"");
+    }
+
+    @Test
+    public void compileLayoutBlocksMatchesGson() {
+        List<LayoutBlock> layoutBlocks = Collections.singletonList(SectionBlock.builder()
+                .text(MarkdownTextObject.builder().text("Hello {{name}}").build())
+                .build());
+        SlackBlockTemplate template = SlackBlockTemplate.compile(layoutBlocks);
+        List<LayoutBlock> expectedBlocks = Collections.singletonList(SectionBlock.builder()
+                .text(MarkdownTextObject.builder().text("Hello Alice").build())
+                .build());
+        assertThat(template.render(Collections.singletonMap("name", "Alice")))
+                .isEqualTo(GsonFactory.createSnakeCase().toJson(expectedBlocks));
+    }
+}
@@ -0,0 +1,65 @@
+package com.xatkit.plugins.slack.util;
+
+import com.xatkit.plugins.slack.SlackUtils;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.Configuration;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackHttpTransportTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructZeroMaxIdleConnections() {
+        new SlackHttpTransport(0, 1000, 1000, 1000, false);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructNegativeReadTimeout() {
+        new SlackHttpTransport(5, 1000, 1000, -1, false);
+    }
+
+    @Test
+    public void fromEmptyConfiguration() {
+        SlackHttpTransport transport = SlackHttpTransport.fromConfiguration(new BaseConfiguration());
+        OkHttpClient client = transport.getSharedClient();
+        assertThat(client.connectTimeoutMillis()).isEqualTo((int) SlackUtils.DEFAULT_HTTP_CONNECT_TIMEOUT);
+        assertThat(client.readTimeoutMillis()).isEqualTo((int) SlackUtils.DEFAULT_HTTP_READ_TIMEOUT);
+        assertThat(client.protocols()).as("Default OkHttp protocols").isEqualTo(new OkHttpClient().protocols());
+    }
+
+    @Test
+    public void fromConfigurationHttp2() {
+        Configuration configuration = new BaseConfiguration();
+        configuration.addProperty(SlackUtils.HTTP_2_KEY, true);
+        configuration.addProperty(SlackUtils.HTTP_READ_TIMEOUT_KEY, 1234L);
+        OkHttpClient client = SlackHttpTransport.fromConfiguration(configuration).getSharedClient();
+        assertThat(client.readTimeoutMillis()).isEqualTo(1234);
+        assertThat(client.protocols()).containsExactly(Protocol.HTTP_2, Protocol.HTTP_1_1);
+    }
+
+    @Test
+    public void fromConfigurationHttp1() {
+        Configuration configuration = new BaseConfiguration();
+        configuration.addProperty(SlackUtils.HTTP_2_KEY, false);
+        OkHttpClient client = SlackHttpTransport.fromConfiguration(configuration).getSharedClient();
+        assertThat(client.protocols()).containsExactly(Protocol.HTTP_1_1);
+    }
+
+    @Test
+    public void getSharedClientSameSettings() {
+        OkHttpClient client1 = new SlackHttpTransport(3, 1000, 2000, 3000, false).getSharedClient();
+        OkHttpClient client2 = new SlackHttpTransport(3, 1000, 2000, 3000, false).getSharedClient();
+        assertThat(client1).as("Same settings share the same client").isSameAs(client2);
+        assertThat(client1.connectionPool()).isSameAs(client2.connectionPool());
+    }
+
+    @Test
+    public void getSharedClientDifferentSettings() {
+        OkHttpClient client1 = new SlackHttpTransport(3, 1000, 2000, 3000, false).getSharedClient();
+        OkHttpClient client2 = new SlackHttpTransport(3, 1000, 2000, 4000, false).getSharedClient();
+        assertThat(client1).isNotSameAs(client2);
+    }
+}
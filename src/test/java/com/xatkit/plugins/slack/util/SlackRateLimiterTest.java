@@ -0,0 +1,59 @@
+package com.xatkit.plugins.slack.util;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlackRateLimiterTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructZeroRequestsPerMinute() {
+        new SlackRateLimiter(0);
+    }
+
+    @Test
+    public void tryAcquireBurst() {
+        SlackRateLimiter rateLimiter = new SlackRateLimiter(3);
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).as("Burst budget exhausted").isFalse();
+    }
+
+    @Test
+    public void acquireWithinBudget() throws InterruptedException {
+        SlackRateLimiter rateLimiter = new SlackRateLimiter(2);
+        assertThat(rateLimiter.acquire()).isEqualTo(0);
+        assertThat(rateLimiter.acquire()).isEqualTo(0);
+    }
+
+    @Test
+    public void acquireExceedingBudget() throws InterruptedException {
+        /*
+         * 6000 requests per minute produce a permit every 10ms.
+         */
+        SlackRateLimiter rateLimiter = new SlackRateLimiter(6000);
+        while (rateLimiter.tryAcquire()) {
+            // Exhaust the burst budget
+        }
+        long start = System.nanoTime();
+        rateLimiter.acquire();
+        rateLimiter.acquire();
+        long elapsedMillis = (System.nanoTime() - start) / 1000000;
+        assertThat(elapsedMillis).as("Waited for the permits").isGreaterThanOrEqualTo(10);
+    }
+
+    @Test
+    public void tryAcquireOrGetDelay() {
+        /*
+         * 60 requests per minute produce a permit every second.
+         */
+        SlackRateLimiter rateLimiter = new SlackRateLimiter(60);
+        while (rateLimiter.tryAcquire()) {
+            // Exhaust the burst budget
+        }
+        long delay = rateLimiter.tryAcquireOrGetDelay();
+        assertThat(delay).isGreaterThan(0).isLessThanOrEqualTo(1000);
+        assertThat(rateLimiter.tryAcquire()).as("No permit reserved").isFalse();
+    }
+}